@@ -0,0 +1,54 @@
+package com.garmentmanagement.garmentmanagement;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.YearMonth;
+
+/**
+ * Starts the application (on a random port; the security configuration needs the servlet context)
+ * against an in-memory H2 database in MySQL mode, seeded by the "seed" profile's SyntheticDataGenerator.
+ * Runs offline; scale with -jvmArgsAppend "-Dbench.employees=10000 -Dbench.months=6".
+ */
+public final class BenchmarkContext {
+
+    // Last seeded month; payrolls and payslips exist for every seeded month
+    public static final YearMonth LAST_MONTH = YearMonth.of(2025, 6);
+
+    private BenchmarkContext() {
+    }
+
+    public static int employees() {
+        return Integer.getInteger("bench.employees", 2_000);
+    }
+
+    // Seeded months, ending with LAST_MONTH
+    public static int months() {
+        return Integer.getInteger("bench.months", 3);
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(GarmentManagementApplication.class)
+                .profiles("seed")
+                // passed as arguments so they override application.properties
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR,MONTH,VALUE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--attendance.auto-absent.enabled=false",
+                        "--leave.rollover.enabled=false",
+                        "--seed.employees=" + employees(),
+                        "--seed.months=" + months(),
+                        "--seed.end-month=" + LAST_MONTH,
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.net.sf.jasperreports=WARN",
+                        "--logging.level.com.garmentmanagement=WARN",
+                        "--logging.level.com.garmentmanagement.garmentmanagement.Config.SyntheticDataGenerator=INFO");
+    }
+}
@@ -0,0 +1,131 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.EmployeeDto;
+import com.garmentmanagement.garmentmanagement.DTO.PayrollDto;
+import com.garmentmanagement.garmentmanagement.DTO.TaskDto;
+import com.garmentmanagement.garmentmanagement.Entity.Department;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.Payroll;
+import com.garmentmanagement.garmentmanagement.Entity.Task;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written mappers vs the reflective ModelMapper setup the services used before
+ * (STRICT matching, skip nulls). Run with -prof gc to compare allocation per conversion
+ * (gc.alloc.rate.norm, bytes/op).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="MapperBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EmployeeMapper employeeMapper;
+    private PayrollMapper payrollMapper;
+    private TaskMapper taskMapper;
+
+    private Employee employee;
+    private Payroll payroll;
+    private TaskDto taskDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setSkipNullEnabled(true)
+                .setAmbiguityIgnored(true);
+        modelMapper.typeMap(EmployeeDto.class, Employee.class)
+                .addMappings(mapper -> {
+                    mapper.skip(Employee::setManager);
+                    mapper.skip(Employee::setDepartment);
+                });
+
+        employeeMapper = new EmployeeMapper();
+        payrollMapper = new PayrollMapper();
+        taskMapper = new TaskMapper();
+
+        Department department = new Department();
+        department.setId(3L);
+        department.setName("Sewing");
+        department.setCode("SEW");
+
+        employee = new Employee();
+        employee.setId(42L);
+        employee.setEmployeeId("EMP042");
+        employee.setFirstName("Rahima");
+        employee.setLastName("Akter");
+        employee.setEmail("rahima@example.com");
+        employee.setPhoneNumber("01700000000");
+        employee.setDesignation("Operator");
+        employee.setJoinDate(LocalDate.of(2021, 3, 1));
+        employee.setBasicSalary(new BigDecimal("18000"));
+        employee.setGender(Employee.Gender.values()[0]);
+        employee.setEmployeeType(Employee.EmployeeType.values()[0]);
+        employee.setDepartment(department);
+
+        payroll = new Payroll();
+        payroll.setId(7L);
+        payroll.setEmployee(employee);
+        payroll.setPayPeriod(YearMonth.of(2025, 1));
+        payroll.setPayDate(LocalDate.of(2025, 2, 1));
+        payroll.setBasicSalary(new BigDecimal("18000"));
+        payroll.setTotalAllowances(new BigDecimal("4500"));
+        payroll.setGrossSalary(new BigDecimal("22500"));
+        payroll.setNetSalary(new BigDecimal("21800"));
+        payroll.setWorkingDays(22);
+        payroll.setPresentDays(21);
+
+        taskDto = new TaskDto();
+        taskDto.setTitle("Cut fabric for order 118");
+        taskDto.setDescription("Blue denim, 400 pieces");
+        taskDto.setAssignedToId(42L);
+        taskDto.setAssignedById(5L);
+        taskDto.setPriority("HIGH");
+        taskDto.setDueDate(LocalDate.of(2025, 1, 20));
+        taskDto.setEstimatedHours(6.0);
+        taskDto.setIsUrgent(true);
+    }
+
+    @Benchmark
+    public EmployeeDto employeeToDtoModelMapper() {
+        return modelMapper.map(employee, EmployeeDto.class);
+    }
+
+    @Benchmark
+    public EmployeeDto employeeToDtoMapper() {
+        return employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public PayrollDto payrollToDtoModelMapper() {
+        return modelMapper.map(payroll, PayrollDto.class);
+    }
+
+    @Benchmark
+    public PayrollDto payrollToDtoMapper() {
+        return payrollMapper.toDto(payroll);
+    }
+
+    @Benchmark
+    public Task taskDtoToEntityModelMapper() {
+        return modelMapper.map(taskDto, Task.class);
+    }
+
+    @Benchmark
+    public Task taskDtoToEntityMapper() {
+        return taskMapper.toEntity(taskDto);
+    }
+}
@@ -0,0 +1,103 @@
+package com.garmentmanagement.garmentmanagement.Security;
+
+import com.garmentmanagement.garmentmanagement.Entity.Role;
+import com.garmentmanagement.garmentmanagement.Entity.User;
+import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Authentication throughput of the JWT filter in DB-backed and stateless (roles-in-token) mode. The
+ * user lookup is simulated as a 2 ms query behind a 4-connection pool; the principal cache is disabled
+ * so the DB-backed mode pays the lookup on every request, as before caching.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class JwtAuthTokenFilterBenchmark {
+
+    private static final int USERS = 200;
+    private static final int DB_CONNECTIONS = 4;
+    private static final long DB_LATENCY_MS = 2;
+
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    private final Semaphore connectionPool = new Semaphore(DB_CONNECTIONS);
+    private final AtomicInteger next = new AtomicInteger();
+    private final List<String> tokens = new ArrayList<>();
+    private JwtAuthTokenFilter filter;
+
+    @Setup
+    public void setUp() {
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "mySuperSecretKeyForGarmentManagementSystem2025");
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 3600L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "tokenCacheMaxSize", 10_000L);
+        jwtTokenUtil.init();
+
+        TokenRevocationStore revocationStore = new TokenRevocationStore();
+        ReflectionTestUtils.setField(revocationStore, "expiration", 3600L);
+        revocationStore.init();
+
+        Map<String, User> users = new HashMap<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User("user" + i, "secret", "user" + i + "@example.com", "User " + i);
+            user.setId((long) i + 1);
+            user.setRoles(new HashSet<>(Set.of(new Role(Role.ROLE_EMPLOYEE, null))));
+            users.put(user.getUsername(), user);
+            tokens.add(jwtTokenUtil.generateToken(user));
+        }
+
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByUsername(anyString())).thenAnswer(invocation -> {
+            connectionPool.acquire();
+            try {
+                Thread.sleep(DB_LATENCY_MS);
+                return Optional.ofNullable(users.get(invocation.<String>getArgument(0)));
+            } finally {
+                connectionPool.release();
+            }
+        });
+
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository, revocationStore);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheMaxSize", 0L);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 300L);
+        userDetailsService.initPrincipalCache();
+        filter = new JwtAuthTokenFilter(jwtTokenUtil, userDetailsService, revocationStore, stateless,
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        String token = tokens.get(Math.floorMod(next.getAndIncrement(), USERS));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employee/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        Authentication[] seen = new Authentication[1];
+        FilterChain chain = (req, res) -> seen[0] = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
+            return seen[0];
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
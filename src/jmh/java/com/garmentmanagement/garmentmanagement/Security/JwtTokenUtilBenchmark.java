@@ -0,0 +1,56 @@
+package com.garmentmanagement.garmentmanagement.Security;
+
+import com.garmentmanagement.garmentmanagement.Entity.Role;
+import com.garmentmanagement.garmentmanagement.Entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and validation: generateToken (HS256 sign), extractUsername (full signature check
+ * and parse on every call) and getVerifiedToken (verified-token cache hit, the filter's path).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenUtilBenchmark {
+
+    private JwtTokenUtil jwtTokenUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "mySuperSecretKeyForGarmentManagementSystem2025");
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 86_400L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "tokenCacheMaxSize", 10_000L);
+        jwtTokenUtil.init();
+
+        user = new User("operator42", "secret", "operator42@factory.example", "Rahima Akter");
+        user.setId(42L);
+        user.setRoles(new HashSet<>(Set.of(new Role(Role.ROLE_EMPLOYEE, null))));
+        token = jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateUncached() {
+        return jwtTokenUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public JwtTokenUtil.VerifiedToken validateCached() {
+        return jwtTokenUtil.getVerifiedToken(token);
+    }
+}
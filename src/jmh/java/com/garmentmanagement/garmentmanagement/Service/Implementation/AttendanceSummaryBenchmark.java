@@ -0,0 +1,47 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.BenchmarkContext;
+import com.garmentmanagement.garmentmanagement.Config.SyntheticDataGenerator;
+import com.garmentmanagement.garmentmanagement.Service.AttendanceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly attendance summary for one employee (employee lookup, month range query, DTO conversion,
+ * status counts) against the seeded H2 database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AttendanceSummaryBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private AttendanceService attendanceService;
+    private int employees;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        attendanceService = context.getBean(AttendanceService.class);
+        employees = BenchmarkContext.employees();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> calculateAttendanceSummary() {
+        String employeeCode = SyntheticDataGenerator.employeeCode(next++ % employees);
+        return attendanceService.calculateAttendanceSummary(employeeCode,
+                BenchmarkContext.LAST_MONTH.getYear(), BenchmarkContext.LAST_MONTH.getMonthValue());
+    }
+}
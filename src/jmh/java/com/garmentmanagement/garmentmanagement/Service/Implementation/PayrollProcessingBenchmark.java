@@ -0,0 +1,73 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.BenchmarkContext;
+import com.garmentmanagement.garmentmanagement.DTO.PayrollDto;
+import com.garmentmanagement.garmentmanagement.Service.PayrollService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * processPayroll for one employee and month: duplicate check, salary structure and attendance
+ * lookups, PayrollCalculator, payroll insert and payslip generation. The seeded payrolls are removed
+ * first, and payrolls created during an iteration afterwards, so every iteration starts from the same data.
+ * Calls walk the seeded months only, so every processed period has attendance; after a full pass the
+ * payrolls are cleared (outside the measurement) and the walk starts over.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayrollProcessingBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PayrollService payrollService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> employeeIds;
+    private int next;
+    private Long employeeId;
+    private YearMonth payPeriod;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        payrollService = context.getBean(PayrollService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        employeeIds = jdbcTemplate.queryForList("SELECT id FROM employees ORDER BY id", Long.class);
+        clearPayrolls();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearPayrolls() {
+        jdbcTemplate.update("DELETE FROM payslips");
+        jdbcTemplate.update("DELETE FROM payrolls");
+        next = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Walks employees, then earlier seeded months, so each call processes a payroll that does not exist yet
+    @Setup(Level.Invocation)
+    public void nextPayroll() {
+        if (next == employeeIds.size() * BenchmarkContext.months()) {
+            clearPayrolls();
+        }
+        int i = next++;
+        employeeId = employeeIds.get(i % employeeIds.size());
+        payPeriod = BenchmarkContext.LAST_MONTH.minusMonths(i / employeeIds.size());
+    }
+
+    @Benchmark
+    public PayrollDto processPayroll() {
+        return payrollService.processPayroll(employeeId, payPeriod);
+    }
+}
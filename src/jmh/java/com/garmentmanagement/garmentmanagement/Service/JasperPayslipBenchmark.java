@@ -0,0 +1,48 @@
+package com.garmentmanagement.garmentmanagement.Service;
+
+import com.garmentmanagement.garmentmanagement.BenchmarkContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payslip PDF rendering (data load, Jasper fill, PDF export) with the cached compiled template.
+ * The fill/export split is printed from the service's render stats at the end of the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JasperPayslipBenchmark {
+
+    private static final int PAYSLIPS = 50;
+
+    private ConfigurableApplicationContext context;
+    private JasperPayslipService jasperPayslipService;
+    private List<Long> payslipIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        jasperPayslipService = context.getBean(JasperPayslipService.class);
+        payslipIds = context.getBean(JdbcTemplate.class).queryForList(
+                "SELECT id FROM payslips ORDER BY id DESC LIMIT " + PAYSLIPS, Long.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("Render stats: " + jasperPayslipService.getRenderStats());
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] generatePayslipPdf() {
+        return jasperPayslipService.generatePayslipPdf(payslipIds.get(next++ % payslipIds.size()));
+    }
+}
@@ -4,23 +4,38 @@ import com.garmentmanagement.garmentmanagement.Entity.Role;
 import com.garmentmanagement.garmentmanagement.Entity.User;
 import com.garmentmanagement.garmentmanagement.Repository.RoleRepository;
 import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
+import com.garmentmanagement.garmentmanagement.DataInitializer.StartupTask;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class DataLoader implements CommandLineRunner {
+@Order(1)
+public class DataLoader implements StartupTask {
 
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Override
-    public void run(String... args) throws Exception {
+    public String name() {
+        return "roles-and-admin";
+    }
+
+    // Nobody can sign in before roles and the admin user exist
+    @Override
+    public boolean critical() {
+        return true;
+    }
+
+    @Override
+    public void run() {
         createRoles();
         createAdminUser();
     }
@@ -38,7 +53,7 @@ public class DataLoader implements CommandLineRunner {
         if (!roleRepository.existsByName(name)) {
             Role role = new Role(name, description);
             roleRepository.save(role);
-            System.out.println("✅ Created role: " + name);
+            log.info("Created role: {}", name);
         }
     }
 
@@ -55,7 +70,7 @@ public class DataLoader implements CommandLineRunner {
             admin.setRoles(Set.of(adminRole));
 
             userRepository.save(admin);
-            System.out.println("✅ Default admin user created: admin / admin123");
+            log.info("Default admin user created: admin");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.garmentmanagement.garmentmanagement.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public call into a @Service bean (app.service) and every repository call, Spring Data
+ * or JDBC (app.repository). Tags: subsystem, class, method and exception (simple class name or "none").
+ * Calls a bean makes on itself bypass the proxy and are not timed separately.
+ * Timers are built once per tag combination. They publish no histogram by default (there is one per
+ * method); management.metrics.distribution.percentiles-histogram.app.service=true turns them on.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LatencyMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // Proxy class -> user-facing class name (repository interface for Spring Data proxies)
+    private final Map<Class<?>, String> classNames = new ConcurrentHashMap<>();
+
+    private record TimerKey(String metric, Class<?> type, String method, String exception) {
+    }
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * *(..)) && @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.service", joinPoint);
+    }
+
+    @Around("execution(public * *(..)) && (this(org.springframework.data.repository.Repository) " +
+            "|| @within(org.springframework.stereotype.Repository))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.repository", joinPoint);
+    }
+
+    private Object time(String metric, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Object proxy = joinPoint.getThis();
+            TimerKey key = new TimerKey(metric, proxy.getClass(), joinPoint.getSignature().getName(), exception);
+            sample.stop(timers.computeIfAbsent(key, k -> {
+                String className = className(proxy);
+                return Timer.builder(k.metric())
+                        .tag("subsystem", MetricsConfig.subsystem(className))
+                        .tag("class", className)
+                        .tag("method", k.method())
+                        .tag("exception", k.exception())
+                        .register(meterRegistry);
+            }));
+        }
+    }
+
+    private String className(Object proxy) {
+        return classNames.computeIfAbsent(proxy.getClass(), type -> {
+            if (proxy instanceof org.springframework.data.repository.Repository<?, ?>) {
+                Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+                if (interfaces.length > 0) {
+                    return interfaces[0].getSimpleName();
+                }
+            }
+            return ClassUtils.getUserClass(type).getSimpleName();
+        });
+    }
+}
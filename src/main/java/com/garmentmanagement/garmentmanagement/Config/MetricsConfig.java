@@ -0,0 +1,57 @@
+package com.garmentmanagement.garmentmanagement.Config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import java.util.Locale;
+
+/**
+ * Metrics are exposed at /actuator/prometheus. http.server.requests (per endpoint), app.service,
+ * app.repository, payslip.render and security.jwt.filter carry a subsystem tag; Hikari pool metrics
+ * (hikaricp.connections.acquire = pool wait) come from the actuator auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Checked in order - "leave" before "application" so LeaveApplication* is not counted as recruitment
+    private static final String[][] SUBSYSTEMS = {
+            {"attendance", "attendance", "shift", "checkin"},
+            {"leave", "leave"},
+            {"payroll", "payroll", "payslip", "salary", "bonus", "jasper"},
+            {"tasks", "task", "project"},
+            {"recruitment", "recruitment", "candidate", "jobposting", "applicant", "application", "interview", "offer"},
+            {"analytics", "analytics", "summary", "dashboard"},
+    };
+
+    /**
+     * Subsystem tag for a class name or request path; "core" for employees, departments, users etc.
+     */
+    public static String subsystem(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        for (String[] subsystem : SUBSYSTEMS) {
+            for (int i = 1; i < subsystem.length; i++) {
+                if (lower.contains(subsystem[i])) {
+                    return subsystem[0];
+                }
+            }
+        }
+        return "core";
+    }
+
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                // Path pattern is null when the request never reached a handler (404, rejected by security)
+                String path = context.getPathPattern() != null ? context.getPathPattern() : context.getCarrier().getRequestURI();
+                return super.getLowCardinalityKeyValues(context).and(KeyValue.of("subsystem", subsystem(path)));
+            }
+        };
+    }
+}
@@ -0,0 +1,479 @@
+package com.garmentmanagement.garmentmanagement.Config;
+
+import com.garmentmanagement.garmentmanagement.DataInitializer.StartupTask;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.Payroll;
+import com.garmentmanagement.garmentmanagement.Entity.Payslip;
+import com.garmentmanagement.garmentmanagement.Repository.PayrollBatchRepository;
+import com.garmentmanagement.garmentmanagement.Service.Implementation.AttendanceRollups;
+import com.garmentmanagement.garmentmanagement.Service.Implementation.PayrollCalculator;
+import com.garmentmanagement.garmentmanagement.Service.Implementation.WorkingDayCalendar;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Factory-scale synthetic data for load tests and benchmarks (profile "seed", see application-seed.properties):
+ * departments, employees with line supervisors and salary structures, daily attendance, leave applications and
+ * balances, monthly payrolls with payslips, and tasks with comments.
+ *
+ * Rows are written with batched JDBC inserts (IDENTITY ids make Hibernate insert row by row) and come from a
+ * fixed random seed, so the same settings always produce the same data. Skipped when the first synthetic
+ * employee code already exists.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@Order(3) // Run after the leave types, before the balance and attendance catch-up
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements StartupTask {
+
+    private static final String[] DEPARTMENTS = {"Cutting", "Sewing", "Finishing", "Washing", "Printing",
+            "Embroidery", "Quality", "Packing", "Store", "Maintenance", "HR", "Accounts"};
+    private static final String[] FIRST_NAMES = {"Rahima", "Karim", "Shirin", "Jamal", "Nasima", "Rafiq",
+            "Salma", "Habib", "Rupa", "Sohel", "Mitu", "Kamal"};
+    private static final String[] LAST_NAMES = {"Akter", "Hossain", "Begum", "Islam", "Khatun", "Uddin",
+            "Rahman", "Ahmed", "Sultana", "Mia"};
+    private static final String[] TASK_TITLES = {"Cut fabric for order", "Sew batch for order",
+            "Quality check for order", "Pack cartons for order", "Repair machine on line", "Count stock for order"};
+    private static final String[] TASK_PRIORITIES = {"LOW", "MEDIUM", "MEDIUM", "HIGH", "URGENT"};
+    private static final String[] COMMENTS = {"Started", "Waiting for fabric", "Half done", "Machine issue fixed",
+            "Checked by supervisor", "Done"};
+
+    // One supervisor per department in every block of 300 employees
+    private static final int SUPERVISOR_BLOCK = 300;
+
+    private static final String INSERT_DEPARTMENT =
+            "INSERT INTO departments (name, code, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employees (first_name, last_name, employee_id, email, department_id, designation, " +
+                    "employee_type, status, work_type, gender, join_date, basic_salary, shift, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SALARY_STRUCTURE =
+            "INSERT INTO salary_structures (employee_id, basic_salary, house_rent, medical_allowance, " +
+                    "transport_allowance, other_allowances, total_deductions, gross_salary, net_salary, status, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ATTENDANCE =
+            "INSERT INTO attendances (employee_id, attendance_date, checkin_time, checkout_time, status, total_hours, " +
+                    "remarks, location_verified, device_type, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_LEAVE_APPLICATION =
+            "INSERT INTO leave_applications (employee_id, leave_type_id, start_date, end_date, total_days, status, " +
+                    "reason, remarks, approved_by, applied_date, processed_date, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_LEAVE_BALANCE =
+            "INSERT INTO leave_balances (employee_id, leave_type_id, total_days, used_days, remaining_days, " +
+                    "carry_forward_days, year, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TASK =
+            "INSERT INTO tasks (title, description, assigned_to, assigned_by, priority, status, due_date, start_date, " +
+                    "completed_date, estimated_hours, actual_hours, completion_percentage, is_urgent, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TASK_COMMENT =
+            "INSERT INTO task_comments (task_id, employee_id, comment, comment_date, is_internal, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PayrollBatchRepository payrollBatchRepository;
+    private final PayrollCalculator payrollCalculator;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final AttendanceRollups attendanceRollups;
+
+    @Value("${seed.employees:10000}")
+    private int employees;
+
+    @Value("${seed.months:36}")
+    private int months;
+
+    // Last generated month (yyyy-MM); empty means the previous calendar month (not reproducible)
+    @Value("${seed.end-month:2025-06}")
+    private String endMonth;
+
+    @Value("${seed.leave-applications-per-year:3}")
+    private int leaveApplicationsPerYear;
+
+    @Value("${seed.tasks-per-employee:4}")
+    private int tasksPerEmployee;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    private record SeedEmployee(long id, String code, Long managerId, BigDecimal basic, BigDecimal allowances,
+                                BigDecimal deductions) {
+    }
+
+    private record LeaveTypeRow(long id, int maxDaysPerYear, int carryForwardDays) {
+    }
+
+    public static String employeeCode(int index) {
+        return String.format("EMP%05d", index + 1);
+    }
+
+    @Override
+    public String name() {
+        return "synthetic-data";
+    }
+
+    @Override
+    public void run() {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) > 0 FROM employees WHERE employee_id = ?", Boolean.class, employeeCode(0)))) {
+            log.info("Synthetic data already present ({} exists), skipping seed", employeeCode(0));
+        } else {
+            seed();
+        }
+    }
+
+    public void seed() {
+        Random random = new Random(randomSeed);
+        YearMonth last = endMonth.isBlank() ? YearMonth.now().minusMonths(1) : YearMonth.parse(endMonth);
+        YearMonth first = last.minusMonths(months - 1L);
+        LocalDate from = first.atDay(1);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long started = System.currentTimeMillis();
+
+        List<SeedEmployee> seedEmployees = seedEmployees(random, now);
+        log.info("Seeded {} employees with salary structures", seedEmployees.size());
+
+        BitSet[] onLeave = seedLeave(random, seedEmployees, first, last, now);
+        log.info("Seeded leave applications and balances for {} - {}", first.getYear(), last.getYear());
+
+        long attendances = 0;
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            attendances += seedMonth(random, seedEmployees, onLeave, from, month, now);
+        }
+        log.info("Seeded {} attendance rows and {} months of payroll", attendances, months);
+        attendanceRollups.rebuild(from, last.atEndOfMonth());
+
+        int tasks = seedTasks(random, seedEmployees, from, last.atEndOfMonth(), now);
+        log.info("Seeded {} tasks with comments", tasks);
+
+        log.info("Synthetic data generated in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+
+    private List<SeedEmployee> seedEmployees(Random random, Timestamp now) {
+        Map<String, Long> departmentIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM departments",
+                rs -> { departmentIds.put(rs.getString(2), rs.getLong(1)); });
+        List<Object[]> departmentRows = new ArrayList<>();
+        for (String name : DEPARTMENTS) {
+            if (!departmentIds.containsKey(name)) {
+                departmentRows.add(new Object[]{name, "SYN-" + name.substring(0, Math.min(3, name.length())).toUpperCase(),
+                        "ACTIVE", now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DEPARTMENT, departmentRows);
+        jdbcTemplate.query("SELECT id, name FROM departments",
+                rs -> { departmentIds.put(rs.getString(2), rs.getLong(1)); });
+
+        long maxIdBefore = maxId("employees");
+        List<Object[]> employeeRows = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            BigDecimal basic = BigDecimal.valueOf(12_000 + random.nextInt(30) * 500L);
+            employeeRows.add(new Object[]{
+                    FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length],
+                    employeeCode(i), "emp" + (i + 1) + "@factory.example",
+                    departmentIds.get(DEPARTMENTS[i % DEPARTMENTS.length]),
+                    isSupervisor(i) ? "Supervisor" : "Operator", "FULL_TIME", "ACTIVE", "ONSITE",
+                    i % 3 == 0 ? "MALE" : "FEMALE", Date.valueOf(LocalDate.of(2015, 1, 1).plusDays(i % 3_000)),
+                    basic, "DAY", now, now});
+        }
+        batch(INSERT_EMPLOYEE, employeeRows);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE id > ? ORDER BY id", Long.class, maxIdBefore);
+
+        List<Object[]> managerRows = new ArrayList<>(employees);
+        List<Object[]> salaryRows = new ArrayList<>(employees);
+        List<SeedEmployee> seedEmployees = new ArrayList<>(employees);
+        for (int i = 0; i < ids.size(); i++) {
+            int manager = managerIndex(i);
+            Long managerId = manager < 0 ? null : ids.get(manager);
+            if (managerId != null) {
+                managerRows.add(new Object[]{managerId, ids.get(i)});
+            }
+
+            BigDecimal basic = (BigDecimal) employeeRows.get(i)[11];
+            BigDecimal houseRent = basic.multiply(BigDecimal.valueOf(0.5));
+            BigDecimal medical = BigDecimal.valueOf(750);
+            BigDecimal transport = BigDecimal.valueOf(450);
+            BigDecimal allowances = houseRent.add(medical).add(transport);
+            BigDecimal gross = basic.add(allowances);
+            BigDecimal deductions = basic.multiply(BigDecimal.valueOf(0.05));
+            salaryRows.add(new Object[]{ids.get(i), basic, houseRent, medical, transport, BigDecimal.ZERO,
+                    deductions, gross, gross.subtract(deductions), "ACTIVE", now, now});
+            seedEmployees.add(new SeedEmployee(ids.get(i), employeeCode(i), managerId, basic, allowances, deductions));
+        }
+        batch("UPDATE employees SET manager_id = ? WHERE id = ?", managerRows);
+        batch(INSERT_SALARY_STRUCTURE, salaryRows);
+        return seedEmployees;
+    }
+
+    private static boolean isSupervisor(int index) {
+        return index % SUPERVISOR_BLOCK < DEPARTMENTS.length;
+    }
+
+    // Operators report to their block's department supervisor, supervisors to the first block's; -1 for none
+    private static int managerIndex(int index) {
+        int supervisor = (index / SUPERVISOR_BLOCK) * SUPERVISOR_BLOCK + index % DEPARTMENTS.length;
+        if (supervisor != index) {
+            return supervisor;
+        }
+        return index < SUPERVISOR_BLOCK ? -1 : index % DEPARTMENTS.length;
+    }
+
+    /**
+     * Leave applications (mostly approved, 1-3 working days each) and yearly balances for every active
+     * leave type. Returns, per employee, the day offsets (from the first month) on approved leave.
+     */
+    private BitSet[] seedLeave(Random random, List<SeedEmployee> seedEmployees, YearMonth first, YearMonth last,
+                               Timestamp now) {
+        List<LeaveTypeRow> leaveTypes = jdbcTemplate.query(
+                "SELECT id, max_days_per_year, carry_forward_days FROM leave_types WHERE is_active = true ORDER BY id",
+                (rs, rowNum) -> new LeaveTypeRow(rs.getLong(1), rs.getInt(2), rs.getInt(3)));
+        LocalDate from = first.atDay(1);
+        LocalDate to = last.atEndOfMonth();
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        BitSet[] onLeave = new BitSet[seedEmployees.size()];
+        if (leaveTypes.isEmpty()) {
+            log.warn("No active leave types, skipping leave data");
+            Arrays.setAll(onLeave, i -> new BitSet());
+            return onLeave;
+        }
+        // Only the short, common leave types are drawn (sick / casual / annual are the first three defaults)
+        int drawnTypes = Math.min(3, leaveTypes.size());
+
+        List<Object[]> applicationRows = new ArrayList<>(batchSize);
+        List<Object[]> balanceRows = new ArrayList<>();
+        for (int e = 0; e < seedEmployees.size(); e++) {
+            SeedEmployee employee = seedEmployees.get(e);
+            onLeave[e] = new BitSet(days);
+            for (int year = first.getYear(); year <= last.getYear(); year++) {
+                int[] usedDays = new int[leaveTypes.size()];
+                for (int n = 0; n < leaveApplicationsPerYear; n++) {
+                    LocalDate start = LocalDate.of(year, 1, 1).plusDays(random.nextInt(365));
+                    if (!workingDayCalendar.isWorkingDay(start)) {
+                        start = start.plusDays(1);
+                    }
+                    LocalDate end = start.plusDays(random.nextInt(3));
+                    if (start.isBefore(from) || end.isAfter(to)) {
+                        continue;
+                    }
+                    int type = random.nextInt(drawnTypes);
+                    int roll = random.nextInt(100);
+                    String status = roll < 80 ? "APPROVED" : roll < 90 ? "REJECTED" : roll < 95 ? "PENDING" : "CANCELLED";
+                    int totalDays = workingDayCalendar.workingDays(start, end);
+                    Timestamp applied = Timestamp.valueOf(start.minusDays(3 + random.nextInt(10)).atTime(10, 0));
+                    boolean processed = !"PENDING".equals(status);
+                    applicationRows.add(new Object[]{employee.id(), leaveTypes.get(type).id(), Date.valueOf(start),
+                            Date.valueOf(end), totalDays, status, "Personal work", processed ? "Processed" : null,
+                            processed ? employee.managerId() : null, applied,
+                            processed ? Timestamp.valueOf(applied.toLocalDateTime().plusDays(1)) : null, now, now});
+                    if (applicationRows.size() == batchSize) {
+                        jdbcTemplate.batchUpdate(INSERT_LEAVE_APPLICATION, applicationRows);
+                        applicationRows.clear();
+                    }
+                    if ("APPROVED".equals(status)) {
+                        usedDays[type] += totalDays;
+                        int offset = (int) ChronoUnit.DAYS.between(from, start);
+                        onLeave[e].set(offset, offset + (int) ChronoUnit.DAYS.between(start, end) + 1);
+                    }
+                }
+                for (int t = 0; t < leaveTypes.size(); t++) {
+                    LeaveTypeRow leaveType = leaveTypes.get(t);
+                    balanceRows.add(new Object[]{employee.id(), leaveType.id(), leaveType.maxDaysPerYear(), usedDays[t],
+                            leaveType.maxDaysPerYear() - usedDays[t] + leaveType.carryForwardDays(),
+                            leaveType.carryForwardDays(), year, now, now});
+                }
+            }
+            if (balanceRows.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_LEAVE_BALANCE, balanceRows);
+                balanceRows.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_LEAVE_APPLICATION, applicationRows);
+        jdbcTemplate.batchUpdate(INSERT_LEAVE_BALANCE, balanceRows);
+        return onLeave;
+    }
+
+    /**
+     * One month of attendance (calendar off days skipped, approved leave days skipped; ~90% present, 5% late, 3% absent,
+     * 2% half day) followed by that month's processed payrolls and payslips.
+     */
+    private long seedMonth(Random random, List<SeedEmployee> seedEmployees, BitSet[] onLeave, LocalDate from,
+                           YearMonth month, Timestamp now) {
+        int[] presentDays = new int[seedEmployees.size()];
+        int workingDays = 0;
+        long rows = 0;
+        List<Object[]> attendanceRows = new ArrayList<>(batchSize);
+        for (LocalDate day = month.atDay(1); !day.isAfter(month.atEndOfMonth()); day = day.plusDays(1)) {
+            if (!workingDayCalendar.isWorkingDay(day)) {
+                continue;
+            }
+            workingDays++;
+            int offset = (int) ChronoUnit.DAYS.between(from, day);
+            for (int e = 0; e < seedEmployees.size(); e++) {
+                if (onLeave[e].get(offset)) {
+                    continue;
+                }
+                Object[] row = attendanceRow(random, seedEmployees.get(e).id(), day, now);
+                if (!"ABSENT".equals(row[4])) {
+                    presentDays[e]++;
+                }
+                attendanceRows.add(row);
+                if (attendanceRows.size() == batchSize) {
+                    jdbcTemplate.batchUpdate(INSERT_ATTENDANCE, attendanceRows);
+                    rows += attendanceRows.size();
+                    attendanceRows.clear();
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE, attendanceRows);
+        rows += attendanceRows.size();
+
+        LocalDate payDate = month.plusMonths(1).atDay(1);
+        for (int start = 0; start < seedEmployees.size(); start += batchSize) {
+            List<Payroll> payrolls = new ArrayList<>(batchSize);
+            for (int e = start; e < Math.min(start + batchSize, seedEmployees.size()); e++) {
+                payrolls.add(payroll(seedEmployees.get(e), month, payDate, workingDays, presentDays[e]));
+            }
+            payrollBatchRepository.insertPayrolls(payrolls);
+
+            List<Payslip> payslips = new ArrayList<>(payrolls.size());
+            for (Payroll payroll : payrolls) {
+                Payslip payslip = new Payslip();
+                payslip.setPayroll(payroll);
+                payslip.setPayslipCode(payrollCalculator.payslipCode(payroll));
+                payslip.setIssueDate(payDate);
+                payslip.setIsGenerated(true);
+                payslips.add(payslip);
+            }
+            payrollBatchRepository.insertPayslips(payslips);
+        }
+        return rows;
+    }
+
+    private Object[] attendanceRow(Random random, long employeeId, LocalDate day, Timestamp now) {
+        int roll = random.nextInt(100);
+        if (roll < 3) {
+            return new Object[]{employeeId, Date.valueOf(day), null, null, "ABSENT", 0.0, "Auto-marked absent",
+                    false, null, now, now};
+        }
+        String status = roll < 8 ? "LATE" : roll < 10 ? "HALF_DAY" : "PRESENT";
+        LocalTime checkIn = LocalTime.of(roll < 8 ? 9 : 8, 30 + random.nextInt(30));
+        LocalTime checkOut = "HALF_DAY".equals(status) ? checkIn.plusHours(3) : LocalTime.of(18, random.nextInt(45));
+        double hours = (checkOut.toSecondOfDay() - checkIn.toSecondOfDay()) / 3600.0;
+        return new Object[]{employeeId, Date.valueOf(day), Time.valueOf(checkIn), Time.valueOf(checkOut), status,
+                hours, "Auto check-in", true, "MOBILE", now, now};
+    }
+
+    // Basic pay is prorated by present days; allowances and deductions are paid in full
+    private static Payroll payroll(SeedEmployee seedEmployee, YearMonth month, LocalDate payDate, int workingDays,
+                                   int presentDays) {
+        Employee employee = new Employee();
+        employee.setId(seedEmployee.id());
+        employee.setEmployeeId(seedEmployee.code());
+
+        BigDecimal basic = seedEmployee.basic().multiply(BigDecimal.valueOf(presentDays))
+                .divide(BigDecimal.valueOf(workingDays), 2, RoundingMode.HALF_UP);
+        BigDecimal gross = basic.add(seedEmployee.allowances());
+
+        Payroll payroll = new Payroll();
+        payroll.setEmployee(employee);
+        payroll.setPayPeriod(month);
+        payroll.setPayDate(payDate);
+        payroll.setBasicSalary(basic);
+        payroll.setTotalAllowances(seedEmployee.allowances());
+        payroll.setOtherDeductions(seedEmployee.deductions());
+        payroll.setGrossSalary(gross);
+        payroll.setNetSalary(gross.subtract(seedEmployee.deductions()));
+        payroll.setWorkingDays(workingDays);
+        payroll.setPresentDays(presentDays);
+        payroll.setStatus(Payroll.PayrollStatus.PROCESSED);
+        return payroll;
+    }
+
+    /**
+     * Tasks assigned by each employee's supervisor across the period; tasks due before the last month are
+     * mostly completed. Each task gets 0-3 comments.
+     */
+    private int seedTasks(Random random, List<SeedEmployee> seedEmployees, LocalDate from, LocalDate to,
+                          Timestamp now) {
+        long maxIdBefore = maxId("tasks");
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        LocalDate recent = to.minusDays(30);
+
+        List<Object[]> taskRows = new ArrayList<>(seedEmployees.size() * tasksPerEmployee);
+        for (SeedEmployee employee : seedEmployees) {
+            long assignedBy = employee.managerId() != null ? employee.managerId() : employee.id();
+            for (int n = 0; n < tasksPerEmployee; n++) {
+                LocalDate start = from.plusDays(random.nextInt(days));
+                LocalDate due = start.plusDays(1 + random.nextInt(14));
+                double estimated = 2 + random.nextInt(14);
+                int roll = random.nextInt(100);
+                String status;
+                if (due.isBefore(recent)) {
+                    status = roll < 85 ? "COMPLETED" : roll < 95 ? "CANCELLED" : "OVERDUE";
+                } else {
+                    status = roll < 40 ? "IN_PROGRESS" : roll < 70 ? "PENDING" : roll < 90 ? "COMPLETED" : "ON_HOLD";
+                }
+                boolean completed = "COMPLETED".equals(status);
+                int percentage = completed ? 100 : "IN_PROGRESS".equals(status) ? 10 * (1 + random.nextInt(9)) : 0;
+                String priority = TASK_PRIORITIES[random.nextInt(TASK_PRIORITIES.length)];
+                taskRows.add(new Object[]{TASK_TITLES[random.nextInt(TASK_TITLES.length)] + " " + (1000 + random.nextInt(9000)),
+                        "Synthetic task", employee.id(), assignedBy, priority, status, Date.valueOf(due),
+                        Date.valueOf(start), completed ? Date.valueOf(due.minusDays(random.nextInt(2))) : null, estimated,
+                        completed ? estimated + random.nextInt(5) - 2 : null, percentage, "URGENT".equals(priority),
+                        now, now});
+            }
+        }
+        batch(INSERT_TASK, taskRows);
+
+        List<Long> taskIds = jdbcTemplate.queryForList(
+                "SELECT id FROM tasks WHERE id > ? ORDER BY id", Long.class, maxIdBefore);
+        List<Object[]> commentRows = new ArrayList<>(batchSize);
+        for (int t = 0; t < taskIds.size(); t++) {
+            Object[] taskRow = taskRows.get(t);
+            LocalDate start = ((Date) taskRow[7]).toLocalDate();
+            int comments = random.nextInt(4);
+            for (int c = 0; c < comments; c++) {
+                long author = c % 2 == 0 ? (long) taskRow[2] : (long) taskRow[3];
+                commentRows.add(new Object[]{taskIds.get(t), author, COMMENTS[random.nextInt(COMMENTS.length)],
+                        Timestamp.valueOf(start.plusDays(c).atTime(11 + c, 0)), false, now, now});
+            }
+            if (commentRows.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_TASK_COMMENT, commentRows);
+                commentRows.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_TASK_COMMENT, commentRows);
+        return taskRows.size();
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(start + batchSize, rows.size())));
+        }
+    }
+}
@@ -30,6 +30,16 @@ public class AdminTaskController {
     }
 
 
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<TaskDto>> getTasksPage(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(taskService.getTasksPage(page, size, sortBy, direction));
+    }
+
+
     @PostMapping
     public ResponseEntity<TaskDto> createTask(@RequestBody TaskDto taskDto) {
         TaskDto createdTask = taskService.createTask(taskDto);
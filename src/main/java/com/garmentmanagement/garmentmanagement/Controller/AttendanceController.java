@@ -1,10 +1,14 @@
 package com.garmentmanagement.garmentmanagement.Controller;
 
 import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.DTO.MonthlySummaryDto;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.Attendance;
 import com.garmentmanagement.garmentmanagement.Service.AttendanceService;
+import com.garmentmanagement.garmentmanagement.Service.Implementation.CheckInIngestQueue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +23,7 @@ import java.util.Map;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final CheckInIngestQueue checkInIngestQueue;
 
     // ==================== BASIC ATTENDANCE OPERATIONS ====================
 
@@ -28,18 +33,22 @@ public class AttendanceController {
             @PathVariable String employeeId,
             @RequestParam(name = "latitude", required = false) Double latitude,
             @RequestParam(name = "longitude", required = false) Double longitude,
-            @RequestParam(name = "deviceType" ,required = false, defaultValue = "DESKTOP") String deviceType) {
+            @RequestParam(name = "deviceType" ,required = false, defaultValue = "DESKTOP") String deviceType,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
 
         try {
             AttendanceDto attendance;
             if (latitude != null && longitude != null) {
                 // Use enhanced check-in with location
-                attendance = attendanceService.checkIn(employeeId, latitude, longitude, deviceType);
+                attendance = attendanceService.checkIn(employeeId, latitude, longitude, deviceType, idempotencyKey);
             } else {
                 // Use basic check-in (backward compatible)
-                attendance = attendanceService.checkIn(employeeId);
+                attendance = attendanceService.checkIn(employeeId, null, null, "DESKTOP", idempotencyKey);
             }
             return ResponseEntity.ok(attendance);
+        } catch (CheckInIngestQueue.QueueFullException e) {
+            // Back-pressure from the check-in queue: ask the client to retry
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(null);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(null);
         }
@@ -91,6 +100,20 @@ public class AttendanceController {
         return ResponseEntity.ok(attendanceList);
     }
 
+    // Check-in ingest queue status (attendance.ingest.enabled)
+    @GetMapping("/ingest/stats")
+    public ResponseEntity<Map<String, Object>> getIngestStats() {
+        return ResponseEntity.ok(checkInIngestQueue.getStats());
+    }
+
+    // Get attendance records page by page (newest first); pass nextCursor back as ?cursor= for the next page
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<AttendanceDto>> getAttendancePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") Integer size) {
+        return ResponseEntity.ok(attendanceService.getAttendancePage(cursor, size));
+    }
+
     // Get employee attendance history
     @GetMapping("/history/{employeeId}")
     public ResponseEntity<List<AttendanceDto>> getEmployeeAttendanceHistory(
@@ -160,6 +183,14 @@ public class AttendanceController {
         return ResponseEntity.ok().build();
     }
 
+    // Recompute the attendance rollups read by reports and analytics (backfill / repair)
+    @PostMapping("/admin/rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(attendanceService.rebuildRollups(from, to));
+    }
+
     // ==================== REPORTS & ANALYTICS ====================
 
     // Reports - Today's present count
@@ -194,6 +225,14 @@ public class AttendanceController {
         return ResponseEntity.ok(summary);
     }
 
+    // Monthly summary of all employees (days closed so far)
+    @GetMapping("/summary/monthly")
+    public ResponseEntity<MonthlySummaryDto> getMonthlySummary(
+            @RequestParam int year,
+            @RequestParam int month) {
+        return ResponseEntity.ok(attendanceService.getMonthlySummary(year, month));
+    }
+
     // ✅ ADDED: Get location-based attendance stats
     @GetMapping("/reports/location-stats")
     public ResponseEntity<Map<String, Object>> getLocationAttendanceStats(
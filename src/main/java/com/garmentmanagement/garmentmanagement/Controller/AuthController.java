@@ -10,6 +10,7 @@ import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
 import com.garmentmanagement.garmentmanagement.Repository.RoleRepository;
 import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
 import com.garmentmanagement.garmentmanagement.Security.JwtTokenUtil;
+import com.garmentmanagement.garmentmanagement.Service.LeaveRolloverService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,6 +36,7 @@ public class AuthController {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenUtil jwtTokenUtil;
     private final EmployeeRepository employeeRepository;
+    private final LeaveRolloverService leaveRolloverService;
 
     @PostMapping("/signin")
     public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
@@ -233,6 +235,7 @@ public class AuthController {
 
             Employee savedEmployee = employeeRepository.save(employee);
             System.out.println("✅ Employee saved with ID: " + savedEmployee.getId());
+            leaveRolloverService.createBalances(savedEmployee.getId());
 
             //Update user with employee reference (bidirectional relationship)
             user.setEmployee(savedEmployee);
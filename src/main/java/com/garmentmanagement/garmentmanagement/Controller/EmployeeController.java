@@ -1,6 +1,7 @@
 package com.garmentmanagement.garmentmanagement.Controller;
 
 import com.garmentmanagement.garmentmanagement.DTO.EmployeeDto;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
 import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
@@ -56,6 +57,15 @@ public class EmployeeController {
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<EmployeeDto>> getEmployeesPage(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(employeeService.getEmployeesPage(page, size, sortBy, direction));
+    }
+
     @GetMapping("/department/{departmentId}")
     public ResponseEntity<List<EmployeeDto>> getEmployeesByDepartment(@PathVariable Long departmentId) {
         List<EmployeeDto> employees = employeeService.getEmployeesByDepartment(departmentId);
@@ -0,0 +1,51 @@
+package com.garmentmanagement.garmentmanagement.Controller;
+
+import com.garmentmanagement.garmentmanagement.DTO.HolidayDto;
+import com.garmentmanagement.garmentmanagement.Service.HolidayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/holidays")
+@RequiredArgsConstructor
+public class HolidayController {
+
+    private final HolidayService holidayService;
+
+    @PostMapping
+    public ResponseEntity<HolidayDto> createHoliday(@RequestBody HolidayDto holidayDto) {
+        HolidayDto createdHoliday = holidayService.createHoliday(holidayDto);
+        return ResponseEntity.ok(createdHoliday);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<HolidayDto> updateHoliday(@PathVariable Long id, @RequestBody HolidayDto holidayDto) {
+        HolidayDto updatedHoliday = holidayService.updateHoliday(id, holidayDto);
+        return ResponseEntity.ok(updatedHoliday);
+    }
+
+    @GetMapping("/year/{year}")
+    public ResponseEntity<List<HolidayDto>> getHolidaysByYear(@PathVariable int year) {
+        List<HolidayDto> holidays = holidayService.getHolidaysByYear(year);
+        return ResponseEntity.ok(holidays);
+    }
+
+    @GetMapping("/working-days")
+    public ResponseEntity<Map<String, Object>> getWorkingDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(holidayService.getWorkingDays(from, to));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteHoliday(@PathVariable Long id) {
+        holidayService.deleteHoliday(id);
+        return ResponseEntity.ok().build();
+    }
+}
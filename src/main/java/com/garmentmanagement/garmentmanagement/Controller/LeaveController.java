@@ -1,10 +1,14 @@
 package com.garmentmanagement.garmentmanagement.Controller;
 
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionRequest;
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionResponse;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveApplicationDto;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveBalanceDto;
+import com.garmentmanagement.garmentmanagement.DTO.LeaveRolloverDto;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveTypeDto;
 import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
 import com.garmentmanagement.garmentmanagement.Entity.LeaveType;
+import com.garmentmanagement.garmentmanagement.Service.LeaveRolloverService;
 import com.garmentmanagement.garmentmanagement.Service.LeaveService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -21,6 +25,7 @@ import java.util.Map;
 public class LeaveController {
 
     private final LeaveService leaveService;
+    private final LeaveRolloverService leaveRolloverService;
 
     // ==================== LEAVE TYPE ENDPOINTS ====================
 
@@ -189,6 +194,19 @@ public class LeaveController {
         return ResponseEntity.ok(rejectedLeave);
     }
 
+    /**
+     * Bulk Approve / Reject (HR) - per-item results; valid items are applied together in one transaction
+     */
+    @PutMapping("/applications/bulk-approve")
+    public ResponseEntity<BulkLeaveDecisionResponse> approveLeaves(@RequestBody BulkLeaveDecisionRequest request) {
+        return ResponseEntity.ok(leaveService.approveLeaves(request));
+    }
+
+    @PutMapping("/applications/bulk-reject")
+    public ResponseEntity<BulkLeaveDecisionResponse> rejectLeaves(@RequestBody BulkLeaveDecisionRequest request) {
+        return ResponseEntity.ok(leaveService.rejectLeaves(request));
+    }
+
     /**
      * Leave Application Cancel (Employee)
      *
@@ -288,11 +306,15 @@ public class LeaveController {
 
     /**
      * Yearly Leave Balances Initialize (Admin - Year Start)
-
+     * Runs in the background with carry-forward from the previous year; poll the rollover for progress
      */
     @PostMapping("/initialize-yearly-balances")
-    public ResponseEntity<Void> initializeYearlyLeaveBalances(@RequestParam Integer year) {
-        leaveService.initializeYearlyLeaveBalances(year);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<LeaveRolloverDto> initializeYearlyLeaveBalances(@RequestParam Integer year) {
+        return ResponseEntity.accepted().body(leaveRolloverService.startRollover(year));
+    }
+
+    @GetMapping("/rollovers/{year}")
+    public ResponseEntity<LeaveRolloverDto> getLeaveRollover(@PathVariable Integer year) {
+        return ResponseEntity.ok(leaveRolloverService.getRollover(year));
     }
 }
\ No newline at end of file
@@ -2,12 +2,14 @@ package com.garmentmanagement.garmentmanagement.Controller;
 
 import com.garmentmanagement.garmentmanagement.DTO.*;
 import com.garmentmanagement.garmentmanagement.Service.JasperPayslipService;
+import com.garmentmanagement.garmentmanagement.Service.PayrollRunService;
 import com.garmentmanagement.garmentmanagement.Service.PayrollService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.YearMonth;
 import java.util.List;
@@ -20,6 +22,7 @@ public class PayrollController {
 
     private final PayrollService payrollService;
     private final JasperPayslipService jasperPayslipService;
+    private final PayrollRunService payrollRunService;
 
     // ==================== SALARY STRUCTURE ENDPOINTS ====================
 
@@ -94,6 +97,35 @@ public class PayrollController {
         return ResponseEntity.ok(payrolls);
     }
 
+    /**
+     * ✅ Background Payroll Run শুরু করা (body খালি হলে সব active employee)
+     */
+    @PostMapping("/runs")
+    public ResponseEntity<PayrollRunDto> startPayrollRun(
+            @RequestParam String payPeriod,
+            @RequestBody(required = false) List<Long> employeeIds) {
+        YearMonth period = YearMonth.parse(payPeriod);
+        PayrollRunDto run = payrollRunService.startRun(period, employeeIds);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
+    }
+
+    /**
+     * ✅ Payroll Run এর Progress/Status পাওয়া
+     */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<PayrollRunDto> getPayrollRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(payrollRunService.getRun(runId));
+    }
+
+    /**
+     * ✅ সাম্প্রতিক Payroll Runs (optional payPeriod filter)
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<List<PayrollRunDto>> getPayrollRuns(@RequestParam(required = false) String payPeriod) {
+        YearMonth period = payPeriod != null ? YearMonth.parse(payPeriod) : null;
+        return ResponseEntity.ok(payrollRunService.getRuns(period));
+    }
+
     /**
      * ✅ Payroll ID দিয়ে Details পাওয়া
      */
@@ -285,6 +317,37 @@ public class PayrollController {
 
 
 
+    /**
+     * ✅ নির্দিষ্ট Period এর সব Payslip PDF একসাথে ZIP হিসেবে ডাউনলোড (streamed, manifest.csv সহ)
+     */
+    @GetMapping("/payslips/period/{payPeriod}/pdf.zip")
+    public ResponseEntity<StreamingResponseBody> downloadPeriodPayslipsZip(@PathVariable String payPeriod) {
+        YearMonth period = YearMonth.parse(payPeriod);
+        StreamingResponseBody body = out -> jasperPayslipService.writePeriodPayslipsZip(period, out);
+
+        return ResponseEntity.ok()
+                .header("Content-Type", "application/zip")
+                .header("Content-Disposition", "attachment; filename=\"payslips-" + period + ".zip\"")
+                .body(body);
+    }
+
+    /**
+     * ✅ Payslip PDF render timings (template / fill / export)
+     */
+    @GetMapping("/payslips/render-stats")
+    public ResponseEntity<Map<String, Object>> getPayslipRenderStats() {
+        return ResponseEntity.ok(jasperPayslipService.getRenderStats());
+    }
+
+    /**
+     * ✅ Payslip template reload (after replacing the JRXML / .jasper)
+     */
+    @PostMapping("/payslips/template/reload")
+    public ResponseEntity<Map<String, Object>> reloadPayslipTemplate() {
+        jasperPayslipService.reloadTemplate();
+        return ResponseEntity.ok(jasperPayslipService.getRenderStats());
+    }
+
     @GetMapping("/payslips/{id}/download")
     public ResponseEntity<byte[]> downloadPayslipPdf(@PathVariable Long id) {
         try {
@@ -143,6 +143,18 @@ public class RecruitmentController {
         return ResponseEntity.ok(candidates);
     }
 
+    /**
+     * Candidates page by page (offset paging, sortBy: id, firstName, lastName, email, createdAt)
+     */
+    @GetMapping("/candidates/page")
+    public ResponseEntity<PageResponse<CandidateDto>> getCandidatesPage(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(recruitmentService.getCandidatesPage(page, size, sortBy, direction));
+    }
+
     /**
      * Status wise Candidates
      */
@@ -1,4 +1,47 @@
 package com.garmentmanagement.garmentmanagement.Controller;
 
+import com.garmentmanagement.garmentmanagement.DTO.ShiftDto;
+import com.garmentmanagement.garmentmanagement.Service.ShiftService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/shifts")
+@RequiredArgsConstructor
 public class ShiftController {
+
+    private final ShiftService shiftService;
+
+    @PostMapping
+    public ResponseEntity<ShiftDto> createShift(@RequestBody ShiftDto shiftDto) {
+        ShiftDto createdShift = shiftService.createShift(shiftDto);
+        return ResponseEntity.ok(createdShift);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ShiftDto> updateShift(@PathVariable Long id, @RequestBody ShiftDto shiftDto) {
+        ShiftDto updatedShift = shiftService.updateShift(id, shiftDto);
+        return ResponseEntity.ok(updatedShift);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ShiftDto> getShiftById(@PathVariable Long id) {
+        ShiftDto shift = shiftService.getShiftById(id);
+        return ResponseEntity.ok(shift);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ShiftDto>> getAllShifts() {
+        List<ShiftDto> shifts = shiftService.getAllShifts();
+        return ResponseEntity.ok(shifts);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteShift(@PathVariable Long id) {
+        shiftService.deleteShift(id);
+        return ResponseEntity.ok().build();
+    }
 }
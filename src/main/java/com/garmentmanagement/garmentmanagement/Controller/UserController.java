@@ -1,6 +1,7 @@
 package com.garmentmanagement.garmentmanagement.Controller;
 
 import com.garmentmanagement.garmentmanagement.DTO.CreateUserRequest;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.DTO.UpdateRolesRequest;
 import com.garmentmanagement.garmentmanagement.DTO.UserResponse;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
@@ -9,6 +10,9 @@ import com.garmentmanagement.garmentmanagement.Entity.User;
 import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
 import com.garmentmanagement.garmentmanagement.Repository.RoleRepository;
 import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
+import com.garmentmanagement.garmentmanagement.Security.CustomUserDetailsService;
+import com.garmentmanagement.garmentmanagement.Service.LeaveRolloverService;
+import com.garmentmanagement.garmentmanagement.Service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,6 +33,9 @@ public class UserController {
     private final RoleRepository roleRepository;
     private final EmployeeRepository employeeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final UserService userService;
+    private final LeaveRolloverService leaveRolloverService;
 
 
 
@@ -42,6 +49,21 @@ public class UserController {
         return ResponseEntity.ok(userResponses);
     }
 
+    // Get users page by page (offset paging)
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<UserResponse>> getUsersPage(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        PageResponse<User> users = userService.getUsersPage(page, size, sortBy, direction);
+        List<UserResponse> content = users.getContent().stream()
+                .map(this::convertToUserResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(PageResponse.offset(content, users.getPage(), users.getSize(), users.getHasNext(),
+                users.getTotalElements(), users.getTotalEstimated()));
+    }
+
     // Update user roles
     @PutMapping("/{userId}/roles")
     public ResponseEntity<?> updateUserRoles(
@@ -61,6 +83,7 @@ public class UserController {
 
         user.setRoles(roles);
         userRepository.save(user);
+        userDetailsService.evictPrincipal(user.getUsername());
 
         return ResponseEntity.ok("User roles updated successfully");
     }
@@ -70,6 +93,7 @@ public class UserController {
         try {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+            String previousUsername = user.getUsername();
 
             // Update username - exclude current user from check
             if (updateRequest.getUsername() != null && !updateRequest.getUsername().equals(user.getUsername())) {
@@ -115,6 +139,8 @@ public class UserController {
             }
 
             User updatedUser = userRepository.save(user);
+            userDetailsService.evictPrincipal(previousUsername);
+            userDetailsService.evictPrincipal(updatedUser.getUsername());
 
             return ResponseEntity.ok(Map.of(
                     "message", "User updated successfully!",
@@ -143,6 +169,7 @@ public class UserController {
 
         user.getRoles().add(role);
         userRepository.save(user);
+        userDetailsService.evictPrincipal(user.getUsername());
 
         return ResponseEntity.ok("Role " + roleName + " assigned to user");
     }
@@ -161,6 +188,7 @@ public class UserController {
 
         user.getRoles().remove(role);
         userRepository.save(user);
+        userDetailsService.evictPrincipal(user.getUsername());
 
         return ResponseEntity.ok("Role " + roleName + " removed from user");
     }
@@ -301,6 +329,7 @@ public class UserController {
             }
 
             Employee savedEmployee = employeeRepository.save(employee);
+            leaveRolloverService.createBalances(savedEmployee.getId());
 
             return ResponseEntity.ok(Map.of(
                     "message", "Employee record created successfully",
@@ -0,0 +1,21 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+/**
+ * Projection for the single-roundtrip admin dashboard query
+ * (see EmployeeRepository.getAdminDashboardCounts).
+ */
+public interface AdminDashboardCounts {
+    Long getTotalEmployees();
+    Long getActiveEmployees();
+    Long getTotalDepartments();
+    Long getPresentToday();
+    Long getLateToday();
+    Long getTotalTasks();
+    Long getCompletedTasks();
+    Long getOverdueTasks();
+    Long getTotalProjects();
+    Long getActiveProjects();
+    Long getPendingLeaves();
+    Long getOpenPositions();
+    Long getTotalCandidates();
+}
@@ -19,6 +19,7 @@ public class AttendanceDto {
     private LocalTime checkoutTime;
     private String status;
     private Double totalHours;
+    private Double overtimeHours;
     private String remarks;
     private String departmentName;
 
@@ -0,0 +1,12 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkLeaveDecisionRequest {
+    private List<Long> leaveIds;
+    private Long approvedBy;
+    private String remarks;
+}
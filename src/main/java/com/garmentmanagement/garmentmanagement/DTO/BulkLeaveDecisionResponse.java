@@ -0,0 +1,18 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkLeaveDecisionResponse {
+    private String decision;
+    private Integer requested;
+    private Integer succeeded;
+    private Integer failed;
+    private List<BulkLeaveDecisionResult> results;
+}
@@ -0,0 +1,17 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome for one leave application of a bulk approve/reject
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkLeaveDecisionResult {
+    private Long leaveId;
+    private Long employeeId;
+    private boolean success;
+    private String status;   // status after the request
+    private String message;  // reason when not applied
+}
@@ -0,0 +1,24 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeMonthlySummaryDto {
+    private String employeeId;        // Business ID (EMP-001)
+    private String employeeName;
+    private String departmentName;
+    private int presentDays;
+    private int lateDays;
+    private int absentDays;
+    private int halfDays;
+    private int totalWorkingDays;
+    private double attendanceRate;
+    private double totalHours;
+    private LocalDate closedThrough;  // Last day included
+}
@@ -0,0 +1,18 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+
+/**
+ * Lightweight employee projection (no associations) for hot paths such as check-in ingest.
+ */
+public interface EmployeeRef {
+    Long getId();
+    String getEmployeeId();
+    String getFirstName();
+    String getLastName();
+    Long getDepartmentId();
+    String getDepartmentName();
+    Employee.EmployeeStatus getStatus();
+    Long getManagerId();
+    String getShift();
+}
@@ -0,0 +1,17 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayDto {
+    private Long id;
+    private LocalDate holidayDate;
+    private String name;
+    private String type; // PUBLIC_HOLIDAY, FACTORY_CLOSURE
+}
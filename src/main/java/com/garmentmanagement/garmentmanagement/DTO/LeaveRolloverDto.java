@@ -0,0 +1,28 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveRolloverDto {
+    private Long id;
+    private Integer year;
+    private String status;
+
+    // Progress
+    private Integer totalEmployees;
+    private Integer processedCount;
+    private Integer insertedBalances;
+    private Long lastEmployeeId;
+    private Double progressPercentage;
+
+    private Integer chunkSize;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorSummary;
+}
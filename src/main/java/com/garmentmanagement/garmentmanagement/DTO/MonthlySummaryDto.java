@@ -1,8 +1,9 @@
 // MonthlySummaryDto.java
 package com.garmentmanagement.garmentmanagement.DTO;
 
-import com.garmentmanagement.garmentmanagement.Entity.EmployeeMonthlySummary;
 import lombok.Data;
+
+import java.time.LocalDate;
 import java.util.List;
 
 @Data
@@ -13,8 +14,11 @@ public class MonthlySummaryDto {
     private int totalPresent;
     private int totalLate;
     private int totalAbsent;
+    private int totalHalfDay;
+    private int totalWorkingDays;
     private double attendanceRate;
-    private List<EmployeeMonthlySummary> employeeSummaries;
+    private LocalDate closedThrough;
+    private List<EmployeeMonthlySummaryDto> employeeSummaries;
 }
 
 
@@ -0,0 +1,35 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Uniform paging contract for list endpoints.
+ * Offset pages fill page/size; keyset (cursor) pages fill nextCursor - pass it back as ?cursor= for the next page.
+ * totalElements comes from table statistics for large tables, flagged by totalEstimated.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> content;
+    private Integer page;           // offset paging only
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;      // keyset paging only
+    private Long totalElements;
+    private Boolean totalEstimated;
+
+    public static <T> PageResponse<T> offset(List<T> content, int page, int size, boolean hasNext,
+                                             long totalElements, boolean totalEstimated) {
+        return new PageResponse<>(content, page, size, hasNext, null, totalElements, totalEstimated);
+    }
+
+    public static <T> PageResponse<T> keyset(List<T> content, int size, String nextCursor,
+                                             long totalElements, boolean totalEstimated) {
+        return new PageResponse<>(content, null, size, nextCursor != null, nextCursor, totalElements, totalEstimated);
+    }
+}
@@ -0,0 +1,28 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunDto {
+    private Long id;
+    private String payPeriod;
+    private String status;
+
+    // Progress
+    private Integer totalEmployees;
+    private Integer processedCount;
+    private Integer skippedCount;
+    private Integer failedCount;
+    private Double progressPercentage;
+
+    private Integer chunkSize;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorSummary;
+}
@@ -0,0 +1,28 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShiftDto {
+    private Long id;
+    private String code;
+    private String name;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer graceMinutes;
+    private Integer lateMinutes;
+    private Double halfDayHours;
+    private String rotation;
+    private LocalDate rotationStart;
+    private Boolean isActive;
+
+    // Calculated fields
+    private Boolean overnight;
+}
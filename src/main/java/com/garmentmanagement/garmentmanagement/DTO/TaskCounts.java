@@ -0,0 +1,14 @@
+package com.garmentmanagement.garmentmanagement.DTO;
+
+/**
+ * Projection for aggregate task counters (see TaskRepository.getDepartmentTaskCounts).
+ * Sums are null when no task matches.
+ */
+public interface TaskCounts {
+    Long getTotal();
+    Long getCompleted();
+    Long getPending();
+    Long getOverdue();        // past due date and not completed/cancelled
+    Long getMarkedOverdue();  // status explicitly set to OVERDUE
+    Long getUrgent();
+}
@@ -0,0 +1,27 @@
+package com.garmentmanagement.garmentmanagement.DataInitializer;
+
+import com.garmentmanagement.garmentmanagement.Service.Implementation.AttendanceRollups;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Attendance rollups (including the monthly summaries) on first start: backfills them when empty.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(5)
+public class AttendanceCatchUpInitializer implements StartupTask {
+
+    private final AttendanceRollups attendanceRollups;
+
+    @Override
+    public String name() {
+        return "attendance-catch-up";
+    }
+
+    @Override
+    public void run() {
+        attendanceRollups.backfillIfEmpty();
+    }
+}
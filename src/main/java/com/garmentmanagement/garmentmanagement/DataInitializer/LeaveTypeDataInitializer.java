@@ -1,32 +1,39 @@
 package com.garmentmanagement.garmentmanagement.DataInitializer;
 
-import com.garmentmanagement.garmentmanagement.Entity.Employee;
-import com.garmentmanagement.garmentmanagement.Entity.LeaveBalance;
 import com.garmentmanagement.garmentmanagement.Entity.LeaveType;
-import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
-import com.garmentmanagement.garmentmanagement.Repository.LeaveBalanceRepository;
 import com.garmentmanagement.garmentmanagement.Repository.LeaveTypeRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class LeaveTypeDataInitializer implements ApplicationRunner {
+@Order(2) // Run after roles and the admin user
+public class LeaveTypeDataInitializer implements StartupTask {
 
     private final LeaveTypeRepository leaveTypeRepository;
-    private final LeaveBalanceRepository leaveBalanceRepository;
-    private final EmployeeRepository employeeRepository;
 
     @Override
-    public void run(ApplicationArguments args) throws Exception {
+    public String name() {
+        return "leave-types";
+    }
+
+    // Leave requests and balances need the types
+    @Override
+    public boolean critical() {
+        return true;
+    }
+
+    @Override
+    public void run() {
         // Check if leave types already exist
         if (leaveTypeRepository.count() == 0) {
-            System.out.println("Creating default leave types...");
+            log.info("Creating default leave types");
 
             List<LeaveType> defaultLeaveTypes = Arrays.asList(
                     createLeaveType("Sick Leave", "SL", LeaveType.LeaveCategory.SICK,
@@ -49,9 +56,9 @@ public class LeaveTypeDataInitializer implements ApplicationRunner {
             );
 
             leaveTypeRepository.saveAll(defaultLeaveTypes);
-            System.out.println("Default leave types created successfully!");
+            log.info("Default leave types created");
         } else {
-            System.out.println("Leave types already exist in database.");
+            log.debug("Leave types already exist");
         }
     }
 
@@ -70,51 +77,4 @@ public class LeaveTypeDataInitializer implements ApplicationRunner {
         leaveType.setCarryForwardDays(carryForward);
         return leaveType;
     }
-
-    private void initializeYearlyBalances() {
-        int currentYear = java.time.Year.now().getValue();
-        int previousYear = currentYear - 1;
-
-        // Check if we need to create balances for new year
-        boolean currentYearBalancesExist = leaveBalanceRepository.countByYear(currentYear) > 0;
-
-        if (!currentYearBalancesExist) {
-            System.out.println("Initializing leave balances for year: " + currentYear);
-
-            // Get balances from previous year for carry forward calculation
-            List<LeaveBalance> previousYearBalances = leaveBalanceRepository.findByYear(previousYear);
-
-            // Create new balances for current year
-            List<Employee> employees = employeeRepository.findAll();
-            List<LeaveType> activeLeaveTypes = leaveTypeRepository.findByIsActiveTrue();
-
-            for (Employee employee : employees) {
-                for (LeaveType leaveType : activeLeaveTypes) {
-                    // Calculate carry forward from previous year
-                    int carryForward = calculateCarryForward(previousYearBalances, employee, leaveType);
-
-                    LeaveBalance newBalance = new LeaveBalance();
-                    newBalance.setEmployee(employee);
-                    newBalance.setLeaveType(leaveType);
-                    newBalance.setTotalDays(leaveType.getMaxDaysPerYear());
-                    newBalance.setUsedDays(0);
-                    newBalance.setCarryForwardDays(carryForward);
-                    newBalance.setYear(currentYear);
-
-                    leaveBalanceRepository.save(newBalance);
-                }
-            }
-
-            System.out.println("Yearly leave balances initialized for " + currentYear);
-        }
-    }
-
-    private int calculateCarryForward(List<LeaveBalance> previousBalances, Employee employee, LeaveType leaveType) {
-        return previousBalances.stream()
-                .filter(balance -> balance.getEmployee().equals(employee) &&
-                        balance.getLeaveType().equals(leaveType))
-                .findFirst()
-                .map(balance -> Math.min(balance.getRemainingDays(), leaveType.getCarryForwardDays()))
-                .orElse(0);
-    }
-}
\ No newline at end of file
+}
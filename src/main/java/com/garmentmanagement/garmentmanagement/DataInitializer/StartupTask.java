@@ -0,0 +1,18 @@
+package com.garmentmanagement.garmentmanagement.DataInitializer;
+
+/**
+ * Seeding or catch-up work run once per start by StartupTaskRunner, in @Order order with critical tasks first.
+ * Tasks must be safe to repeat: every instance runs them on every start unless startup.tasks.mode says otherwise.
+ */
+public interface StartupTask {
+
+    // Name used in logs, the startup.task metric and the startupTasks health details
+    String name();
+
+    // Critical tasks must have finished before the instance reports ready (e.g. roles and the admin user)
+    default boolean critical() {
+        return false;
+    }
+
+    void run() throws Exception;
+}
@@ -0,0 +1,207 @@
+package com.garmentmanagement.garmentmanagement.DataInitializer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the StartupTask beans according to startup.tasks.mode:
+ * <ul>
+ *   <li>async (default): on a background thread once the application is ready, so boot does not wait for
+ *   seeding. The startupTasks health indicator (part of the readiness group) stays OUT_OF_SERVICE until
+ *   the critical tasks are done.</li>
+ *   <li>inline: before the application is ready, as plain ApplicationRunners did (seed profile, benchmarks).</li>
+ *   <li>oneshot: inline, then exit with status 1 if a task failed (a separate deploy step before a rolling restart).</li>
+ *   <li>off: not at all (instances whose data is prepared by a oneshot run).</li>
+ * </ul>
+ * Boot phases and every task are timed into startup.phase and startup.task and logged.
+ */
+@Slf4j
+@Component("startupTasks")
+@RequiredArgsConstructor
+public class StartupTaskRunner implements ApplicationRunner, HealthIndicator {
+
+    private enum Mode {ASYNC, INLINE, ONESHOT, OFF}
+
+    private enum State {PENDING, RUNNING, DONE, FAILED}
+
+    private record TaskResult(State state, boolean critical, long tookMs, String error) {
+    }
+
+    private final ObjectProvider<StartupTask> tasks;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationContext applicationContext;
+
+    @Value("${startup.tasks.mode:async}")
+    private String modeName;
+
+    // Linked: health details list tasks in run order
+    private final Map<String, TaskResult> results = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile boolean criticalDone;
+    private volatile boolean criticalFailed;
+    private volatile long applicationStartMillis;
+    private ExecutorService taskExecutor;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Mode mode = mode();
+        if (mode == Mode.OFF) {
+            log.info("Startup tasks disabled (startup.tasks.mode=off)");
+            criticalDone = true;
+        } else if (mode != Mode.ASYNC) {
+            boolean ok = runAll();
+            if (mode == Mode.ONESHOT) {
+                System.exit(SpringApplication.exit(applicationContext, () -> ok ? 0 : 1));
+            }
+            if (criticalFailed) {
+                throw new IllegalStateException("Critical startup task failed: " + results);
+            }
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted(ApplicationStartedEvent event) {
+        recordPhase("context.started", event.getTimeTaken());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        Duration timeTaken = event.getTimeTaken() != null ? event.getTimeTaken() : Duration.ZERO;
+        applicationStartMillis = System.currentTimeMillis() - timeTaken.toMillis();
+        recordPhase("application.ready", timeTaken);
+        if (mode() != Mode.ASYNC) {
+            return;
+        }
+        taskExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "startup-tasks");
+            thread.setDaemon(true);
+            return thread;
+        });
+        taskExecutor.submit(this::runAll);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (taskExecutor != null) {
+            taskExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = criticalDone && !criticalFailed ? Health.up() : Health.outOfService();
+        synchronized (results) {
+            results.forEach((name, result) -> {
+                Map<String, Object> detail = new LinkedHashMap<>();
+                detail.put("state", result.state());
+                detail.put("critical", result.critical());
+                detail.put("tookMs", result.tookMs());
+                if (result.error() != null) {
+                    detail.put("error", result.error());
+                }
+                health.withDetail(name, detail);
+            });
+        }
+        return health.build();
+    }
+
+    // Returns false if any task failed
+    private boolean runAll() {
+        List<StartupTask> ordered = tasks.orderedStream()
+                .sorted(Comparator.comparing(task -> !task.critical())) // stable: keeps @Order within each group
+                .toList();
+        ordered.forEach(task -> results.put(task.name(), new TaskResult(State.PENDING, task.critical(), 0, null)));
+
+        boolean ok = true;
+        boolean criticalPhase = true;
+        for (StartupTask task : ordered) {
+            if (criticalPhase && !task.critical()) {
+                finishCriticalPhase();
+                criticalPhase = false;
+            }
+            ok &= runTask(task);
+        }
+        if (criticalPhase) {
+            finishCriticalPhase();
+        }
+        recordPhase("all.tasks", sinceApplicationStart());
+        log.info("Startup tasks finished{}", ok ? "" : " with failures: " + results);
+        return ok;
+    }
+
+    private boolean runTask(StartupTask task) {
+        results.put(task.name(), new TaskResult(State.RUNNING, task.critical(), 0, null));
+        long started = System.currentTimeMillis();
+        String error = null;
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("Startup task {} failed: {}", task.name(), e.getMessage(), e);
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (task.critical()) {
+                criticalFailed = true;
+            }
+        }
+        long tookMs = System.currentTimeMillis() - started;
+        results.put(task.name(), new TaskResult(error == null ? State.DONE : State.FAILED, task.critical(), tookMs, error));
+        Timer.builder("startup.task")
+                .tag("task", task.name())
+                .tag("critical", String.valueOf(task.critical()))
+                .tag("outcome", error == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(tookMs));
+        log.info("Startup task {} {} in {} ms", task.name(), error == null ? "done" : "failed", tookMs);
+        return error == null;
+    }
+
+    private void finishCriticalPhase() {
+        criticalDone = true;
+        recordPhase("critical.tasks", sinceApplicationStart());
+    }
+
+    // Inline tasks run before the ready event, measured from the JVM start there
+    private Duration sinceApplicationStart() {
+        long start = applicationStartMillis > 0 ? applicationStartMillis
+                : ManagementFactory.getRuntimeMXBean().getStartTime();
+        return Duration.ofMillis(System.currentTimeMillis() - start);
+    }
+
+    private void recordPhase(String phase, Duration timeTaken) {
+        if (timeTaken == null) {
+            return;
+        }
+        Timer.builder("startup.phase")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(timeTaken);
+        log.info("Startup phase {} reached after {} ms", phase, timeTaken.toMillis());
+    }
+
+    private Mode mode() {
+        try {
+            return Mode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid startup.tasks.mode: " + modeName);
+        }
+    }
+}
@@ -13,7 +13,12 @@ import java.time.LocalTime;
 @Getter
 @Setter
 @ToString
-@Table(name = "attendances")
+@Table(name = "attendances", indexes = {
+        // One record per employee per day; also serves per-employee day/month range lookups
+        @Index(name = "uk_attendance_employee_date", columnList = "employee_id, attendance_date", unique = true),
+        // Daily dashboards: counts by date and status
+        @Index(name = "idx_attendance_date_status", columnList = "attendance_date, status")
+})
 public class Attendance extends BaseEntity {
 
     public enum AttendanceStatus {
@@ -21,6 +26,9 @@ public class Attendance extends BaseEntity {
     }
     @ManyToOne(fetch = FetchType.LAZY)
     private Employee employee;
+    // Department the row is counted under in the rollups, fixed when the row is created
+    @Column(name = "department_id")
+    private Long departmentId;
     @Column(nullable = false)
     private LocalDate attendanceDate;
     private LocalTime checkinTime;
@@ -32,6 +40,9 @@ public class Attendance extends BaseEntity {
     private String remarks;
     @Column(name = "total_hours")
     private Double totalHours;
+    // Hours beyond the employee's shift, set on check-out
+    @Column(name = "overtime_hours")
+    private Double overtimeHours;
 
 
     private Double checkinLatitude;
@@ -0,0 +1,35 @@
+package com.garmentmanagement.garmentmanagement.Entity;
+
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Attendance count per date x department x status, maintained by AttendanceRollups (department 0 = none)
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "attendance_daily_rollups", indexes = {
+        @Index(name = "uk_attendance_daily_rollup", columnList = "attendance_date, department_id, status", unique = true)
+})
+public class AttendanceDailyRollup extends BaseEntity {
+
+    @Column(name = "attendance_date", nullable = false)
+    private LocalDate attendanceDate;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private Attendance.AttendanceStatus status;
+
+    @Column(name = "attendance_count", nullable = false)
+    private Integer attendanceCount = 0;
+}
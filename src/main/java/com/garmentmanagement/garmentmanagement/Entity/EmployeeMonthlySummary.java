@@ -1,15 +1,46 @@
 package com.garmentmanagement.garmentmanagement.Entity;
 
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
+// Attendance days per status and worked hours per employee x month, kept current (today included) by
+// AttendanceRollups; working days and attendance rate are derived when read (EmployeeMonthlySummaries)
+@EqualsAndHashCode(callSuper = true)
+@Entity
 @Data
-public class EmployeeMonthlySummary {
-    private String employeeId;
-    private String employeeName;
-    private String departmentName;
-    private int presentDays;
-    private int lateDays;
-    private int absentDays;
-    private int totalWorkingDays;
-    private double attendanceRate;
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "employee_monthly_summaries", indexes = {
+        @Index(name = "uk_employee_monthly_summary", columnList = "employee_id, summary_year, summary_month", unique = true),
+        @Index(name = "idx_employee_monthly_summary_month", columnList = "summary_year, summary_month")
+})
+public class EmployeeMonthlySummary extends BaseEntity {
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "summary_year", nullable = false)
+    private Integer summaryYear;
+
+    @Column(name = "summary_month", nullable = false)
+    private Integer summaryMonth;
+
+    @Column(name = "present_days", nullable = false)
+    private Integer presentDays = 0;
+
+    @Column(name = "late_days", nullable = false)
+    private Integer lateDays = 0;
+
+    @Column(name = "absent_days", nullable = false)
+    private Integer absentDays = 0;
+
+    @Column(name = "half_days", nullable = false)
+    private Integer halfDays = 0;
+
+    @Column(name = "total_hours", nullable = false)
+    private Double totalHours = 0.0;
 }
@@ -0,0 +1,36 @@
+package com.garmentmanagement.garmentmanagement.Entity;
+
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A non-working day of the company calendar besides the weekly off days.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "holidays")
+public class Holiday extends BaseEntity {
+
+    public enum HolidayType {
+        PUBLIC_HOLIDAY, FACTORY_CLOSURE
+    }
+
+    @Column(name = "holiday_date", nullable = false, unique = true)
+    private LocalDate holidayDate;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private HolidayType type = HolidayType.PUBLIC_HOLIDAY;
+}
@@ -0,0 +1,26 @@
+package com.garmentmanagement.garmentmanagement.Entity;
+
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Last day a background job has fully processed, one row per job
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_checkpoints")
+public class JobCheckpoint extends BaseEntity {
+
+    @Column(name = "job_name", nullable = false, unique = true, length = 100)
+    private String jobName;
+
+    @Column(name = "checkpoint_date", nullable = false)
+    private LocalDate checkpointDate;
+}
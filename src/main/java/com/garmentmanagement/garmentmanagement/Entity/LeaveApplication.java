@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "leave_applications")
+@Table(name = "leave_applications", indexes = {
+        @Index(name = "idx_leave_employee_start", columnList = "employee_id, start_date"),
+        @Index(name = "idx_leave_start_status", columnList = "start_date, status")
+})
 public class LeaveApplication extends BaseEntity {
 
     public enum LeaveStatus {
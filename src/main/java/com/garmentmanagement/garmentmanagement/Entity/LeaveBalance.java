@@ -12,7 +12,10 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "leave_balances")
+@Table(name = "leave_balances", indexes = {
+        // One balance per employee, leave type and year; also serves the rollover's previous-year join
+        @Index(name = "uk_leave_balance_employee_type_year", columnList = "employee_id, leave_type_id, year", unique = true)
+})
 public class LeaveBalance extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,6 +41,11 @@ public class LeaveBalance extends BaseEntity {
     @Column(name = "year")
     private Integer year; // Financial year or calendar year
 
+    // Optimistic lock for entity saves; LeaveLedger's SQL increments bump it too
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version = 0L;
+
     // Pre-persist and pre-update to calculate remaining days
     @PrePersist
     @PreUpdate
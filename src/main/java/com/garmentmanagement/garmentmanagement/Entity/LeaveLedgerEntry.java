@@ -0,0 +1,60 @@
+package com.garmentmanagement.garmentmanagement.Entity;
+
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Append-only record of every change to a leave balance, written by LeaveLedger together with the
+ * balance update. One entry per application and entry type, so an approval or cancellation is applied once.
+ * Entries of closed years are compacted into one COMPACTED entry per employee and leave type.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "leave_ledger_entries", indexes = {
+        @Index(name = "uk_leave_ledger_application_type", columnList = "leave_application_id, entry_type", unique = true),
+        @Index(name = "idx_leave_ledger_balance", columnList = "employee_id, leave_type_id, ledger_year"),
+        @Index(name = "idx_leave_ledger_year", columnList = "ledger_year, entry_type")
+})
+public class LeaveLedgerEntry extends BaseEntity {
+
+    public enum EntryType {
+        LEAVE_TAKEN,    // approval: used days up
+        LEAVE_RETURNED, // cancellation of an approved leave: used days down
+        ADJUSTMENT,     // HR change of the entitlement: total days
+        COMPACTED       // sum of a closed year's entries
+    }
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "leave_type_id", nullable = false)
+    private Long leaveTypeId;
+
+    @Column(name = "ledger_year", nullable = false)
+    private Integer ledgerYear;
+
+    @Column(name = "leave_application_id")
+    private Long leaveApplicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", length = 20, nullable = false)
+    private EntryType entryType;
+
+    // Change to LeaveBalance.usedDays
+    @Column(name = "used_delta", nullable = false)
+    private Integer usedDelta = 0;
+
+    // Change to LeaveBalance.totalDays
+    @Column(name = "total_delta", nullable = false)
+    private Integer totalDelta = 0;
+
+    @Column(length = 255)
+    private String note;
+}
@@ -0,0 +1,59 @@
+package com.garmentmanagement.garmentmanagement.Entity;
+
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+// Yearly leave balance rollover: creates a year's balances in employee id chunks and tracks progress.
+// Entity updates write only the changed columns, so they never reset counters moved by recordChunk.
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@DynamicUpdate
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "leave_rollovers")
+public class LeaveRollover extends BaseEntity {
+
+    @Column(name = "rollover_year", nullable = false, unique = true)
+    private Integer rolloverYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RolloverStatus status = RolloverStatus.QUEUED;
+
+    @Column(name = "total_employees")
+    private Integer totalEmployees = 0;
+
+    @Column(name = "processed_count")
+    private Integer processedCount = 0;
+
+    @Column(name = "inserted_balances")
+    private Integer insertedBalances = 0;
+
+    // Resume point: every employee up to this id is done
+    @Column(name = "last_employee_id")
+    private Long lastEmployeeId = 0L;
+
+    @Column(name = "chunk_size")
+    private Integer chunkSize;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_summary", columnDefinition = "TEXT")
+    private String errorSummary;
+
+    public enum RolloverStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
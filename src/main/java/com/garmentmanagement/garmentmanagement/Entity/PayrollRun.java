@@ -0,0 +1,56 @@
+package com.garmentmanagement.garmentmanagement.Entity;
+
+import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+// A bulk payroll run: processes a pay period in chunks and tracks progress
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "payroll_runs")
+public class PayrollRun extends BaseEntity {
+
+    @Column(name = "pay_period", nullable = false)
+    private YearMonth payPeriod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RunStatus status = RunStatus.QUEUED;
+
+    @Column(name = "total_employees")
+    private Integer totalEmployees = 0;
+
+    @Column(name = "processed_count")
+    private Integer processedCount = 0;
+
+    @Column(name = "skipped_count")
+    private Integer skippedCount = 0;
+
+    @Column(name = "failed_count")
+    private Integer failedCount = 0;
+
+    @Column(name = "chunk_size")
+    private Integer chunkSize;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_summary", columnDefinition = "TEXT")
+    private String errorSummary;
+
+    public enum RunStatus {
+        QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED
+    }
+}
@@ -1,8 +1,63 @@
 package com.garmentmanagement.garmentmanagement.Entity;
 
 import com.garmentmanagement.garmentmanagement.Base.BaseEntity;
-import jakarta.persistence.Entity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Work shift, matched by code against Employee.shift.
+ *
+ * A fixed shift has start and end time; an end at or before the start means the shift crosses midnight
+ * (punches after midnight belong to the day the shift started). A rotating roster instead lists the shift
+ * codes of its cycle, one per day ("OFF" for a day off), starting at rotationStart.
+ */
+@EqualsAndHashCode(callSuper = true)
 @Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "shifts")
 public class Shift extends BaseEntity {
+
+    public static final String OFF = "OFF";
+
+    @Column(nullable = false, unique = true, length = 20)
+    private String code; // DAY, NIGHT, ROTA-A, ...
+
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    // Check-ins up to start + grace count as present
+    @Column(name = "grace_minutes")
+    private Integer graceMinutes = 15;
+
+    // Check-ins after start + late minutes count as half day
+    @Column(name = "late_minutes")
+    private Integer lateMinutes = 120;
+
+    // Less work than this on check-out is a half day
+    @Column(name = "half_day_hours")
+    private Double halfDayHours = 4.0;
+
+    // Rotating roster: comma separated shift codes, one per day of the cycle
+    @Column(length = 255)
+    private String rotation;
+
+    @Column(name = "rotation_start")
+    private LocalDate rotationStart;
+
+    @Column(name = "is_active")
+    private Boolean isActive = true;
 }
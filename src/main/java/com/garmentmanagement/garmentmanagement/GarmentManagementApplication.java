@@ -2,8 +2,10 @@ package com.garmentmanagement.garmentmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class GarmentManagementApplication {
 
     public static void main(String[] args) {
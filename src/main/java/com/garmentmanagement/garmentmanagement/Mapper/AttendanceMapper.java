@@ -0,0 +1,62 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.DTO.EmployeeMonthlySummaryDto;
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.EmployeeMonthlySummary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Attendance field mapping. Employee details in the DTO come from the employee directory,
+ * so only the record's own columns are handled here.
+ */
+@Component
+public class AttendanceMapper {
+
+    public AttendanceDto toDto(Attendance attendance) {
+        AttendanceDto dto = new AttendanceDto();
+        dto.setId(attendance.getId());
+        dto.setAttendanceDate(attendance.getAttendanceDate());
+        dto.setCheckinTime(attendance.getCheckinTime());
+        dto.setCheckoutTime(attendance.getCheckoutTime());
+        dto.setTotalHours(attendance.getTotalHours());
+        dto.setOvertimeHours(attendance.getOvertimeHours());
+        dto.setRemarks(attendance.getRemarks());
+        dto.setCheckinLatitude(attendance.getCheckinLatitude());
+        dto.setCheckinLongitude(attendance.getCheckinLongitude());
+        dto.setCheckoutLatitude(attendance.getCheckoutLatitude());
+        dto.setCheckoutLongitude(attendance.getCheckoutLongitude());
+        dto.setLocationVerified(attendance.getLocationVerified());
+        dto.setDeviceType(attendance.getDeviceType());
+        dto.setStatus(Mappers.name(attendance.getStatus()));
+        return dto;
+    }
+
+    // Null DTO fields keep the stored value; employee and id are never changed here
+    public void copyToEntity(AttendanceDto dto, Attendance attendance) {
+        if (dto.getAttendanceDate() != null) attendance.setAttendanceDate(dto.getAttendanceDate());
+        if (dto.getCheckinTime() != null) attendance.setCheckinTime(dto.getCheckinTime());
+        if (dto.getCheckoutTime() != null) attendance.setCheckoutTime(dto.getCheckoutTime());
+        if (dto.getTotalHours() != null) attendance.setTotalHours(dto.getTotalHours());
+        if (dto.getOvertimeHours() != null) attendance.setOvertimeHours(dto.getOvertimeHours());
+        if (dto.getRemarks() != null) attendance.setRemarks(dto.getRemarks());
+        if (dto.getCheckinLatitude() != null) attendance.setCheckinLatitude(dto.getCheckinLatitude());
+        if (dto.getCheckinLongitude() != null) attendance.setCheckinLongitude(dto.getCheckinLongitude());
+        if (dto.getCheckoutLatitude() != null) attendance.setCheckoutLatitude(dto.getCheckoutLatitude());
+        if (dto.getCheckoutLongitude() != null) attendance.setCheckoutLongitude(dto.getCheckoutLongitude());
+        if (dto.getLocationVerified() != null) attendance.setLocationVerified(dto.getLocationVerified());
+        if (dto.getDeviceType() != null) attendance.setDeviceType(dto.getDeviceType());
+        if (dto.getStatus() != null) attendance.setStatus(Attendance.AttendanceStatus.valueOf(dto.getStatus()));
+    }
+
+    // Employee id/name/department, working days, rate and last included day are filled in by the caller
+    public EmployeeMonthlySummaryDto toDto(EmployeeMonthlySummary summary) {
+        EmployeeMonthlySummaryDto dto = new EmployeeMonthlySummaryDto();
+        dto.setPresentDays(summary.getPresentDays());
+        dto.setLateDays(summary.getLateDays());
+        dto.setAbsentDays(summary.getAbsentDays());
+        dto.setHalfDays(summary.getHalfDays());
+        dto.setTotalHours(summary.getTotalHours());
+        return dto;
+    }
+}
@@ -0,0 +1,71 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.DepartmentDto;
+import com.garmentmanagement.garmentmanagement.DTO.EmployeeDto;
+import com.garmentmanagement.garmentmanagement.Entity.Department;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employee / Department field mapping (plain getters and setters, no reflection).
+ * Only own columns are copied; associations (department, manager, user, head) are set by the services.
+ * DTO -> entity copies skip null values and never touch the id.
+ */
+@Component
+public class EmployeeMapper {
+
+    public EmployeeDto toDto(Employee employee) {
+        EmployeeDto dto = new EmployeeDto();
+        dto.setId(employee.getId());
+        dto.setFirstName(employee.getFirstName());
+        dto.setLastName(employee.getLastName());
+        dto.setEmployeeId(employee.getEmployeeId());
+        dto.setEmail(employee.getEmail());
+        dto.setNidNumber(employee.getNidNumber());
+        dto.setBankAccountNumber(employee.getBankAccountNumber());
+        dto.setBirthDate(employee.getBirthDate());
+        dto.setJoinDate(employee.getJoinDate());
+        dto.setPhoneNumber(employee.getPhoneNumber());
+        dto.setEmergencyContact(employee.getEmergencyContact());
+        dto.setAddress(employee.getAddress());
+        dto.setDesignation(employee.getDesignation());
+        dto.setShift(employee.getShift());
+        dto.setBasicSalary(employee.getBasicSalary());
+        dto.setProfilePic(employee.getProfilePic());
+        dto.setGender(Mappers.name(employee.getGender()));
+        dto.setMaritalStatus(Mappers.name(employee.getMaritalStatus()));
+        dto.setEmployeeType(Mappers.name(employee.getEmployeeType()));
+        dto.setStatus(Mappers.name(employee.getStatus()));
+        dto.setWorkType(Mappers.name(employee.getWorkType()));
+        return dto;
+    }
+
+    public DepartmentDto toDto(Department department) {
+        DepartmentDto dto = new DepartmentDto();
+        dto.setId(department.getId());
+        dto.setName(department.getName());
+        dto.setCode(department.getCode());
+        dto.setDescription(department.getDescription());
+        dto.setLocation(department.getLocation());
+        dto.setBudget(department.getBudget());
+        dto.setEstablishedDate(department.getEstablishedDate());
+        dto.setStatus(Mappers.name(department.getStatus()));
+        return dto;
+    }
+
+    public Department toEntity(DepartmentDto dto) {
+        Department department = new Department();
+        copyToEntity(dto, department);
+        return department;
+    }
+
+    public void copyToEntity(DepartmentDto dto, Department department) {
+        if (dto.getName() != null) department.setName(dto.getName());
+        if (dto.getCode() != null) department.setCode(dto.getCode());
+        if (dto.getDescription() != null) department.setDescription(dto.getDescription());
+        if (dto.getLocation() != null) department.setLocation(dto.getLocation());
+        if (dto.getBudget() != null) department.setBudget(dto.getBudget());
+        if (dto.getEstablishedDate() != null) department.setEstablishedDate(dto.getEstablishedDate());
+        if (dto.getStatus() != null) department.setStatus(Department.DepartmentStatus.valueOf(dto.getStatus()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.HolidayDto;
+import com.garmentmanagement.garmentmanagement.Entity.Holiday;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holiday field mapping. DTO -> entity copies skip null values and never touch the id.
+ */
+@Component
+public class HolidayMapper {
+
+    public HolidayDto toDto(Holiday holiday) {
+        HolidayDto dto = new HolidayDto();
+        dto.setId(holiday.getId());
+        dto.setHolidayDate(holiday.getHolidayDate());
+        dto.setName(holiday.getName());
+        dto.setType(Mappers.name(holiday.getType()));
+        return dto;
+    }
+
+    public Holiday toEntity(HolidayDto dto) {
+        Holiday holiday = new Holiday();
+        copyToEntity(dto, holiday);
+        return holiday;
+    }
+
+    public void copyToEntity(HolidayDto dto, Holiday holiday) {
+        if (dto.getHolidayDate() != null) holiday.setHolidayDate(dto.getHolidayDate());
+        if (dto.getName() != null) holiday.setName(dto.getName());
+        if (dto.getType() != null) holiday.setType(Holiday.HolidayType.valueOf(dto.getType()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.LeaveApplicationDto;
+import com.garmentmanagement.garmentmanagement.DTO.LeaveBalanceDto;
+import com.garmentmanagement.garmentmanagement.DTO.LeaveTypeDto;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveBalance;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Leave type / application / balance field mapping. Employee, leave type and approver
+ * are set by LeaveServiceImplementation. DTO -> entity copies skip null values and never touch the id.
+ */
+@Component
+public class LeaveMapper {
+
+    public LeaveTypeDto toDto(LeaveType leaveType) {
+        LeaveTypeDto dto = new LeaveTypeDto();
+        dto.setId(leaveType.getId());
+        dto.setName(leaveType.getName());
+        dto.setCode(leaveType.getCode());
+        dto.setCategory(Mappers.name(leaveType.getCategory()));
+        dto.setDescription(leaveType.getDescription());
+        dto.setMaxDaysPerYear(leaveType.getMaxDaysPerYear());
+        dto.setIsActive(leaveType.getIsActive());
+        dto.setRequiresApproval(leaveType.getRequiresApproval());
+        dto.setAllowEncashment(leaveType.getAllowEncashment());
+        dto.setCarryForwardDays(leaveType.getCarryForwardDays());
+        return dto;
+    }
+
+    public LeaveType toEntity(LeaveTypeDto dto) {
+        LeaveType leaveType = new LeaveType();
+        copyToEntity(dto, leaveType);
+        return leaveType;
+    }
+
+    public void copyToEntity(LeaveTypeDto dto, LeaveType leaveType) {
+        if (dto.getName() != null) leaveType.setName(dto.getName());
+        if (dto.getCode() != null) leaveType.setCode(dto.getCode());
+        if (dto.getCategory() != null) leaveType.setCategory(LeaveType.LeaveCategory.valueOf(dto.getCategory()));
+        if (dto.getDescription() != null) leaveType.setDescription(dto.getDescription());
+        if (dto.getMaxDaysPerYear() != null) leaveType.setMaxDaysPerYear(dto.getMaxDaysPerYear());
+        if (dto.getIsActive() != null) leaveType.setIsActive(dto.getIsActive());
+        if (dto.getRequiresApproval() != null) leaveType.setRequiresApproval(dto.getRequiresApproval());
+        if (dto.getAllowEncashment() != null) leaveType.setAllowEncashment(dto.getAllowEncashment());
+        if (dto.getCarryForwardDays() != null) leaveType.setCarryForwardDays(dto.getCarryForwardDays());
+    }
+
+    public LeaveApplicationDto toDto(LeaveApplication leaveApplication) {
+        LeaveApplicationDto dto = new LeaveApplicationDto();
+        dto.setId(leaveApplication.getId());
+        dto.setStartDate(leaveApplication.getStartDate());
+        dto.setEndDate(leaveApplication.getEndDate());
+        dto.setTotalDays(leaveApplication.getTotalDays());
+        dto.setStatus(Mappers.name(leaveApplication.getStatus()));
+        dto.setReason(leaveApplication.getReason());
+        dto.setRemarks(leaveApplication.getRemarks());
+        dto.setAppliedDate(leaveApplication.getAppliedDate());
+        dto.setProcessedDate(leaveApplication.getProcessedDate());
+        dto.setContactNumber(leaveApplication.getContactNumber());
+        dto.setAddressDuringLeave(leaveApplication.getAddressDuringLeave());
+        return dto;
+    }
+
+    public LeaveApplication toEntity(LeaveApplicationDto dto) {
+        LeaveApplication leaveApplication = new LeaveApplication();
+        copyToEntity(dto, leaveApplication);
+        return leaveApplication;
+    }
+
+    // Applicant-editable fields only - status and processing dates change through approve/reject
+    public void copyToEntity(LeaveApplicationDto dto, LeaveApplication leaveApplication) {
+        if (dto.getStartDate() != null) leaveApplication.setStartDate(dto.getStartDate());
+        if (dto.getEndDate() != null) leaveApplication.setEndDate(dto.getEndDate());
+        if (dto.getTotalDays() != null) leaveApplication.setTotalDays(dto.getTotalDays());
+        if (dto.getReason() != null) leaveApplication.setReason(dto.getReason());
+        if (dto.getRemarks() != null) leaveApplication.setRemarks(dto.getRemarks());
+        if (dto.getContactNumber() != null) leaveApplication.setContactNumber(dto.getContactNumber());
+        if (dto.getAddressDuringLeave() != null) leaveApplication.setAddressDuringLeave(dto.getAddressDuringLeave());
+    }
+
+    public LeaveBalanceDto toDto(LeaveBalance leaveBalance) {
+        LeaveBalanceDto dto = new LeaveBalanceDto();
+        dto.setId(leaveBalance.getId());
+        dto.setTotalDays(leaveBalance.getTotalDays());
+        dto.setUsedDays(leaveBalance.getUsedDays());
+        dto.setRemainingDays(leaveBalance.getRemainingDays());
+        dto.setCarryForwardDays(leaveBalance.getCarryForwardDays());
+        dto.setYear(leaveBalance.getYear());
+        return dto;
+    }
+}
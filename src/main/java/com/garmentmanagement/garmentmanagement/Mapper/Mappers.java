@@ -0,0 +1,13 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+// Small helpers shared by the mappers
+final class Mappers {
+
+    private Mappers() {
+    }
+
+    // Enum -> DTO string (null stays null)
+    static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,107 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.BonusDto;
+import com.garmentmanagement.garmentmanagement.DTO.PayrollDto;
+import com.garmentmanagement.garmentmanagement.DTO.PayslipDto;
+import com.garmentmanagement.garmentmanagement.DTO.SalaryStructureDto;
+import com.garmentmanagement.garmentmanagement.Entity.Bonus;
+import com.garmentmanagement.garmentmanagement.Entity.Payroll;
+import com.garmentmanagement.garmentmanagement.Entity.Payslip;
+import com.garmentmanagement.garmentmanagement.Entity.SalaryStructure;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary structure / payroll / payslip / bonus field mapping. Employee and payroll details are
+ * filled in by PayrollServiceImplementation. DTO -> entity copies skip null values and never touch the id.
+ */
+@Component
+public class PayrollMapper {
+
+    public SalaryStructureDto toDto(SalaryStructure salaryStructure) {
+        SalaryStructureDto dto = new SalaryStructureDto();
+        dto.setId(salaryStructure.getId());
+        dto.setBasicSalary(salaryStructure.getBasicSalary());
+        dto.setHouseRent(salaryStructure.getHouseRent());
+        dto.setMedicalAllowance(salaryStructure.getMedicalAllowance());
+        dto.setTransportAllowance(salaryStructure.getTransportAllowance());
+        dto.setOtherAllowances(salaryStructure.getOtherAllowances());
+        dto.setTotalDeductions(salaryStructure.getTotalDeductions());
+        dto.setGrossSalary(salaryStructure.getGrossSalary());
+        dto.setNetSalary(salaryStructure.getNetSalary());
+        dto.setStatus(Mappers.name(salaryStructure.getStatus()));
+        return dto;
+    }
+
+    public SalaryStructure toEntity(SalaryStructureDto dto) {
+        SalaryStructure salaryStructure = new SalaryStructure();
+        copyToEntity(dto, salaryStructure);
+        return salaryStructure;
+    }
+
+    public void copyToEntity(SalaryStructureDto dto, SalaryStructure salaryStructure) {
+        if (dto.getBasicSalary() != null) salaryStructure.setBasicSalary(dto.getBasicSalary());
+        if (dto.getHouseRent() != null) salaryStructure.setHouseRent(dto.getHouseRent());
+        if (dto.getMedicalAllowance() != null) salaryStructure.setMedicalAllowance(dto.getMedicalAllowance());
+        if (dto.getTransportAllowance() != null) salaryStructure.setTransportAllowance(dto.getTransportAllowance());
+        if (dto.getOtherAllowances() != null) salaryStructure.setOtherAllowances(dto.getOtherAllowances());
+        if (dto.getTotalDeductions() != null) salaryStructure.setTotalDeductions(dto.getTotalDeductions());
+        if (dto.getGrossSalary() != null) salaryStructure.setGrossSalary(dto.getGrossSalary());
+        if (dto.getNetSalary() != null) salaryStructure.setNetSalary(dto.getNetSalary());
+        if (dto.getStatus() != null) salaryStructure.setStatus(SalaryStructure.SalaryStatus.valueOf(dto.getStatus()));
+    }
+
+    public PayrollDto toDto(Payroll payroll) {
+        PayrollDto dto = new PayrollDto();
+        dto.setId(payroll.getId());
+        dto.setPayPeriod(payroll.getPayPeriod());
+        dto.setPayDate(payroll.getPayDate());
+        dto.setBasicSalary(payroll.getBasicSalary());
+        dto.setTotalAllowances(payroll.getTotalAllowances());
+        dto.setOvertimePay(payroll.getOvertimePay());
+        dto.setBonus(payroll.getBonus());
+        dto.setTaxDeduction(payroll.getTaxDeduction());
+        dto.setOtherDeductions(payroll.getOtherDeductions());
+        dto.setGrossSalary(payroll.getGrossSalary());
+        dto.setNetSalary(payroll.getNetSalary());
+        dto.setWorkingDays(payroll.getWorkingDays());
+        dto.setPresentDays(payroll.getPresentDays());
+        dto.setStatus(Mappers.name(payroll.getStatus()));
+        dto.setRemarks(payroll.getRemarks());
+        return dto;
+    }
+
+    public PayslipDto toDto(Payslip payslip) {
+        PayslipDto dto = new PayslipDto();
+        dto.setId(payslip.getId());
+        dto.setPayslipCode(payslip.getPayslipCode());
+        dto.setIssueDate(payslip.getIssueDate());
+        dto.setIsGenerated(payslip.getIsGenerated());
+        dto.setStatus(Mappers.name(payslip.getStatus()));
+        return dto;
+    }
+
+    public BonusDto toDto(Bonus bonus) {
+        BonusDto dto = new BonusDto();
+        dto.setId(bonus.getId());
+        dto.setBonusType(bonus.getBonusType());
+        dto.setAmount(bonus.getAmount());
+        dto.setBonusDate(bonus.getBonusDate());
+        dto.setReason(bonus.getReason());
+        dto.setStatus(Mappers.name(bonus.getStatus()));
+        return dto;
+    }
+
+    public Bonus toEntity(BonusDto dto) {
+        Bonus bonus = new Bonus();
+        copyToEntity(dto, bonus);
+        return bonus;
+    }
+
+    public void copyToEntity(BonusDto dto, Bonus bonus) {
+        if (dto.getBonusType() != null) bonus.setBonusType(dto.getBonusType());
+        if (dto.getAmount() != null) bonus.setAmount(dto.getAmount());
+        if (dto.getBonusDate() != null) bonus.setBonusDate(dto.getBonusDate());
+        if (dto.getReason() != null) bonus.setReason(dto.getReason());
+        if (dto.getStatus() != null) bonus.setStatus(Bonus.BonusStatus.valueOf(dto.getStatus()));
+    }
+}
@@ -0,0 +1,205 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.ApplicationDto;
+import com.garmentmanagement.garmentmanagement.DTO.CandidateDto;
+import com.garmentmanagement.garmentmanagement.DTO.InterviewDto;
+import com.garmentmanagement.garmentmanagement.DTO.JobPostingDto;
+import com.garmentmanagement.garmentmanagement.DTO.OfferLetterDto;
+import com.garmentmanagement.garmentmanagement.Entity.Application;
+import com.garmentmanagement.garmentmanagement.Entity.Candidate;
+import com.garmentmanagement.garmentmanagement.Entity.Interview;
+import com.garmentmanagement.garmentmanagement.Entity.JobPosting;
+import com.garmentmanagement.garmentmanagement.Entity.OfferLetter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job posting / candidate / application / interview / offer letter field mapping. Linked records
+ * and statistics are set by RecruitmentServiceImplementation. DTO -> entity copies skip null values
+ * and never touch the id.
+ */
+@Component
+public class RecruitmentMapper {
+
+    public JobPostingDto toDto(JobPosting jobPosting) {
+        JobPostingDto dto = new JobPostingDto();
+        dto.setId(jobPosting.getId());
+        dto.setJobTitle(jobPosting.getJobTitle());
+        dto.setJobCode(jobPosting.getJobCode());
+        dto.setEmploymentType(Mappers.name(jobPosting.getEmploymentType()));
+        dto.setExperienceLevel(jobPosting.getExperienceLevel());
+        dto.setMinSalary(jobPosting.getMinSalary());
+        dto.setMaxSalary(jobPosting.getMaxSalary());
+        dto.setJobDescription(jobPosting.getJobDescription());
+        dto.setRequirements(jobPosting.getRequirements());
+        dto.setVacancies(jobPosting.getVacancies());
+        dto.setApplicationDeadline(jobPosting.getApplicationDeadline());
+        dto.setStatus(Mappers.name(jobPosting.getStatus()));
+        dto.setPostedDate(jobPosting.getPostedDate());
+        return dto;
+    }
+
+    public JobPosting toEntity(JobPostingDto dto) {
+        JobPosting jobPosting = new JobPosting();
+        copyToEntity(dto, jobPosting);
+        return jobPosting;
+    }
+
+    public void copyToEntity(JobPostingDto dto, JobPosting jobPosting) {
+        if (dto.getJobTitle() != null) jobPosting.setJobTitle(dto.getJobTitle());
+        if (dto.getJobCode() != null) jobPosting.setJobCode(dto.getJobCode());
+        if (dto.getEmploymentType() != null) jobPosting.setEmploymentType(JobPosting.EmploymentType.valueOf(dto.getEmploymentType()));
+        if (dto.getExperienceLevel() != null) jobPosting.setExperienceLevel(dto.getExperienceLevel());
+        if (dto.getMinSalary() != null) jobPosting.setMinSalary(dto.getMinSalary());
+        if (dto.getMaxSalary() != null) jobPosting.setMaxSalary(dto.getMaxSalary());
+        if (dto.getJobDescription() != null) jobPosting.setJobDescription(dto.getJobDescription());
+        if (dto.getRequirements() != null) jobPosting.setRequirements(dto.getRequirements());
+        if (dto.getVacancies() != null) jobPosting.setVacancies(dto.getVacancies());
+        if (dto.getApplicationDeadline() != null) jobPosting.setApplicationDeadline(dto.getApplicationDeadline());
+        if (dto.getStatus() != null) jobPosting.setStatus(JobPosting.JobStatus.valueOf(dto.getStatus()));
+        if (dto.getPostedDate() != null) jobPosting.setPostedDate(dto.getPostedDate());
+    }
+
+    public CandidateDto toDto(Candidate candidate) {
+        CandidateDto dto = new CandidateDto();
+        dto.setId(candidate.getId());
+        dto.setFirstName(candidate.getFirstName());
+        dto.setLastName(candidate.getLastName());
+        dto.setEmail(candidate.getEmail());
+        dto.setPhone(candidate.getPhone());
+        dto.setNidNumber(candidate.getNidNumber());
+        dto.setGender(Mappers.name(candidate.getGender()));
+        dto.setBirthDate(candidate.getBirthDate());
+        dto.setCurrentAddress(candidate.getCurrentAddress());
+        dto.setPermanentAddress(candidate.getPermanentAddress());
+        dto.setCurrentJobTitle(candidate.getCurrentJobTitle());
+        dto.setCurrentCompany(candidate.getCurrentCompany());
+        dto.setExperience(candidate.getExperience());
+        dto.setEducation(candidate.getEducation());
+        dto.setSkills(candidate.getSkills());
+        dto.setResumeUrl(candidate.getResumeUrl());
+        dto.setCoverLetter(candidate.getCoverLetter());
+        dto.setExpectedSalary(candidate.getExpectedSalary());
+        dto.setStatus(Mappers.name(candidate.getStatus()));
+        dto.setNotes(candidate.getNotes());
+        return dto;
+    }
+
+    public Candidate toEntity(CandidateDto dto) {
+        Candidate candidate = new Candidate();
+        copyToEntity(dto, candidate);
+        return candidate;
+    }
+
+    public void copyToEntity(CandidateDto dto, Candidate candidate) {
+        if (dto.getFirstName() != null) candidate.setFirstName(dto.getFirstName());
+        if (dto.getLastName() != null) candidate.setLastName(dto.getLastName());
+        if (dto.getEmail() != null) candidate.setEmail(dto.getEmail());
+        if (dto.getPhone() != null) candidate.setPhone(dto.getPhone());
+        if (dto.getNidNumber() != null) candidate.setNidNumber(dto.getNidNumber());
+        if (dto.getGender() != null) candidate.setGender(Candidate.Gender.valueOf(dto.getGender()));
+        if (dto.getBirthDate() != null) candidate.setBirthDate(dto.getBirthDate());
+        if (dto.getCurrentAddress() != null) candidate.setCurrentAddress(dto.getCurrentAddress());
+        if (dto.getPermanentAddress() != null) candidate.setPermanentAddress(dto.getPermanentAddress());
+        if (dto.getCurrentJobTitle() != null) candidate.setCurrentJobTitle(dto.getCurrentJobTitle());
+        if (dto.getCurrentCompany() != null) candidate.setCurrentCompany(dto.getCurrentCompany());
+        if (dto.getExperience() != null) candidate.setExperience(dto.getExperience());
+        if (dto.getEducation() != null) candidate.setEducation(dto.getEducation());
+        if (dto.getSkills() != null) candidate.setSkills(dto.getSkills());
+        if (dto.getResumeUrl() != null) candidate.setResumeUrl(dto.getResumeUrl());
+        if (dto.getCoverLetter() != null) candidate.setCoverLetter(dto.getCoverLetter());
+        if (dto.getExpectedSalary() != null) candidate.setExpectedSalary(dto.getExpectedSalary());
+        if (dto.getStatus() != null) candidate.setStatus(Candidate.CandidateStatus.valueOf(dto.getStatus()));
+        if (dto.getNotes() != null) candidate.setNotes(dto.getNotes());
+    }
+
+    public ApplicationDto toDto(Application application) {
+        ApplicationDto dto = new ApplicationDto();
+        dto.setId(application.getId());
+        dto.setApplicationDate(application.getApplicationDate());
+        dto.setStatus(Mappers.name(application.getStatus()));
+        dto.setCoverLetter(application.getCoverLetter());
+        dto.setExpectedSalary(application.getExpectedSalary());
+        dto.setNoticePeriod(application.getNoticePeriod());
+        dto.setNotes(application.getNotes());
+        dto.setRejectionReason(application.getRejectionReason());
+        return dto;
+    }
+
+    public Application toEntity(ApplicationDto dto) {
+        Application application = new Application();
+        if (dto.getApplicationDate() != null) application.setApplicationDate(dto.getApplicationDate());
+        if (dto.getStatus() != null) application.setStatus(Application.ApplicationStatus.valueOf(dto.getStatus()));
+        if (dto.getCoverLetter() != null) application.setCoverLetter(dto.getCoverLetter());
+        if (dto.getExpectedSalary() != null) application.setExpectedSalary(dto.getExpectedSalary());
+        if (dto.getNoticePeriod() != null) application.setNoticePeriod(dto.getNoticePeriod());
+        if (dto.getNotes() != null) application.setNotes(dto.getNotes());
+        if (dto.getRejectionReason() != null) application.setRejectionReason(dto.getRejectionReason());
+        return application;
+    }
+
+    public InterviewDto toDto(Interview interview) {
+        InterviewDto dto = new InterviewDto();
+        dto.setId(interview.getId());
+        dto.setInterviewDate(interview.getInterviewDate());
+        dto.setInterviewType(interview.getInterviewType());
+        dto.setLocation(interview.getLocation());
+        dto.setAgenda(interview.getAgenda());
+        dto.setStatus(Mappers.name(interview.getStatus()));
+        dto.setFeedback(interview.getFeedback());
+        dto.setRating(interview.getRating());
+        dto.setNotes(interview.getNotes());
+        return dto;
+    }
+
+    public Interview toEntity(InterviewDto dto) {
+        Interview interview = new Interview();
+        copyToEntity(dto, interview);
+        return interview;
+    }
+
+    public void copyToEntity(InterviewDto dto, Interview interview) {
+        if (dto.getInterviewDate() != null) interview.setInterviewDate(dto.getInterviewDate());
+        if (dto.getInterviewType() != null) interview.setInterviewType(dto.getInterviewType());
+        if (dto.getLocation() != null) interview.setLocation(dto.getLocation());
+        if (dto.getAgenda() != null) interview.setAgenda(dto.getAgenda());
+        if (dto.getStatus() != null) interview.setStatus(Interview.InterviewStatus.valueOf(dto.getStatus()));
+        if (dto.getFeedback() != null) interview.setFeedback(dto.getFeedback());
+        if (dto.getRating() != null) interview.setRating(dto.getRating());
+        if (dto.getNotes() != null) interview.setNotes(dto.getNotes());
+    }
+
+    public OfferLetterDto toDto(OfferLetter offerLetter) {
+        OfferLetterDto dto = new OfferLetterDto();
+        dto.setId(offerLetter.getId());
+        dto.setOfferCode(offerLetter.getOfferCode());
+        dto.setOfferDate(offerLetter.getOfferDate());
+        dto.setJoinDate(offerLetter.getJoinDate());
+        dto.setBasicSalary(offerLetter.getBasicSalary());
+        dto.setHouseRent(offerLetter.getHouseRent());
+        dto.setMedicalAllowance(offerLetter.getMedicalAllowance());
+        dto.setOtherAllowances(offerLetter.getOtherAllowances());
+        dto.setGrossSalary(offerLetter.getGrossSalary());
+        dto.setProbationPeriod(offerLetter.getProbationPeriod());
+        dto.setStatus(Mappers.name(offerLetter.getStatus()));
+        dto.setResponseDate(offerLetter.getResponseDate());
+        dto.setResponseNotes(offerLetter.getResponseNotes());
+        return dto;
+    }
+
+    public OfferLetter toEntity(OfferLetterDto dto) {
+        OfferLetter offerLetter = new OfferLetter();
+        if (dto.getOfferCode() != null) offerLetter.setOfferCode(dto.getOfferCode());
+        if (dto.getOfferDate() != null) offerLetter.setOfferDate(dto.getOfferDate());
+        if (dto.getJoinDate() != null) offerLetter.setJoinDate(dto.getJoinDate());
+        if (dto.getBasicSalary() != null) offerLetter.setBasicSalary(dto.getBasicSalary());
+        if (dto.getHouseRent() != null) offerLetter.setHouseRent(dto.getHouseRent());
+        if (dto.getMedicalAllowance() != null) offerLetter.setMedicalAllowance(dto.getMedicalAllowance());
+        if (dto.getOtherAllowances() != null) offerLetter.setOtherAllowances(dto.getOtherAllowances());
+        if (dto.getGrossSalary() != null) offerLetter.setGrossSalary(dto.getGrossSalary());
+        if (dto.getProbationPeriod() != null) offerLetter.setProbationPeriod(dto.getProbationPeriod());
+        if (dto.getStatus() != null) offerLetter.setStatus(OfferLetter.OfferStatus.valueOf(dto.getStatus()));
+        if (dto.getResponseDate() != null) offerLetter.setResponseDate(dto.getResponseDate());
+        if (dto.getResponseNotes() != null) offerLetter.setResponseNotes(dto.getResponseNotes());
+        return offerLetter;
+    }
+}
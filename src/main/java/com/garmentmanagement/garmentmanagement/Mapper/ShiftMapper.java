@@ -0,0 +1,49 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.ShiftDto;
+import com.garmentmanagement.garmentmanagement.Entity.Shift;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shift field mapping. DTO -> entity copies skip null values and never touch the id.
+ */
+@Component
+public class ShiftMapper {
+
+    public ShiftDto toDto(Shift shift) {
+        ShiftDto dto = new ShiftDto();
+        dto.setId(shift.getId());
+        dto.setCode(shift.getCode());
+        dto.setName(shift.getName());
+        dto.setStartTime(shift.getStartTime());
+        dto.setEndTime(shift.getEndTime());
+        dto.setGraceMinutes(shift.getGraceMinutes());
+        dto.setLateMinutes(shift.getLateMinutes());
+        dto.setHalfDayHours(shift.getHalfDayHours());
+        dto.setRotation(shift.getRotation());
+        dto.setRotationStart(shift.getRotationStart());
+        dto.setIsActive(shift.getIsActive());
+        dto.setOvernight(shift.getStartTime() != null && shift.getEndTime() != null
+                && !shift.getEndTime().isAfter(shift.getStartTime()));
+        return dto;
+    }
+
+    public Shift toEntity(ShiftDto dto) {
+        Shift shift = new Shift();
+        copyToEntity(dto, shift);
+        return shift;
+    }
+
+    public void copyToEntity(ShiftDto dto, Shift shift) {
+        if (dto.getCode() != null) shift.setCode(dto.getCode().trim());
+        if (dto.getName() != null) shift.setName(dto.getName());
+        if (dto.getStartTime() != null) shift.setStartTime(dto.getStartTime());
+        if (dto.getEndTime() != null) shift.setEndTime(dto.getEndTime());
+        if (dto.getGraceMinutes() != null) shift.setGraceMinutes(dto.getGraceMinutes());
+        if (dto.getLateMinutes() != null) shift.setLateMinutes(dto.getLateMinutes());
+        if (dto.getHalfDayHours() != null) shift.setHalfDayHours(dto.getHalfDayHours());
+        if (dto.getRotation() != null) shift.setRotation(dto.getRotation().isBlank() ? null : dto.getRotation());
+        if (dto.getRotationStart() != null) shift.setRotationStart(dto.getRotationStart());
+        if (dto.getIsActive() != null) shift.setIsActive(dto.getIsActive());
+    }
+}
@@ -0,0 +1,131 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import com.garmentmanagement.garmentmanagement.DTO.ProjectDto;
+import com.garmentmanagement.garmentmanagement.DTO.TaskAttachmentDto;
+import com.garmentmanagement.garmentmanagement.DTO.TaskCommentDto;
+import com.garmentmanagement.garmentmanagement.DTO.TaskDto;
+import com.garmentmanagement.garmentmanagement.Entity.Project;
+import com.garmentmanagement.garmentmanagement.Entity.Task;
+import com.garmentmanagement.garmentmanagement.Entity.TaskAttachment;
+import com.garmentmanagement.garmentmanagement.Entity.TaskComment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task / project / comment / attachment field mapping. Assignees, projects, departments and counts
+ * are set by TaskServiceImplementation. DTO -> entity copies skip null values and never touch the id.
+ */
+@Component
+public class TaskMapper {
+
+    public TaskDto toDto(Task task) {
+        TaskDto dto = new TaskDto();
+        dto.setId(task.getId());
+        dto.setTitle(task.getTitle());
+        dto.setDescription(task.getDescription());
+        dto.setPriority(Mappers.name(task.getPriority()));
+        dto.setStatus(Mappers.name(task.getStatus()));
+        dto.setDueDate(task.getDueDate());
+        dto.setStartDate(task.getStartDate());
+        dto.setCompletedDate(task.getCompletedDate());
+        dto.setEstimatedHours(task.getEstimatedHours());
+        dto.setActualHours(task.getActualHours());
+        dto.setTags(task.getTags());
+        dto.setCompletionPercentage(task.getCompletionPercentage());
+        dto.setIsUrgent(task.getIsUrgent());
+        return dto;
+    }
+
+    public Task toEntity(TaskDto dto) {
+        Task task = new Task();
+        copyToEntity(dto, task);
+        return task;
+    }
+
+    public void copyToEntity(TaskDto dto, Task task) {
+        if (dto.getTitle() != null) task.setTitle(dto.getTitle());
+        if (dto.getDescription() != null) task.setDescription(dto.getDescription());
+        if (dto.getPriority() != null) task.setPriority(Task.Priority.valueOf(dto.getPriority()));
+        if (dto.getStatus() != null) task.setStatus(Task.TaskStatus.valueOf(dto.getStatus()));
+        if (dto.getDueDate() != null) task.setDueDate(dto.getDueDate());
+        if (dto.getStartDate() != null) task.setStartDate(dto.getStartDate());
+        if (dto.getCompletedDate() != null) task.setCompletedDate(dto.getCompletedDate());
+        if (dto.getEstimatedHours() != null) task.setEstimatedHours(dto.getEstimatedHours());
+        if (dto.getActualHours() != null) task.setActualHours(dto.getActualHours());
+        if (dto.getTags() != null) task.setTags(dto.getTags());
+        if (dto.getCompletionPercentage() != null) task.setCompletionPercentage(dto.getCompletionPercentage());
+        if (dto.getIsUrgent() != null) task.setIsUrgent(dto.getIsUrgent());
+    }
+
+    public ProjectDto toDto(Project project) {
+        ProjectDto dto = new ProjectDto();
+        dto.setId(project.getId());
+        dto.setName(project.getName());
+        dto.setCode(project.getCode());
+        dto.setDescription(project.getDescription());
+        dto.setStatus(Mappers.name(project.getStatus()));
+        dto.setStartDate(project.getStartDate());
+        dto.setEndDate(project.getEndDate());
+        dto.setBudget(project.getBudget());
+        dto.setActualCost(project.getActualCost());
+        dto.setObjectives(project.getObjectives());
+        return dto;
+    }
+
+    public Project toEntity(ProjectDto dto) {
+        Project project = new Project();
+        copyToEntity(dto, project);
+        return project;
+    }
+
+    public void copyToEntity(ProjectDto dto, Project project) {
+        if (dto.getName() != null) project.setName(dto.getName());
+        if (dto.getCode() != null) project.setCode(dto.getCode());
+        if (dto.getDescription() != null) project.setDescription(dto.getDescription());
+        if (dto.getStatus() != null) project.setStatus(Project.ProjectStatus.valueOf(dto.getStatus()));
+        if (dto.getStartDate() != null) project.setStartDate(dto.getStartDate());
+        if (dto.getEndDate() != null) project.setEndDate(dto.getEndDate());
+        if (dto.getBudget() != null) project.setBudget(dto.getBudget());
+        if (dto.getActualCost() != null) project.setActualCost(dto.getActualCost());
+        if (dto.getObjectives() != null) project.setObjectives(dto.getObjectives());
+    }
+
+    public TaskCommentDto toDto(TaskComment comment) {
+        TaskCommentDto dto = new TaskCommentDto();
+        dto.setId(comment.getId());
+        dto.setComment(comment.getComment());
+        dto.setCommentDate(comment.getCommentDate());
+        dto.setIsInternal(comment.getIsInternal());
+        return dto;
+    }
+
+    public TaskComment toEntity(TaskCommentDto dto) {
+        TaskComment comment = new TaskComment();
+        if (dto.getComment() != null) comment.setComment(dto.getComment());
+        if (dto.getCommentDate() != null) comment.setCommentDate(dto.getCommentDate());
+        if (dto.getIsInternal() != null) comment.setIsInternal(dto.getIsInternal());
+        return comment;
+    }
+
+    public TaskAttachmentDto toDto(TaskAttachment attachment) {
+        TaskAttachmentDto dto = new TaskAttachmentDto();
+        dto.setId(attachment.getId());
+        dto.setFileName(attachment.getFileName());
+        dto.setFilePath(attachment.getFilePath());
+        dto.setFileType(attachment.getFileType());
+        dto.setFileSize(attachment.getFileSize());
+        dto.setUploadDate(attachment.getUploadDate());
+        dto.setDescription(attachment.getDescription());
+        return dto;
+    }
+
+    public TaskAttachment toEntity(TaskAttachmentDto dto) {
+        TaskAttachment attachment = new TaskAttachment();
+        if (dto.getFileName() != null) attachment.setFileName(dto.getFileName());
+        if (dto.getFilePath() != null) attachment.setFilePath(dto.getFilePath());
+        if (dto.getFileType() != null) attachment.setFileType(dto.getFileType());
+        if (dto.getFileSize() != null) attachment.setFileSize(dto.getFileSize());
+        if (dto.getUploadDate() != null) attachment.setUploadDate(dto.getUploadDate());
+        if (dto.getDescription() != null) attachment.setDescription(dto.getDescription());
+        return attachment;
+    }
+}
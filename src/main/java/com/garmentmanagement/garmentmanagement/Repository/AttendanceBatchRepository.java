@@ -0,0 +1,245 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * JDBC batch inserts for check-in ingest. INSERT IGNORE makes the write idempotent: a punch that is
+ * already stored (same employee and day, see uk_attendance_employee_date) is skipped, so journal
+ * replays after a crash can never create duplicates. The caller learns which punches were inserted
+ * by this call and which were turned away because their day holds a different record (conflicts).
+ * The same holds for the set-based absent marking. A day it closed before the employee checked in is
+ * taken over by the late punch (upgraded) rather than turning the punch away.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBatchRepository {
+
+    private static final String INSERT_CHECK_IN =
+            "INSERT IGNORE INTO attendances (employee_id, department_id, attendance_date, checkin_time, status, remarks, " +
+                    "total_hours, checkin_latitude, checkin_longitude, location_verified, device_type, ip_address, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Active employees of a shift without a record for the day and not on approved leave
+    private static final String INSERT_ABSENT =
+            "INSERT IGNORE INTO attendances (employee_id, department_id, attendance_date, status, remarks, total_hours, " +
+                    "location_verified, created_at, updated_at) " +
+                    "SELECT e.id, e.department_id, ?, 'ABSENT', 'Auto-marked absent - No check-in', 0, false, ?, ? " +
+                    "FROM employees e " +
+                    "WHERE e.status = 'ACTIVE' AND (e.join_date IS NULL OR e.join_date <= ?) AND %s " +
+                    "AND NOT EXISTS (SELECT 1 FROM attendances a WHERE a.employee_id = e.id AND a.attendance_date = ?) " +
+                    "AND NOT EXISTS (SELECT 1 FROM leave_applications l WHERE l.employee_id = e.id " +
+                    "AND l.status = 'APPROVED' AND l.start_date <= ? AND l.end_date >= ?)";
+
+    // Takes over a day the absent marking already closed; rows with a check-in are never touched
+    private static final String UPGRADE_ABSENT =
+            "UPDATE attendances SET checkin_time = ?, status = ?, remarks = ?, total_hours = ?, checkin_latitude = ?, " +
+                    "checkin_longitude = ?, location_verified = ?, device_type = ?, ip_address = ?, updated_at = ? " +
+                    "WHERE employee_id = ? AND attendance_date = ? AND status = 'ABSENT' AND checkin_time IS NULL";
+
+    private static final String SELECT_CHECK_IN_TIMES =
+            "SELECT employee_id, attendance_date, checkin_time, status, department_id, created_at FROM attendances " +
+                    "WHERE attendance_date IN (%s) AND employee_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // inserted: stored by this call as new rows; upgraded: stored by this call over an auto-marked absence
+    // (department kept from that row); conflicts: not stored, their day holds another record.
+    // Punches that were already stored (journal replays) are in none of the lists.
+    public record CheckInResult(List<Attendance> inserted, List<Attendance> upgraded, List<Attendance> conflicts) {
+    }
+
+    /**
+     * Inserts the check-ins in one JDBC batch. Attendances only need employee (with id), date,
+     * check-in time and status set; the remaining check-in columns are copied as-is. A day that was
+     * auto-marked absent and has no check-in yet is taken over by the punch.
+     */
+    public CheckInResult insertCheckIns(List<Attendance> checkIns) {
+        if (checkIns.isEmpty()) {
+            return new CheckInResult(List.of(), List.of(), List.of());
+        }
+        // Whole seconds, so the stamp reads back equal whatever the column precision
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_CHECK_IN, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Attendance attendance = checkIns.get(i);
+                ps.setLong(1, attendance.getEmployee().getId());
+                ps.setObject(2, attendance.getDepartmentId());
+                ps.setObject(3, attendance.getAttendanceDate());
+                ps.setObject(4, attendance.getCheckinTime());
+                ps.setString(5, attendance.getStatus().name());
+                ps.setString(6, attendance.getRemarks());
+                ps.setObject(7, attendance.getTotalHours());
+                ps.setObject(8, attendance.getCheckinLatitude());
+                ps.setObject(9, attendance.getCheckinLongitude());
+                ps.setObject(10, attendance.getLocationVerified());
+                ps.setString(11, attendance.getDeviceType());
+                ps.setString(12, attendance.getIpAddress());
+                ps.setObject(13, now);
+                ps.setObject(14, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return checkIns.size();
+            }
+        });
+
+        if (Arrays.stream(counts).allMatch(count -> count == 1)) {
+            return new CheckInResult(checkIns, List.of(), List.of());
+        }
+        List<Attendance> inserted = new ArrayList<>();
+        List<Attendance> skipped = new ArrayList<>();
+        Map<String, StoredRow> stored;
+        if (Arrays.stream(counts).anyMatch(count -> count < 0)) {
+            // Rewritten (multi-row) batches report SUCCESS_NO_INFO instead of per-row counts; then the rows
+            // this batch created are recognised by their creation stamp
+            stored = storedRows(checkIns);
+            for (Attendance attendance : checkIns) {
+                StoredRow row = stored.get(key(attendance));
+                (row != null && row.holds(attendance) && now.equals(row.createdAt()) ? inserted : skipped).add(attendance);
+            }
+        } else {
+            for (int i = 0; i < counts.length; i++) {
+                (counts[i] > 0 ? inserted : skipped).add(checkIns.get(i));
+            }
+            stored = storedRows(skipped);
+        }
+
+        List<Attendance> absent = new ArrayList<>();
+        List<Attendance> conflicts = new ArrayList<>();
+        for (Attendance attendance : skipped) {
+            StoredRow row = stored.get(key(attendance));
+            if (row != null && row.markedAbsent()) {
+                attendance.setDepartmentId(row.departmentId());
+                absent.add(attendance);
+            } else if (row == null || !row.holds(attendance)) {
+                conflicts.add(attendance);
+            }
+        }
+        return new CheckInResult(inserted, upgradeAbsent(absent, conflicts, now), conflicts);
+    }
+
+    private record StoredRow(LocalTime checkinTime, String status, Long departmentId, LocalDateTime createdAt) {
+
+        // Written by the absent marking and not checked into since
+        boolean markedAbsent() {
+            return checkinTime == null && "ABSENT".equals(status);
+        }
+
+        // TIME columns may drop fractions of a second
+        boolean holds(Attendance attendance) {
+            return checkinTime != null && attendance.getCheckinTime() != null
+                    && checkinTime.truncatedTo(ChronoUnit.SECONDS)
+                    .equals(attendance.getCheckinTime().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+
+    // Stores the punches over their auto-marked absences; a row checked into meanwhile makes the punch a conflict
+    private List<Attendance> upgradeAbsent(List<Attendance> absent, List<Attendance> conflicts, LocalDateTime now) {
+        if (absent.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPGRADE_ABSENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Attendance attendance = absent.get(i);
+                ps.setObject(1, attendance.getCheckinTime());
+                ps.setString(2, attendance.getStatus().name());
+                ps.setString(3, attendance.getRemarks());
+                ps.setObject(4, attendance.getTotalHours());
+                ps.setObject(5, attendance.getCheckinLatitude());
+                ps.setObject(6, attendance.getCheckinLongitude());
+                ps.setObject(7, attendance.getLocationVerified());
+                ps.setString(8, attendance.getDeviceType());
+                ps.setString(9, attendance.getIpAddress());
+                ps.setObject(10, now);
+                ps.setLong(11, attendance.getEmployee().getId());
+                ps.setObject(12, attendance.getAttendanceDate());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return absent.size();
+            }
+        });
+
+        Map<String, StoredRow> stored = Arrays.stream(counts).anyMatch(count -> count < 0) ? storedRows(absent) : null;
+        List<Attendance> upgraded = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            Attendance attendance = absent.get(i);
+            StoredRow row = stored != null ? stored.get(key(attendance)) : null;
+            boolean written = stored == null ? counts[i] > 0 : row != null && row.holds(attendance);
+            (written ? upgraded : conflicts).add(attendance);
+        }
+        return upgraded;
+    }
+
+    // The stored (employee, day) rows of the punches
+    private Map<String, StoredRow> storedRows(List<Attendance> checkIns) {
+        Map<String, StoredRow> stored = new HashMap<>();
+        if (checkIns.isEmpty()) {
+            return stored;
+        }
+        Set<Long> employeeIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (Attendance attendance : checkIns) {
+            employeeIds.add(attendance.getEmployee().getId());
+            dates.add(attendance.getAttendanceDate());
+        }
+        List<Object> args = new ArrayList<>(dates);
+        args.addAll(employeeIds);
+        String sql = String.format(SELECT_CHECK_IN_TIMES,
+                String.join(", ", Collections.nCopies(dates.size(), "?")),
+                String.join(", ", Collections.nCopies(employeeIds.size(), "?")));
+
+        jdbcTemplate.query(sql, rs -> {
+            Time time = rs.getTime(3);
+            stored.put(rs.getLong(1) + "|" + rs.getObject(2, LocalDate.class),
+                    new StoredRow(time != null ? time.toLocalTime() : null, rs.getString(4),
+                            rs.getObject(5, Long.class), rs.getObject(6, LocalDateTime.class)));
+        }, args.toArray());
+        return stored;
+    }
+
+    private static String key(Attendance attendance) {
+        return attendance.getEmployee().getId() + "|" + attendance.getAttendanceDate();
+    }
+
+    /**
+     * Marks the shift's employees absent for the day in one INSERT ... SELECT; shift null means every
+     * employee whose shift is not in namedShifts (including none). Shift codes are upper case and match
+     * Employee.shift trimmed and ignoring case, as in ShiftIndex. Rows get createdAt as their creation
+     * time, which identifies them for the rollup update. Returns the number of rows inserted.
+     */
+    public int insertAbsentees(LocalDate date, String shift, Collection<String> namedShifts, LocalDateTime createdAt) {
+        List<Object> args = new ArrayList<>(List.of(date, createdAt, createdAt, date));
+        String shiftFilter;
+        if (shift != null) {
+            shiftFilter = "UPPER(TRIM(e.shift)) = ?";
+            args.add(shift);
+        } else if (namedShifts.isEmpty()) {
+            shiftFilter = "1 = 1";
+        } else {
+            shiftFilter = "(e.shift IS NULL OR UPPER(TRIM(e.shift)) NOT IN ("
+                    + String.join(", ", Collections.nCopies(namedShifts.size(), "?")) + "))";
+            args.addAll(namedShifts);
+        }
+        args.addAll(List.of(date, date, date));
+        return jdbcTemplate.update(String.format(INSERT_ABSENT, shiftFilter), args.toArray());
+    }
+}
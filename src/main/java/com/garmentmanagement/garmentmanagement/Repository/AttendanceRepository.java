@@ -2,12 +2,15 @@ package com.garmentmanagement.garmentmanagement.Repository;
 
 import com.garmentmanagement.garmentmanagement.Entity.Attendance;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +25,21 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     // ✅ Keep these - no employeeId parameter
     List<Attendance> findByAttendanceDate(LocalDate date);
 
-    @Query("SELECT a FROM Attendance a WHERE a.employee.id = :employeeId AND YEAR(a.attendanceDate) = :year AND MONTH(a.attendanceDate) = :month")
-    List<Attendance> findByEmployeeIdAndMonth(Long employeeId, int year, int month);
+    // Auto-marked absences have no check-in and do not count
+    @Query("SELECT a.employee.id FROM Attendance a WHERE a.attendanceDate = :date AND a.checkinTime IS NOT NULL")
+    List<Long> findCheckedInEmployeeIds(@Param("date") LocalDate date);
+
+    // Half-open range [startDate, endDate) on the raw column - served by uk_attendance_employee_date
+    @Query("SELECT a FROM Attendance a WHERE a.employee.id = :employeeId " +
+            "AND a.attendanceDate >= :startDate AND a.attendanceDate < :endDate")
+    List<Attendance> findByEmployeeIdInDateRange(@Param("employeeId") Long employeeId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    default List<Attendance> findByEmployeeIdAndMonth(Long employeeId, int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        return findByEmployeeIdInDateRange(employeeId, period.atDay(1), period.plusMonths(1).atDay(1));
+    }
 
     List<Attendance> findByStatus(Attendance.AttendanceStatus status);
     List<Attendance> findByAttendanceDateAndStatus(LocalDate date, Attendance.AttendanceStatus status);
@@ -36,10 +52,23 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @Query("SELECT a FROM Attendance a WHERE a.attendanceDate BETWEEN :startDate AND :endDate")
     List<Attendance> findAttendanceBetweenDates(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    // Per-employee day counts for a date range (bulk payroll run)
+    @Query("SELECT a.employee.id, COUNT(a) FROM Attendance a WHERE a.attendanceDate >= :startDate " +
+            "AND a.attendanceDate < :endDate AND a.status IN :statuses GROUP BY a.employee.id")
+    List<Object[]> countByEmployeeBetweenDates(@Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("statuses") Collection<Attendance.AttendanceStatus> statuses);
+
     // Department-wise attendance
     @Query("SELECT a FROM Attendance a WHERE a.employee.department.id = :departmentId AND a.attendanceDate = :date")
     List<Attendance> findByDepartmentAndDate(@Param("departmentId") Long departmentId, @Param("date") LocalDate date);
 
     // ❌ REMOVE THIS - causing the error
     // Optional<Attendance> findByEmployeeId(String employeeId);
+
+    // Keyset (seek) paging, newest first: pass the last id of the previous page as beforeId.
+    // Walks the primary key index, so cost does not grow with how deep the client pages.
+    @Query("SELECT a FROM Attendance a JOIN FETCH a.employee e LEFT JOIN FETCH e.department " +
+            "WHERE a.id < :beforeId ORDER BY a.id DESC")
+    List<Attendance> findPageBefore(@Param("beforeId") Long beforeId, Pageable limit);
 }
\ No newline at end of file
@@ -0,0 +1,293 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Upserts and rebuilds for attendance_daily_rollups / employee_monthly_summaries. Deltas are applied
+ * with INSERT ... ON DUPLICATE KEY UPDATE so the first write for a key creates the row; batches of deltas
+ * are written in key order, so concurrent writers lock rollup rows in the same order. Rebuilds recompute
+ * a date range from attendances with one INSERT ... SELECT (backfill and repair only).
+ * Days are counted under the department stored on the attendance row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRollupRepository {
+
+    private static final String UPSERT_DAILY =
+            "INSERT INTO attendance_daily_rollups (attendance_date, department_id, status, attendance_count, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE attendance_count = attendance_count + ?, updated_at = ?";
+
+    private static final String ADD_MONTHLY_COUNTS =
+            "INSERT INTO employee_monthly_summaries (employee_id, summary_year, summary_month, present_days, " +
+                    "late_days, absent_days, half_days, total_hours, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE present_days = present_days + ?, late_days = late_days + ?, " +
+                    "absent_days = absent_days + ?, half_days = half_days + ?, total_hours = total_hours + ?, " +
+                    "updated_at = ?";
+
+    private static final List<String> MONTHLY_COLUMNS = List.of("present_days", "late_days", "absent_days", "half_days");
+
+    // One statement per status, since the day counter column differs
+    private static final Map<Attendance.AttendanceStatus, String> UPSERT_MONTHLY = new EnumMap<>(Attendance.AttendanceStatus.class);
+
+    static {
+        for (Attendance.AttendanceStatus status : Attendance.AttendanceStatus.values()) {
+            String column = monthlyColumn(status);
+            List<String> initial = new ArrayList<>();
+            for (String each : MONTHLY_COLUMNS) {
+                initial.add(each.equals(column) ? "?" : "0");
+            }
+            UPSERT_MONTHLY.put(status, String.format(
+                    "INSERT INTO employee_monthly_summaries (employee_id, summary_year, summary_month, %s, " +
+                            "total_hours, created_at, updated_at) VALUES (?, ?, ?, %s, ?, ?, ?) " +
+                            "ON DUPLICATE KEY UPDATE %s = %s + ?, total_hours = total_hours + ?, updated_at = ?",
+                    String.join(", ", MONTHLY_COLUMNS), String.join(", ", initial), column, column));
+        }
+    }
+
+    private static final String REBUILD_DAILY =
+            "INSERT INTO attendance_daily_rollups (attendance_date, department_id, status, attendance_count, " +
+                    "created_at, updated_at) " +
+                    "SELECT a.attendance_date, COALESCE(a.department_id, e.department_id, 0), a.status, COUNT(*), ?, ? " +
+                    "FROM attendances a JOIN employees e ON e.id = a.employee_id " +
+                    "WHERE a.attendance_date >= ? AND a.attendance_date < ? AND a.status IS NOT NULL " +
+                    "GROUP BY a.attendance_date, COALESCE(a.department_id, e.department_id, 0), a.status";
+
+    private static final String REBUILD_MONTHLY =
+            "INSERT INTO employee_monthly_summaries (employee_id, summary_year, summary_month, present_days, " +
+                    "late_days, absent_days, half_days, total_hours, created_at, updated_at) " +
+                    "SELECT a.employee_id, YEAR(a.attendance_date), MONTH(a.attendance_date), " +
+                    "SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN a.status = 'LATE' THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN a.status = 'ABSENT' THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN a.status = 'HALF_DAY' THEN 1 ELSE 0 END), " +
+                    "COALESCE(SUM(a.total_hours), 0), ?, ? " +
+                    "FROM attendances a " +
+                    "WHERE a.attendance_date >= ? AND a.attendance_date < ? %s" +
+                    "GROUP BY a.employee_id, YEAR(a.attendance_date), MONTH(a.attendance_date)";
+
+    private static final String ADD_DAILY =
+            "INSERT INTO attendance_daily_rollups (attendance_date, department_id, status, attendance_count, " +
+                    "created_at, updated_at) " +
+                    "SELECT a.attendance_date, COALESCE(a.department_id, e.department_id, 0), a.status, COUNT(*), ?, ? " +
+                    "FROM attendances a JOIN employees e ON e.id = a.employee_id " +
+                    "WHERE a.attendance_date = ? AND a.created_at = ? AND a.status IS NOT NULL " +
+                    "GROUP BY a.attendance_date, COALESCE(a.department_id, e.department_id, 0), a.status " +
+                    "ON DUPLICATE KEY UPDATE attendance_count = attendance_count + VALUES(attendance_count), " +
+                    "updated_at = VALUES(updated_at)";
+
+    private static final String ADD_MONTHLY =
+            "INSERT INTO employee_monthly_summaries (employee_id, summary_year, summary_month, present_days, " +
+                    "late_days, absent_days, half_days, total_hours, created_at, updated_at) " +
+                    "SELECT a.employee_id, YEAR(a.attendance_date), MONTH(a.attendance_date), " +
+                    "SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN a.status = 'LATE' THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN a.status = 'ABSENT' THEN 1 ELSE 0 END), " +
+                    "SUM(CASE WHEN a.status = 'HALF_DAY' THEN 1 ELSE 0 END), " +
+                    "COALESCE(SUM(a.total_hours), 0), ?, ? " +
+                    "FROM attendances a " +
+                    "WHERE a.attendance_date = ? AND a.created_at = ? AND a.status IS NOT NULL " +
+                    "GROUP BY a.employee_id, YEAR(a.attendance_date), MONTH(a.attendance_date) " +
+                    "ON DUPLICATE KEY UPDATE present_days = present_days + VALUES(present_days), " +
+                    "late_days = late_days + VALUES(late_days), absent_days = absent_days + VALUES(absent_days), " +
+                    "half_days = half_days + VALUES(half_days), total_hours = total_hours + VALUES(total_hours), " +
+                    "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MonthlyCounts(int presentDays, int lateDays, int absentDays, int halfDays, double totalHours) {
+
+        public static MonthlyCounts of(Attendance.AttendanceStatus status, int days, double hours) {
+            return new MonthlyCounts(status == Attendance.AttendanceStatus.PRESENT ? days : 0,
+                    status == Attendance.AttendanceStatus.LATE ? days : 0,
+                    status == Attendance.AttendanceStatus.ABSENT ? days : 0,
+                    status == Attendance.AttendanceStatus.HALF_DAY ? days : 0, hours);
+        }
+
+        public MonthlyCounts plus(MonthlyCounts other) {
+            return new MonthlyCounts(presentDays + other.presentDays, lateDays + other.lateDays,
+                    absentDays + other.absentDays, halfDays + other.halfDays, totalHours + other.totalHours);
+        }
+    }
+
+    public record DailyKey(LocalDate date, long departmentId, Attendance.AttendanceStatus status) {
+
+        public static final Comparator<DailyKey> ORDER = Comparator.comparing(DailyKey::date)
+                .thenComparingLong(DailyKey::departmentId)
+                .thenComparing(DailyKey::status);
+    }
+
+    public record MonthlyKey(long employeeId, int year, int month) {
+
+        public static final Comparator<MonthlyKey> ORDER = Comparator.comparingLong(MonthlyKey::employeeId)
+                .thenComparingInt(MonthlyKey::year)
+                .thenComparingInt(MonthlyKey::month);
+    }
+
+    private static String monthlyColumn(Attendance.AttendanceStatus status) {
+        return switch (status) {
+            case PRESENT -> "present_days";
+            case LATE -> "late_days";
+            case ABSENT -> "absent_days";
+            case HALF_DAY -> "half_days";
+        };
+    }
+
+    public void adjustDaily(LocalDate date, long departmentId, Attendance.AttendanceStatus status, int delta) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(UPSERT_DAILY, date, departmentId, status.name(), delta, now, now, delta, now);
+    }
+
+    public void adjustMonthly(long employeeId, int year, int month, Attendance.AttendanceStatus status,
+                              int dayDelta, double hoursDelta) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(UPSERT_MONTHLY.get(status), employeeId, year, month, dayDelta, hoursDelta, now, now,
+                dayDelta, hoursDelta, now);
+    }
+
+    /**
+     * Adds the day count deltas in one batch, in key order.
+     */
+    public void addDaily(Map<DailyKey, Integer> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(DailyKey.ORDER))
+                .forEach(delta -> rows.add(new Object[]{delta.getKey().date(), delta.getKey().departmentId(),
+                        delta.getKey().status().name(), delta.getValue(), now, now, delta.getValue(), now}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DAILY, rows);
+        }
+    }
+
+    /**
+     * Adds the employee month deltas in one batch, in key order.
+     */
+    public void addMonthly(Map<MonthlyKey, MonthlyCounts> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(MonthlyKey.ORDER))
+                .forEach(delta -> {
+                    MonthlyKey key = delta.getKey();
+                    MonthlyCounts counts = delta.getValue();
+                    rows.add(new Object[]{key.employeeId(), key.year(), key.month(), counts.presentDays(),
+                            counts.lateDays(), counts.absentDays(), counts.halfDays(), counts.totalHours(), now, now,
+                            counts.presentDays(), counts.lateDays(), counts.absentDays(), counts.halfDays(),
+                            counts.totalHours(), now});
+                });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_MONTHLY_COUNTS, rows);
+        }
+    }
+
+    /**
+     * Stores the employee's current department on rows of [from, toExclusive) that have none
+     * (rows written before the department was kept on the attendance).
+     */
+    public int fillMissingDepartments(LocalDate from, LocalDate toExclusive) {
+        return jdbcTemplate.update("UPDATE attendances a SET department_id = " +
+                        "(SELECT e.department_id FROM employees e WHERE e.id = a.employee_id) " +
+                        "WHERE a.attendance_date >= ? AND a.attendance_date < ? AND a.department_id IS NULL",
+                from, toExclusive);
+    }
+
+    /**
+     * Adds the attendances of one day that were created at createdAt (one set-based insert) to both rollups.
+     */
+    public void addCreated(LocalDate date, LocalDateTime createdAt) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(ADD_DAILY, now, now, date, createdAt);
+        jdbcTemplate.update(ADD_MONTHLY, now, now, date, createdAt);
+    }
+
+    /**
+     * Recomputes the daily rollups for [from, toExclusive).
+     */
+    public int rebuildDaily(LocalDate from, LocalDate toExclusive) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("DELETE FROM attendance_daily_rollups WHERE attendance_date >= ? AND attendance_date < ?",
+                from, toExclusive);
+        return jdbcTemplate.update(REBUILD_DAILY, now, now, from, toExclusive);
+    }
+
+    /**
+     * Recomputes the monthly rollups of every month touching [from, toExclusive), for all employees
+     * or (employeeIds not null) only the given ones.
+     */
+    public int rebuildMonthly(LocalDate from, LocalDate toExclusive, Collection<Long> employeeIds) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate lastDay = toExclusive.minusDays(1);
+        // Whole months only - a partial recount would overwrite the month with part of it
+        from = from.withDayOfMonth(1);
+        toExclusive = lastDay.withDayOfMonth(lastDay.lengthOfMonth()).plusDays(1);
+        List<Object> deleteArgs = new ArrayList<>(List.of(from.getYear() * 100 + from.getMonthValue(),
+                lastDay.getYear() * 100 + lastDay.getMonthValue()));
+        List<Object> insertArgs = new ArrayList<>(List.of(now, now, from, toExclusive));
+        String employeeFilter = "";
+        if (employeeIds != null) {
+            if (employeeIds.isEmpty()) {
+                return 0;
+            }
+            employeeFilter = "AND employee_id IN (" + String.join(", ", Collections.nCopies(employeeIds.size(), "?")) + ") ";
+            deleteArgs.addAll(employeeIds);
+            insertArgs.addAll(employeeIds);
+        }
+        jdbcTemplate.update("DELETE FROM employee_monthly_summaries " +
+                "WHERE summary_year * 100 + summary_month BETWEEN ? AND ? " + employeeFilter, deleteArgs.toArray());
+        return jdbcTemplate.update(String.format(REBUILD_MONTHLY, employeeFilter.replace("employee_id", "a.employee_id")),
+                insertArgs.toArray());
+    }
+
+    /**
+     * Attendance count per status over [from, toExclusive), for one department or (null) all of them.
+     */
+    public Map<Attendance.AttendanceStatus, Long> statusCounts(Long departmentId, LocalDate from, LocalDate toExclusive) {
+        Map<Attendance.AttendanceStatus, Long> counts = new EnumMap<>(Attendance.AttendanceStatus.class);
+        for (Attendance.AttendanceStatus status : Attendance.AttendanceStatus.values()) {
+            counts.put(status, 0L);
+        }
+        String sql = "SELECT status, SUM(attendance_count) FROM attendance_daily_rollups " +
+                "WHERE attendance_date >= ? AND attendance_date < ? " +
+                (departmentId != null ? "AND department_id = ? " : "") + "GROUP BY status";
+        Object[] args = departmentId != null
+                ? new Object[]{from, toExclusive, departmentId}
+                : new Object[]{from, toExclusive};
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(Attendance.AttendanceStatus.valueOf(rs.getString(1)), rs.getLong(2));
+        }, args);
+        return counts;
+    }
+
+    public Optional<MonthlyCounts> findMonthly(long employeeId, int year, int month) {
+        return jdbcTemplate.query("SELECT present_days, late_days, absent_days, half_days, total_hours " +
+                                "FROM employee_monthly_summaries WHERE employee_id = ? AND summary_year = ? AND summary_month = ?",
+                        (rs, rowNum) -> new MonthlyCounts(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4),
+                                rs.getDouble(5)),
+                        employeeId, year, month)
+                .stream()
+                .findFirst();
+    }
+
+    // First and last attendance date, empty when there are no attendances
+    public Optional<LocalDate[]> findAttendanceDateRange() {
+        return jdbcTemplate.query("SELECT MIN(attendance_date), MAX(attendance_date) FROM attendances",
+                        (rs, rowNum) -> rs.getObject(1) == null ? null
+                                : new LocalDate[]{rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class)})
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT id FROM attendance_daily_rollups LIMIT 1", Long.class).isEmpty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.garmentmanagement.garmentmanagement.Repository;
 
 import com.garmentmanagement.garmentmanagement.Entity.Candidate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,4 +29,7 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 
     @Query("SELECT COUNT(c) FROM Candidate c WHERE c.status = 'NEW'")
     Long countNewCandidates();
+
+    // Paged listing without COUNT query
+    Slice<Candidate> findAllBy(Pageable pageable);
 }
\ No newline at end of file
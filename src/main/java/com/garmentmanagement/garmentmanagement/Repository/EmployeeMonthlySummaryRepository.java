@@ -0,0 +1,28 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.EmployeeMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeMonthlySummaryRepository extends JpaRepository<EmployeeMonthlySummary, Long> {
+
+    Optional<EmployeeMonthlySummary> findByEmployeeIdAndSummaryYearAndSummaryMonth(Long employeeId, Integer year,
+                                                                                   Integer month);
+
+    // Month listing with employee code, name and department in one query
+    @Query("SELECT s, e.employeeId, e.firstName, e.lastName, d.name FROM EmployeeMonthlySummary s, Employee e " +
+            "LEFT JOIN e.department d WHERE e.id = s.employeeId AND s.summaryYear = :year AND s.summaryMonth = :month " +
+            "ORDER BY e.employeeId")
+    List<Object[]> findByMonthWithEmployee(@Param("year") Integer year, @Param("month") Integer month);
+
+    // Payroll present days (present + late) per employee - one row per employee instead of their attendances
+    @Query("SELECT s.employeeId, s.presentDays + s.lateDays FROM EmployeeMonthlySummary s " +
+            "WHERE s.summaryYear = :year AND s.summaryMonth = :month")
+    List<Object[]> findPresentDaysByMonth(@Param("year") Integer year, @Param("month") Integer month);
+}
@@ -1,12 +1,18 @@
 package com.garmentmanagement.garmentmanagement.Repository;
 
+import com.garmentmanagement.garmentmanagement.DTO.AdminDashboardCounts;
+import com.garmentmanagement.garmentmanagement.DTO.EmployeeRef;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +22,17 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     // Basic find methods
     Optional<Employee> findByEmployeeId(String employeeId);
+
+    // Id + display fields only (employee directory, check-in ingest)
+    @Query("SELECT e.id AS id, e.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+            "d.id AS departmentId, d.name AS departmentName, e.status AS status, m.id AS managerId, e.shift AS shift " +
+            "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.manager m WHERE e.employeeId = :employeeId")
+    Optional<EmployeeRef> findRefByEmployeeId(@Param("employeeId") String employeeId);
+
+    @Query("SELECT e.id AS id, e.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+            "d.id AS departmentId, d.name AS departmentName, e.status AS status, m.id AS managerId, e.shift AS shift " +
+            "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.manager m WHERE e.id = :id")
+    Optional<EmployeeRef> findRefById(@Param("id") Long id);
     Optional<Employee> findByEmail(String email);
     Optional<Employee> findByNidNumber(String nidNumber);
 
@@ -54,4 +71,26 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Integer countByDepartmentId(@Param("departmentId") Long departmentId);
 
     Optional<Employee> findByUserId(Long id);
+
+    // ✅ Admin dashboard: every counter in one roundtrip, no rows loaded
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM employees) AS totalEmployees, " +
+            "(SELECT COUNT(*) FROM employees WHERE status = 'ACTIVE') AS activeEmployees, " +
+            "(SELECT COUNT(*) FROM departments) AS totalDepartments, " +
+            "(SELECT COUNT(*) FROM attendances WHERE attendance_date = :today AND status = 'PRESENT') AS presentToday, " +
+            "(SELECT COUNT(*) FROM attendances WHERE attendance_date = :today AND status = 'LATE') AS lateToday, " +
+            "(SELECT COUNT(*) FROM tasks) AS totalTasks, " +
+            "(SELECT COUNT(*) FROM tasks WHERE status = 'COMPLETED') AS completedTasks, " +
+            "(SELECT COUNT(*) FROM tasks WHERE due_date < :today AND status NOT IN ('COMPLETED', 'CANCELLED')) AS overdueTasks, " +
+            "(SELECT COUNT(*) FROM projects) AS totalProjects, " +
+            "(SELECT COUNT(*) FROM projects WHERE status = 'IN_PROGRESS') AS activeProjects, " +
+            "(SELECT COUNT(*) FROM leave_applications WHERE status = 'PENDING') AS pendingLeaves, " +
+            "(SELECT COUNT(*) FROM job_postings WHERE status = 'OPEN') AS openPositions, " +
+            "(SELECT COUNT(*) FROM candidates) AS totalCandidates",
+            nativeQuery = true)
+    AdminDashboardCounts getAdminDashboardCounts(@Param("today") LocalDate today);
+
+    // Paged listing without COUNT query; to-one associations fetched with the page
+    @EntityGraph(attributePaths = {"department", "manager", "user"})
+    Slice<Employee> findAllBy(Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+    List<Holiday> findByHolidayDateBetweenOrderByHolidayDate(LocalDate from, LocalDate to);
+    boolean existsByHolidayDate(LocalDate holidayDate);
+}
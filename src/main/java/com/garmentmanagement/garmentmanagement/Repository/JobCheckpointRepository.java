@@ -0,0 +1,23 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+    Optional<JobCheckpoint> findByJobName(String jobName);
+
+    // Compare-and-set: 0 rows means another instance already moved the checkpoint
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.checkpointDate = :to " +
+            "WHERE c.jobName = :jobName AND c.checkpointDate = :from")
+    int advance(@Param("jobName") String jobName, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,35 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC-batched leave application decisions (bulk approve/reject). Only pending applications change, so a
+ * row decided concurrently by someone else reports 0 updated rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaveApplicationBatchRepository {
+
+    private static final String DECIDE =
+            "UPDATE leave_applications SET status = ?, approved_by = ?, remarks = ?, processed_date = ?, updated_at = ? " +
+                    "WHERE id = ? AND status = 'PENDING'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Updated row count per id, in the order given
+    public int[] decide(List<Long> leaveIds, LeaveApplication.LeaveStatus status, Long approverId, String remarks) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(leaveIds.size());
+        for (Long leaveId : leaveIds) {
+            rows.add(new Object[]{status.name(), approverId, remarks, now, now, leaveId});
+        }
+        return jdbcTemplate.batchUpdate(DECIDE, rows);
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,10 +35,23 @@ public interface LeaveApplicationRepository extends JpaRepository<LeaveApplicati
     // Check for overlapping leaves
     @Query("SELECT la FROM LeaveApplication la WHERE la.employee.id = :employeeId AND " +
             "la.status IN ('PENDING', 'APPROVED') AND " +
-            "((la.startDate BETWEEN :startDate AND :endDate) OR " +
-            "(la.endDate BETWEEN :startDate AND :endDate) OR " +
-            "(:startDate BETWEEN la.startDate AND la.endDate))")
-    List<LeaveApplication> findOverlappingLeaves(Long employeeId, LocalDate startDate, LocalDate endDate);
+            "la.startDate <= :endDate AND la.endDate >= :startDate")
+    List<LeaveApplication> findOverlappingLeaves(@Param("employeeId") Long employeeId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    // Leaves sharing at least one day with [startDate, endDate], served by idx_leave_employee_start
+    @Query("SELECT la FROM LeaveApplication la WHERE la.employee.id = :employeeId AND " +
+            "la.startDate <= :endDate AND la.endDate >= :startDate ORDER BY la.startDate")
+    List<LeaveApplication> findByEmployeeOverlappingRange(@Param("employeeId") Long employeeId,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
+    // [startDate, endDate] pairs for LeaveConflictIndex
+    @Query("SELECT la.startDate, la.endDate FROM LeaveApplication la " +
+            "WHERE la.employee.id = :employeeId AND la.status IN :statuses")
+    List<Object[]> findDateRangesByEmployeeAndStatuses(@Param("employeeId") Long employeeId,
+                                                          @Param("statuses") List<LeaveApplication.LeaveStatus> statuses);
 
     // Count queries for dashboard
     @Query("SELECT COUNT(la) FROM LeaveApplication la WHERE la.status = 'PENDING'")
@@ -45,19 +60,33 @@ public interface LeaveApplicationRepository extends JpaRepository<LeaveApplicati
     @Query("SELECT COUNT(la) FROM LeaveApplication la WHERE la.employee.id = :employeeId AND la.status = 'PENDING'")
     Long countPendingApplicationsByEmployee(Long employeeId);
 
-    // Monthly/yearly reports
+    // Monthly/yearly reports - leaves starting in [startDate, endDate), served by idx_leave_employee_start
     @Query("SELECT la FROM LeaveApplication la WHERE la.employee.id = :employeeId AND " +
-            "YEAR(la.startDate) = :year AND MONTH(la.startDate) = :month")
-    List<LeaveApplication> findByEmployeeAndMonth(Long employeeId, int year, int month);
+            "la.startDate >= :startDate AND la.startDate < :endDate")
+    List<LeaveApplication> findByEmployeeAndStartDateRange(@Param("employeeId") Long employeeId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
+    default List<LeaveApplication> findByEmployeeAndMonth(Long employeeId, int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        return findByEmployeeAndStartDateRange(employeeId, period.atDay(1), period.plusMonths(1).atDay(1));
+    }
 
     // Find by employee and year
-    @Query("SELECT la FROM LeaveApplication la WHERE la.employee.id = :employeeId AND YEAR(la.startDate) = :year")
-    List<LeaveApplication> findByEmployeeAndYear(Long employeeId, int year);
+    default List<LeaveApplication> findByEmployeeAndYear(Long employeeId, int year) {
+        return findByEmployeeAndStartDateRange(employeeId, LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+    }
 
     // Dashboard statistics
     @Query("SELECT la.status, COUNT(la) FROM LeaveApplication la GROUP BY la.status")
     List<Object[]> countLeavesByStatus();
 
+    // Status counts of leaves starting in [startDate, endDate), served by idx_leave_start_status
+    @Query("SELECT la.status, COUNT(la) FROM LeaveApplication la " +
+            "WHERE la.startDate >= :startDate AND la.startDate < :endDate GROUP BY la.status")
+    List<Object[]> countByStatusForStartDateRange(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
     // Upcoming leaves
     @Query("SELECT la FROM LeaveApplication la WHERE la.startDate BETWEEN :startDate AND :endDate AND la.status = 'APPROVED'")
     List<LeaveApplication> findUpcomingLeaves(LocalDate startDate, LocalDate endDate);
@@ -75,6 +104,10 @@ public interface LeaveApplicationRepository extends JpaRepository<LeaveApplicati
     @Query("SELECT la FROM LeaveApplication la WHERE la.status = 'PENDING' ORDER BY la.appliedDate DESC")
     List<LeaveApplication> findPendingLeaves();
 
+    // Bulk decisions: applications with employee and leave type in one query
+    @Query("SELECT la FROM LeaveApplication la JOIN FETCH la.employee JOIN FETCH la.leaveType WHERE la.id IN :ids")
+    List<LeaveApplication> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
     // Fix: Add method to find by status with employee data
     @Query("SELECT la FROM LeaveApplication la JOIN FETCH la.employee JOIN FETCH la.leaveType WHERE la.status = :status")
     List<LeaveApplication> findByStatusWithDetails(@Param("status") LeaveApplication.LeaveStatus status);
@@ -0,0 +1,56 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based yearly leave balance creation. One INSERT ... SELECT creates the balances of an employee id
+ * range for every active leave type; the previous year's balance is joined on (employee, leave type, year)
+ * through uk_leave_balance_employee_type_year for the carry-forward. INSERT IGNORE skips balances that
+ * already exist, so a chunk can be repeated after a crash.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaveBalanceBatchRepository {
+
+    // Employees still on the books
+    private static final String ELIGIBLE = "(e.status IS NULL OR e.status <> 'TERMINATED')";
+
+    // Carry forward = previous remaining days (never negative), capped by the leave type
+    private static final String INSERT_YEAR =
+            "INSERT IGNORE INTO leave_balances (employee_id, leave_type_id, total_days, used_days, remaining_days, " +
+                    "carry_forward_days, year, created_at, updated_at) " +
+                    "SELECT e.id, t.id, COALESCE(t.max_days_per_year, 0), 0, " +
+                    "COALESCE(t.max_days_per_year, 0) + LEAST(GREATEST(COALESCE(p.remaining_days, 0), 0), COALESCE(t.carry_forward_days, 0)), " +
+                    "LEAST(GREATEST(COALESCE(p.remaining_days, 0), 0), COALESCE(t.carry_forward_days, 0)), ?, ?, ? " +
+                    "FROM employees e CROSS JOIN leave_types t " +
+                    "LEFT JOIN leave_balances p ON p.employee_id = e.id AND p.leave_type_id = t.id AND p.year = ? " +
+                    "WHERE t.is_active = true AND e.id > ? AND e.id <= ? AND " + ELIGIBLE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int countEligibleEmployees(long afterEmployeeId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees e WHERE e.id > ? AND " + ELIGIBLE,
+                Integer.class, afterEmployeeId);
+        return count != null ? count : 0;
+    }
+
+    // Next chunk of eligible employee ids after the given one, ascending
+    public List<Long> findEligibleEmployeeIds(long afterEmployeeId, int limit) {
+        return jdbcTemplate.queryForList("SELECT e.id FROM employees e WHERE e.id > ? AND " + ELIGIBLE +
+                " ORDER BY e.id LIMIT ?", Long.class, afterEmployeeId, limit);
+    }
+
+    /**
+     * Creates the year's balances for employees with afterEmployeeId < id <= lastEmployeeId.
+     * Returns the number of balances inserted.
+     */
+    public int insertYear(int year, long afterEmployeeId, long lastEmployeeId) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update(INSERT_YEAR, year, now, now, year - 1, afterEmployeeId, lastEmployeeId);
+    }
+}
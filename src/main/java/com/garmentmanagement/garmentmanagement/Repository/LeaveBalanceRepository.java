@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,6 +66,11 @@ public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long
 
     int countByYear(int currentYear);
 
+    // {employeeId, leaveTypeId, remainingDays} of the given employees' balances for a year (bulk approvals)
+    @Query("SELECT lb.employee.id, lb.leaveType.id, lb.remainingDays FROM LeaveBalance lb " +
+            "WHERE lb.year = :year AND lb.employee.id IN :employeeIds")
+    List<Object[]> findRemainingDays(@Param("year") Integer year, @Param("employeeIds") Collection<Long> employeeIds);
+
 
     Optional<LeaveBalance> findByEmployeeIdAndLeaveTypeId(Long employeeId, Long leaveTypeId);
 
@@ -0,0 +1,113 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.LeaveLedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ledger appends and atomic balance increments for LeaveLedger. A balance changes with one UPDATE that
+ * adds the deltas in the database, so concurrent approvals never overwrite each other and only hold the
+ * row of the affected employee and leave type until commit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaveLedgerRepository {
+
+    private static final String APPEND =
+            "INSERT INTO leave_ledger_entries (employee_id, leave_type_id, ledger_year, leave_application_id, " +
+                    "entry_type, used_delta, total_delta, note, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Refuses a change that lowers remaining days below zero; refunds and increases always apply
+    private static final String APPLY =
+            "UPDATE leave_balances SET used_days = used_days + ?, total_days = total_days + ?, " +
+                    "remaining_days = remaining_days + ?, version = version + 1, updated_at = ? " +
+                    "WHERE employee_id = ? AND leave_type_id = ? AND year = ? AND (? >= 0 OR remaining_days + ? >= 0)";
+
+    private static final String COMPACT_YEAR =
+            "INSERT INTO leave_ledger_entries (employee_id, leave_type_id, ledger_year, entry_type, used_delta, " +
+                    "total_delta, note, created_at, updated_at) " +
+                    "SELECT employee_id, leave_type_id, ledger_year, 'COMPACTED', SUM(used_delta), SUM(total_delta), " +
+                    "CONCAT('Compacted ', COUNT(*), ' entries'), MAX(created_at), ? " +
+                    "FROM leave_ledger_entries WHERE ledger_year = ? AND id <= ? " +
+                    "GROUP BY employee_id, leave_type_id, ledger_year";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Throws DuplicateKeyException when the application already has an entry of this type
+    public void append(Long employeeId, Long leaveTypeId, int year, Long leaveApplicationId,
+                       LeaveLedgerEntry.EntryType entryType, int usedDelta, int totalDelta, String note) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(APPEND, employeeId, leaveTypeId, year, leaveApplicationId, entryType.name(),
+                usedDelta, totalDelta, note, now, now);
+    }
+
+    /**
+     * Batched append of LEAVE_TAKEN/LEAVE_RETURNED entries; rows are {employeeId, leaveTypeId, leaveApplicationId, usedDelta}.
+     * Throws DuplicateKeyException when an application already has an entry of this type.
+     */
+    public void appendAll(int year, LeaveLedgerEntry.EntryType entryType, List<Object[]> entries, String note) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (Object[] entry : entries) {
+            rows.add(new Object[]{entry[0], entry[1], year, entry[2], entryType.name(), entry[3], 0, note, now, now});
+        }
+        jdbcTemplate.batchUpdate(APPEND, rows);
+    }
+
+    /**
+     * Batched used-days increments; rows are {employeeId, leaveTypeId, usedDelta}. Returns the updated row count
+     * per row (0: no balance or it would go negative).
+     */
+    public int[] applyAllToBalances(int year, List<Object[]> increments) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(increments.size());
+        for (Object[] increment : increments) {
+            int usedDelta = (Integer) increment[2];
+            rows.add(new Object[]{usedDelta, 0, -usedDelta, now, increment[0], increment[1], year, -usedDelta, -usedDelta});
+        }
+        return jdbcTemplate.batchUpdate(APPLY, rows);
+    }
+
+    /**
+     * Adds the deltas to the balance. Returns false when there is no balance or it would go negative.
+     */
+    public boolean applyToBalance(Long employeeId, Long leaveTypeId, int year, int usedDelta, int totalDelta) {
+        int remainingDelta = totalDelta - usedDelta;
+        return jdbcTemplate.update(APPLY, usedDelta, totalDelta, remainingDelta, LocalDateTime.now(),
+                employeeId, leaveTypeId, year, remainingDelta, remainingDelta) > 0;
+    }
+
+    // Year the application's approval was charged to; empty when it has no entry (approved before the ledger,
+    // or its year was compacted)
+    public Optional<Integer> findTakenYear(Long leaveApplicationId) {
+        return jdbcTemplate.queryForList("SELECT ledger_year FROM leave_ledger_entries " +
+                        "WHERE leave_application_id = ? AND entry_type = 'LEAVE_TAKEN'", Integer.class, leaveApplicationId)
+                .stream().findFirst();
+    }
+
+    // Years before the given one that still have entries other than COMPACTED
+    public List<Integer> findUncompactedYearsBefore(int year) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT ledger_year FROM leave_ledger_entries " +
+                "WHERE ledger_year < ? AND entry_type <> 'COMPACTED' ORDER BY ledger_year", Integer.class, year);
+    }
+
+    /**
+     * Replaces all entries of a year with one COMPACTED entry per employee and leave type.
+     * Returns the number of entries removed.
+     */
+    public int compactYear(int year) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM leave_ledger_entries WHERE ledger_year = ?",
+                Long.class, year);
+        if (maxId == null) {
+            return 0;
+        }
+        jdbcTemplate.update(COMPACT_YEAR, LocalDateTime.now(), year, maxId);
+        return jdbcTemplate.update("DELETE FROM leave_ledger_entries WHERE ledger_year = ? AND id <= ?", year, maxId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.LeaveRollover;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeaveRolloverRepository extends JpaRepository<LeaveRollover, Long> {
+
+    Optional<LeaveRollover> findByRolloverYear(Integer rolloverYear);
+
+    List<LeaveRollover> findByStatusIn(List<LeaveRollover.RolloverStatus> statuses);
+
+    // Moves the resume point with the chunk's counters, in the chunk's transaction. Compare-and-set:
+    // 0 rows means another instance already moved the resume point past after
+    @Modifying
+    @Query("UPDATE LeaveRollover r SET r.processedCount = r.processedCount + :processed, " +
+            "r.insertedBalances = r.insertedBalances + :inserted, r.lastEmployeeId = :lastEmployeeId " +
+            "WHERE r.id = :id AND r.lastEmployeeId = :after")
+    int recordChunk(@Param("id") Long id,
+                    @Param("after") Long after,
+                    @Param("processed") int processed,
+                    @Param("inserted") int inserted,
+                    @Param("lastEmployeeId") Long lastEmployeeId);
+}
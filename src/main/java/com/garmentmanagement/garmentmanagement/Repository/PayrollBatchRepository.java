@@ -0,0 +1,119 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.Payroll;
+import com.garmentmanagement.garmentmanagement.Entity.Payslip;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch inserts for payroll runs. Payroll ids are IDENTITY generated, which makes Hibernate
+ * insert one row per statement, so bulk runs write payrolls and payslips through JdbcTemplate
+ * instead (one round trip per batch with rewriteBatchedStatements=true on MySQL).
+ */
+@Repository
+@RequiredArgsConstructor
+public class PayrollBatchRepository {
+
+    private static final String INSERT_PAYROLL =
+            "INSERT INTO payrolls (employee_id, pay_period, pay_date, basic_salary, total_allowances, " +
+                    "overtime_pay, bonus, tax_deduction, other_deductions, gross_salary, net_salary, " +
+                    "working_days, present_days, status, remarks, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PAYSLIP =
+            "INSERT INTO payslips (payroll_id, payslip_code, issue_date, is_generated, status, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the payrolls in one JDBC batch and assigns the generated ids back onto the entities.
+     */
+    public void insertPayrolls(List<Payroll> payrolls) {
+        if (payrolls.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_PAYROLL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Payroll payroll = payrolls.get(i);
+                        ps.setLong(1, payroll.getEmployee().getId());
+                        // YearMonth has no dedicated column type - Hibernate stores it serialized
+                        ps.setBytes(2, SerializationHelper.serialize(payroll.getPayPeriod()));
+                        ps.setObject(3, payroll.getPayDate());
+                        ps.setBigDecimal(4, payroll.getBasicSalary());
+                        ps.setBigDecimal(5, payroll.getTotalAllowances());
+                        ps.setBigDecimal(6, payroll.getOvertimePay());
+                        ps.setBigDecimal(7, payroll.getBonus());
+                        ps.setBigDecimal(8, payroll.getTaxDeduction());
+                        ps.setBigDecimal(9, payroll.getOtherDeductions());
+                        ps.setBigDecimal(10, payroll.getGrossSalary());
+                        ps.setBigDecimal(11, payroll.getNetSalary());
+                        ps.setObject(12, payroll.getWorkingDays());
+                        ps.setObject(13, payroll.getPresentDays());
+                        ps.setString(14, payroll.getStatus().name());
+                        ps.setString(15, payroll.getRemarks());
+                        ps.setObject(16, now);
+                        ps.setObject(17, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return payrolls.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < payrolls.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            payrolls.get(i).setId(((Number) key).longValue());
+        }
+    }
+
+    /**
+     * Inserts payslips for already persisted payrolls in one JDBC batch.
+     */
+    public void insertPayslips(List<Payslip> payslips) {
+        if (payslips.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate(INSERT_PAYSLIP, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Payslip payslip = payslips.get(i);
+                ps.setLong(1, payslip.getPayroll().getId());
+                ps.setString(2, payslip.getPayslipCode());
+                ps.setObject(3, payslip.getIssueDate());
+                ps.setBoolean(4, Boolean.TRUE.equals(payslip.getIsGenerated()));
+                ps.setString(5, payslip.getStatus().name());
+                ps.setObject(6, now);
+                ps.setObject(7, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return payslips.size();
+            }
+        });
+    }
+}
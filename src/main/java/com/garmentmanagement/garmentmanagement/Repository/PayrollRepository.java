@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +30,12 @@ public interface PayrollRepository extends JpaRepository<Payroll, Long> {
 
     @Query("SELECT SUM(p.netSalary) FROM Payroll p WHERE p.payPeriod = :payPeriod")
     Double getTotalSalaryExpenseByPeriod(YearMonth payPeriod);
+
+    // Bulk payroll run: employees that already have a payroll for the period
+    @Query("SELECT p.employee.id FROM Payroll p WHERE p.payPeriod = :payPeriod")
+    List<Long> findEmployeeIdsByPayPeriod(YearMonth payPeriod);
+
+    @Query("SELECT p FROM Payroll p JOIN FETCH p.employee e LEFT JOIN FETCH e.department " +
+            "WHERE p.payPeriod = :payPeriod AND e.id IN :employeeIds")
+    List<Payroll> findByPayPeriodAndEmployeeIdIn(YearMonth payPeriod, Collection<Long> employeeIds);
 }
\ No newline at end of file
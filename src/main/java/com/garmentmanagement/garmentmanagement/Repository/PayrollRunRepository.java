@@ -0,0 +1,30 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    List<PayrollRun> findByPayPeriodOrderByIdDesc(YearMonth payPeriod);
+
+    List<PayrollRun> findTop20ByOrderByIdDesc();
+
+    @Query("SELECT COUNT(r) > 0 FROM PayrollRun r WHERE r.payPeriod = :payPeriod AND r.status IN ('QUEUED', 'RUNNING')")
+    boolean existsActiveRunForPeriod(@Param("payPeriod") YearMonth payPeriod);
+
+    // Chunks finish concurrently - counters are incremented in SQL so no update is lost
+    @Modifying
+    @Query("UPDATE PayrollRun r SET r.processedCount = r.processedCount + :processed, " +
+            "r.failedCount = r.failedCount + :failed WHERE r.id = :runId")
+    int incrementProgress(@Param("runId") Long runId,
+                          @Param("processed") int processed,
+                          @Param("failed") int failed);
+}
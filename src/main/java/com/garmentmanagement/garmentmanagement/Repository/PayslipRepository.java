@@ -35,5 +35,14 @@ public interface PayslipRepository extends JpaRepository<Payslip, Long> {
     @Query("SELECT p FROM Payslip p WHERE p.payroll.payPeriod = :payPeriod")
     List<Payslip> findByPayPeriod(@Param("payPeriod") YearMonth payPeriod);
 
+    // ✅ IDs and codes only - used to drive batch PDF export for a pay period
+    @Query("SELECT p.id, p.payslipCode FROM Payslip p WHERE p.payroll.payPeriod = :payPeriod ORDER BY p.id")
+    List<Object[]> findIdAndCodeByPayPeriod(@Param("payPeriod") YearMonth payPeriod);
+
+    // ✅ Payslip with payroll, employee and department loaded in one query (PDF rendering)
+    @Query("SELECT p FROM Payslip p JOIN FETCH p.payroll pr JOIN FETCH pr.employee e " +
+            "LEFT JOIN FETCH e.department WHERE p.id = :id")
+    Optional<Payslip> findByIdWithDetails(@Param("id") Long id);
+
 
 }
\ No newline at end of file
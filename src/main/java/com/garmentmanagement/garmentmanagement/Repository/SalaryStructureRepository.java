@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,11 @@ public interface SalaryStructureRepository extends JpaRepository<SalaryStructure
     Double findAverageSalary();
 
     Optional<SalaryStructure> findByEmployee(Employee employee);
+
+    // Bulk payroll run: structures with their employee in one query
+    @Query("SELECT ss FROM SalaryStructure ss JOIN FETCH ss.employee e WHERE e.id IN :employeeIds")
+    List<SalaryStructure> findByEmployeeIdInWithEmployee(Collection<Long> employeeIds);
+
+    @Query("SELECT ss FROM SalaryStructure ss JOIN FETCH ss.employee e WHERE e.status = :status")
+    List<SalaryStructure> findByEmployeeStatusWithEmployee(Employee.EmployeeStatus status);
 }
\ No newline at end of file
@@ -3,5 +3,9 @@ package com.garmentmanagement.garmentmanagement.Repository;
 import com.garmentmanagement.garmentmanagement.Entity.Shift;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface ShiftRepository extends JpaRepository<Shift,Long> {
+    Optional<Shift> findByCode(String code);
+    boolean existsByCode(String code);
 }
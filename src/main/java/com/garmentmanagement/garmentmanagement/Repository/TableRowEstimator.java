@@ -0,0 +1,58 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Total row counts for paged list endpoints without a full COUNT(*) scan.
+ * Uses InnoDB's table statistics (information_schema.TABLES.TABLE_ROWS), which are approximate;
+ * below paging.exact-count-threshold the exact count is cheap and used instead.
+ * Falls back to the exact count when statistics are unavailable (e.g. non-MySQL databases).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableRowEstimator {
+
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${paging.exact-count-threshold:10000}")
+    private long exactCountThreshold;
+
+    // Statistics only change on ANALYZE / background sampling, no need to hit information_schema per request
+    private final Cache<String, Optional<Long>> estimates = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .build();
+
+    public record RowCount(long value, boolean estimated) {
+    }
+
+    public RowCount count(String tableName, LongSupplier exactCount) {
+        Optional<Long> estimate = estimates.get(tableName, this::readEstimate);
+        if (estimate.isPresent() && estimate.get() >= exactCountThreshold) {
+            return new RowCount(estimate.get(), true);
+        }
+        return new RowCount(exactCount.getAsLong(), false);
+    }
+
+    private Optional<Long> readEstimate(String tableName) {
+        try {
+            List<Long> rows = jdbcTemplate.queryForList(ESTIMATE_SQL, Long.class, tableName);
+            return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+        } catch (DataAccessException e) {
+            return Optional.empty();
+        }
+    }
+}
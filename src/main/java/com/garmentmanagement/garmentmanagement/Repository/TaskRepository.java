@@ -1,7 +1,11 @@
 // Repository: TaskRepository.java
 package com.garmentmanagement.garmentmanagement.Repository;
 
+import com.garmentmanagement.garmentmanagement.DTO.TaskCounts;
 import com.garmentmanagement.garmentmanagement.Entity.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -54,7 +58,21 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
     List<Object[]> countTasksByStatus();
 
+    // Department task counters in one query (manager dashboards)
+    @Query("SELECT COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed, " +
+            "SUM(CASE WHEN t.status = 'PENDING' THEN 1 ELSE 0 END) AS pending, " +
+            "SUM(CASE WHEN t.dueDate < :today AND t.status NOT IN ('COMPLETED', 'CANCELLED') THEN 1 ELSE 0 END) AS overdue, " +
+            "SUM(CASE WHEN t.status = 'OVERDUE' THEN 1 ELSE 0 END) AS markedOverdue, " +
+            "SUM(CASE WHEN t.isUrgent = true THEN 1 ELSE 0 END) AS urgent " +
+            "FROM Task t WHERE t.assignedTo.department.id = :departmentId")
+    TaskCounts getDepartmentTaskCounts(@Param("departmentId") Long departmentId, @Param("today") LocalDate today);
+
     // Upcoming deadlines
     @Query("SELECT t FROM Task t WHERE t.dueDate BETWEEN :startDate AND :endDate AND t.status NOT IN ('COMPLETED', 'CANCELLED')")
     List<Task> findUpcomingTasks(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Paged listing without COUNT query; to-one associations fetched with the page
+    @EntityGraph(attributePaths = {"assignedTo", "assignedTo.department", "assignedBy", "project"})
+    Slice<Task> findAllBy(Pageable pageable);
 }
\ No newline at end of file
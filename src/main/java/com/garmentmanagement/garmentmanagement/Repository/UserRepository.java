@@ -2,6 +2,8 @@ package com.garmentmanagement.garmentmanagement.Repository;
 
 import com.garmentmanagement.garmentmanagement.Entity.Role;
 import com.garmentmanagement.garmentmanagement.Entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -24,4 +26,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // ✅ NEW: Check if username exists for other users (exclude current user)
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.username = :username AND u.id != :excludeUserId")
     boolean existsByUsernameAndIdNot(String username, Long excludeUserId);
+
+    // Paged listing without COUNT query
+    Slice<User> findAllBy(Pageable pageable);
 }
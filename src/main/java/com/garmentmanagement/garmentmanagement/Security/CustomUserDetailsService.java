@@ -2,22 +2,75 @@ package com.garmentmanagement.garmentmanagement.Security;
 
 import com.garmentmanagement.garmentmanagement.Entity.User;
 import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    @Value("${security.principal-cache.ttl-seconds:300}")
+    private long principalCacheTtlSeconds;
+
+    // username -> active user (roles loaded), used by the JWT filter on every request
+    private Cache<String, User> principalCache;
+
+    @PostConstruct
+    void initPrincipalCache() {
+        principalCache = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(principalCacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * Principal lookup for already-authenticated (JWT) requests. Served from memory; the
+     * database is only hit on a miss. Disabled or unknown users are never cached.
+     * security.principal-cache.max-size=0 turns the cache off.
+     */
+    public UserDetails loadPrincipal(String username) throws UsernameNotFoundException {
+        if (principalCacheMaxSize <= 0) {
+            return findActiveUser(username);
+        }
+        return principalCache.get(username, this::findActiveUser);
+    }
+
+    // Call after a user's roles, activation, username or password change.
+    // Also revokes the user's outstanding tokens, whose role claims may now be stale.
+    public void evictPrincipal(String username) {
+        if (username != null) {
+            principalCache.invalidate(username);
+            tokenRevocationStore.revokeIssuedTokens(username);
+        }
+    }
+
+    public void evictAllPrincipals() {
+        principalCache.invalidateAll();
+    }
 
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return findActiveUser(username);
+    }
+
+    private User findActiveUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
 
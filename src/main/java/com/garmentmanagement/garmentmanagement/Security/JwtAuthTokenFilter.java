@@ -1,5 +1,9 @@
 package com.garmentmanagement.garmentmanagement.Security;
 
+import com.garmentmanagement.garmentmanagement.Entity.Role;
+import com.garmentmanagement.garmentmanagement.Entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +18,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,36 +27,85 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // security.jwt.stateless - authorities come from the token's roles claim, no user lookup
+    private final boolean stateless;
+
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        // Times token verification and principal resolution only, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
         try {
             String jwt = parseJwt(request);
 
-            if (jwt != null && jwtTokenUtil.validateToken(jwt)) {
-                String username = jwtTokenUtil.extractUsername(jwt);
+            // Signature is verified once per token; principal comes from the token or the in-memory cache
+            JwtTokenUtil.VerifiedToken token = jwt != null ? jwtTokenUtil.getVerifiedToken(jwt) : null;
 
+            if (token != null) {
+                String username = token.username();
                 log.debug("JWT Token found for user: {}", username);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = resolvePrincipal(token);
+                if (userDetails == null) {
+                    outcome = "revoked";
+                    log.debug("JWT token for user {} has been revoked", username);
+                } else {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Security context set for user: {}", username);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    outcome = "authenticated";
+                    log.debug("Security context set for user: {}", username);
+                }
             } else {
                 log.debug("No valid JWT token found");
             }
         } catch (Exception e) {
+            outcome = "error";
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
+        sample.stop(Timer.builder("security.jwt.filter")
+                .description("JWT authentication filter time")
+                .tag("subsystem", "security")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
 
         filterChain.doFilter(request, response);
     }
 
+    // Returns null when the token was revoked (stateless mode only)
+    private UserDetails resolvePrincipal(JwtTokenUtil.VerifiedToken token) {
+        // Tokens issued before the profile claims existed still go through the user lookup
+        if (!stateless || token.userId() == null) {
+            return userDetailsService.loadPrincipal(token.username());
+        }
+
+        if (tokenRevocationStore.isRevoked(token.username(), token.issuedAtMillis())) {
+            return null;
+        }
+
+        // Detached principal built from claims - same type controllers cast to
+        User user = new User(token.username(), "", token.email(), token.fullName());
+        user.setId(token.userId());
+
+        Set<Role> roles = new HashSet<>();
+        if (StringUtils.hasText(token.roles())) {
+            for (String roleName : token.roles().split(",")) {
+                roles.add(new Role(roleName, null));
+            }
+        }
+        user.setRoles(roles);
+
+        return user;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -60,4 +115,4 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
 
         return null;
     }
-}
\ No newline at end of file
+}
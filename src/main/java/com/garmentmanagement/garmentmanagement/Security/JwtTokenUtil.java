@@ -1,16 +1,26 @@
 package com.garmentmanagement.garmentmanagement.Security;
 
+import com.garmentmanagement.garmentmanagement.Entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -23,8 +33,54 @@ public class JwtTokenUtil {
     @Value("${jwt.expiration:86400}") // 24 hours
     private Long expiration;
 
+    @Value("${jwt.token-cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
+    // Built once - the key and parser are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // SHA-256(token) -> verified claims, each entry expires together with its token
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * Claims of a token whose signature and expiry have been checked.
+     * userId/email/fullName are null for tokens issued before they were added to the claims.
+     */
+    public record VerifiedToken(String username, Long userId, String email, String fullName,
+                                String roles, long issuedAtMillis, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     // Generate token for user
@@ -37,28 +93,84 @@ public class JwtTokenUtil {
                 .collect(Collectors.joining(","));
         claims.put("roles", roles);
 
+        // Profile claims let stateless mode build the principal without a user lookup
+        if (userDetails instanceof User user) {
+            claims.put("uid", user.getId());
+            claims.put("email", user.getEmail());
+            claims.put("name", user.getFullName());
+        }
+
         return createToken(claims, userDetails.getUsername());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
+        long now = System.currentTimeMillis();
+        // iat only has second precision; revocation checks need to order tokens within a second
+        claims.put("iat_ms", now);
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration * 1000))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // ✅ FIXED: Validate token without UserDetails parameter
-    public Boolean validateToken(String token) {
+    /**
+     * Verifies the token and returns its subject, or null when the token is invalid or expired.
+     * The signature is checked once per distinct token; later calls are answered from the cache
+     * until the token's own expiry.
+     */
+    public String getVerifiedUsername(String token) {
+        VerifiedToken verified = getVerifiedToken(token);
+        return verified != null ? verified.username() : null;
+    }
+
+    // Same as getVerifiedUsername, but returns all claims the filter needs
+    public VerifiedToken getVerifiedToken(String token) {
+        String cacheKey = tokenHash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(cacheKey);
+            return null;
+        }
+
+        Claims claims;
         try {
-            final String username = extractUsername(token);
-            return (username != null && !isTokenExpired(token));
-        } catch (Exception e) {
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
             System.err.println("JWT token validation failed: " + e.getMessage());
-            return false;
+            return null;
+        }
+
+        String username = claims.getSubject();
+        Date expiresAt = claims.getExpiration();
+        if (username == null || expiresAt == null) {
+            return null;
         }
+
+        Number userId = claims.get("uid", Number.class);
+        Number issuedAtMillis = claims.get("iat_ms", Number.class);
+        Date issuedAt = claims.getIssuedAt();
+        VerifiedToken verified = new VerifiedToken(
+                username,
+                userId != null ? userId.longValue() : null,
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                claims.get("roles", String.class),
+                issuedAtMillis != null ? issuedAtMillis.longValue() : issuedAt != null ? issuedAt.getTime() : 0L,
+                expiresAt.getTime());
+
+        verifiedTokens.put(cacheKey, verified);
+        return verified;
+    }
+
+    // ✅ FIXED: Validate token without UserDetails parameter
+    public Boolean validateToken(String token) {
+        return getVerifiedUsername(token) != null;
     }
 
     // ✅ Keep the original method for backward compatibility
@@ -83,9 +195,7 @@ public class JwtTokenUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -94,8 +204,17 @@ public class JwtTokenUtil {
         return extractExpiration(token).before(new Date());
     }
 
+    private String tokenHash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     // Get roles from token
     public String getRolesFromToken(String token) {
         return extractClaim(token, claims -> claims.get("roles", String.class));
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,15 @@
 package com.garmentmanagement.garmentmanagement.Security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -12,12 +19,15 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true)
@@ -27,10 +37,21 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthEntryPoint unauthorizedHandler;
     private final JwtTokenUtil jwtTokenUtil;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final MeterRegistry meterRegistry;
+
+    // Opt-in: trust the roles claim instead of loading the user on every request
+    @Value("${security.jwt.stateless:false}")
+    private boolean statelessJwt;
+
+    // Networks (CIDR) the Prometheus scraper may call /actuator/prometheus from without a token
+    @Value("${metrics.scrape.allowed-networks:127.0.0.1/32,::1/128}")
+    private List<String> scrapeNetworks;
 
     @Bean
     public JwtAuthTokenFilter authenticationJwtTokenFilter() {
-        return new JwtAuthTokenFilter(jwtTokenUtil, userDetailsService);
+        return new JwtAuthTokenFilter(jwtTokenUtil, userDetailsService, tokenRevocationStore, statelessJwt,
+                meterRegistry);
     }
 
     @Bean
@@ -67,6 +88,12 @@ public class SecurityConfig {
                         // Swagger/OpenAPI documentation
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
 
+                        // Health (with liveness/readiness probes) is open, Prometheus scrape from the scrape networks
+                        // or for admins, other actuator endpoints are admin only
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/prometheus").access(scrapeAccess())
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // Admin only endpoints
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
@@ -76,12 +103,30 @@ public class SecurityConfig {
                         // Employee endpoints
                         .requestMatchers("/api/employee/**").hasAnyRole("EMPLOYEE", "MANAGER", "HR", "ACCOUNTANT", "ADMIN")
 
+                        // All payslips of a period in one archive: HR/admin only
+                        .requestMatchers("/api/payroll/payslips/period/*/pdf.zip").hasAnyRole("HR", "ADMIN")
+                        // Payslip template recompiles block rendering: admin only; render timings for HR/admin
+                        .requestMatchers("/api/payroll/payslips/template/reload").hasRole("ADMIN")
+                        .requestMatchers("/api/payroll/payslips/render-stats").hasAnyRole("HR", "ADMIN")
+                        // Background payroll runs: HR/admin only
+                        .requestMatchers("/api/payroll/runs", "/api/payroll/runs/**").hasAnyRole("HR", "ADMIN")
                         // ✅ FIXED: Payroll endpoints - use hasAnyAuthority for precise control
                         .requestMatchers("/api/payroll/**").permitAll()
 
                         .requestMatchers("/api/recruitment/**").hasAnyRole("HR", "ADMIN", "MANAGER")
+                        // Yearly balance rollover: HR/admin only
+                        .requestMatchers("/api/leaves/initialize-yearly-balances", "/api/leaves/rollovers/**").hasAnyRole("HR", "ADMIN")
+                        // Bulk leave decisions: approvers only
+                        .requestMatchers("/api/leaves/applications/bulk-approve", "/api/leaves/applications/bulk-reject").hasAnyRole("HR", "ADMIN", "MANAGER")
                         .requestMatchers("/api/leaves/**").hasAnyRole("HR", "ADMIN", "MANAGER", "EMPLOYEE")
                         .requestMatchers("/api/tasks/**").hasAnyRole("MANAGER", "ADMIN", "EMPLOYEE")
+                        .requestMatchers("/api/attendance/admin/**").hasRole("ADMIN")
+                        // Shift definitions: readable by everyone signed in, maintained by HR/admin
+                        .requestMatchers(HttpMethod.GET, "/api/shifts/**").authenticated()
+                        .requestMatchers("/api/shifts/**").hasAnyRole("HR", "ADMIN")
+                        // Company calendar: same split as shifts
+                        .requestMatchers(HttpMethod.GET, "/api/holidays/**").authenticated()
+                        .requestMatchers("/api/holidays/**").hasAnyRole("HR", "ADMIN")
 
                         // Analytics endpoints
                         .requestMatchers("/api/analytics/admin/**").hasRole("ADMIN")
@@ -97,6 +142,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // The remote address is the direct peer: behind a proxy, list the proxy's network
+    private AuthorizationManager<RequestAuthorizationContext> scrapeAccess() {
+        List<IpAddressMatcher> networks = scrapeNetworks.stream()
+                .filter(network -> !network.isBlank())
+                .map(network -> new IpAddressMatcher(network.trim()))
+                .toList();
+        AuthorizationManager<RequestAuthorizationContext> fromScrapeNetwork = (authentication, context) ->
+                new AuthorizationDecision(networks.stream()
+                        .anyMatch(network -> network.matches(context.getRequest().getRemoteAddr())));
+        return AuthorizationManagers.anyOf(fromScrapeNetwork, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
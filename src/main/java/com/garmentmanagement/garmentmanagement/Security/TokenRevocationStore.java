@@ -0,0 +1,45 @@
+package com.garmentmanagement.garmentmanagement.Security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory revocation list for stateless (roles-in-token) authorization.
+ * Records, per username, the millisecond at which outstanding tokens stopped being trusted;
+ * any token issued before it is rejected, so a token issued right after a revocation is accepted. Entries only need to outlive
+ * the longest token lifetime, so they expire after jwt.expiration.
+ * The store is per instance - it is empty after a restart.
+ */
+@Component
+public class TokenRevocationStore {
+
+    @Value("${jwt.expiration:86400}")
+    private Long expiration;
+
+    // username -> epoch millisecond of the last revocation
+    private Cache<String, Long> revokedBefore;
+
+    @PostConstruct
+    void init() {
+        revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(expiration))
+                .build();
+    }
+
+    // Tokens issued before now are no longer accepted for this user
+    public void revokeIssuedTokens(String username) {
+        if (username != null) {
+            revokedBefore.put(username, System.currentTimeMillis());
+        }
+    }
+
+    public boolean isRevoked(String username, long issuedAtMillis) {
+        Long revokedAtMillis = revokedBefore.getIfPresent(username);
+        return revokedAtMillis != null && issuedAtMillis < revokedAtMillis;
+    }
+}
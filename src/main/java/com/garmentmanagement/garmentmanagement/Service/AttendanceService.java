@@ -1,6 +1,8 @@
 package com.garmentmanagement.garmentmanagement.Service;
 
 import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.DTO.MonthlySummaryDto;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.Attendance;
 
 import java.time.LocalDate;
@@ -13,12 +15,14 @@ public interface AttendanceService {
     // ==================== BASIC CRUD OPERATIONS ====================
     AttendanceDto checkIn(String employeeId);
     AttendanceDto checkIn(String employeeId, Double latitude, Double longitude, String deviceType);
+    AttendanceDto checkIn(String employeeId, Double latitude, Double longitude, String deviceType, String idempotencyKey);
 
     AttendanceDto checkOut(String employeeId);
     AttendanceDto checkOut(String employeeId, Double latitude, Double longitude, String deviceType);
 
     AttendanceDto getAttendanceById(Long id);
     List<AttendanceDto> getAllAttendance();
+    PageResponse<AttendanceDto> getAttendancePage(String cursor, Integer size);
     AttendanceDto updateAttendance(Long id, AttendanceDto attendanceDto);
     void deleteAttendance(Long id);
 
@@ -40,4 +44,10 @@ public interface AttendanceService {
 
     Map<String, Object> calculateAttendanceSummary(String employeeId, int year, int month);
 
+    // Precomputed summaries of all employees for a month (closed days only)
+    MonthlySummaryDto getMonthlySummary(int year, int month);
+
+    // Recomputes the daily/monthly attendance rollups for [from, to] (backfill)
+    Map<String, Object> rebuildRollups(LocalDate from, LocalDate to);
+
 }
\ No newline at end of file
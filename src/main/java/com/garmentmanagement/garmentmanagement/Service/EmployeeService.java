@@ -1,6 +1,7 @@
 package com.garmentmanagement.garmentmanagement.Service;
 
 import com.garmentmanagement.garmentmanagement.DTO.EmployeeDto;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,7 @@ public interface EmployeeService {
     EmployeeDto updateEmployee(Long id ,EmployeeDto employeeDto);
     EmployeeDto getEmployeeById(Long id);
     List<EmployeeDto> getAllEmployees();
+    PageResponse<EmployeeDto> getEmployeesPage(Integer page, Integer size, String sortBy, String direction);
     void deleteEmployee(Long id);
     EmployeeDto getEmployeeByEmployeeId(String employeeId);
     List<EmployeeDto> getEmployeesByDepartment(Long departmentId);
@@ -0,0 +1,19 @@
+package com.garmentmanagement.garmentmanagement.Service;
+
+import com.garmentmanagement.garmentmanagement.DTO.HolidayDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface HolidayService {
+
+    // Basic CRUD operations
+    HolidayDto createHoliday(HolidayDto holidayDto);
+    HolidayDto updateHoliday(Long id, HolidayDto holidayDto);
+    List<HolidayDto> getHolidaysByYear(int year);
+    void deleteHoliday(Long id);
+
+    // Calendar queries
+    Map<String, Object> getWorkingDays(LocalDate from, LocalDate to);
+}
@@ -1,5 +1,7 @@
 package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
+import com.garmentmanagement.garmentmanagement.DTO.AdminDashboardCounts;
+import com.garmentmanagement.garmentmanagement.DTO.TaskCounts;
 import com.garmentmanagement.garmentmanagement.Entity.*;
 import com.garmentmanagement.garmentmanagement.Repository.*;
 import com.garmentmanagement.garmentmanagement.Service.AnalyticsService;
@@ -7,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,7 +21,6 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final AttendanceRepository attendanceRepository;
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final LeaveApplicationRepository leaveApplicationRepository;
@@ -25,6 +28,8 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
     private final JobPostingRepository jobPostingRepository;
     private final CandidateRepository candidateRepository;
     private final ApplicationRepository applicationRepository;
+    private final AttendanceRollups attendanceRollups;
+    private final WorkingDayCalendar workingDayCalendar;
 
     // ==================== DASHBOARD ANALYTICS ====================
 
@@ -32,37 +37,36 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
     public Map<String, Object> getAdminDashboard() {
         Map<String, Object> dashboard = new HashMap<>();
 
+        // All counters come from one aggregate query - cost does not grow with table size
+        AdminDashboardCounts counts = employeeRepository.getAdminDashboardCounts(LocalDate.now());
+
         // Employee Statistics
-        dashboard.put("totalEmployees", employeeRepository.count());
-        dashboard.put("activeEmployees", employeeRepository.findByStatus(Employee.EmployeeStatus.ACTIVE).size());
+        dashboard.put("totalEmployees", counts.getTotalEmployees());
+        dashboard.put("activeEmployees", counts.getActiveEmployees());
 
         // Department Statistics
-        dashboard.put("totalDepartments", departmentRepository.count());
+        dashboard.put("totalDepartments", counts.getTotalDepartments());
 
         // Today's Attendance
-        long presentToday = attendanceRepository.findByAttendanceDateAndStatus(
-                LocalDate.now(), Attendance.AttendanceStatus.PRESENT).size();
-        long lateToday = attendanceRepository.findByAttendanceDateAndStatus(
-                LocalDate.now(), Attendance.AttendanceStatus.LATE).size();
-        dashboard.put("presentToday", presentToday);
-        dashboard.put("lateToday", lateToday);
-        dashboard.put("absentToday", getTotalEmployees() - presentToday);
+        dashboard.put("presentToday", counts.getPresentToday());
+        dashboard.put("lateToday", counts.getLateToday());
+        dashboard.put("absentToday", counts.getTotalEmployees() - counts.getPresentToday());
 
         // Task Statistics
-        dashboard.put("totalTasks", taskRepository.count());
-        dashboard.put("completedTasks", taskRepository.findByStatus(Task.TaskStatus.COMPLETED).size());
-        dashboard.put("overdueTasks", taskRepository.findOverdueTasks(LocalDate.now()).size());
+        dashboard.put("totalTasks", counts.getTotalTasks());
+        dashboard.put("completedTasks", counts.getCompletedTasks());
+        dashboard.put("overdueTasks", counts.getOverdueTasks());
 
         // Project Statistics
-        dashboard.put("totalProjects", projectRepository.count());
-        dashboard.put("activeProjects", projectRepository.findByStatus(Project.ProjectStatus.IN_PROGRESS).size());
+        dashboard.put("totalProjects", counts.getTotalProjects());
+        dashboard.put("activeProjects", counts.getActiveProjects());
 
         // Leave Statistics
-        dashboard.put("pendingLeaves", leaveApplicationRepository.countPendingApplications());
+        dashboard.put("pendingLeaves", counts.getPendingLeaves());
 
         // Recruitment Statistics
-        dashboard.put("openPositions", jobPostingRepository.countOpenPositions());
-        dashboard.put("totalCandidates", candidateRepository.count());
+        dashboard.put("openPositions", counts.getOpenPositions());
+        dashboard.put("totalCandidates", counts.getTotalCandidates());
 
         return dashboard;
     }
@@ -75,32 +79,22 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
         Long departmentId = getManagerDepartmentId(managerId);
 
         // Team Statistics
-        List<Employee> teamMembers = employeeRepository.findByDepartmentId(departmentId);
-        dashboard.put("teamSize", teamMembers.size());
+        Integer teamCount = employeeRepository.countByDepartmentId(departmentId);
+        int teamSize = teamCount != null ? teamCount : 0;
+        dashboard.put("teamSize", teamSize);
 
         // Team Task Statistics
-        List<Task> teamTasks = taskRepository.findByDepartmentId(departmentId);
-        dashboard.put("teamTotalTasks", teamTasks.size());
-        dashboard.put("teamCompletedTasks", teamTasks.stream()
-                .filter(task -> task.getStatus() == Task.TaskStatus.COMPLETED)
-                .count());
-        dashboard.put("teamOverdueTasks", teamTasks.stream()
-                .filter(task -> task.getStatus() == Task.TaskStatus.OVERDUE)
-                .count());
-
-        // Team Attendance (Today)
-        long teamPresent = teamMembers.stream()
-                .filter(employee -> {
-                    // Check if employee is present today
-                    return attendanceRepository.findByEmployeeIdAndAttendanceDate(
-                                    employee.getId(), LocalDate.now())
-                            .map(att -> att.getStatus() == Attendance.AttendanceStatus.PRESENT ||
-                                    att.getStatus() == Attendance.AttendanceStatus.LATE)
-                            .orElse(false);
-                })
-                .count();
+        TaskCounts teamTasks = taskRepository.getDepartmentTaskCounts(departmentId, LocalDate.now());
+        dashboard.put("teamTotalTasks", teamTasks.getTotal());
+        dashboard.put("teamCompletedTasks", nullToZero(teamTasks.getCompleted()));
+        dashboard.put("teamOverdueTasks", nullToZero(teamTasks.getMarkedOverdue()));
+
+        // Team Attendance (Today) - status counts for the department from the daily rollup
+        Map<Attendance.AttendanceStatus, Long> todayByStatus = attendanceRollups.statusCounts(departmentId, LocalDate.now());
+        long teamPresent = todayByStatus.get(Attendance.AttendanceStatus.PRESENT)
+                + todayByStatus.get(Attendance.AttendanceStatus.LATE);
         dashboard.put("teamPresentToday", teamPresent);
-        dashboard.put("teamAbsentToday", teamMembers.size() - teamPresent);
+        dashboard.put("teamAbsentToday", teamSize - teamPresent);
 
         return dashboard;
     }
@@ -126,20 +120,12 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
                 .orElse(0.0);
         dashboard.put("averageCompletion", Math.round(avgCompletion * 100.0) / 100.0);
 
-        // Attendance (This Month)
-        LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
-        LocalDate endOfMonth = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
-
-        List<Attendance> monthAttendance = attendanceRepository.findByEmployeeIdAndAttendanceDateBetween(
-                employeeId, startOfMonth, endOfMonth);
-
-        long presentDays = monthAttendance.stream()
-                .filter(att -> att.getStatus() == Attendance.AttendanceStatus.PRESENT ||
-                        att.getStatus() == Attendance.AttendanceStatus.LATE)
-                .count();
+        // Attendance (This Month) - from the monthly rollup
+        AttendanceRollupRepository.MonthlyCounts month = attendanceRollups.monthly(employeeId, YearMonth.now());
+        long presentDays = month.presentDays() + month.lateDays();
 
         dashboard.put("monthlyPresentDays", presentDays);
-        dashboard.put("monthlyWorkingDays", LocalDate.now().getDayOfMonth()); // Approximate
+        dashboard.put("monthlyWorkingDays", workingDayCalendar.workingDays(LocalDate.now().withDayOfMonth(1), LocalDate.now()));
 
         // Leave Balance
         List<LeaveBalance> leaveBalances = leaveBalanceRepository.findByEmployeeIdAndYear(
@@ -211,13 +197,11 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
 
         LocalDate today = LocalDate.now();
 
-        // Today's attendance
-        long present = attendanceRepository.findByAttendanceDateAndStatus(
-                today, Attendance.AttendanceStatus.PRESENT).size();
-        long late = attendanceRepository.findByAttendanceDateAndStatus(
-                today, Attendance.AttendanceStatus.LATE).size();
-        long absent = attendanceRepository.findByAttendanceDateAndStatus(
-                today, Attendance.AttendanceStatus.ABSENT).size();
+        // Today's attendance (daily rollup)
+        Map<Attendance.AttendanceStatus, Long> todayByStatus = attendanceRollups.statusCounts(today);
+        long present = todayByStatus.get(Attendance.AttendanceStatus.PRESENT);
+        long late = todayByStatus.get(Attendance.AttendanceStatus.LATE);
+        long absent = todayByStatus.get(Attendance.AttendanceStatus.ABSENT);
 
         stats.put("presentToday", present);
         stats.put("lateToday", late);
@@ -225,18 +209,11 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
         stats.put("totalMarked", present + late + absent);
 
         // Monthly average
-        LocalDate startOfMonth = today.withDayOfMonth(1);
-        LocalDate endOfMonth = today.withDayOfMonth(today.lengthOfMonth());
-
-        List<Attendance> monthAttendances = attendanceRepository.findByAttendanceDateBetween(
-                startOfMonth, endOfMonth);
+        Map<Attendance.AttendanceStatus, Long> monthByStatus = attendanceRollups.statusCounts(YearMonth.from(today));
+        long totalPresent = monthByStatus.get(Attendance.AttendanceStatus.PRESENT)
+                + monthByStatus.get(Attendance.AttendanceStatus.LATE);
 
-        long totalPresent = monthAttendances.stream()
-                .filter(att -> att.getStatus() == Attendance.AttendanceStatus.PRESENT ||
-                        att.getStatus() == Attendance.AttendanceStatus.LATE)
-                .count();
-
-        int workingDays = today.getDayOfMonth(); // Approximate
+        int workingDays = workingDayCalendar.workingDays(today.withDayOfMonth(1), today);
         double averageAttendance = workingDays > 0 ? (totalPresent * 100.0) / (workingDays * getTotalEmployees()) : 0;
 
         stats.put("monthlyAverageAttendance", Math.round(averageAttendance * 100.0) / 100.0);
@@ -249,21 +226,18 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
         Map<String, Object> trend = new HashMap<>();
 
         // Simple implementation - you can enhance this for daily trends
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = LocalDate.of(year, month, startDate.lengthOfMonth());
-
-        List<Attendance> monthlyAttendance = attendanceRepository.findByAttendanceDateBetween(startDate, endDate);
 
-        long totalPresent = monthlyAttendance.stream()
-                .filter(att -> att.getStatus() == Attendance.AttendanceStatus.PRESENT ||
-                        att.getStatus() == Attendance.AttendanceStatus.LATE)
-                .count();
+        // Day rows of the daily rollup instead of the month's attendances
+        Map<Attendance.AttendanceStatus, Long> monthByStatus = attendanceRollups.statusCounts(YearMonth.of(year, month));
+        long totalPresent = monthByStatus.get(Attendance.AttendanceStatus.PRESENT)
+                + monthByStatus.get(Attendance.AttendanceStatus.LATE);
 
         trend.put("year", year);
         trend.put("month", month);
         trend.put("totalPresent", totalPresent);
-        trend.put("totalWorkingDays", startDate.lengthOfMonth());
-        trend.put("attendanceRate", Math.round((totalPresent * 100.0) / (startDate.lengthOfMonth() * getTotalEmployees())));
+        int workingDays = workingDayCalendar.workingDays(YearMonth.of(year, month));
+        trend.put("totalWorkingDays", workingDays);
+        trend.put("attendanceRate", workingDays > 0 ? Math.round((totalPresent * 100.0) / (workingDays * getTotalEmployees())) : 0);
 
         return trend;
     }
@@ -346,19 +320,17 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
     public Map<String, Object> getLeaveTrend(int year) {
         Map<String, Object> trend = new HashMap<>();
 
-        // Simplified - count leaves by year
-        List<LeaveApplication> yearlyLeaves = leaveApplicationRepository.findAll().stream()
-                .filter(leave -> leave.getStartDate().getYear() == year)
-                .toList();
+        // Leaves starting in the year, counted per status by the database
+        Map<LeaveApplication.LeaveStatus, Long> counts = new EnumMap<>(LeaveApplication.LeaveStatus.class);
+        for (Object[] row : leaveApplicationRepository.countByStatusForStartDateRange(
+                LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1))) {
+            counts.put((LeaveApplication.LeaveStatus) row[0], (Long) row[1]);
+        }
 
         trend.put("year", year);
-        trend.put("totalLeaves", yearlyLeaves.size());
-        trend.put("approvedLeaves", yearlyLeaves.stream()
-                .filter(leave -> leave.getStatus() == LeaveApplication.LeaveStatus.APPROVED)
-                .count());
-        trend.put("pendingLeaves", yearlyLeaves.stream()
-                .filter(leave -> leave.getStatus() == LeaveApplication.LeaveStatus.PENDING)
-                .count());
+        trend.put("totalLeaves", counts.values().stream().mapToLong(Long::longValue).sum());
+        trend.put("approvedLeaves", counts.getOrDefault(LeaveApplication.LeaveStatus.APPROVED, 0L));
+        trend.put("pendingLeaves", counts.getOrDefault(LeaveApplication.LeaveStatus.PENDING, 0L));
 
         return trend;
     }
@@ -387,6 +359,10 @@ public class AnalyticsServiceImplementation implements AnalyticsService {
 
     // ==================== HELPER METHODS ====================
 
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     private long getTotalEmployees() {
         return employeeRepository.count();
     }
@@ -0,0 +1,186 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Keeps the attendance rollups (date x department x status, and employee x month in
+ * employee_monthly_summaries) in step with attendances, so analytics, monthly summaries and payroll
+ * read a few rows per day or month instead of every punch.
+ *
+ * Single-row writes (check-in/out, manual edits) apply a delta in the caller's transaction: take a
+ * {@link #snapshot} before the change and pass it to {@link #applyChange} with the saved row.
+ * Batch inserts pass the rows they created to {@link #addAll} (or {@link #addCheckIns} when they also
+ * took over absences), which applies the summed deltas.
+ * Nothing on the write path recomputes days, so writers only ever add to rollup rows.
+ *
+ * Days are counted under the department stored on the attendance row, so a later transfer moves
+ * neither the row's past count nor the delta of a later edit. {@link #rebuild} is for backfill and repair.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceRollups {
+
+    private final AttendanceRollupRepository rollupRepository;
+    private final EmployeeDirectory employeeDirectory;
+
+    // The rollup-relevant part of an attendance row
+    public record Snapshot(Long employeeId, Long departmentId, LocalDate date, Attendance.AttendanceStatus status,
+                           double hours) {
+    }
+
+    public static Snapshot snapshot(Attendance attendance) {
+        if (attendance == null || attendance.getEmployee() == null || attendance.getStatus() == null) {
+            return null;
+        }
+        return new Snapshot(attendance.getEmployee().getId(), attendance.getDepartmentId(),
+                attendance.getAttendanceDate(), attendance.getStatus(),
+                attendance.getTotalHours() != null ? attendance.getTotalHours() : 0.0);
+    }
+
+    /**
+     * Moves the counts from before to after; either may be null (insert / delete).
+     */
+    public void applyChange(Snapshot before, Snapshot after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+    }
+
+    private void apply(Snapshot row, int sign) {
+        rollupRepository.adjustDaily(row.date(), departmentOf(row), row.status(), sign);
+        rollupRepository.adjustMonthly(row.employeeId(), row.date().getYear(), row.date().getMonthValue(),
+                row.status(), sign, sign * row.hours());
+    }
+
+    private long departmentOf(Snapshot row) {
+        if (row.departmentId() != null) {
+            return row.departmentId();
+        }
+        // Rows from before the department was kept on the attendance count under the current one
+        EmployeeDirectory.Entry employee = employeeDirectory.getById(row.employeeId());
+        return employee != null && employee.departmentId() != null ? employee.departmentId() : 0L;
+    }
+
+    /**
+     * Adds a batch of newly inserted attendances: the rows are summed per rollup key and written as
+     * one batched upsert per rollup, in the caller's transaction.
+     */
+    public void addAll(List<Attendance> inserted) {
+        addCheckIns(inserted, List.of());
+    }
+
+    /**
+     * Like {@link #addAll}, and also counts the upgraded check-ins, which were stored over an auto-marked
+     * absence, out of the absent count that absence was added to.
+     */
+    public void addCheckIns(List<Attendance> inserted, List<Attendance> upgraded) {
+        Map<AttendanceRollupRepository.DailyKey, Integer> daily = new HashMap<>();
+        Map<AttendanceRollupRepository.MonthlyKey, AttendanceRollupRepository.MonthlyCounts> monthly = new HashMap<>();
+        for (Attendance attendance : upgraded) {
+            Snapshot row = snapshot(attendance);
+            if (row != null) {
+                merge(daily, monthly, new Snapshot(row.employeeId(), row.departmentId(), row.date(),
+                        Attendance.AttendanceStatus.ABSENT, 0.0), -1);
+                merge(daily, monthly, row, 1);
+            }
+        }
+        for (Attendance attendance : inserted) {
+            Snapshot row = snapshot(attendance);
+            if (row != null) {
+                merge(daily, monthly, row, 1);
+            }
+        }
+        rollupRepository.addDaily(daily);
+        rollupRepository.addMonthly(monthly);
+    }
+
+    private void merge(Map<AttendanceRollupRepository.DailyKey, Integer> daily,
+                       Map<AttendanceRollupRepository.MonthlyKey, AttendanceRollupRepository.MonthlyCounts> monthly,
+                       Snapshot row, int sign) {
+        daily.merge(new AttendanceRollupRepository.DailyKey(row.date(), departmentOf(row), row.status()), sign,
+                Integer::sum);
+        monthly.merge(new AttendanceRollupRepository.MonthlyKey(row.employeeId(), row.date().getYear(),
+                        row.date().getMonthValue()),
+                AttendanceRollupRepository.MonthlyCounts.of(row.status(), sign, sign * row.hours()),
+                AttendanceRollupRepository.MonthlyCounts::plus);
+    }
+
+    /**
+     * Adds the attendances a set-based insert created for the day (all stamped with createdAt).
+     */
+    @Transactional
+    public void addCreated(LocalDate date, LocalDateTime createdAt) {
+        rollupRepository.addCreated(date, createdAt);
+    }
+
+    /**
+     * Recomputes all rollups for [from, to] from the attendance rows (backfill, repair after transfers).
+     * Monthly rollups are rebuilt for whole months.
+     */
+    @Transactional
+    public Map<String, Object> rebuild(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("Rebuild range end is before its start");
+        }
+        long started = System.nanoTime();
+        rollupRepository.fillMissingDepartments(from, to.plusDays(1));
+        int dailyRows = rollupRepository.rebuildDaily(from, to.plusDays(1));
+        int monthlyRows = rollupRepository.rebuildMonthly(from, to.plusDays(1), null);
+        long tookMs = (System.nanoTime() - started) / 1_000_000;
+        log.info("Attendance rollups rebuilt for {} .. {}: {} daily, {} monthly rows in {} ms",
+                from, to, dailyRows, monthlyRows, tookMs);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("from", from);
+        result.put("to", to);
+        result.put("dailyRows", dailyRows);
+        result.put("monthlyRows", monthlyRows);
+        result.put("tookMs", tookMs);
+        return result;
+    }
+
+    // First start with existing attendances (or rollups dropped): backfill everything once (startup task)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (!rollupRepository.isEmpty()) {
+            return;
+        }
+        rollupRepository.findAttendanceDateRange().ifPresent(range -> rebuild(range[0], range[1]));
+    }
+
+    // ==================== READS ====================
+
+    public Map<Attendance.AttendanceStatus, Long> statusCounts(LocalDate date) {
+        return rollupRepository.statusCounts(null, date, date.plusDays(1));
+    }
+
+    public Map<Attendance.AttendanceStatus, Long> statusCounts(Long departmentId, LocalDate date) {
+        return rollupRepository.statusCounts(departmentId, date, date.plusDays(1));
+    }
+
+    public Map<Attendance.AttendanceStatus, Long> statusCounts(YearMonth month) {
+        return rollupRepository.statusCounts(null, month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    public AttendanceRollupRepository.MonthlyCounts monthly(Long employeeId, YearMonth month) {
+        return rollupRepository.findMonthly(employeeId, month.getYear(), month.getMonthValue())
+                .orElse(new AttendanceRollupRepository.MonthlyCounts(0, 0, 0, 0, 0.0));
+    }
+}
@@ -1,20 +1,28 @@
 package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
 import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.DTO.EmployeeMonthlySummaryDto;
+import com.garmentmanagement.garmentmanagement.DTO.MonthlySummaryDto;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.Attendance;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.EmployeeMonthlySummary;
+import com.garmentmanagement.garmentmanagement.Mapper.AttendanceMapper;
 import com.garmentmanagement.garmentmanagement.Repository.AttendanceRepository;
 import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
+import com.garmentmanagement.garmentmanagement.Repository.TableRowEstimator;
 import com.garmentmanagement.garmentmanagement.Service.AttendanceService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,12 +36,14 @@ public class AttendanceServiceImplementation implements AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
     private final EmployeeRepository employeeRepository;
-    private final ModelMapper modelMapper;
+    private final EmployeeDirectory employeeDirectory;
+    private final AttendanceMapper attendanceMapper;
     private final LocationVerificationService locationService;
-
-    private final LocalTime SHIFT_START = LocalTime.of(9, 0); // 9 am
-    private final LocalTime SHIFT_END = LocalTime.of(18, 0);
-    private final int GRACE_PERIOD = 15;
+    private final TableRowEstimator tableRowEstimator;
+    private final CheckInIngestQueue checkInIngestQueue;
+    private final AttendanceRollups attendanceRollups;
+    private final EmployeeMonthlySummaries employeeMonthlySummaries;
+    private final ShiftCatalog shiftCatalog;
 
     @Override
     public AttendanceDto checkIn(String employeeId) {
@@ -43,17 +53,32 @@ public class AttendanceServiceImplementation implements AttendanceService {
 
     @Override
     public AttendanceDto checkIn(String employeeId, Double latitude, Double longitude, String deviceType) {
+        return checkIn(employeeId, latitude, longitude, deviceType, null);
+    }
+
+    @Override
+    public AttendanceDto checkIn(String employeeId, Double latitude, Double longitude, String deviceType,
+                                 String idempotencyKey) {
         // 1. Find employee by business ID
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        // 2. Check if already checked in today
-        LocalDate today = LocalDate.now();
-        if (attendanceRepository.existsByEmployeeIdAndAttendanceDate(employee.getId(), today)) {
+        // 2. Shift day and status from the cached shift index (no DB calls)
+        Attendance attendance = newCheckIn(employee, LocalDateTime.now(), latitude, longitude, deviceType);
+
+        // Burst mode: validate in memory, journal + queue, stored by the batch writer
+        if (checkInIngestQueue.isEnabled()) {
+            return checkInIngestQueue.submit(employeeId, attendance, idempotencyKey);
+        }
+
+        // 3. Check if already checked in for this shift day (an auto-marked absence is taken over)
+        Optional<Attendance> existing =
+                attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.id(), attendance.getAttendanceDate());
+        if (existing.isPresent() && !isMarkedAbsent(existing.get())) {
             throw new RuntimeException("Already checked in for today");
         }
 
-        // 3. Verify location if coordinates provided
+        // 4. Verify location if coordinates provided
 //        boolean isLocationVerified = false;
 //        if (latitude != null && longitude != null) {
 //            isLocationVerified = locationService.isWithinOfficeRadius(latitude, longitude);
@@ -61,13 +86,50 @@ public class AttendanceServiceImplementation implements AttendanceService {
 //                throw new RuntimeException("You must be within office premises to check-in");
 //            }
 //        }
+
+        // 5. Store the new attendance record
+        return convertToDto(storeCheckIn(employee, attendance, existing.orElse(null)));
+    }
+
+    // Written by the absent marking and not checked into since
+    private static boolean isMarkedAbsent(Attendance attendance) {
+        return attendance.getStatus() == Attendance.AttendanceStatus.ABSENT && attendance.getCheckinTime() == null;
+    }
+
+    // Saves the check-in as a new row, or over the day's auto-marked absence (which keeps its department)
+    private Attendance storeCheckIn(EmployeeDirectory.Entry employee, Attendance checkIn, Attendance absent) {
+        if (absent == null) {
+            checkIn.setEmployee(employeeRepository.getReferenceById(employee.id()));
+            Attendance saved = attendanceRepository.save(checkIn);
+            attendanceRollups.applyChange(null, AttendanceRollups.snapshot(saved));
+            return saved;
+        }
+        AttendanceRollups.Snapshot before = AttendanceRollups.snapshot(absent);
+        absent.setCheckinTime(checkIn.getCheckinTime());
+        absent.setStatus(checkIn.getStatus());
+        absent.setRemarks(checkIn.getRemarks());
+        absent.setTotalHours(checkIn.getTotalHours());
+        absent.setCheckinLatitude(checkIn.getCheckinLatitude());
+        absent.setCheckinLongitude(checkIn.getCheckinLongitude());
+        absent.setLocationVerified(checkIn.getLocationVerified());
+        absent.setDeviceType(checkIn.getDeviceType());
+        absent.setIpAddress(checkIn.getIpAddress());
+        Attendance saved = attendanceRepository.save(absent);
+        attendanceRollups.applyChange(before, AttendanceRollups.snapshot(saved));
+        return saved;
+    }
+
+    // Check-in record without employee (shared by the direct and the queued path)
+    private Attendance newCheckIn(EmployeeDirectory.Entry employee, LocalDateTime punch, Double latitude,
+                                  Double longitude, String deviceType) {
         boolean isLocationVerified = true;
+        // Punches after midnight of an overnight shift belong to the day the shift started
+        ShiftIndex.ShiftDay shiftDay = shiftCatalog.index().resolve(employee.shift(), punch);
 
-        // 4. Create new attendance record
         Attendance attendance = new Attendance();
-        attendance.setEmployee(employee);
-        attendance.setAttendanceDate(today);
-        attendance.setCheckinTime(LocalTime.now());
+        attendance.setDepartmentId(employee.departmentId());
+        attendance.setAttendanceDate(shiftDay.date());
+        attendance.setCheckinTime(punch.toLocalTime());
 
         // Set location data if available
         if (latitude != null && longitude != null) {
@@ -79,17 +141,14 @@ public class AttendanceServiceImplementation implements AttendanceService {
         attendance.setDeviceType(deviceType != null ? deviceType : "DESKTOP");
         attendance.setIpAddress(getClientIP());
 
-        // 5. Calculate status based on check-in time
-        LocalTime currentTime = LocalTime.now();
-        attendance.setStatus(calculateStatus(currentTime));
+        // Calculate status based on the shift's start and grace period
+        attendance.setStatus(shiftDay.checkInStatus(punch));
 
-        // 6. Set initial values
+        // Set initial values
         attendance.setRemarks("Auto check-in" +
                 (isLocationVerified ? " with location verification" : ""));
         attendance.setTotalHours(0.0);
-
-        Attendance savedAttendance = attendanceRepository.save(attendance);
-        return convertToDto(savedAttendance);
+        return attendance;
     }
 
     @Override
@@ -100,12 +159,12 @@ public class AttendanceServiceImplementation implements AttendanceService {
 
     @Override
     public AttendanceDto checkOut(String employeeId, Double latitude, Double longitude, String deviceType) {
-        // 1. Find today's attendance
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        // 1. Find the current shift day's attendance
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        LocalDate today = LocalDate.now();
-        Attendance attendance = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.getId(), today)
+        LocalDateTime now = LocalDateTime.now();
+        Attendance attendance = findShiftAttendance(employee, now)
                 .orElseThrow(() -> new RuntimeException("No check-in found for today"));
 
         // 2. Check if already checked out
@@ -113,8 +172,10 @@ public class AttendanceServiceImplementation implements AttendanceService {
             throw new RuntimeException("Already checked out for today");
         }
 
+        AttendanceRollups.Snapshot before = AttendanceRollups.snapshot(attendance);
+
         // 3. Set check-out time
-        attendance.setCheckoutTime(LocalTime.now());
+        attendance.setCheckoutTime(now.toLocalTime());
 
         // 4. Set location data for check-out if available
         if (latitude != null && longitude != null) {
@@ -132,14 +193,12 @@ public class AttendanceServiceImplementation implements AttendanceService {
             attendance.setDeviceType(deviceType);
         }
 
-        // 5. Calculate total working hours
-        if (attendance.getCheckinTime() != null && attendance.getCheckoutTime() != null) {
-            Duration duration = Duration.between(attendance.getCheckinTime(), attendance.getCheckoutTime());
-            double hours = duration.toMinutes() / 60.0;
-            attendance.setTotalHours(hours);
+        // 5. Calculate total working hours and overtime against the shift
+        if (attendance.getCheckinTime() != null) {
+            ShiftIndex.ShiftDay shiftDay = setWorkedHours(attendance, employee);
 
             // 6. Update status for half-day
-            if (hours < 4.0) {
+            if (shiftDay.isHalfDay(attendance.getTotalHours())) {
                 attendance.setStatus(Attendance.AttendanceStatus.HALF_DAY);
             }
         }
@@ -149,105 +208,95 @@ public class AttendanceServiceImplementation implements AttendanceService {
         attendance.setRemarks(attendance.getRemarks() + " | Auto check-out" + locationRemark);
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        attendanceRollups.applyChange(before, AttendanceRollups.snapshot(savedAttendance));
         return convertToDto(savedAttendance);
     }
 
     @Override
     public AttendanceDto getTodayAttendance(String employeeId) {
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
         LocalDate today = LocalDate.now();
-        Optional<Attendance> attendanceOpt = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.getId(), today);
-
-        if (attendanceOpt.isPresent()) {
-            return convertToDto(attendanceOpt.get());
-        } else {
-            // Auto-create ABSENT record if no check-in by 10 AM
-            LocalTime currentTime = LocalTime.now();
-            if (currentTime.isAfter(LocalTime.of(10, 0))) {
-                Attendance absentAttendance = new Attendance();
-                absentAttendance.setEmployee(employee);
-                absentAttendance.setAttendanceDate(today);
-                absentAttendance.setStatus(Attendance.AttendanceStatus.ABSENT);
-                absentAttendance.setRemarks("Auto-marked absent - No check-in");
-                absentAttendance.setTotalHours(0.0);
-                absentAttendance.setLocationVerified(false);
-
-                Attendance saved = attendanceRepository.save(absentAttendance);
-                return convertToDto(saved);
-            }
+        Optional<Attendance> attendanceOpt = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.id(), today);
 
-            return null; // No attendance record yet
-        }
+        // Absent records are created by AutoAbsentJob once the shift cutoff has passed
+        return attendanceOpt.map(this::convertToDto).orElse(null);
     }
 
     @Override
     public Map<String, Object> calculateAttendanceSummary(String employeeId, int year, int month) {
-        // Get monthly attendance for the employee
-        List<AttendanceDto> monthlyAttendance = getMonthlyAttendance(employeeId, year, month);
-
-        // Calculate counts for each status
-        long totalPresent = monthlyAttendance.stream()
-                .filter(a -> "PRESENT".equals(a.getStatus()))
-                .count();
-
-        long totalLate = monthlyAttendance.stream()
-                .filter(a -> "LATE".equals(a.getStatus()))
-                .count();
-
-        long totalAbsent = monthlyAttendance.stream()
-                .filter(a -> "ABSENT".equals(a.getStatus()))
-                .count();
-
-        long totalHalfDay = monthlyAttendance.stream()
-                .filter(a -> "HALF_DAY".equals(a.getStatus()))
-                .count();
-
-        // Calculate total working days in the month
-        int totalWorkingDays = getWorkingDaysInMonth(year, month);
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
+                .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
 
-        // Calculate attendance percentage
-        double attendancePercentage = 0.0;
-        if (totalWorkingDays > 0) {
-            attendancePercentage = (double) (totalPresent + totalLate + totalHalfDay) / totalWorkingDays * 100;
-        }
+        // Precomputed summary of the month, today included
+        YearMonth period = YearMonth.of(year, month);
+        EmployeeMonthlySummary summary = employeeMonthlySummaries.find(employee.id(), period)
+                .orElseGet(EmployeeMonthlySummary::new);
+        int workingDays = employeeMonthlySummaries.workingDays(period);
 
         // Create summary map
-        Map<String, Object> summary = new HashMap<>();
-        summary.put("employeeId", employeeId);
-        summary.put("year", year);
-        summary.put("month", month);
-        summary.put("totalPresent", totalPresent);
-        summary.put("totalLate", totalLate);
-        summary.put("totalAbsent", totalAbsent);
-        summary.put("totalHalfDay", totalHalfDay);
-        summary.put("totalWorkingDays", totalWorkingDays);
-        summary.put("attendancePercentage", Math.round(attendancePercentage * 100.0) / 100.0);
-
-        return summary;
+        Map<String, Object> result = new HashMap<>();
+        result.put("employeeId", employeeId);
+        result.put("year", year);
+        result.put("month", month);
+        result.put("totalPresent", (long) summary.getPresentDays());
+        result.put("totalLate", (long) summary.getLateDays());
+        result.put("totalAbsent", (long) summary.getAbsentDays());
+        result.put("totalHalfDay", (long) summary.getHalfDays());
+        result.put("totalWorkingDays", workingDays);
+        result.put("attendancePercentage", EmployeeMonthlySummaries.attendanceRate(summary, workingDays));
+        result.put("totalHours", summary.getTotalHours());
+        result.put("closedThrough", employeeMonthlySummaries.through(period));
+
+        return result;
     }
 
-    private int getWorkingDaysInMonth(int year, int month) {
-        // Simple implementation - exclude weekends
-        LocalDate start = LocalDate.of(year, month, 1);
-        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+    @Override
+    @Transactional(readOnly = true)
+    public MonthlySummaryDto getMonthlySummary(int year, int month) {
+        YearMonth period = YearMonth.of(year, month);
+        MonthlySummaryDto result = new MonthlySummaryDto();
+        result.setYear(year);
+        result.setMonth(month);
+        result.setTotalWorkingDays(employeeMonthlySummaries.workingDays(period));
+        result.setClosedThrough(employeeMonthlySummaries.through(period));
+
+        List<EmployeeMonthlySummaryDto> employees = new ArrayList<>();
+        int attended = 0;
+        for (Object[] row : employeeMonthlySummaries.findMonth(period)) {
+            EmployeeMonthlySummary summary = (EmployeeMonthlySummary) row[0];
+            EmployeeMonthlySummaryDto dto = attendanceMapper.toDto(summary);
+            dto.setTotalWorkingDays(result.getTotalWorkingDays());
+            dto.setAttendanceRate(EmployeeMonthlySummaries.attendanceRate(summary, result.getTotalWorkingDays()));
+            dto.setClosedThrough(result.getClosedThrough());
+            dto.setEmployeeId((String) row[1]);
+            dto.setEmployeeName(row[2] + " " + row[3]);
+            dto.setDepartmentName((String) row[4]);
+            employees.add(dto);
+
+            result.setTotalPresent(result.getTotalPresent() + summary.getPresentDays());
+            result.setTotalLate(result.getTotalLate() + summary.getLateDays());
+            result.setTotalAbsent(result.getTotalAbsent() + summary.getAbsentDays());
+            result.setTotalHalfDay(result.getTotalHalfDay() + summary.getHalfDays());
+            attended += summary.getPresentDays() + summary.getLateDays() + summary.getHalfDays();
+        }
+        result.setTotalEmployees(employees.size());
+        result.setEmployeeSummaries(employees);
 
-        int workingDays = 0;
-        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
-                workingDays++;
-            }
+        long possible = (long) employees.size() * result.getTotalWorkingDays();
+        if (possible > 0) {
+            result.setAttendanceRate(Math.round(attended * 10000.0 / possible) / 100.0);
         }
-        return workingDays;
+        return result;
     }
 
     @Override
     public List<AttendanceDto> getEmployeeAttendanceHistory(String employeeId, LocalDate startDate, LocalDate endDate) {
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
 
-        return attendanceRepository.findByEmployeeIdAndAttendanceDateBetween(employee.getId(), startDate, endDate)
+        return attendanceRepository.findByEmployeeIdAndAttendanceDateBetween(employee.id(), startDate, endDate)
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -255,10 +304,10 @@ public class AttendanceServiceImplementation implements AttendanceService {
 
     @Override
     public List<AttendanceDto> getMonthlyAttendance(String employeeId, int year, int month) {
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
 
-        return attendanceRepository.findByEmployeeIdAndMonth(employee.getId(), year, month)
+        return attendanceRepository.findByEmployeeIdAndMonth(employee.id(), year, month)
                 .stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
@@ -282,44 +331,52 @@ public class AttendanceServiceImplementation implements AttendanceService {
 
     @Override
     public AttendanceDto manualCheckIn(String employeeId, LocalTime checkInTime) {
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
 
-        LocalDate today = LocalDate.now();
+        if (checkInTime == null) {
+            throw new RuntimeException("Check-in time is required");
+        }
+        LocalDateTime punch = LocalDate.now().atTime(checkInTime);
+        ShiftIndex.ShiftDay shiftDay = shiftCatalog.index().resolve(employee.shift(), punch);
 
-        // Check if already checked in today
-        if (attendanceRepository.existsByEmployeeIdAndAttendanceDate(employee.getId(), today)) {
+        // Check if already checked in for this shift day (an auto-marked absence is taken over)
+        Optional<Attendance> existing =
+                attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.id(), shiftDay.date());
+        if (existing.isPresent() && !isMarkedAbsent(existing.get())) {
             throw new RuntimeException("Employee already checked in today");
         }
 
         Attendance attendance = new Attendance();
-        attendance.setEmployee(employee);
-        attendance.setAttendanceDate(today);
+        attendance.setDepartmentId(employee.departmentId());
+        attendance.setAttendanceDate(shiftDay.date());
         attendance.setCheckinTime(checkInTime);
-        attendance.setStatus(calculateStatus(checkInTime));
+        attendance.setStatus(shiftDay.checkInStatus(punch));
         attendance.setRemarks("Manual check-in by admin");
         attendance.setDeviceType("ADMIN");
         attendance.setLocationVerified(false);
 
-        Attendance saved = attendanceRepository.save(attendance);
-        return convertToDto(saved);
+        return convertToDto(storeCheckIn(employee, attendance, existing.orElse(null)));
     }
 
     @Override
     public AttendanceDto manualCheckOut(String employeeId, LocalTime checkOutTime) {
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
+        EmployeeDirectory.Entry employee = Optional.ofNullable(employeeDirectory.findByEmployeeId(employeeId))
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
 
-        LocalDate today = LocalDate.now();
-
-        Attendance attendance = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.getId(), today)
+        if (checkOutTime == null) {
+            throw new RuntimeException("Check-out time is required");
+        }
+        Attendance attendance = findShiftAttendance(employee, LocalDate.now().atTime(checkOutTime))
                 .orElseThrow(() -> new RuntimeException("No check-in found for today"));
+        AttendanceRollups.Snapshot before = AttendanceRollups.snapshot(attendance);
 
         attendance.setCheckoutTime(checkOutTime);
-        attendance.setTotalHours(calculateTotalHours(attendance.getCheckinTime(), checkOutTime));
+        setWorkedHours(attendance, employee);
         attendance.setRemarks("Manual check-out by admin");
 
         Attendance updated = attendanceRepository.save(attendance);
+        attendanceRollups.applyChange(before, AttendanceRollups.snapshot(updated));
         return convertToDto(updated);
     }
 
@@ -338,13 +395,41 @@ public class AttendanceServiceImplementation implements AttendanceService {
                 .collect(Collectors.toList());
     }
 
+    // Keyset paging (newest first) - attendances is append-heavy, so OFFSET would scan ever more rows
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<AttendanceDto> getAttendancePage(String cursor, Integer size) {
+        int pageSize = Paging.pageSize(size);
+        long beforeId;
+        try {
+            beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid attendance cursor: " + cursor);
+        }
+
+        // One extra row tells us whether another page exists
+        List<Attendance> rows = attendanceRepository.findPageBefore(beforeId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? String.valueOf(rows.get(rows.size() - 1).getId()) : null;
+        TableRowEstimator.RowCount total = tableRowEstimator.count("attendances", attendanceRepository::count);
+
+        List<AttendanceDto> content = rows.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        return PageResponse.keyset(content, pageSize, nextCursor, total.value(), total.estimated());
+    }
+
     @Override
     public AttendanceDto updateAttendance(Long id, AttendanceDto attendanceDto) {
         Attendance existing = attendanceRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Attendance not found with id: " + id));
+        AttendanceRollups.Snapshot before = AttendanceRollups.snapshot(existing);
 
-        // Use ModelMapper for basic fields
-        modelMapper.map(attendanceDto, existing);
+        // Basic fields (null values keep the stored ones)
+        attendanceMapper.copyToEntity(attendanceDto, existing);
 
         // Manual handle for enum and relationships
         if (attendanceDto.getStatus() != null) {
@@ -352,6 +437,7 @@ public class AttendanceServiceImplementation implements AttendanceService {
         }
 
         Attendance updated = attendanceRepository.save(existing);
+        attendanceRollups.applyChange(before, AttendanceRollups.snapshot(updated));
         return convertToDto(updated);
     }
 
@@ -360,54 +446,64 @@ public class AttendanceServiceImplementation implements AttendanceService {
         Attendance attendance = attendanceRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Attendance not found with id: " + id));
         attendanceRepository.delete(attendance);
+        attendanceRollups.applyChange(AttendanceRollups.snapshot(attendance), null);
+    }
+
+    @Override
+    public Map<String, Object> rebuildRollups(LocalDate from, LocalDate to) {
+        return attendanceRollups.rebuild(from, to);
     }
 
     @Override
     public Integer getTodayPresentCount() {
-        List<Attendance> todayPresent = attendanceRepository.findByAttendanceDateAndStatus(
-                LocalDate.now(),
-                Attendance.AttendanceStatus.PRESENT
-        );
-        return todayPresent.size();
+        return attendanceRollups.statusCounts(LocalDate.now()).get(Attendance.AttendanceStatus.PRESENT).intValue();
     }
 
     @Override
     public Integer getTodayLateCount() {
-        List<Attendance> todayLate = attendanceRepository.findByAttendanceDateAndStatus(
-                LocalDate.now(),
-                Attendance.AttendanceStatus.LATE
-        );
-        return todayLate.size();
+        return attendanceRollups.statusCounts(LocalDate.now()).get(Attendance.AttendanceStatus.LATE).intValue();
     }
 
     @Override
     public Integer getTodayAbsentCount() {
-        List<Attendance> todayAbsent = attendanceRepository.findByAttendanceDateAndStatus(
-                LocalDate.now(),
-                Attendance.AttendanceStatus.ABSENT
-        );
-        return todayAbsent.size();
+        return attendanceRollups.statusCounts(LocalDate.now()).get(Attendance.AttendanceStatus.ABSENT).intValue();
     }
 
     // ==================== HELPER METHODS ====================
 
-    private Attendance.AttendanceStatus calculateStatus(LocalTime checkInTime) {
-        if (checkInTime == null) {
-            return Attendance.AttendanceStatus.ABSENT;
+    // Checked-in attendance of the shift day the punch falls in; after an overnight shift ended, still the previous day's
+    private Optional<Attendance> findShiftAttendance(EmployeeDirectory.Entry employee, LocalDateTime punch) {
+        ShiftIndex index = shiftCatalog.index();
+        LocalDate date = index.resolve(employee.shift(), punch).date();
+        // An auto-marked absence has nothing to check out of
+        Optional<Attendance> attendance = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.id(), date)
+                .filter(open -> open.getCheckinTime() != null);
+        if (attendance.isEmpty()) {
+            ShiftIndex.Definition previous = index.shiftOn(employee.shift(), date.minusDays(1));
+            if (previous != null && previous.overnight()) {
+                attendance = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.id(), date.minusDays(1))
+                        .filter(open -> open.getCheckoutTime() == null);
+            }
         }
+        return attendance;
+    }
 
-        if (checkInTime.isBefore(SHIFT_START.plusMinutes(GRACE_PERIOD))) {
-            return Attendance.AttendanceStatus.PRESENT;
-        } else if (checkInTime.isBefore(SHIFT_START.plusHours(2))) {
-            return Attendance.AttendanceStatus.LATE;
-        } else {
-            return Attendance.AttendanceStatus.HALF_DAY;
-        }
+    // Total and overtime hours from check-in/out; returns the attendance's shift day
+    private ShiftIndex.ShiftDay setWorkedHours(Attendance attendance, EmployeeDirectory.Entry employee) {
+        ShiftIndex.ShiftDay shiftDay = shiftCatalog.index().day(employee.shift(), attendance.getAttendanceDate());
+        double hours = calculateTotalHours(attendance.getCheckinTime(), attendance.getCheckoutTime());
+        attendance.setTotalHours(hours);
+        attendance.setOvertimeHours(shiftDay.overtimeHours(hours));
+        return shiftDay;
     }
 
     private Double calculateTotalHours(LocalTime checkIn, LocalTime checkOut) {
         if (checkIn == null || checkOut == null) return 0.0;
         long minutes = Duration.between(checkIn, checkOut).toMinutes();
+        // Checked out after midnight (overnight shift)
+        if (minutes < 0) {
+            minutes += 24 * 60;
+        }
         return minutes / 60.0;
     }
 
@@ -418,31 +514,19 @@ public class AttendanceServiceImplementation implements AttendanceService {
     }
 
     private AttendanceDto convertToDto(Attendance attendance) {
-        AttendanceDto dto = new AttendanceDto();
-
-        // Basic fields
-        dto.setId(attendance.getId());
-        dto.setAttendanceDate(attendance.getAttendanceDate());
-        dto.setCheckinTime(attendance.getCheckinTime());
-        dto.setCheckoutTime(attendance.getCheckoutTime());
-        dto.setTotalHours(attendance.getTotalHours());
-        dto.setRemarks(attendance.getRemarks());
-
-        // Location fields
-        dto.setCheckinLatitude(attendance.getCheckinLatitude());
-        dto.setCheckinLongitude(attendance.getCheckinLongitude());
-        dto.setCheckoutLatitude(attendance.getCheckoutLatitude());
-        dto.setCheckoutLongitude(attendance.getCheckoutLongitude());
-        dto.setLocationVerified(attendance.getLocationVerified());
-        dto.setDeviceType(attendance.getDeviceType());
-
-        // Status enum to string
-        if (attendance.getStatus() != null) {
-            dto.setStatus(attendance.getStatus().name());
-        }
+        // Own columns (dates, times, location, status)
+        AttendanceDto dto = attendanceMapper.toDto(attendance);
 
-        // Employee info
+        // Employee info from the directory - reading the id does not initialize a lazy employee proxy
         if (attendance.getEmployee() != null) {
+            EmployeeDirectory.Entry employee = employeeDirectory.getById(attendance.getEmployee().getId());
+            if (employee != null) {
+                dto.setEmployeeId(employee.employeeId());
+                dto.setEmployeeName(employee.fullName());
+                dto.setDepartmentName(employee.departmentName());
+                return dto;
+            }
+
             dto.setEmployeeId(attendance.getEmployee().getEmployeeId());
             dto.setEmployeeName(
                     attendance.getEmployee().getFirstName() + " " +
@@ -0,0 +1,154 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.JobCheckpoint;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.JobCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Marks employees absent who have no attendance record once their shift of the day has ended.
+ *
+ * One INSERT ... SELECT per shift and day covers every active employee without a record for the day and
+ * without approved leave on it. Shifts are matched on Employee.shift against the ShiftCatalog: each code
+ * with its own roster is marked after the end of that day's definition (the next morning for overnight
+ * shifts) and not at all on the roster's days off; employees without such a code follow the default shift.
+ *
+ * Each shift has its own checkpoint ("auto-absent:CODE", "auto-absent:*" for the default shift) that moves
+ * in the insert's transaction, so a day is marked once even with several instances. Days missed while the
+ * application was down are caught up (at most catch-up-days back); INSERT IGNORE keeps reruns harmless.
+ * Weekly off days and holidays of the WorkingDayCalendar are skipped. A check-in after the marking
+ * takes over the absent row (see AttendanceServiceImplementation and AttendanceBatchRepository).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoAbsentJob {
+
+    private static final String CHECKPOINT_PREFIX = "auto-absent:";
+    private static final String OTHER_SHIFTS = "*";
+
+    private final AttendanceBatchRepository attendanceBatchRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final AttendanceRollups attendanceRollups;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final ShiftCatalog shiftCatalog;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${attendance.auto-absent.enabled:true}")
+    private boolean enabled;
+
+    @Value("${attendance.auto-absent.catch-up-days:7}")
+    private int catchUpDays;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.auto-absent.interval-ms:300000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        markThrough(LocalDateTime.now());
+    }
+
+    /**
+     * Marks every shift day that has ended by now. Returns the number of absent rows inserted.
+     */
+    public int markThrough(LocalDateTime now) {
+        ShiftIndex index = shiftCatalog.index();
+        Set<String> namedShifts = index.codes();
+        int inserted = 0;
+        for (String shift : namedShifts) {
+            inserted += markShift(index, shift, namedShifts, now);
+        }
+        return inserted + markShift(index, OTHER_SHIFTS, namedShifts, now);
+    }
+
+    private int markShift(ShiftIndex index, String shift, Set<String> namedShifts, LocalDateTime now) {
+        String code = OTHER_SHIFTS.equals(shift) ? null : shift;
+        LocalDate lastDay = lastEndedDay(index, code, now);
+        String jobName = CHECKPOINT_PREFIX + shift;
+        LocalDate earliest = lastDay.minusDays(catchUpDays);
+        // First run starts with lastDay - older days are left as they are
+        LocalDate done = checkpointRepository.findByJobName(jobName)
+                .map(JobCheckpoint::getCheckpointDate)
+                .orElse(null);
+
+        int inserted = 0;
+        LocalDate day = done == null ? lastDay : max(done.plusDays(1), earliest);
+        for (; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            // Days off in the roster have nobody to mark
+            boolean scheduled = index.shiftOn(code, day) != null;
+            Integer rows = markDay(jobName, shift, namedShifts, done, day, scheduled);
+            if (rows == null) {
+                log.info("Auto-absent {} for {} was done by another instance", shift, day);
+                break;
+            }
+            inserted += rows;
+            done = day;
+        }
+        return inserted;
+    }
+
+    // Last day up to which every shift of the roster has ended; a day off ends as it starts
+    private static LocalDate lastEndedDay(ShiftIndex index, String code, LocalDateTime now) {
+        // A shift is at most a day long, so the day before yesterday has always ended
+        LocalDate day = now.toLocalDate().minusDays(2);
+        while (day.isBefore(now.toLocalDate())) {
+            LocalDate next = day.plusDays(1);
+            ShiftIndex.Definition shift = index.shiftOn(code, next);
+            if (now.isBefore(shift != null ? shift.endOn(next) : next.atStartOfDay())) {
+                break;
+            }
+            day = next;
+        }
+        return day;
+    }
+
+    // null when another instance moved the checkpoint first
+    private Integer markDay(String jobName, String shift, Set<String> namedShifts, LocalDate done, LocalDate day,
+                            boolean scheduled) {
+        return transaction.execute(status -> {
+            if (done == null) {
+                JobCheckpoint checkpoint = new JobCheckpoint();
+                checkpoint.setJobName(jobName);
+                checkpoint.setCheckpointDate(day);
+                checkpointRepository.saveAndFlush(checkpoint);
+            } else if (checkpointRepository.advance(jobName, done, day) == 0) {
+                return null;
+            }
+            if (!scheduled || !workingDayCalendar.isWorkingDay(day)) {
+                return 0;
+            }
+
+            // Microseconds: the stored creation time must equal this value to find the rows again
+            LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            int rows = attendanceBatchRepository.insertAbsentees(day, OTHER_SHIFTS.equals(shift) ? null : shift,
+                    namedShifts, createdAt);
+            if (rows > 0) {
+                attendanceRollups.addCreated(day, createdAt);
+            }
+            log.info("Auto-absent {} for {}: {} employees marked absent", shift, day, rows);
+            return rows;
+        });
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,416 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind pipeline for check-in bursts at shift start (attendance.ingest.enabled=true).
+ *
+ * A check-in is validated against an in-memory "already checked in today" set, appended to a local
+ * journal (fsync), queued and acknowledged. A single writer thread drains the queue and inserts the
+ * punches in JDBC batches. When the queue is full, callers wait up to enqueue-timeout-ms and then get
+ * {@link QueueFullException} (back-pressure). On startup, punches left in the journal are written first.
+ *
+ * The database row appears once the batch is flushed (normally within flush-interval-ms); the batch's
+ * rollup deltas are applied in the same transaction, so a failed batch is retried as a whole.
+ * The per-day sets (the newest shift day and the one before, for overnight shifts) are per instance;
+ * the unique (employee, date) index stays the final guard. Punches it turns away (the day already holds
+ * another record, e.g. from a second instance) are logged and counted as conflicts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckInIngestQueue {
+
+    private final EmployeeDirectory employeeDirectory;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBatchRepository attendanceBatchRepository;
+    private final AttendanceRollups attendanceRollups;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${attendance.ingest.enabled:false}")
+    private boolean enabled;
+
+    @Value("${attendance.ingest.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${attendance.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${attendance.ingest.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${attendance.ingest.enqueue-timeout-ms:200}")
+    private long enqueueTimeoutMs;
+
+    @Value("${attendance.ingest.journal-path:data/attendance-checkin.journal}")
+    private String journalPath;
+
+    // Rejected when the queue is full - the client should retry shortly
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException(String message) {
+            super(message);
+        }
+    }
+
+    private record CheckedInDay(LocalDate date, Set<Long> employeeIds) {
+    }
+
+    private final BlockingQueue<Attendance> queue = new LinkedBlockingQueue<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rejectedFull = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder failedPunches = new LongAdder();
+
+    // One permit per punch not yet stored (queued or in the batch being written)
+    private Semaphore capacity;
+    private CheckInJournal journal;
+    private volatile CheckedInDay checkedInDay;
+    // Punches after midnight of an overnight shift still belong to the previous day
+    private volatile CheckedInDay previousDay;
+    private volatile boolean running;
+    private Thread writer;
+    private TransactionTemplate transaction;
+
+    // Keys are chosen by clients, so they only identify a retry together with the employee
+    private record IdempotencyKey(String employeeCode, String key) {
+    }
+
+    // (employee, Idempotency-Key) -> the first call's check-in, reserved before it runs so that client
+    // retries (also concurrent ones) get the original answer
+    private final Cache<IdempotencyKey, CompletableFuture<AttendanceDto>> acknowledged = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofHours(24))
+            .build();
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        capacity = new Semaphore(queueCapacity);
+        transaction = new TransactionTemplate(transactionManager);
+        journal = new CheckInJournal(Path.of(journalPath));
+
+        List<Attendance> recovered = journal.readPending();
+        if (!recovered.isEmpty()) {
+            log.warn("Check-in journal has {} punches from a previous run, writing them first", recovered.size());
+        }
+        for (Attendance punch : recovered) {
+            // Journals written before the department was recorded
+            if (punch.getDepartmentId() == null) {
+                EmployeeDirectory.Entry employee = employeeDirectory.getById(punch.getEmployee().getId());
+                punch.setDepartmentId(employee != null ? employee.departmentId() : null);
+            }
+        }
+        checkedInDay = loadDay(LocalDate.now(), recovered);
+        previousDay = loadDay(LocalDate.now().minusDays(1), recovered);
+
+        running = true;
+        writer = new Thread(() -> runWriter(recovered), "attendance-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Check-in ingest enabled (capacity {}, batch {}, journal {})", queueCapacity, batchSize, journalPath);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        journal.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Accepts a check-in for asynchronous storage. Throws RuntimeException for an unknown employee or a
+     * second check-in on the same day, QueueFullException under back-pressure.
+     */
+    public AttendanceDto submit(String employeeCode, Attendance checkIn, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return accept(employeeCode, checkIn);
+        }
+        IdempotencyKey retryKey = new IdempotencyKey(employeeCode, idempotencyKey);
+        CompletableFuture<AttendanceDto> reserved = new CompletableFuture<>();
+        CompletableFuture<AttendanceDto> first = acknowledged.asMap().putIfAbsent(retryKey, reserved);
+        if (first != null) {
+            return awaitFirst(first);
+        }
+
+        try {
+            AttendanceDto dto = accept(employeeCode, checkIn);
+            reserved.complete(dto);
+            return dto;
+        } catch (RuntimeException e) {
+            // Not accepted: waiting retries get the same error, later ones try again
+            acknowledged.asMap().remove(retryKey, reserved);
+            reserved.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // A retry that arrives while the first call is still running gets that call's answer
+    private AttendanceDto awaitFirst(CompletableFuture<AttendanceDto> first) {
+        try {
+            return first.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private AttendanceDto accept(String employeeCode, Attendance checkIn) {
+        EmployeeDirectory.Entry employee = employeeDirectory.findByEmployeeId(employeeCode);
+        if (employee == null) {
+            throw new RuntimeException("Employee not found");
+        }
+
+        try {
+            if (!capacity.tryAcquire(enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedFull.increment();
+                throw new QueueFullException("Check-in queue is full, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueueFullException("Check-in interrupted, please retry");
+        }
+
+        boolean queued = false;
+        try {
+            CheckedInDay day = dayFor(checkIn.getAttendanceDate());
+            if (!day.employeeIds().add(employee.id())) {
+                throw new RuntimeException("Already checked in for today");
+            }
+
+            Employee ref = new Employee();
+            ref.setId(employee.id());
+            checkIn.setEmployee(ref);
+            checkIn.setDepartmentId(employee.departmentId());
+
+            try {
+                journal.append(checkIn);
+            } catch (IOException e) {
+                day.employeeIds().remove(employee.id());
+                throw new RuntimeException("Check-in could not be recorded: " + e.getMessage());
+            }
+            queue.add(checkIn);
+            queued = true;
+            accepted.increment();
+        } finally {
+            if (!queued) {
+                capacity.release();
+            }
+        }
+
+        return toDto(employee, checkIn);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("pending", enabled ? queueCapacity - capacity.availablePermits() : 0);
+        stats.put("capacity", queueCapacity);
+        stats.put("accepted", accepted.sum());
+        stats.put("written", written.sum());
+        stats.put("rejectedQueueFull", rejectedFull.sum());
+        stats.put("failedBatches", failedBatches.sum());
+        stats.put("conflicts", conflicts.sum());
+        stats.put("failedPunches", failedPunches.sum());
+        return stats;
+    }
+
+    // ==================== WRITER ====================
+
+    private void runWriter(List<Attendance> recovered) {
+        for (int from = 0; from < recovered.size(); from += batchSize) {
+            if (!writeWithRetry(recovered.subList(from, Math.min(from + batchSize, recovered.size())))) {
+                return;
+            }
+        }
+
+        List<Attendance> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Attendance first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    compactJournal();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                if (!writeWithRetry(batch)) {
+                    return;
+                }
+                capacity.release(batch.size());
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Never let the only writer die while submit keeps accepting punches
+                log.error("Check-in writer failed on a batch of {}, continuing", batch.size(), e);
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+        compactJournal();
+    }
+
+    // Retries until stored; gives up only on shutdown, leaving the punches in the journal for the next start
+    private boolean writeWithRetry(List<Attendance> batch) {
+        long backoffMs = 100;
+        while (true) {
+            try {
+                stored(insert(batch));
+                return true;
+            } catch (RuntimeException e) {
+                if (!(e instanceof DataAccessException)) {
+                    // Not a database outage - retrying the batch would fail the same way
+                    failedBatches.increment();
+                    log.error("Check-in batch of {} failed, writing its punches one by one", batch.size(), e);
+                    writeOneByOne(batch);
+                    return true;
+                }
+                failedBatches.increment();
+                if (!running) {
+                    log.error("Check-in batch of {} not stored at shutdown, kept in journal: {}", batch.size(), e.getMessage());
+                    return false;
+                }
+                log.warn("Check-in batch of {} failed, retrying in {} ms: {}", batch.size(), backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoffMs = Math.min(backoffMs * 2, 5_000);
+            }
+        }
+    }
+
+    private void writeOneByOne(List<Attendance> batch) {
+        for (Attendance checkIn : batch) {
+            try {
+                stored(insert(List.of(checkIn)));
+            } catch (RuntimeException e) {
+                failedPunches.increment();
+                log.error("Check-in of employee {} for {} could not be stored", checkIn.getEmployee().getId(),
+                        checkIn.getAttendanceDate(), e);
+            }
+        }
+    }
+
+    // The rows and their rollup deltas commit together
+    private AttendanceBatchRepository.CheckInResult insert(List<Attendance> batch) {
+        return transaction.execute(status -> {
+            AttendanceBatchRepository.CheckInResult result = attendanceBatchRepository.insertCheckIns(batch);
+            attendanceRollups.addCheckIns(result.inserted(), result.upgraded());
+            return result;
+        });
+    }
+
+    private void stored(AttendanceBatchRepository.CheckInResult result) {
+        for (Attendance checkIn : result.conflicts()) {
+            conflicts.increment();
+            log.warn("Check-in of employee {} at {} dropped: {} already holds another attendance record",
+                    checkIn.getEmployee().getId(), checkIn.getCheckinTime(), checkIn.getAttendanceDate());
+        }
+        written.add(result.inserted().size() + result.upgraded().size());
+    }
+
+    // Everything journaled has been stored once all permits are back
+    private void compactJournal() {
+        try {
+            journal.truncateIf(() -> capacity.availablePermits() == queueCapacity);
+        } catch (IOException e) {
+            log.warn("Check-in journal could not be truncated: {}", e.getMessage());
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private CheckedInDay dayFor(LocalDate date) {
+        CheckedInDay day = checkedInDay;
+        if (day.date().equals(date)) {
+            return day;
+        }
+        day = previousDay;
+        if (day.date().equals(date)) {
+            return day;
+        }
+        synchronized (this) {
+            if (checkedInDay.date().equals(date)) {
+                return checkedInDay;
+            }
+            if (previousDay.date().equals(date)) {
+                return previousDay;
+            }
+            day = loadDay(date, List.of());
+            if (date.isAfter(checkedInDay.date())) {
+                previousDay = checkedInDay;
+                checkedInDay = day;
+            } else {
+                previousDay = day;
+            }
+            return day;
+        }
+    }
+
+    private CheckedInDay loadDay(LocalDate date, List<Attendance> recovered) {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ids.addAll(attendanceRepository.findCheckedInEmployeeIds(date));
+        for (Attendance attendance : recovered) {
+            if (date.equals(attendance.getAttendanceDate())) {
+                ids.add(attendance.getEmployee().getId());
+            }
+        }
+        return new CheckedInDay(date, ids);
+    }
+
+    private AttendanceDto toDto(EmployeeDirectory.Entry employee, Attendance checkIn) {
+        AttendanceDto dto = new AttendanceDto();
+        dto.setEmployeeId(employee.employeeId());
+        dto.setEmployeeName(employee.fullName());
+        dto.setDepartmentName(employee.departmentName());
+        dto.setAttendanceDate(checkIn.getAttendanceDate());
+        dto.setCheckinTime(checkIn.getCheckinTime());
+        dto.setStatus(checkIn.getStatus().name());
+        dto.setTotalHours(checkIn.getTotalHours());
+        dto.setRemarks(checkIn.getRemarks());
+        dto.setCheckinLatitude(checkIn.getCheckinLatitude());
+        dto.setCheckinLongitude(checkIn.getCheckinLongitude());
+        dto.setLocationVerified(checkIn.getLocationVerified());
+        dto.setDeviceType(checkIn.getDeviceType());
+        return dto;
+    }
+}
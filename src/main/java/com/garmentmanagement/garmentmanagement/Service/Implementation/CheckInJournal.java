@@ -0,0 +1,125 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Append-only local journal for queued check-ins. Every punch is forced to disk before the request
+ * is acknowledged; the file is truncated only once everything in it has been written to the database.
+ * One punch per line: employeeId|date|time|status|latitude|longitude|locationVerified|deviceType|ipAddress|remarks|departmentId
+ * (departmentId is missing in lines from older journals).
+ */
+class CheckInJournal implements AutoCloseable {
+
+    private static final String SEPARATOR = "|";
+
+    private final Path path;
+    private final FileChannel channel;
+
+    CheckInJournal(Path path) throws IOException {
+        this.path = path;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // Punches left over from a previous run (written but not confirmed as stored)
+    List<Attendance> readPending() throws IOException {
+        List<Attendance> pending = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                pending.add(parse(line));
+            } catch (RuntimeException e) {
+                // Torn last line from a crash mid-write - it was never forced, so never acknowledged
+            }
+        }
+        return pending;
+    }
+
+    synchronized void append(Attendance attendance) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((format(attendance) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    // Empties the journal if nothing is pending; the check runs under the append lock
+    synchronized boolean truncateIf(BooleanSupplier nothingPending) throws IOException {
+        if (channel.size() == 0 || !nothingPending.getAsBoolean()) {
+            return false;
+        }
+        channel.truncate(0);
+        channel.force(true);
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String format(Attendance a) {
+        return String.join(SEPARATOR,
+                String.valueOf(a.getEmployee().getId()),
+                a.getAttendanceDate().toString(),
+                a.getCheckinTime().toString(),
+                a.getStatus().name(),
+                value(a.getCheckinLatitude()),
+                value(a.getCheckinLongitude()),
+                value(a.getLocationVerified()),
+                clean(a.getDeviceType()),
+                clean(a.getIpAddress()),
+                clean(a.getRemarks()),
+                value(a.getDepartmentId()));
+    }
+
+    private Attendance parse(String line) {
+        String[] f = line.split("\\|", -1);
+
+        Employee employee = new Employee();
+        employee.setId(Long.parseLong(f[0]));
+
+        Attendance a = new Attendance();
+        a.setEmployee(employee);
+        a.setAttendanceDate(LocalDate.parse(f[1]));
+        a.setCheckinTime(LocalTime.parse(f[2]));
+        a.setStatus(Attendance.AttendanceStatus.valueOf(f[3]));
+        a.setCheckinLatitude(f[4].isEmpty() ? null : Double.valueOf(f[4]));
+        a.setCheckinLongitude(f[5].isEmpty() ? null : Double.valueOf(f[5]));
+        a.setLocationVerified(f[6].isEmpty() ? null : Boolean.valueOf(f[6]));
+        a.setDeviceType(f[7].isEmpty() ? null : f[7]);
+        a.setIpAddress(f[8].isEmpty() ? null : f[8]);
+        a.setRemarks(f[9].isEmpty() ? null : f[9]);
+        a.setDepartmentId(f.length > 10 && !f[10].isEmpty() ? Long.valueOf(f[10]) : null);
+        a.setTotalHours(0.0);
+        return a;
+    }
+
+    private String value(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    // Free-text fields must not break the line format
+    private String clean(String value) {
+        return value == null ? "" : value.replaceAll("[|\\r\\n]", " ");
+    }
+}
@@ -3,11 +3,11 @@ package com.garmentmanagement.garmentmanagement.Service.Implementation;
 import com.garmentmanagement.garmentmanagement.DTO.DepartmentDto;
 import com.garmentmanagement.garmentmanagement.Entity.Department;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Mapper.EmployeeMapper;
 import com.garmentmanagement.garmentmanagement.Repository.DepartmentRepository;
 import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
 import com.garmentmanagement.garmentmanagement.Service.DepartmentService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +21,8 @@ public class DepartmentServiceImplementation implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
-    private final ModelMapper modelMapper;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeDirectory employeeDirectory;
 
     @Override
     public DepartmentDto createDepartment(DepartmentDto departmentDto) {
@@ -33,7 +34,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
             throw new RuntimeException("Department code already exists: " + departmentDto.getCode());
         }
 
-        Department department = modelMapper.map(departmentDto, Department.class);
+        Department department = employeeMapper.toEntity(departmentDto);
 
         // Set department head if provided
         if (departmentDto.getDepartmentHeadId() != null && departmentDto.getDepartmentHeadId() > 0) {
@@ -70,6 +71,8 @@ public class DepartmentServiceImplementation implements DepartmentService {
             throw new RuntimeException("Department code already exists: " + departmentDto.getCode());
         }
 
+        boolean nameChanged = !existing.getName().equals(departmentDto.getName());
+
         // Update basic fields
         existing.setName(departmentDto.getName());
         existing.setCode(departmentDto.getCode());
@@ -93,6 +96,11 @@ public class DepartmentServiceImplementation implements DepartmentService {
         }
 
         Department updated = departmentRepository.save(existing);
+
+        // Directory entries carry the department name
+        if (nameChanged) {
+            employeeDirectory.evictAll();
+        }
         return convertToDto(updated);
     }
 
@@ -185,7 +193,7 @@ public class DepartmentServiceImplementation implements DepartmentService {
     }
 
     private DepartmentDto convertToDto(Department department) {
-        DepartmentDto dto = modelMapper.map(department, DepartmentDto.class);
+        DepartmentDto dto = employeeMapper.toDto(department);
 
         // ✅ FIX: Use repository method consistently for employee count
         Integer employeeCount = 0;
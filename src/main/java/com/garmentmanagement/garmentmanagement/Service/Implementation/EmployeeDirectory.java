@@ -0,0 +1,141 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.EmployeeRef;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Read-through cache of compact employee records, keyed by business employee id and by database id.
+ * Used by attendance endpoints and DTO conversion instead of loading Employee/Department entities.
+ *
+ * Entries are evicted by EmployeeServiceImplementation on create/update/delete (and again after commit,
+ * so a concurrent read cannot re-cache the old row); department renames clear everything.
+ * employee.directory.ttl-minutes bounds staleness for writes that bypass those services.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeDirectory {
+
+    private final EmployeeRepository employeeRepository;
+
+    @Value("${employee.directory.max-size:50000}")
+    private long maxSize;
+
+    @Value("${employee.directory.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    public record Entry(Long id, String employeeId, String firstName, String lastName, Long departmentId,
+                        String departmentName, Employee.EmployeeStatus status, Long managerId,
+                        String shift) {
+
+        public String fullName() {
+            return firstName + " " + lastName;
+        }
+    }
+
+    private Cache<String, Entry> byEmployeeId;
+    private Cache<Long, Entry> byId;
+
+    @PostConstruct
+    void init() {
+        byEmployeeId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    // Business employee id (e.g. EMP001); null when unknown - misses are not cached, so new hires show up at once
+    public Entry findByEmployeeId(String employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        return byEmployeeId.get(employeeId, code -> employeeRepository.findRefByEmployeeId(code)
+                .map(this::remember)
+                .orElse(null));
+    }
+
+    public Entry getById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return byId.get(id, key -> employeeRepository.findRefById(key)
+                .map(EmployeeDirectory::toEntry)
+                .orElse(null));
+    }
+
+    /**
+     * Drops the employee from both indexes now and once more after the surrounding transaction commits.
+     * employeeId is the business id before the change (it may be edited).
+     */
+    public void evict(Long id, String employeeId) {
+        evictNow(id, employeeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, employeeId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        byEmployeeId.invalidateAll();
+        byId.invalidateAll();
+        log.debug("Employee directory cleared");
+    }
+
+    private void evictNow(Long id, String employeeId) {
+        if (id != null) {
+            Entry cached = byId.getIfPresent(id);
+            byId.invalidate(id);
+            if (cached != null) {
+                byEmployeeId.invalidate(cached.employeeId());
+            }
+        }
+        if (employeeId != null) {
+            byEmployeeId.invalidate(employeeId);
+        }
+    }
+
+    // Lookup by code also warms the id index used by DTO conversion
+    private Entry remember(EmployeeRef ref) {
+        Entry entry = toEntry(ref);
+        byId.put(entry.id(), entry);
+        return entry;
+    }
+
+    private static Entry toEntry(EmployeeRef ref) {
+        return new Entry(ref.getId(), ref.getEmployeeId(), ref.getFirstName(), ref.getLastName(),
+                ref.getDepartmentId(), ref.getDepartmentName(), ref.getStatus(), ref.getManagerId(),
+                ref.getShift());
+    }
+}
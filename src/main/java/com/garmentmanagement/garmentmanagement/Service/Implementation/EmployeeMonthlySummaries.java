@@ -0,0 +1,65 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.EmployeeMonthlySummary;
+import com.garmentmanagement.garmentmanagement.Repository.EmployeeMonthlySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Reads of the per employee and month attendance summary (employee_monthly_summaries).
+ *
+ * The rows are the monthly rollup that AttendanceRollups keeps current with every attendance write,
+ * so a running month includes today. Working days come from the company calendar and the attendance
+ * rate is derived from them on read, since both change as the month goes on.
+ *
+ * Payroll takes present days from here; summary endpoints serve the figures.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeMonthlySummaries {
+
+    private final EmployeeMonthlySummaryRepository summaryRepository;
+    private final WorkingDayCalendar workingDayCalendar;
+
+    public int workingDays(YearMonth month) {
+        return workingDayCalendar.workingDays(month);
+    }
+
+    // Last day the figures include: today for the running month
+    public LocalDate through(YearMonth month) {
+        LocalDate today = LocalDate.now();
+        return month.atEndOfMonth().isAfter(today) ? today : month.atEndOfMonth();
+    }
+
+    // (present + late + half days) / working days of the month, in percent
+    public static double attendanceRate(EmployeeMonthlySummary summary, int workingDays) {
+        if (workingDays <= 0) {
+            return 0.0;
+        }
+        int attended = summary.getPresentDays() + summary.getLateDays() + summary.getHalfDays();
+        return Math.round(attended * 10000.0 / workingDays) / 100.0;
+    }
+
+    public Optional<EmployeeMonthlySummary> find(Long employeeId, YearMonth month) {
+        return summaryRepository.findByEmployeeIdAndSummaryYearAndSummaryMonth(employeeId, month.getYear(),
+                month.getMonthValue());
+    }
+
+    // Rows of [EmployeeMonthlySummary, employee code, first name, last name, department name]
+    public List<Object[]> findMonth(YearMonth month) {
+        return summaryRepository.findByMonthWithEmployee(month.getYear(), month.getMonthValue());
+    }
+
+    // Present + late days per employee id
+    public Map<Long, Long> presentDays(YearMonth month) {
+        Map<Long, Long> presentDays = new HashMap<>();
+        for (Object[] row : summaryRepository.findPresentDaysByMonth(month.getYear(), month.getMonthValue())) {
+            presentDays.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return presentDays;
+    }
+}
@@ -1,19 +1,24 @@
 package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
 import com.garmentmanagement.garmentmanagement.DTO.EmployeeDto;
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.Department;
 import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Mapper.EmployeeMapper;
 import com.garmentmanagement.garmentmanagement.Repository.DepartmentRepository;
 import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
+import com.garmentmanagement.garmentmanagement.Repository.TableRowEstimator;
 import com.garmentmanagement.garmentmanagement.Service.EmployeeService;
+import com.garmentmanagement.garmentmanagement.Service.LeaveRolloverService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,7 +28,12 @@ public class EmployeeServiceImplementation implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final ModelMapper modelMapper;
+    private final EmployeeMapper employeeMapper;
+    private final TableRowEstimator tableRowEstimator;
+    private final EmployeeDirectory employeeDirectory;
+    private final LeaveRolloverService leaveRolloverService;
+
+    private static final Set<String> SORTABLE = Set.of("id", "employeeId", "firstName", "lastName", "joinDate", "designation");
 
     @Override
     public EmployeeDto createEmployee(EmployeeDto employeeDto) {
@@ -87,6 +97,8 @@ public class EmployeeServiceImplementation implements EmployeeService {
         }
 
         Employee saved = employeeRepository.save(employee);
+        leaveRolloverService.createBalances(saved.getId());
+        employeeDirectory.evict(saved.getId(), saved.getEmployeeId());
         return convertToDto(saved);
     }
 
@@ -110,6 +122,9 @@ public class EmployeeServiceImplementation implements EmployeeService {
             throw new RuntimeException("NID already exists: " + employeeDto.getNidNumber());
         }
 
+        // Cached by the old business id until the change commits
+        employeeDirectory.evict(existing.getId(), existing.getEmployeeId());
+
         // Update basic fields
         existing.setFirstName(employeeDto.getFirstName());
         existing.setLastName(employeeDto.getLastName());
@@ -185,6 +200,20 @@ public class EmployeeServiceImplementation implements EmployeeService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeDto> getEmployeesPage(Integer page, Integer size, String sortBy, String direction) {
+        Slice<Employee> slice = employeeRepository.findAllBy(
+                Paging.pageable(page, size, sortBy, direction, SORTABLE, "id"));
+        TableRowEstimator.RowCount total = tableRowEstimator.count("employees", employeeRepository::count);
+
+        List<EmployeeDto> content = slice.getContent().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        return PageResponse.offset(content, slice.getNumber(), slice.getSize(), slice.hasNext(),
+                total.value(), total.estimated());
+    }
+
     @Override
     public List<EmployeeDto> getEmployeesByDepartment(Long departmentId) {
         return employeeRepository.findByDepartmentId(departmentId)
@@ -233,6 +262,7 @@ public class EmployeeServiceImplementation implements EmployeeService {
                 .orElseThrow(() -> new RuntimeException("Manager not found"));
         employee.setManager(manager);
         employeeRepository.save(employee);
+        employeeDirectory.evict(employee.getId(), employee.getEmployeeId());
     }
 
     @Override
@@ -258,6 +288,7 @@ public class EmployeeServiceImplementation implements EmployeeService {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
         employeeRepository.delete(employee);
+        employeeDirectory.evict(employee.getId(), employee.getEmployeeId());
     }
 //    @Override
 //    public Map<Employee.EmployeeWorkType, Long> getEmployeeWorkTypeStats() {
@@ -308,9 +339,9 @@ public Map<Employee.EmployeeWorkType, Long> getEmployeeWorkTypeStats() {
         return defaultStats;
     }
 
-    // ✅ Use ModelMapper only for basic field mapping in convertToDto
+    // ✅ EmployeeMapper copies the basic fields in convertToDto
     private EmployeeDto convertToDto(Employee employee) {
-        EmployeeDto dto = modelMapper.map(employee, EmployeeDto.class);
+        EmployeeDto dto = employeeMapper.toDto(employee);
 
         // ✅ Manual mapping for additional fields
         if (employee.getDepartment() != null) {
@@ -0,0 +1,87 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.HolidayDto;
+import com.garmentmanagement.garmentmanagement.Entity.Holiday;
+import com.garmentmanagement.garmentmanagement.Mapper.HolidayMapper;
+import com.garmentmanagement.garmentmanagement.Repository.HolidayRepository;
+import com.garmentmanagement.garmentmanagement.Service.HolidayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class HolidayServiceImplementation implements HolidayService {
+
+    private final HolidayRepository holidayRepository;
+    private final HolidayMapper holidayMapper;
+    private final WorkingDayCalendar workingDayCalendar;
+
+    @Override
+    public HolidayDto createHoliday(HolidayDto holidayDto) {
+        if (holidayDto.getHolidayDate() == null || holidayDto.getName() == null) {
+            throw new RuntimeException("Holiday date and name are required");
+        }
+        if (holidayRepository.existsByHolidayDate(holidayDto.getHolidayDate())) {
+            throw new RuntimeException("A holiday already exists on " + holidayDto.getHolidayDate());
+        }
+
+        Holiday saved = holidayRepository.save(holidayMapper.toEntity(holidayDto));
+        workingDayCalendar.reloadAfterCommit();
+        return holidayMapper.toDto(saved);
+    }
+
+    @Override
+    public HolidayDto updateHoliday(Long id, HolidayDto holidayDto) {
+        Holiday existing = holidayRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + id));
+
+        // Check duplicate date for other holidays
+        if (holidayDto.getHolidayDate() != null && !existing.getHolidayDate().equals(holidayDto.getHolidayDate()) &&
+                holidayRepository.existsByHolidayDate(holidayDto.getHolidayDate())) {
+            throw new RuntimeException("A holiday already exists on " + holidayDto.getHolidayDate());
+        }
+
+        holidayMapper.copyToEntity(holidayDto, existing);
+        Holiday updated = holidayRepository.save(existing);
+        workingDayCalendar.reloadAfterCommit();
+        return holidayMapper.toDto(updated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HolidayDto> getHolidaysByYear(int year) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(holidayMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteHoliday(Long id) {
+        Holiday holiday = holidayRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Holiday not found with id: " + id));
+        holidayRepository.delete(holiday);
+        workingDayCalendar.reloadAfterCommit();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getWorkingDays(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("End date is before start date");
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("from", from);
+        result.put("to", to);
+        result.put("workingDays", workingDayCalendar.workingDays(from, to));
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveApplicationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-through cache of each employee's pending and approved leaves as LeaveIntervals, used for the
+ * overlap check when applying for leave. A miss loads the employee's active leaves with one indexed query.
+ *
+ * LeaveServiceImplementation evicts an employee whenever one of their leaves is created, moved or leaves the
+ * active statuses (now and again after commit, as EmployeeDirectory does). Leaves written by other
+ * instances only show up after leave.conflict-index.ttl-minutes, so the cache only answers "overlaps";
+ * "no overlap" is confirmed with the indexed findOverlappingLeaves before a leave is let through.
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaveConflictIndex {
+
+    private static final List<LeaveApplication.LeaveStatus> ACTIVE_STATUSES =
+            List.of(LeaveApplication.LeaveStatus.PENDING, LeaveApplication.LeaveStatus.APPROVED);
+
+    private final LeaveApplicationRepository leaveApplicationRepository;
+
+    @Value("${leave.conflict-index.max-size:50000}")
+    private long maxSize;
+
+    @Value("${leave.conflict-index.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    private Cache<Long, LeaveIntervals> byEmployee;
+
+    @PostConstruct
+    void init() {
+        byEmployee = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public boolean overlaps(Long employeeId, LocalDate from, LocalDate to) {
+        if (intervals(employeeId).overlaps(from, to)) {
+            return true;
+        }
+        if (leaveApplicationRepository.findOverlappingLeaves(employeeId, from, to).isEmpty()) {
+            return false;
+        }
+        // Written elsewhere since the employee was cached
+        byEmployee.invalidate(employeeId);
+        return true;
+    }
+
+    public LeaveIntervals intervals(Long employeeId) {
+        return byEmployee.get(employeeId, id -> LeaveIntervals.of(
+                leaveApplicationRepository.findDateRangesByEmployeeAndStatuses(id, ACTIVE_STATUSES).stream()
+                        .map(row -> new LocalDate[]{(LocalDate) row[0], (LocalDate) row[1]})
+                        .toList()));
+    }
+
+    // Drops the employee now and once more after the surrounding transaction commits
+    public void evict(Long employeeId) {
+        byEmployee.invalidate(employeeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    byEmployee.invalidate(employeeId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable interval index over one employee's active leaves (inclusive date ranges).
+ *
+ * A static interval tree in array form: intervals sorted by start, with the running maximum end. Every
+ * interval that can overlap [from, to] starts on or before to, i.e. lies in the prefix found by one binary
+ * search, and one of them reaches from exactly when the prefix's maximum end does - so a conflict check
+ * is O(log n), and stays exact when stored intervals overlap each other.
+ */
+public final class LeaveIntervals {
+
+    public static final LeaveIntervals EMPTY = new LeaveIntervals(new long[0], new long[0]);
+
+    private final long[] starts;
+    // maxEnd[i] = latest end among intervals 0..i
+    private final long[] maxEnd;
+
+    private LeaveIntervals(long[] starts, long[] maxEnd) {
+        this.starts = starts;
+        this.maxEnd = maxEnd;
+    }
+
+    /**
+     * Builds the index from [start, end] pairs; pairs with a missing date are ignored.
+     */
+    public static LeaveIntervals of(List<LocalDate[]> intervals) {
+        long[][] days = intervals.stream()
+                .filter(interval -> interval[0] != null && interval[1] != null)
+                .map(interval -> new long[]{interval[0].toEpochDay(), interval[1].toEpochDay()})
+                .sorted(Comparator.comparingLong(interval -> interval[0]))
+                .toArray(long[][]::new);
+        if (days.length == 0) {
+            return EMPTY;
+        }
+
+        long[] starts = new long[days.length];
+        long[] maxEnd = new long[days.length];
+        for (int i = 0; i < days.length; i++) {
+            starts[i] = days[i][0];
+            maxEnd[i] = i == 0 ? days[i][1] : Math.max(maxEnd[i - 1], days[i][1]);
+        }
+        return new LeaveIntervals(starts, maxEnd);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    // True if any interval shares at least one day with [from, to]
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        int last = lastStartingOnOrBefore(to.toEpochDay());
+        return last >= 0 && maxEnd[last] >= from.toEpochDay();
+    }
+
+    private int lastStartingOnOrBefore(long day) {
+        int index = Arrays.binarySearch(starts, day);
+        if (index < 0) {
+            return -index - 2;
+        }
+        // Equal starts: move to the last of them
+        while (index + 1 < starts.length && starts[index + 1] == day) {
+            index++;
+        }
+        return index;
+    }
+}
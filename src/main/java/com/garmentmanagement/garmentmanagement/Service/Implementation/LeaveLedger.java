@@ -0,0 +1,139 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveLedgerEntry;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveLedgerRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All leave balance changes go through here: an entry is appended to leave_ledger_entries and the
+ * leave_balances snapshot is moved with an atomic SQL increment, in the caller's transaction. Nothing is
+ * read and written back, so concurrent approvals cannot lose updates and no lock is taken up front;
+ * the unique (application, entry type) key rejects applying an approval or cancellation twice.
+ *
+ * Closed years (older than leave.ledger.keep-years) are compacted nightly into one entry per employee
+ * and leave type, which keeps their sums and bounds the ledger's size.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaveLedger {
+
+    private final LeaveLedgerRepository ledgerRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Years kept entry by entry, counting the current one
+    @Value("${leave.ledger.keep-years:2}")
+    private int keepYears;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    public void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    // Approval: charges the leave's days, failing when the balance is missing or too small
+    public void takeLeave(LeaveApplication leave, int year) {
+        int days = leave.getTotalDays() != null ? leave.getTotalDays() : 0;
+        append(leave, year, LeaveLedgerEntry.EntryType.LEAVE_TAKEN, days, "Leave approved");
+        if (!ledgerRepository.applyToBalance(employeeId(leave), leave.getLeaveType().getId(), year, days, 0)) {
+            throw new RuntimeException("Insufficient leave balance or leave balance not found for " + days + " day(s)");
+        }
+    }
+
+    /**
+     * Approval of many leaves with one batched append and one batched increment per employee and leave type.
+     * Fails as a whole when any balance is missing or would go negative (callers validate beforehand).
+     */
+    public void takeLeaves(List<LeaveApplication> leaves, int year) {
+        if (leaves.isEmpty()) {
+            return;
+        }
+        List<Object[]> entries = new ArrayList<>(leaves.size());
+        Map<List<Long>, Integer> daysPerBalance = new LinkedHashMap<>();
+        for (LeaveApplication leave : leaves) {
+            int days = leave.getTotalDays() != null ? leave.getTotalDays() : 0;
+            entries.add(new Object[]{employeeId(leave), leave.getLeaveType().getId(), leave.getId(), days});
+            daysPerBalance.merge(List.of(employeeId(leave), leave.getLeaveType().getId()), days, Integer::sum);
+        }
+        try {
+            ledgerRepository.appendAll(year, LeaveLedgerEntry.EntryType.LEAVE_TAKEN, entries, "Leave approved");
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("One of the leave applications was already approved");
+        }
+
+        List<Object[]> increments = new ArrayList<>(daysPerBalance.size());
+        daysPerBalance.forEach((key, days) -> increments.add(new Object[]{key.get(0), key.get(1), days}));
+        int[] updated = ledgerRepository.applyAllToBalances(year, increments);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new RuntimeException("Insufficient leave balance or leave balance not found for employee "
+                        + increments.get(i)[0] + " (changed concurrently, retry)");
+            }
+        }
+    }
+
+    /**
+     * Cancellation of an approved leave: gives the days back to the year the approval was charged to,
+     * which need not be the current one. Approvals without a ledger entry fall back to the approval year.
+     */
+    public void returnLeave(LeaveApplication leave) {
+        int year = ledgerRepository.findTakenYear(leave.getId()).orElseGet(() -> approvalYear(leave));
+        int days = leave.getTotalDays() != null ? leave.getTotalDays() : 0;
+        append(leave, year, LeaveLedgerEntry.EntryType.LEAVE_RETURNED, -days, "Leave cancelled");
+        if (!ledgerRepository.applyToBalance(employeeId(leave), leave.getLeaveType().getId(), year, -days, 0)) {
+            throw new RuntimeException("Leave balance not found");
+        }
+    }
+
+    // HR change of the yearly entitlement (negative to reduce it)
+    public void adjustTotal(Long employeeId, Long leaveTypeId, int year, int days) {
+        ledgerRepository.append(employeeId, leaveTypeId, year, null, LeaveLedgerEntry.EntryType.ADJUSTMENT,
+                0, days, "Entitlement adjusted by " + days);
+        if (!ledgerRepository.applyToBalance(employeeId, leaveTypeId, year, 0, days)) {
+            throw new RuntimeException("Leave balance not found or adjustment exceeds the remaining days");
+        }
+    }
+
+    @Scheduled(cron = "${leave.ledger.compact-cron:0 30 2 * * *}")
+    public void compact() {
+        int before = Year.now().getValue() - Math.max(1, keepYears) + 1;
+        for (Integer year : ledgerRepository.findUncompactedYearsBefore(before)) {
+            Integer removed = transaction.execute(status -> ledgerRepository.compactYear(year));
+            log.info("Leave ledger {} compacted: {} entries folded", year, removed);
+        }
+    }
+
+    private void append(LeaveApplication leave, int year, LeaveLedgerEntry.EntryType type, int usedDelta, String note) {
+        try {
+            ledgerRepository.append(employeeId(leave), leave.getLeaveType().getId(), year, leave.getId(), type,
+                    usedDelta, 0, note);
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("Leave application " + leave.getId() + " was already "
+                    + (type == LeaveLedgerEntry.EntryType.LEAVE_TAKEN ? "approved" : "cancelled"));
+        }
+    }
+
+    private static int approvalYear(LeaveApplication leave) {
+        return leave.getProcessedDate() != null ? leave.getProcessedDate().getYear() : Year.now().getValue();
+    }
+
+    private static Long employeeId(LeaveApplication leave) {
+        return leave.getEmployee().getId();
+    }
+}
@@ -0,0 +1,289 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.LeaveRolloverDto;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveRollover;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveBalanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveRolloverRepository;
+import com.garmentmanagement.garmentmanagement.Service.LeaveRolloverService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Yearly leave balance rollover. Each chunk of employee ids gets all its balances from one INSERT ... SELECT
+ * (see LeaveBalanceBatchRepository) and moves the leave_rollovers resume point in the same transaction,
+ * so a crashed or failed rollover continues where it stopped and finished chunks are never redone.
+ *
+ * Runs on its own thread when scheduled at the start of the year (leave.rollover.cron); the leave-balances
+ * startup task catches up interrupted rollovers and a current year that has no completed rollover yet. Restarting a completed year runs again from the
+ * first employee, which only adds balances for employees and leave types that were missing. Employees
+ * added after the year's rollover get their balances when they are created (createBalances).
+ *
+ * Several instances may start the same year (the cron fires on each). The resume point moves by
+ * compare-and-set, so every chunk is recorded by one instance only; an instance that finds its chunk
+ * already recorded rolls it back and leaves the rest of the year to the instance ahead of it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaveRolloverServiceImplementation implements LeaveRolloverService {
+
+    private static final List<LeaveRollover.RolloverStatus> UNFINISHED =
+            List.of(LeaveRollover.RolloverStatus.QUEUED, LeaveRollover.RolloverStatus.RUNNING);
+
+    private final LeaveRolloverRepository rolloverRepo;
+    private final LeaveBalanceBatchRepository leaveBalanceBatchRepo;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${leave.rollover.enabled:true}")
+    private boolean enabled;
+
+    @Value("${leave.rollover.chunk-size:500}")
+    private int chunkSize;
+
+    // Years queued or running on this instance
+    private final Set<Integer> activeYears = ConcurrentHashMap.newKeySet();
+    private ExecutorService rolloverExecutor;
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    public void init() {
+        rolloverExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leave-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rolloverExecutor.shutdownNow();
+    }
+
+    @Override
+    public LeaveRolloverDto startRollover(Integer year) {
+        LeaveRollover rollover = prepare(year);
+        rolloverExecutor.submit(() -> execute(rollover.getId(), year));
+        return convertToDto(rollover);
+    }
+
+    @Override
+    public LeaveRolloverDto rolloverAndWait(Integer year) {
+        LeaveRollover rollover = prepare(year);
+        execute(rollover.getId(), year);
+        return getRollover(year);
+    }
+
+    @Override
+    public LeaveRolloverDto getRollover(Integer year) {
+        LeaveRollover rollover = rolloverRepo.findByRolloverYear(year)
+                .orElseThrow(() -> new RuntimeException("No leave rollover found for year: " + year));
+        return convertToDto(rollover);
+    }
+
+    // ==================== SCHEDULING ====================
+
+    @Scheduled(cron = "${leave.rollover.cron:0 5 0 1 1 *}")
+    public void scheduledRollover() {
+        if (enabled) {
+            startIfNeeded(Year.now().getValue());
+        }
+    }
+
+    @Override
+    public void catchUp() {
+        if (!enabled) {
+            return;
+        }
+        for (LeaveRollover rollover : rolloverRepo.findByStatusIn(UNFINISHED)) {
+            if (needsRun(rollover.getRolloverYear())) {
+                rolloverAndWait(rollover.getRolloverYear());
+            }
+        }
+        int year = Year.now().getValue();
+        if (needsRun(year)) {
+            rolloverAndWait(year);
+        }
+    }
+
+    @Override
+    public void createBalances(Long employeeId) {
+        // Same INSERT IGNORE as a rollover chunk of one employee, so a later rollover skips them
+        int inserted = leaveBalanceBatchRepo.insertYear(Year.now().getValue(), employeeId - 1, employeeId);
+        log.debug("Created {} leave balances for new employee {}", inserted, employeeId);
+    }
+
+    private void startIfNeeded(int year) {
+        if (needsRun(year)) {
+            startRollover(year);
+        }
+    }
+
+    private boolean needsRun(int year) {
+        boolean completed = rolloverRepo.findByRolloverYear(year)
+                .map(rollover -> rollover.getStatus() == LeaveRollover.RolloverStatus.COMPLETED)
+                .orElse(false);
+        return !completed && !activeYears.contains(year);
+    }
+
+    // ==================== EXECUTION ====================
+
+    private synchronized LeaveRollover prepare(Integer year) {
+        if (year == null || year < 2000 || year > 2100) {
+            throw new RuntimeException("Invalid rollover year: " + year);
+        }
+        if (!activeYears.add(year)) {
+            throw new RuntimeException("Leave rollover is already in progress for year " + year);
+        }
+
+        try {
+            LeaveRollover rollover = rolloverRepo.findByRolloverYear(year).orElseGet(() -> create(year));
+            if (rollover.getStatus() == LeaveRollover.RolloverStatus.COMPLETED) {
+                // Full pass again; existing balances are skipped
+                rollover.setLastEmployeeId(0L);
+                rollover.setProcessedCount(0);
+                rollover.setInsertedBalances(0);
+            }
+            rollover.setStatus(LeaveRollover.RolloverStatus.QUEUED);
+            rollover.setChunkSize(Math.max(1, chunkSize));
+            rollover.setFinishedAt(null);
+            rollover.setErrorSummary(null);
+            return rolloverRepo.save(rollover);
+        } catch (RuntimeException e) {
+            activeYears.remove(year);
+            throw e;
+        }
+    }
+
+    // Another instance may create the year's row at the same time; its row is used then
+    private LeaveRollover create(int year) {
+        LeaveRollover created = new LeaveRollover();
+        created.setRolloverYear(year);
+        try {
+            return rolloverRepo.saveAndFlush(created);
+        } catch (DataIntegrityViolationException e) {
+            return rolloverRepo.findByRolloverYear(year).orElseThrow(() -> e);
+        }
+    }
+
+    // Thrown inside a chunk transaction when another instance recorded the chunk first
+    private static final class TakenOver extends RuntimeException {
+    }
+
+    private void execute(Long rolloverId, int year) {
+        RuntimeException failure = null;
+        boolean takenOver = false;
+        try {
+            long lastEmployeeId = start(rolloverId);
+            int chunk = Math.max(1, chunkSize);
+            while (true) {
+                long after = lastEmployeeId;
+                Long last = chunkTransaction.execute(status -> {
+                    List<Long> ids = leaveBalanceBatchRepo.findEligibleEmployeeIds(after, chunk);
+                    if (ids.isEmpty()) {
+                        return null;
+                    }
+                    Long chunkLast = ids.get(ids.size() - 1);
+                    int inserted = leaveBalanceBatchRepo.insertYear(year, after, chunkLast);
+                    if (rolloverRepo.recordChunk(rolloverId, after, ids.size(), inserted, chunkLast) == 0) {
+                        throw new TakenOver();
+                    }
+                    return chunkLast;
+                });
+                if (last == null) {
+                    break;
+                }
+                lastEmployeeId = last;
+            }
+        } catch (TakenOver e) {
+            log.info("Leave rollover {} is continued by another instance", year);
+            takenOver = true;
+        } catch (RuntimeException e) {
+            log.error("Leave rollover {} aborted: {}", year, e.getMessage(), e);
+            failure = e;
+        } finally {
+            try {
+                if (!takenOver) {
+                    finish(rolloverId, failure);
+                }
+            } finally {
+                activeYears.remove(year);
+            }
+        }
+    }
+
+    // Marks the rollover running and returns its resume point
+    private long start(Long rolloverId) {
+        return chunkTransaction.execute(status -> {
+            LeaveRollover rollover = rolloverRepo.findById(rolloverId).orElseThrow();
+            long resumeFrom = rollover.getLastEmployeeId() != null ? rollover.getLastEmployeeId() : 0L;
+            rollover.setLastEmployeeId(resumeFrom);
+            rollover.setStatus(LeaveRollover.RolloverStatus.RUNNING);
+            if (rollover.getStartedAt() == null || resumeFrom == 0L) {
+                rollover.setStartedAt(LocalDateTime.now());
+            }
+            rollover.setTotalEmployees(rollover.getProcessedCount() + leaveBalanceBatchRepo.countEligibleEmployees(resumeFrom));
+            log.info("Leave rollover {} started: {} employees, resuming after employee {}",
+                    rollover.getRolloverYear(), rollover.getTotalEmployees(), resumeFrom);
+            return resumeFrom;
+        });
+    }
+
+    private void finish(Long rolloverId, RuntimeException failure) {
+        chunkTransaction.executeWithoutResult(status -> {
+            LeaveRollover rollover = rolloverRepo.findById(rolloverId).orElseThrow();
+            rollover.setFinishedAt(LocalDateTime.now());
+            if (failure != null) {
+                rollover.setStatus(LeaveRollover.RolloverStatus.FAILED);
+                rollover.setErrorSummary("Rollover aborted after employee " + rollover.getLastEmployeeId()
+                        + ": " + failure.getMessage());
+            } else {
+                rollover.setStatus(LeaveRollover.RolloverStatus.COMPLETED);
+            }
+            log.info("Leave rollover {} finished with status {}: {} employees, {} balances created",
+                    rollover.getRolloverYear(), rollover.getStatus(), rollover.getProcessedCount(),
+                    rollover.getInsertedBalances());
+        });
+    }
+
+    private LeaveRolloverDto convertToDto(LeaveRollover rollover) {
+        LeaveRolloverDto dto = new LeaveRolloverDto();
+        dto.setId(rollover.getId());
+        dto.setYear(rollover.getRolloverYear());
+        dto.setStatus(rollover.getStatus() != null ? rollover.getStatus().name() : null);
+        dto.setTotalEmployees(rollover.getTotalEmployees());
+        dto.setProcessedCount(rollover.getProcessedCount());
+        dto.setInsertedBalances(rollover.getInsertedBalances());
+        dto.setLastEmployeeId(rollover.getLastEmployeeId());
+        dto.setChunkSize(rollover.getChunkSize());
+        dto.setStartedAt(rollover.getStartedAt());
+        dto.setFinishedAt(rollover.getFinishedAt());
+        dto.setErrorSummary(rollover.getErrorSummary());
+
+        int total = rollover.getTotalEmployees() != null ? rollover.getTotalEmployees() : 0;
+        int done = rollover.getProcessedCount() != null ? rollover.getProcessedCount() : 0;
+        double progress = total > 0 ? Math.min(100.0, done * 100.0 / total)
+                : (rollover.getStatus() == LeaveRollover.RolloverStatus.COMPLETED ? 100.0 : 0.0);
+        dto.setProgressPercentage(Math.round(progress * 100.0) / 100.0);
+        return dto;
+    }
+}
@@ -1,24 +1,28 @@
 package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionRequest;
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionResponse;
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionResult;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveApplicationDto;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveBalanceDto;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveTypeDto;
 import com.garmentmanagement.garmentmanagement.Entity.*;
+import com.garmentmanagement.garmentmanagement.Mapper.LeaveMapper;
 import com.garmentmanagement.garmentmanagement.Repository.EmployeeRepository;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveApplicationBatchRepository;
 import com.garmentmanagement.garmentmanagement.Repository.LeaveApplicationRepository;
 import com.garmentmanagement.garmentmanagement.Repository.LeaveBalanceRepository;
 import com.garmentmanagement.garmentmanagement.Repository.LeaveTypeRepository;
 import com.garmentmanagement.garmentmanagement.Service.LeaveService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +34,14 @@ public class LeaveServiceImplementation implements LeaveService {
     private final LeaveApplicationRepository leaveApplicationRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
     private final EmployeeRepository employeeRepository;
-    private final ModelMapper modelMapper;
+    private final LeaveMapper leaveMapper;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final LeaveConflictIndex leaveConflictIndex;
+    private final LeaveLedger leaveLedger;
+    private final LeaveApplicationBatchRepository leaveApplicationBatchRepository;
+
+    @Value("${leave.bulk.max-items:1000}")
+    private int bulkMaxItems;
 
     // ==================== LEAVE TYPE METHODS ====================
 
@@ -44,7 +55,7 @@ public class LeaveServiceImplementation implements LeaveService {
             throw new RuntimeException("Leave type code already exists: " + leaveTypeDto.getCode());
         }
 
-        LeaveType leaveType = modelMapper.map(leaveTypeDto, LeaveType.class);
+        LeaveType leaveType = leaveMapper.toEntity(leaveTypeDto);
 
         // Set enum category
         if (leaveTypeDto.getCategory() != null) {
@@ -72,7 +83,7 @@ public class LeaveServiceImplementation implements LeaveService {
             throw new RuntimeException("Leave type code already exists: " + leaveTypeDto.getCode());
         }
 
-        modelMapper.map(leaveTypeDto, existing);
+        leaveMapper.copyToEntity(leaveTypeDto, existing);
 
         // Update enum
         if (leaveTypeDto.getCategory() != null) {
@@ -134,14 +145,13 @@ public class LeaveServiceImplementation implements LeaveService {
         LeaveType leaveType = leaveTypeRepository.findById(leaveApplicationDto.getLeaveTypeId())
                 .orElseThrow(() -> new RuntimeException("Leave type not found with id: " + leaveApplicationDto.getLeaveTypeId()));
 
-        // Check for overlapping leaves
-        List<LeaveApplication> overlappingLeaves = leaveApplicationRepository.findOverlappingLeaves(
-                employee.getId(),
-                leaveApplicationDto.getStartDate(),
-                leaveApplicationDto.getEndDate()
-        );
+        if (leaveApplicationDto.getStartDate() == null || leaveApplicationDto.getEndDate() == null
+                || leaveApplicationDto.getEndDate().isBefore(leaveApplicationDto.getStartDate())) {
+            throw new RuntimeException("Leave end date must not be before the start date");
+        }
 
-        if (!overlappingLeaves.isEmpty()) {
+        // Check for overlapping leaves (cached interval index, confirmed by an indexed query when it finds none)
+        if (leaveConflictIndex.overlaps(employee.getId(), leaveApplicationDto.getStartDate(), leaveApplicationDto.getEndDate())) {
             throw new RuntimeException("You have overlapping leave applications for the selected dates");
         }
 
@@ -151,12 +161,15 @@ public class LeaveServiceImplementation implements LeaveService {
                 .orElseThrow(() -> new RuntimeException("Leave balance not found"));
 
         int requestedDays = calculateWorkingDays(leaveApplicationDto.getStartDate(), leaveApplicationDto.getEndDate());
+        if (requestedDays == 0) {
+            throw new RuntimeException("The selected dates contain no working days");
+        }
 
         if (balance.getRemainingDays() < requestedDays) {
             throw new RuntimeException("Insufficient leave balance. Available: " + balance.getRemainingDays() + ", Requested: " + requestedDays);
         }
 
-        LeaveApplication leaveApplication = modelMapper.map(leaveApplicationDto, LeaveApplication.class);
+        LeaveApplication leaveApplication = leaveMapper.toEntity(leaveApplicationDto);
         leaveApplication.setEmployee(employee);
         leaveApplication.setLeaveType(leaveType);
         leaveApplication.setAppliedDate(LocalDateTime.now());
@@ -164,6 +177,7 @@ public class LeaveServiceImplementation implements LeaveService {
         leaveApplication.setTotalDays(requestedDays);
 
         LeaveApplication saved = leaveApplicationRepository.save(leaveApplication);
+        leaveConflictIndex.evict(employee.getId());
         return convertToLeaveApplicationDto(saved);
     }
 
@@ -175,16 +189,12 @@ public class LeaveServiceImplementation implements LeaveService {
         Employee approver = employeeRepository.findById(approvedBy)
                 .orElseThrow(() -> new RuntimeException("Approver not found with id: " + approvedBy));
 
-        // Update leave balance
-        LeaveBalance balance = leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(
-                        leaveApplication.getEmployee().getId(),
-                        leaveApplication.getLeaveType().getId(),
-                        LocalDate.now().getYear())
-                .orElseThrow(() -> new RuntimeException("Leave balance not found"));
+        if (leaveApplication.getStatus() != LeaveApplication.LeaveStatus.PENDING) {
+            throw new RuntimeException("Only pending leaves can be approved");
+        }
 
-        balance.setUsedDays(balance.getUsedDays() + leaveApplication.getTotalDays());
-        balance.calculateRemainingDays();
-        leaveBalanceRepository.save(balance);
+        // Update leave balance (ledger entry + atomic increment)
+        leaveLedger.takeLeave(leaveApplication, LocalDate.now().getYear());
 
         // Update leave application
         leaveApplication.setStatus(LeaveApplication.LeaveStatus.APPROVED);
@@ -210,9 +220,20 @@ public class LeaveServiceImplementation implements LeaveService {
         leaveApplication.setProcessedDate(LocalDateTime.now());
 
         LeaveApplication updated = leaveApplicationRepository.save(leaveApplication);
+        leaveConflictIndex.evict(leaveApplication.getEmployee().getId());
         return convertToLeaveApplicationDto(updated);
     }
 
+    @Override
+    public BulkLeaveDecisionResponse approveLeaves(BulkLeaveDecisionRequest request) {
+        return decideLeaves(request, LeaveApplication.LeaveStatus.APPROVED);
+    }
+
+    @Override
+    public BulkLeaveDecisionResponse rejectLeaves(BulkLeaveDecisionRequest request) {
+        return decideLeaves(request, LeaveApplication.LeaveStatus.REJECTED);
+    }
+
     @Override
     public LeaveApplicationDto cancelLeave(Long leaveId, Long employeeId) {
         LeaveApplication leaveApplication = leaveApplicationRepository.findById(leaveId)
@@ -226,19 +247,12 @@ public class LeaveServiceImplementation implements LeaveService {
         // Check if leave is already approved
         if (leaveApplication.getStatus() == LeaveApplication.LeaveStatus.APPROVED) {
             // Return leave balance
-            LeaveBalance balance = leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(
-                            leaveApplication.getEmployee().getId(),
-                            leaveApplication.getLeaveType().getId(),
-                            LocalDate.now().getYear())
-                    .orElseThrow(() -> new RuntimeException("Leave balance not found"));
-
-            balance.setUsedDays(balance.getUsedDays() - leaveApplication.getTotalDays());
-            balance.calculateRemainingDays();
-            leaveBalanceRepository.save(balance);
+            leaveLedger.returnLeave(leaveApplication);
         }
 
         leaveApplication.setStatus(LeaveApplication.LeaveStatus.CANCELLED);
         LeaveApplication updated = leaveApplicationRepository.save(leaveApplication);
+        leaveConflictIndex.evict(employeeId);
         return convertToLeaveApplicationDto(updated);
     }
 
@@ -284,20 +298,106 @@ public class LeaveServiceImplementation implements LeaveService {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public void initializeYearlyLeaveBalances(Integer year) {
-        // Implementation for initializing yearly leave balances for all employees
-        // This would typically run at the beginning of each year
-    }
-
     // ==================== HELPER METHODS ====================
 
+    /**
+     * Loads the applications (with employee and leave type), the approver and the balances in set queries,
+     * checks every item - pending, balance present and sufficient for all of the employee's approved items
+     * together - and applies the valid ones with batched status updates and ledger writes.
+     */
+    private BulkLeaveDecisionResponse decideLeaves(BulkLeaveDecisionRequest request, LeaveApplication.LeaveStatus decision) {
+        if (request == null || request.getLeaveIds() == null || request.getLeaveIds().isEmpty()) {
+            throw new RuntimeException("No leave applications given");
+        }
+        List<Long> leaveIds = request.getLeaveIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (leaveIds.size() > bulkMaxItems) {
+            throw new RuntimeException("At most " + bulkMaxItems + " leave applications per request");
+        }
+        if (request.getApprovedBy() == null) {
+            throw new RuntimeException("Approver is required");
+        }
+        Employee approver = employeeRepository.findById(request.getApprovedBy())
+                .orElseThrow(() -> new RuntimeException("Approver not found with id: " + request.getApprovedBy()));
+
+        Map<Long, LeaveApplication> applications = leaveApplicationRepository.findAllWithDetailsByIdIn(leaveIds).stream()
+                .collect(Collectors.toMap(LeaveApplication::getId, Function.identity()));
+        boolean approving = decision == LeaveApplication.LeaveStatus.APPROVED;
+        int year = LocalDate.now().getYear();
+
+        // Remaining days per (employee, leave type), drawn down as items are accepted
+        Map<List<Long>, Integer> remaining = new HashMap<>();
+        if (approving && !applications.isEmpty()) {
+            Set<Long> employeeIds = applications.values().stream()
+                    .map(leave -> leave.getEmployee().getId())
+                    .collect(Collectors.toSet());
+            for (Object[] row : leaveBalanceRepository.findRemainingDays(year, employeeIds)) {
+                remaining.put(List.of((Long) row[0], (Long) row[1]), (Integer) row[2]);
+            }
+        }
+
+        List<BulkLeaveDecisionResult> results = new ArrayList<>(leaveIds.size());
+        List<LeaveApplication> accepted = new ArrayList<>();
+        for (Long leaveId : leaveIds) {
+            LeaveApplication leave = applications.get(leaveId);
+            String problem = null;
+            if (leave == null) {
+                problem = "Leave application not found";
+            } else if (leave.getStatus() != LeaveApplication.LeaveStatus.PENDING) {
+                problem = "Only pending leaves can be " + decision.name().toLowerCase(Locale.ROOT);
+            } else if (approving) {
+                List<Long> key = List.of(leave.getEmployee().getId(), leave.getLeaveType().getId());
+                Integer available = remaining.get(key);
+                int requested = leave.getTotalDays() != null ? leave.getTotalDays() : 0;
+                if (available == null) {
+                    problem = "Leave balance not found";
+                } else if (available < requested) {
+                    problem = "Insufficient leave balance. Available: " + available + ", Requested: " + requested;
+                } else {
+                    remaining.put(key, available - requested);
+                }
+            }
+
+            if (problem != null) {
+                results.add(new BulkLeaveDecisionResult(leaveId, leave != null ? leave.getEmployee().getId() : null,
+                        false, leave != null ? leave.getStatus().name() : null, problem));
+            } else {
+                accepted.add(leave);
+                results.add(new BulkLeaveDecisionResult(leaveId, leave.getEmployee().getId(), true, decision.name(), null));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<Long> acceptedIds = accepted.stream().map(LeaveApplication::getId).toList();
+            int[] updated = leaveApplicationBatchRepository.decide(acceptedIds, decision, approver.getId(), request.getRemarks());
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    throw new RuntimeException("Leave application " + acceptedIds.get(i) + " was processed concurrently, retry");
+                }
+            }
+            if (approving) {
+                leaveLedger.takeLeaves(accepted, year);
+            } else {
+                accepted.stream()
+                        .map(leave -> leave.getEmployee().getId())
+                        .distinct()
+                        .forEach(leaveConflictIndex::evict);
+            }
+        }
+
+        return new BulkLeaveDecisionResponse(decision.name(), leaveIds.size(), accepted.size(),
+                leaveIds.size() - accepted.size(), results);
+    }
+
+    // Weekly off days and holidays inside the range are not charged
     private int calculateWorkingDays(LocalDate startDate, LocalDate endDate) {
-        return (int) java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        return workingDayCalendar.workingDays(startDate, endDate);
     }
 
     private LeaveTypeDto convertToLeaveTypeDto(LeaveType leaveType) {
-        LeaveTypeDto dto = modelMapper.map(leaveType, LeaveTypeDto.class);
+        LeaveTypeDto dto = leaveMapper.toDto(leaveType);
         if (leaveType.getCategory() != null) {
             dto.setCategory(leaveType.getCategory().name());
         }
@@ -305,7 +405,7 @@ public class LeaveServiceImplementation implements LeaveService {
     }
 
     private LeaveApplicationDto convertToLeaveApplicationDto(LeaveApplication leaveApplication) {
-        LeaveApplicationDto dto = modelMapper.map(leaveApplication, LeaveApplicationDto.class);
+        LeaveApplicationDto dto = leaveMapper.toDto(leaveApplication);
 
         // Employee data
         if (leaveApplication.getEmployee() != null) {
@@ -341,7 +441,7 @@ public class LeaveServiceImplementation implements LeaveService {
     }
 
     private LeaveBalanceDto convertToLeaveBalanceDto(LeaveBalance leaveBalance) {
-        LeaveBalanceDto dto = modelMapper.map(leaveBalance, LeaveBalanceDto.class);
+        LeaveBalanceDto dto = leaveMapper.toDto(leaveBalance);
 
         if (leaveBalance.getEmployee() != null) {
             dto.setEmployeeId(leaveBalance.getEmployee().getId());
@@ -370,12 +470,13 @@ public class LeaveServiceImplementation implements LeaveService {
             throw new RuntimeException("Only pending leaves can be updated");
         }
 
-        modelMapper.map(leaveApplicationDto, existing);
+        leaveMapper.copyToEntity(leaveApplicationDto, existing);
 
         // Recalculate total days
         existing.calculateTotalDays();
 
         LeaveApplication updated = leaveApplicationRepository.save(existing);
+        leaveConflictIndex.evict(existing.getEmployee().getId());
         return convertToLeaveApplicationDto(updated);
     }
 
@@ -412,10 +513,9 @@ public class LeaveServiceImplementation implements LeaveService {
 
     @Override
     public List<LeaveApplicationDto> getLeavesByEmployeeAndDateRange(Long employeeId, LocalDate startDate, LocalDate endDate) {
-        // First get all leaves by employee, then filter by date range
-        return leaveApplicationRepository.findByEmployeeId(employeeId)
+        // Leaves sharing at least one day with the range
+        return leaveApplicationRepository.findByEmployeeOverlappingRange(employeeId, startDate, endDate)
                 .stream()
-                .filter(leave -> !leave.getStartDate().isAfter(endDate) && !leave.getEndDate().isBefore(startDate))
                 .map(this::convertToLeaveApplicationDto)
                 .collect(Collectors.toList());
     }
@@ -430,14 +530,11 @@ public class LeaveServiceImplementation implements LeaveService {
 
     @Override
     public LeaveBalanceDto updateLeaveBalance(Long employeeId, Long leaveTypeId, Integer additionalDays) {
-        LeaveBalance balance = leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(
-                        employeeId, leaveTypeId, LocalDate.now().getYear())
-                .orElseThrow(() -> new RuntimeException("Leave balance not found"));
-
-        balance.setTotalDays(balance.getTotalDays() + additionalDays);
-        balance.calculateRemainingDays();
+        int year = LocalDate.now().getYear();
+        leaveLedger.adjustTotal(employeeId, leaveTypeId, year, additionalDays);
 
-        LeaveBalance updated = leaveBalanceRepository.save(balance);
+        LeaveBalance updated = leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndYear(employeeId, leaveTypeId, year)
+                .orElseThrow(() -> new RuntimeException("Leave balance not found"));
         return convertToLeaveBalanceDto(updated);
     }
 
@@ -494,10 +591,7 @@ public class LeaveServiceImplementation implements LeaveService {
     @Override
     public boolean checkLeaveAvailability(Long employeeId, Long leaveTypeId, LocalDate startDate, LocalDate endDate) {
         // Check for overlapping leaves
-        List<LeaveApplication> overlappingLeaves = leaveApplicationRepository.findOverlappingLeaves(
-                employeeId, startDate, endDate);
-
-        if (!overlappingLeaves.isEmpty()) {
+        if (leaveConflictIndex.overlaps(employeeId, startDate, endDate)) {
             return false;
         }
 
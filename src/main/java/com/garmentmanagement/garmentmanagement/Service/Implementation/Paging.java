@@ -0,0 +1,39 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+// Shared request validation for paged list endpoints
+final class Paging {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private Paging() {
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // Sorting is limited to whitelisted (indexed) properties; ties are broken by id for stable pages
+    static Pageable pageable(Integer page, Integer size, String sortBy, String direction,
+                             Set<String> sortable, String defaultSort) {
+        String property = sortBy == null || sortBy.isBlank() ? defaultSort : sortBy;
+        if (!sortable.contains(property)) {
+            throw new RuntimeException("Unsupported sort property: " + property + ". Allowed: " + sortable);
+        }
+        Sort.Direction dir = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(dir, property);
+        if (!"id".equals(property)) {
+            sort = sort.and(Sort.by(dir, "id"));
+        }
+        return PageRequest.of(page == null || page < 0 ? 0 : page, pageSize(size), sort);
+    }
+}
@@ -0,0 +1,59 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.Payroll;
+import com.garmentmanagement.garmentmanagement.Entity.SalaryStructure;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Payroll arithmetic shared by single-employee processing and bulk payroll runs.
+ * Pure computation apart from the (cached) working-day calendar - callers supply the attendance figures.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayrollCalculator {
+
+    private final WorkingDayCalendar workingDayCalendar;
+
+    // Weekly off days and holidays are paid, so absences are counted against working days only
+    public int getWorkingDays(YearMonth payPeriod) {
+        return workingDayCalendar.workingDays(payPeriod);
+    }
+
+    public Payroll calculate(Employee employee, SalaryStructure salaryStructure, YearMonth payPeriod, long presentDays) {
+        long workingDays = getWorkingDays(payPeriod);
+
+        Payroll payroll = new Payroll();
+        payroll.setEmployee(employee);
+        payroll.setPayPeriod(payPeriod);
+        payroll.setPayDate(LocalDate.now());
+        payroll.setBasicSalary(salaryStructure.getBasicSalary());
+        payroll.setTotalAllowances(salaryStructure.getHouseRent()
+                .add(salaryStructure.getMedicalAllowance())
+                .add(salaryStructure.getTransportAllowance())
+                .add(salaryStructure.getOtherAllowances()));
+        payroll.setWorkingDays((int) workingDays);
+        payroll.setPresentDays((int) presentDays);
+
+        // Calculate deductions for absent days. Days worked on weekly off days or holidays are counted as
+        // present too, so they can exceed the working days; a month without working days deducts nothing
+        long absentDays = Math.max(0, workingDays - presentDays);
+        if (workingDays > 0) {
+            double dailySalary = salaryStructure.getBasicSalary().doubleValue() / workingDays;
+            payroll.setOtherDeductions(BigDecimal.valueOf(absentDays * dailySalary));
+        }
+
+        payroll.calculatePayroll();
+        payroll.setStatus(Payroll.PayrollStatus.PROCESSED);
+        return payroll;
+    }
+
+    public String payslipCode(Payroll payroll) {
+        return "PS-" + payroll.getPayPeriod() + "-" + payroll.getEmployee().getEmployeeId();
+    }
+}
@@ -0,0 +1,276 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.PayrollRunDto;
+import com.garmentmanagement.garmentmanagement.Entity.*;
+import com.garmentmanagement.garmentmanagement.Repository.*;
+import com.garmentmanagement.garmentmanagement.Service.PayrollRunService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk payroll engine. A run prefetches salary structures, existing payrolls and present days (from
+ * the monthly summaries) for the whole period in a few set queries, then computes payrolls in parallel
+ * chunks. Every chunk commits in its own transaction with JDBC-batched payroll and payslip inserts, so a
+ * bad chunk only fails its own employees and progress is visible through the payroll_runs row while the run executes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollRunServiceImplementation implements PayrollRunService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final PayrollRunRepository payrollRunRepo;
+    private final PayrollRepository payrollRepo;
+    private final SalaryStructureRepository salaryStructureRepo;
+    private final PayrollBatchRepository payrollBatchRepo;
+    private final PayrollCalculator payrollCalculator;
+    private final EmployeeMonthlySummaries employeeMonthlySummaries;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${payroll.run.pool-size:4}")
+    private int poolSize;
+
+    @Value("${payroll.run.chunk-size:200}")
+    private int chunkSize;
+
+    private ExecutorService chunkExecutor;
+    private ExecutorService runCoordinator;
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        chunkExecutor = Executors.newFixedThreadPool(Math.max(1, poolSize), runnable -> {
+            Thread thread = new Thread(runnable, "payroll-run-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        runCoordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payroll-run-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runCoordinator.shutdownNow();
+        chunkExecutor.shutdownNow();
+    }
+
+    @Override
+    public PayrollRunDto startRun(YearMonth payPeriod, List<Long> employeeIds) {
+        PayrollRun run = createRun(payPeriod);
+        runCoordinator.submit(() -> execute(run.getId(), payPeriod, employeeIds));
+        return convertToDto(run);
+    }
+
+    @Override
+    public PayrollRunDto runAndWait(YearMonth payPeriod, List<Long> employeeIds) {
+        PayrollRun run = createRun(payPeriod);
+        execute(run.getId(), payPeriod, employeeIds);
+        return getRun(run.getId());
+    }
+
+    @Override
+    public PayrollRunDto getRun(Long runId) {
+        PayrollRun run = payrollRunRepo.findById(runId)
+                .orElseThrow(() -> new RuntimeException("Payroll run not found with ID: " + runId));
+        return convertToDto(run);
+    }
+
+    @Override
+    public List<PayrollRunDto> getRuns(YearMonth payPeriod) {
+        List<PayrollRun> runs = payPeriod != null
+                ? payrollRunRepo.findByPayPeriodOrderByIdDesc(payPeriod)
+                : payrollRunRepo.findTop20ByOrderByIdDesc();
+        return runs.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    // ==================== RUN EXECUTION ====================
+
+    private synchronized PayrollRun createRun(YearMonth payPeriod) {
+        if (payrollRunRepo.existsActiveRunForPeriod(payPeriod)) {
+            throw new RuntimeException("A payroll run is already in progress for period " + payPeriod);
+        }
+
+        PayrollRun run = new PayrollRun();
+        run.setPayPeriod(payPeriod);
+        run.setStatus(PayrollRun.RunStatus.QUEUED);
+        run.setChunkSize(chunkSize);
+        return payrollRunRepo.save(run);
+    }
+
+    private void execute(Long runId, YearMonth payPeriod, List<Long> employeeIds) {
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+        AtomicInteger errorCount = new AtomicInteger();
+
+        try {
+            // 1. Prefetch everything the run needs with set queries
+            boolean allEmployees = employeeIds == null || employeeIds.isEmpty();
+            Set<Long> requestedIds = allEmployees ? Set.of() : new LinkedHashSet<>(employeeIds);
+
+            List<SalaryStructure> structures = allEmployees
+                    ? salaryStructureRepo.findByEmployeeStatusWithEmployee(Employee.EmployeeStatus.ACTIVE)
+                    : salaryStructureRepo.findByEmployeeIdInWithEmployee(requestedIds);
+            Set<Long> alreadyProcessed = new HashSet<>(payrollRepo.findEmployeeIdsByPayPeriod(payPeriod));
+            Map<Long, Long> presentDays = countPresentDays(payPeriod);
+
+            Set<Long> withStructure = structures.stream()
+                    .map(structure -> structure.getEmployee().getId())
+                    .collect(Collectors.toSet());
+            int missingStructures = 0;
+            for (Long employeeId : requestedIds) {
+                if (!withStructure.contains(employeeId)) {
+                    missingStructures++;
+                    reportError(errors, errorCount, "Employee " + employeeId + ": salary structure not found");
+                }
+            }
+
+            List<SalaryStructure> pending = structures.stream()
+                    .filter(structure -> !alreadyProcessed.contains(structure.getEmployee().getId()))
+                    .collect(Collectors.toList());
+
+            int total = allEmployees ? structures.size() : requestedIds.size();
+            int skipped = structures.size() - pending.size();
+            int failed = missingStructures;
+            chunkTransaction.executeWithoutResult(status -> {
+                PayrollRun run = payrollRunRepo.findById(runId).orElseThrow();
+                run.setStatus(PayrollRun.RunStatus.RUNNING);
+                run.setStartedAt(LocalDateTime.now());
+                run.setTotalEmployees(total);
+                run.setSkippedCount(skipped);
+                run.setFailedCount(failed);
+            });
+            log.info("Payroll run {} for {}: {} employees, {} to process, {} already processed",
+                    runId, payPeriod, total, pending.size(), skipped);
+
+            // 2. Compute and persist in parallel chunks, each in its own transaction
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += chunkSize) {
+                List<SalaryStructure> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                chunks.add(chunkExecutor.submit(() -> processChunk(runId, payPeriod, chunk, presentDays, errors, errorCount)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+
+            finishRun(runId, errors, errorCount, null);
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Payroll run {} failed: {}", runId, e.getMessage(), e);
+            finishRun(runId, errors, errorCount, e);
+        }
+    }
+
+    private void processChunk(Long runId, YearMonth payPeriod, List<SalaryStructure> chunk,
+                              Map<Long, Long> presentDays, Queue<String> errors, AtomicInteger errorCount) {
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                List<Payroll> payrolls = new ArrayList<>(chunk.size());
+                for (SalaryStructure structure : chunk) {
+                    Employee employee = structure.getEmployee();
+                    long present = presentDays.getOrDefault(employee.getId(), 0L);
+                    payrolls.add(payrollCalculator.calculate(employee, structure, payPeriod, present));
+                }
+                payrollBatchRepo.insertPayrolls(payrolls);
+
+                List<Payslip> payslips = new ArrayList<>(payrolls.size());
+                for (Payroll payroll : payrolls) {
+                    Payslip payslip = new Payslip();
+                    payslip.setPayroll(payroll);
+                    payslip.setPayslipCode(payrollCalculator.payslipCode(payroll));
+                    payslip.setIssueDate(LocalDate.now());
+                    payslip.setIsGenerated(true);
+                    payslips.add(payslip);
+                }
+                payrollBatchRepo.insertPayslips(payslips);
+
+                payrollRunRepo.incrementProgress(runId, payrolls.size(), 0);
+            });
+        } catch (Exception e) {
+            log.warn("Payroll run {}: chunk of {} employees failed: {}", runId, chunk.size(), e.getMessage());
+            reportError(errors, errorCount, "Chunk starting at employee " + chunk.get(0).getEmployee().getId()
+                    + " (" + chunk.size() + " employees) failed: " + e.getMessage());
+            chunkTransaction.executeWithoutResult(status -> payrollRunRepo.incrementProgress(runId, 0, chunk.size()));
+        }
+    }
+
+    private void finishRun(Long runId, Queue<String> errors, AtomicInteger errorCount, Exception failure) {
+        chunkTransaction.executeWithoutResult(status -> {
+            PayrollRun run = payrollRunRepo.findById(runId).orElseThrow();
+            run.setFinishedAt(LocalDateTime.now());
+            if (failure != null) {
+                run.setStatus(PayrollRun.RunStatus.FAILED);
+                errors.add("Run aborted: " + failure.getMessage());
+            } else if (run.getFailedCount() > 0) {
+                run.setStatus(PayrollRun.RunStatus.COMPLETED_WITH_ERRORS);
+            } else {
+                run.setStatus(PayrollRun.RunStatus.COMPLETED);
+            }
+            if (errorCount.get() > MAX_REPORTED_ERRORS) {
+                errors.add("... " + (errorCount.get() - MAX_REPORTED_ERRORS) + " more errors");
+            }
+            run.setErrorSummary(errors.isEmpty() ? null : String.join("\n", errors));
+            log.info("Payroll run {} finished with status {}: {} processed, {} skipped, {} failed",
+                    runId, run.getStatus(), run.getProcessedCount(), run.getSkippedCount(), run.getFailedCount());
+        });
+    }
+
+    // Present + late days per employee from the monthly summaries (one row per employee)
+    private Map<Long, Long> countPresentDays(YearMonth payPeriod) {
+        return employeeMonthlySummaries.presentDays(payPeriod);
+    }
+
+    private void reportError(Queue<String> errors, AtomicInteger errorCount, String message) {
+        if (errorCount.incrementAndGet() <= MAX_REPORTED_ERRORS) {
+            errors.add(message);
+        }
+    }
+
+    private PayrollRunDto convertToDto(PayrollRun run) {
+        PayrollRunDto dto = new PayrollRunDto();
+        dto.setId(run.getId());
+        dto.setPayPeriod(run.getPayPeriod() != null ? run.getPayPeriod().toString() : null);
+        dto.setStatus(run.getStatus() != null ? run.getStatus().name() : null);
+        dto.setTotalEmployees(run.getTotalEmployees());
+        dto.setProcessedCount(run.getProcessedCount());
+        dto.setSkippedCount(run.getSkippedCount());
+        dto.setFailedCount(run.getFailedCount());
+        dto.setChunkSize(run.getChunkSize());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        dto.setErrorSummary(run.getErrorSummary());
+
+        int total = run.getTotalEmployees() != null ? run.getTotalEmployees() : 0;
+        int done = run.getProcessedCount() + run.getSkippedCount() + run.getFailedCount();
+        double progress = total > 0 ? Math.min(100.0, done * 100.0 / total)
+                : (run.getStatus() == PayrollRun.RunStatus.COMPLETED ? 100.0 : 0.0);
+        dto.setProgressPercentage(Math.round(progress * 100.0) / 100.0);
+        return dto;
+    }
+}
@@ -2,11 +2,14 @@ package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
 import com.garmentmanagement.garmentmanagement.DTO.*;
 import com.garmentmanagement.garmentmanagement.Entity.*;
+import com.garmentmanagement.garmentmanagement.Mapper.PayrollMapper;
 import com.garmentmanagement.garmentmanagement.Repository.*;
+import com.garmentmanagement.garmentmanagement.Service.PayrollRunService;
 import com.garmentmanagement.garmentmanagement.Service.PayrollService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 
@@ -19,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -29,8 +33,10 @@ public class PayrollServiceImplementation implements PayrollService {
     private final PayslipRepository payslipRepo;
     private final BonusRepository bonusRepo;
     private final EmployeeRepository employeeRepo;
-    private final AttendanceRepository attendanceRepo;
-    private final ModelMapper modelMapper;
+    private final PayrollMapper payrollMapper;
+    private final PayrollCalculator payrollCalculator;
+    private final PayrollRunService payrollRunService;
+    private final EmployeeMonthlySummaries employeeMonthlySummaries;
 
     // ==================== SALARY STRUCTURE METHODS ====================
 
@@ -44,7 +50,7 @@ public class PayrollServiceImplementation implements PayrollService {
         Employee employee = employeeRepo.findById(salaryStructureDto.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        SalaryStructure salaryStructure = modelMapper.map(salaryStructureDto, SalaryStructure.class);
+        SalaryStructure salaryStructure = payrollMapper.toEntity(salaryStructureDto);
         salaryStructure.setEmployee(employee);
         salaryStructure.calculateSalaries();
 
@@ -57,7 +63,7 @@ public class PayrollServiceImplementation implements PayrollService {
         SalaryStructure existing = salaryStructureRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Salary structure not found"));
 
-        modelMapper.map(salaryStructureDto, existing);
+        payrollMapper.copyToEntity(salaryStructureDto, existing);
         existing.calculateSalaries();
 
         SalaryStructure updated = salaryStructureRepo.save(existing);
@@ -91,11 +97,10 @@ public class PayrollServiceImplementation implements PayrollService {
     @Override
     public PayrollDto processPayroll(Long employeeId, YearMonth payPeriod) {
         try {
-            System.out.println("🔍 Processing payroll for employee: " + employeeId + ", period: " + payPeriod);
+            log.debug("Processing payroll for employee {}, period {}", employeeId, payPeriod);
 
             // Check if payroll already processed
             if (payrollRepo.existsByEmployeeIdAndPayPeriod(employeeId, payPeriod)) {
-                System.out.println("❌ Payroll already exists for employee " + employeeId + " in period " + payPeriod);
                 throw new RuntimeException("PAYROLL_ALREADY_EXISTS: Payroll already processed for employee " + employeeId + " in period " + payPeriod);
             }
 
@@ -105,49 +110,20 @@ public class PayrollServiceImplementation implements PayrollService {
             SalaryStructure salaryStructure = salaryStructureRepo.findByEmployeeId(employeeId)
                     .orElseThrow(() -> new RuntimeException("Salary structure not found for employee: " + employeeId));
 
-            // Get attendance data for the period
-            int year = payPeriod.getYear();
-            int month = payPeriod.getMonthValue();
-            List<Attendance> attendanceList = attendanceRepo.findByEmployeeIdAndMonth(employeeId, year, month);
-
-            long presentDays = attendanceList.stream()
-                    .filter(att -> att.getStatus() == Attendance.AttendanceStatus.PRESENT ||
-                            att.getStatus() == Attendance.AttendanceStatus.LATE)
-                    .count();
-
-            long workingDays = LocalDate.of(year, month, 1).lengthOfMonth();
+            long presentDays = countPresentDays(employeeId, payPeriod);
 
             // Calculate payroll
-            Payroll payroll = new Payroll();
-            payroll.setEmployee(employee);
-            payroll.setPayPeriod(payPeriod);
-            payroll.setPayDate(LocalDate.now());
-            payroll.setBasicSalary(salaryStructure.getBasicSalary());
-            payroll.setTotalAllowances(salaryStructure.getHouseRent()
-                    .add(salaryStructure.getMedicalAllowance())
-                    .add(salaryStructure.getTransportAllowance())
-                    .add(salaryStructure.getOtherAllowances()));
-            payroll.setWorkingDays((int) workingDays);
-            payroll.setPresentDays((int) presentDays);
-
-            // Calculate deductions for absent days
-            double dailySalary = salaryStructure.getBasicSalary().doubleValue() / workingDays;
-            long absentDays = workingDays - presentDays;
-            payroll.setOtherDeductions(BigDecimal.valueOf(absentDays * dailySalary));
-
-            payroll.calculatePayroll();
-            payroll.setStatus(Payroll.PayrollStatus.PROCESSED);
+            Payroll payroll = payrollCalculator.calculate(employee, salaryStructure, payPeriod, presentDays);
 
             Payroll saved = payrollRepo.save(payroll);
-            System.out.println("✅ Payroll processed successfully: " + saved.getId());
+            log.debug("Payroll {} processed for employee {}", saved.getId(), employeeId);
 
             // ✅ AUTO-GENERATE PAYSLIP AFTER PAYROLL PROCESSING
             try {
-                System.out.println("🔄 Auto-generating payslip for payroll ID: " + saved.getId());
                 PayslipDto payslip = generatePayslip(saved.getId());
-                System.out.println("✅ Payslip auto-generated successfully: " + payslip.getPayslipCode());
+                log.debug("Payslip {} generated for payroll {}", payslip.getPayslipCode(), saved.getId());
             } catch (Exception payslipException) {
-                System.err.println("⚠️ Payroll processed but payslip generation failed: " + payslipException.getMessage());
+                log.warn("Payroll {} processed but payslip generation failed: {}", saved.getId(), payslipException.getMessage());
                 // Don't throw - payroll is still processed successfully
                 // Log the error but don't stop the payroll process
             }
@@ -157,21 +133,31 @@ public class PayrollServiceImplementation implements PayrollService {
         } catch (RuntimeException e) {
             // Re-throw business exceptions (like duplicate payroll)
             if (e.getMessage().contains("PAYROLL_ALREADY_EXISTS")) {
-                System.err.println("🔴 Business exception: " + e.getMessage());
+                log.info("Payroll not processed: {}", e.getMessage());
                 throw e;
             }
-            System.err.println("❌ Error processing payroll: " + e.getMessage());
+            log.error("Error processing payroll for employee {}: {}", employeeId, e.getMessage());
             throw new RuntimeException("Failed to process payroll: " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("❌ Unexpected error processing payroll: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error processing payroll for employee {}", employeeId, e);
             throw new RuntimeException("Unexpected error processing payroll: " + e.getMessage(), e);
         }
     }
+
+    // Delegates to the chunked payroll run engine; employees already processed for the period are skipped
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<PayrollDto> processBulkPayroll(YearMonth payPeriod, List<Long> employeeIds) {
-        return employeeIds.stream()
-                .map(employeeId -> processPayroll(employeeId, payPeriod))
+        PayrollRunDto run = payrollRunService.runAndWait(payPeriod, employeeIds);
+        log.info("Bulk payroll run {} finished: {} ({} processed, {} failed)",
+                run.getId(), run.getStatus(), run.getProcessedCount(), run.getFailedCount());
+
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return getPayrollsByPeriod(payPeriod);
+        }
+        return payrollRepo.findByPayPeriodAndEmployeeIdIn(payPeriod, employeeIds)
+                .stream()
+                .map(this::convertToPayrollDto)
                 .collect(Collectors.toList());
     }
 
@@ -229,7 +215,7 @@ public class PayrollServiceImplementation implements PayrollService {
 
         Payslip payslip = new Payslip();
         payslip.setPayroll(payroll);
-        payslip.setPayslipCode("PS-" + payroll.getPayPeriod() + "-" + payroll.getEmployee().getEmployeeId());
+        payslip.setPayslipCode(payrollCalculator.payslipCode(payroll));
         payslip.setIssueDate(LocalDate.now());
         payslip.setIsGenerated(true);
 
@@ -271,21 +257,18 @@ public class PayrollServiceImplementation implements PayrollService {
     // ✅ NEW: Get payslips by pay period
     public List<PayslipDto> getPayslipsByPayPeriod(String payPeriod) {
         try {
-            System.out.println("🔍 Processing payslips for period: " + payPeriod);
-
             // Convert String to YearMonth
             YearMonth period = YearMonth.parse(payPeriod);
-            System.out.println("✅ Parsed to YearMonth: " + period);
 
             List<Payslip> payslips = payslipRepo.findByPayPeriod(period);
-            System.out.println("✅ Found " + payslips.size() + " payslips");
+            log.debug("Found {} payslips for period {}", payslips.size(), period);
 
             return payslips.stream()
                     .map(this::convertToPayslipDto)
                     .collect(Collectors.toList());
 
         } catch (DateTimeParseException e) {
-            System.err.println("❌ Error parsing pay period: " + payPeriod);
+            log.warn("Invalid pay period: {}", payPeriod);
             throw new IllegalArgumentException("Invalid pay period format. Expected: yyyy-MM", e);
         }
     }
@@ -296,7 +279,7 @@ public class PayrollServiceImplementation implements PayrollService {
         Employee employee = employeeRepo.findById(bonusDto.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        Bonus bonus = modelMapper.map(bonusDto, Bonus.class);
+        Bonus bonus = payrollMapper.toEntity(bonusDto);
         bonus.setEmployee(employee);
 
         Bonus saved = bonusRepo.save(bonus);
@@ -308,7 +291,7 @@ public class PayrollServiceImplementation implements PayrollService {
         Bonus existing = bonusRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Bonus not found"));
 
-        modelMapper.map(bonusDto, existing);
+        payrollMapper.copyToEntity(bonusDto, existing);
         Bonus updated = bonusRepo.save(existing);
         return convertToBonusDto(updated);
     }
@@ -375,8 +358,15 @@ public class PayrollServiceImplementation implements PayrollService {
 
     // ==================== DTO CONVERSION METHODS ====================
 
+    // Present + late days from the employee's monthly summary
+    private long countPresentDays(Long employeeId, YearMonth payPeriod) {
+        return employeeMonthlySummaries.find(employeeId, payPeriod)
+                .map(summary -> (long) summary.getPresentDays() + summary.getLateDays())
+                .orElse(0L);
+    }
+
     private SalaryStructureDto convertToSalaryStructureDto(SalaryStructure salaryStructure) {
-        SalaryStructureDto dto = modelMapper.map(salaryStructure, SalaryStructureDto.class);
+        SalaryStructureDto dto = payrollMapper.toDto(salaryStructure);
 
         if (salaryStructure.getEmployee() != null) {
             dto.setEmployeeId(salaryStructure.getEmployee().getId());
@@ -397,7 +387,7 @@ public class PayrollServiceImplementation implements PayrollService {
     }
 
     private PayrollDto convertToPayrollDto(Payroll payroll) {
-        PayrollDto dto = modelMapper.map(payroll, PayrollDto.class);
+        PayrollDto dto = payrollMapper.toDto(payroll);
 
         if (payroll.getEmployee() != null) {
             dto.setEmployeeId(payroll.getEmployee().getId());
@@ -418,7 +408,7 @@ public class PayrollServiceImplementation implements PayrollService {
     }
 
     private PayslipDto convertToPayslipDto(Payslip payslip) {
-        PayslipDto dto = modelMapper.map(payslip, PayslipDto.class);
+        PayslipDto dto = payrollMapper.toDto(payslip);
 
         if (payslip.getPayroll() != null) {
             Payroll payroll = payslip.getPayroll();
@@ -449,7 +439,7 @@ public class PayrollServiceImplementation implements PayrollService {
     }
 
     private BonusDto convertToBonusDto(Bonus bonus) {
-        BonusDto dto = modelMapper.map(bonus, BonusDto.class);
+        BonusDto dto = payrollMapper.toDto(bonus);
 
         if (bonus.getEmployee() != null) {
             dto.setEmployeeId(bonus.getEmployee().getId());
@@ -2,10 +2,11 @@ package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
 import com.garmentmanagement.garmentmanagement.DTO.*;
 import com.garmentmanagement.garmentmanagement.Entity.*;
+import com.garmentmanagement.garmentmanagement.Mapper.RecruitmentMapper;
 import com.garmentmanagement.garmentmanagement.Repository.*;
 import com.garmentmanagement.garmentmanagement.Service.RecruitmentService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,7 +30,10 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
     private final OfferLetterRepository offerLetterRepo;
     private final DepartmentRepository departmentRepo;
     private final EmployeeRepository employeeRepo;
-    private final ModelMapper modelMapper;
+    private final RecruitmentMapper recruitmentMapper;
+    private final TableRowEstimator tableRowEstimator;
+
+    private static final Set<String> CANDIDATE_SORTABLE = Set.of("id", "firstName", "lastName", "email", "createdAt");
 
     // ==================== JOB POSTING METHODS ====================
 
@@ -39,7 +44,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
             throw new RuntimeException("Job code already exists: " + jobPostingDto.getJobCode());
         }
 
-        JobPosting jobPosting = modelMapper.map(jobPostingDto, JobPosting.class);
+        JobPosting jobPosting = recruitmentMapper.toEntity(jobPostingDto);
 
         // Set department if provided
         if (jobPostingDto.getDepartmentId() != null) {
@@ -66,7 +71,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
             throw new RuntimeException("Job code already exists: " + jobPostingDto.getJobCode());
         }
 
-        modelMapper.map(jobPostingDto, existing);
+        recruitmentMapper.copyToEntity(jobPostingDto, existing);
 
         // Update department if changed
         if (jobPostingDto.getDepartmentId() != null) {
@@ -142,7 +147,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
             throw new RuntimeException("NID already exists: " + candidateDto.getNidNumber());
         }
 
-        Candidate candidate = modelMapper.map(candidateDto, Candidate.class);
+        Candidate candidate = recruitmentMapper.toEntity(candidateDto);
         candidate.setStatus(Candidate.CandidateStatus.NEW);
 
         Candidate saved = candidateRepo.save(candidate);
@@ -160,7 +165,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
             throw new RuntimeException("Email already exists: " + candidateDto.getEmail());
         }
 
-        modelMapper.map(candidateDto, existing);
+        recruitmentMapper.copyToEntity(candidateDto, existing);
 
         // Update enum status
         if (candidateDto.getStatus() != null) {
@@ -193,6 +198,20 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<CandidateDto> getCandidatesPage(Integer page, Integer size, String sortBy, String direction) {
+        Slice<Candidate> slice = candidateRepo.findAllBy(
+                Paging.pageable(page, size, sortBy, direction, CANDIDATE_SORTABLE, "id"));
+        TableRowEstimator.RowCount total = tableRowEstimator.count("candidates", candidateRepo::count);
+
+        List<CandidateDto> content = slice.getContent().stream()
+                .map(this::convertToCandidateDto)
+                .collect(Collectors.toList());
+        return PageResponse.offset(content, slice.getNumber(), slice.getSize(), slice.hasNext(),
+                total.value(), total.estimated());
+    }
+
     @Override
     public List<CandidateDto> getCandidatesByStatus(String status) {
         Candidate.CandidateStatus statusEnum = Candidate.CandidateStatus.valueOf(status);
@@ -225,7 +244,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
             throw new RuntimeException("Candidate already applied for this job");
         }
 
-        Application application = modelMapper.map(applicationDto, Application.class);
+        Application application = recruitmentMapper.toEntity(applicationDto);
         application.setCandidate(candidate);
         application.setJobPosting(jobPosting);
         application.setApplicationDate(LocalDateTime.now());
@@ -294,7 +313,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
                     .orElseThrow(() -> new RuntimeException("Interviewer not found"));
         }
 
-        Interview interview = modelMapper.map(interviewDto, Interview.class);
+        Interview interview = recruitmentMapper.toEntity(interviewDto);
         interview.setApplication(application);
         interview.setInterviewer(interviewer);
         interview.setStatus(Interview.InterviewStatus.SCHEDULED);
@@ -313,7 +332,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
         Interview existing = interviewRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Interview not found"));
 
-        modelMapper.map(interviewDto, existing);
+        recruitmentMapper.copyToEntity(interviewDto, existing);
 
         // Update interviewer if changed
         if (interviewDto.getInterviewerId() != null) {
@@ -398,7 +417,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
         String offerCode = "OFFER-" + LocalDate.now().getYear() + "-" +
                 String.format("%03d", offerLetterRepo.count() + 1);
 
-        OfferLetter offerLetter = modelMapper.map(offerLetterDto, OfferLetter.class);
+        OfferLetter offerLetter = recruitmentMapper.toEntity(offerLetterDto);
         offerLetter.setApplication(application);
         offerLetter.setOfferCode(offerCode);
         offerLetter.setOfferDate(LocalDate.now());
@@ -509,7 +528,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
     // ==================== DTO CONVERSION METHODS ====================
 
     private JobPostingDto convertToJobPostingDto(JobPosting jobPosting) {
-        JobPostingDto dto = modelMapper.map(jobPosting, JobPostingDto.class);
+        JobPostingDto dto = recruitmentMapper.toDto(jobPosting);
 
         if (jobPosting.getDepartment() != null) {
             dto.setDepartmentId(jobPosting.getDepartment().getId());
@@ -532,7 +551,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
     }
 
     private CandidateDto convertToCandidateDto(Candidate candidate) {
-        CandidateDto dto = modelMapper.map(candidate, CandidateDto.class);
+        CandidateDto dto = recruitmentMapper.toDto(candidate);
 
         if (candidate.getGender() != null) {
             dto.setGender(candidate.getGender().name());
@@ -550,7 +569,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
     }
 
     private ApplicationDto convertToApplicationDto(Application application) {
-        ApplicationDto dto = modelMapper.map(application, ApplicationDto.class);
+        ApplicationDto dto = recruitmentMapper.toDto(application);
 
         if (application.getCandidate() != null) {
             dto.setCandidateId(application.getCandidate().getId());
@@ -584,7 +603,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
     }
 
     private InterviewDto convertToInterviewDto(Interview interview) {
-        InterviewDto dto = modelMapper.map(interview, InterviewDto.class);
+        InterviewDto dto = recruitmentMapper.toDto(interview);
 
         if (interview.getApplication() != null) {
             Application application = interview.getApplication();
@@ -609,7 +628,7 @@ public class RecruitmentServiceImplementation implements RecruitmentService {
     }
 
     private OfferLetterDto convertToOfferLetterDto(OfferLetter offerLetter) {
-        OfferLetterDto dto = modelMapper.map(offerLetter, OfferLetterDto.class);
+        OfferLetterDto dto = recruitmentMapper.toDto(offerLetter);
 
         if (offerLetter.getApplication() != null) {
             Application application = offerLetter.getApplication();
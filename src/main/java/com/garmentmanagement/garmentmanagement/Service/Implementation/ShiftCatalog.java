@@ -0,0 +1,78 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Repository.ShiftRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalTime;
+
+/**
+ * Holds the current ShiftIndex. Loaded at startup, rebuilt after shift changes commit and every
+ * attendance.shift.refresh-ms (changes made by other instances). Employees without a known shift use
+ * the default shift from attendance.shift.default-*.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShiftCatalog {
+
+    private final ShiftRepository shiftRepository;
+
+    @Value("${attendance.shift.default-start:09:00}")
+    private String defaultStart;
+
+    @Value("${attendance.shift.default-end:18:00}")
+    private String defaultEnd;
+
+    @Value("${attendance.shift.default-grace-minutes:15}")
+    private int defaultGraceMinutes;
+
+    @Value("${attendance.shift.default-late-minutes:120}")
+    private int defaultLateMinutes;
+
+    @Value("${attendance.shift.default-half-day-hours:4.0}")
+    private double defaultHalfDayHours;
+
+    private ShiftIndex.Definition fallback;
+    private volatile ShiftIndex index;
+
+    @PostConstruct
+    public void init() {
+        fallback = new ShiftIndex.Definition("DEFAULT", LocalTime.parse(defaultStart), LocalTime.parse(defaultEnd),
+                defaultGraceMinutes, defaultLateMinutes, defaultHalfDayHours);
+        reload();
+    }
+
+    public ShiftIndex index() {
+        return index;
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.shift.refresh-ms:60000}", initialDelayString = "${attendance.shift.refresh-ms:60000}")
+    public void reload() {
+        ShiftIndex loaded = ShiftIndex.of(shiftRepository.findAll(), fallback);
+        if (index == null || index.size() != loaded.size()) {
+            log.info("Shift index loaded: {} shift(s)", loaded.size());
+        }
+        index = loaded;
+    }
+
+    // After the surrounding transaction commits (immediately without one)
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+}
@@ -0,0 +1,177 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Shift;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Immutable lookup of shift definitions by code (Employee.shift). Built by ShiftCatalog from the shifts
+ * table and swapped as a whole on changes, so punches resolve their shift without locks or DB calls.
+ *
+ * Fixed shifts are rosters with a cycle of one day; rotating rosters map the day's position in the cycle
+ * to a definition (null on days off). Unknown or empty codes fall back to the default shift.
+ */
+public final class ShiftIndex {
+
+    /**
+     * One shift's times and thresholds. An end at or before the start means it ends the next day.
+     */
+    public record Definition(String code, LocalTime start, LocalTime end, int graceMinutes, int lateMinutes,
+                             double halfDayHours) {
+
+        public boolean overnight() {
+            return !end.isAfter(start);
+        }
+
+        public double lengthHours() {
+            long minutes = Duration.between(start, end).toMinutes();
+            return (overnight() ? minutes + 24 * 60 : minutes) / 60.0;
+        }
+
+        // End of the shift that starts on date
+        public LocalDateTime endOn(LocalDate date) {
+            return (overnight() ? date.plusDays(1) : date).atTime(end);
+        }
+    }
+
+    /**
+     * The attendance day a punch belongs to and that day's shift (null: day off in the roster).
+     */
+    public record ShiftDay(LocalDate date, Definition shift) {
+
+        public Attendance.AttendanceStatus checkInStatus(LocalDateTime checkIn) {
+            if (shift == null) {
+                // Working on a day off is never late
+                return Attendance.AttendanceStatus.PRESENT;
+            }
+            long minutesLate = Duration.between(date.atTime(shift.start()), checkIn).toMinutes();
+            if (minutesLate < shift.graceMinutes()) {
+                return Attendance.AttendanceStatus.PRESENT;
+            } else if (minutesLate < shift.lateMinutes()) {
+                return Attendance.AttendanceStatus.LATE;
+            } else {
+                return Attendance.AttendanceStatus.HALF_DAY;
+            }
+        }
+
+        // Work on a day off is all overtime, never a half day
+        public boolean isHalfDay(double workedHours) {
+            return shift != null && workedHours < shift.halfDayHours();
+        }
+
+        // Hours beyond the shift length; everything on a day off
+        public double overtimeHours(double workedHours) {
+            return Math.max(0.0, shift != null ? workedHours - shift.lengthHours() : workedHours);
+        }
+    }
+
+    // cycle[(day - startDay) mod length]
+    private record Roster(Definition[] cycle, long startDay) {
+
+        Definition on(LocalDate date) {
+            return cycle[(int) Math.floorMod(date.toEpochDay() - startDay, (long) cycle.length)];
+        }
+    }
+
+    private final Map<String, Roster> rosters;
+    private final Definition fallback;
+    private final Roster fallbackRoster;
+
+    private ShiftIndex(Map<String, Roster> rosters, Definition fallback) {
+        this.rosters = rosters;
+        this.fallback = fallback;
+        this.fallbackRoster = new Roster(new Definition[]{fallback}, 0);
+    }
+
+    /**
+     * Builds the index from the active shifts. Rotation entries that name no fixed shift use the fallback.
+     */
+    public static ShiftIndex of(Collection<Shift> shifts, Definition fallback) {
+        Map<String, Definition> fixed = new HashMap<>();
+        for (Shift shift : shifts) {
+            if (isActive(shift) && shift.getRotation() == null && shift.getStartTime() != null && shift.getEndTime() != null) {
+                fixed.put(key(shift.getCode()), new Definition(shift.getCode(), shift.getStartTime(), shift.getEndTime(),
+                        valueOr(shift.getGraceMinutes(), fallback.graceMinutes()),
+                        valueOr(shift.getLateMinutes(), fallback.lateMinutes()),
+                        shift.getHalfDayHours() != null ? shift.getHalfDayHours() : fallback.halfDayHours()));
+            }
+        }
+
+        Map<String, Roster> rosters = new HashMap<>();
+        fixed.forEach((code, definition) -> rosters.put(code, new Roster(new Definition[]{definition}, 0)));
+        for (Shift shift : shifts) {
+            if (!isActive(shift) || shift.getRotation() == null) {
+                continue;
+            }
+            List<Definition> cycle = new ArrayList<>();
+            for (String code : shift.getRotation().split(",")) {
+                if (code.isBlank()) {
+                    continue;
+                }
+                cycle.add(Shift.OFF.equalsIgnoreCase(code.trim()) ? null : fixed.getOrDefault(key(code), fallback));
+            }
+            if (!cycle.isEmpty()) {
+                long startDay = shift.getRotationStart() != null ? shift.getRotationStart().toEpochDay() : 0;
+                rosters.put(key(shift.getCode()), new Roster(cycle.toArray(new Definition[0]), startDay));
+            }
+        }
+        return new ShiftIndex(Map.copyOf(rosters), fallback);
+    }
+
+    public int size() {
+        return rosters.size();
+    }
+
+    // Codes with their own roster (upper case); every other code uses the default shift
+    public Set<String> codes() {
+        return rosters.keySet();
+    }
+
+    // The employee's shift on the given day (null: day off)
+    public Definition shiftOn(String shiftCode, LocalDate date) {
+        return roster(shiftCode).on(date);
+    }
+
+    public ShiftDay day(String shiftCode, LocalDate date) {
+        return new ShiftDay(date, shiftOn(shiftCode, date));
+    }
+
+    /**
+     * Attendance day and shift of a punch: until an overnight shift from the previous day has ended,
+     * punches belong to that day.
+     */
+    public ShiftDay resolve(String shiftCode, LocalDateTime punch) {
+        Roster roster = roster(shiftCode);
+        LocalDate date = punch.toLocalDate();
+        Definition previous = roster.on(date.minusDays(1));
+        if (previous != null && previous.overnight() && punch.toLocalTime().isBefore(previous.end())) {
+            return new ShiftDay(date.minusDays(1), previous);
+        }
+        return new ShiftDay(date, roster.on(date));
+    }
+
+    private Roster roster(String shiftCode) {
+        if (shiftCode == null || shiftCode.isBlank()) {
+            return fallbackRoster;
+        }
+        Roster roster = rosters.get(key(shiftCode));
+        return roster != null ? roster : fallbackRoster;
+    }
+
+    private static String key(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isActive(Shift shift) {
+        return shift.getCode() != null && !Boolean.FALSE.equals(shift.getIsActive());
+    }
+
+    private static int valueOr(Integer value, int fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -1,6 +1,117 @@
 package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
+import com.garmentmanagement.garmentmanagement.DTO.ShiftDto;
+import com.garmentmanagement.garmentmanagement.Entity.Shift;
+import com.garmentmanagement.garmentmanagement.Mapper.ShiftMapper;
+import com.garmentmanagement.garmentmanagement.Repository.ShiftRepository;
 import com.garmentmanagement.garmentmanagement.Service.ShiftService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
 public class ShiftServiceImplementation implements ShiftService {
+
+    private final ShiftRepository shiftRepository;
+    private final ShiftMapper shiftMapper;
+    private final ShiftCatalog shiftCatalog;
+
+    @Override
+    public ShiftDto createShift(ShiftDto shiftDto) {
+        if (shiftDto.getCode() == null || shiftDto.getCode().isBlank()) {
+            throw new RuntimeException("Shift code is required");
+        }
+        if (shiftRepository.existsByCode(shiftDto.getCode().trim())) {
+            throw new RuntimeException("Shift code already exists: " + shiftDto.getCode());
+        }
+
+        Shift shift = shiftMapper.toEntity(shiftDto);
+        validate(shift);
+
+        Shift saved = shiftRepository.save(shift);
+        shiftCatalog.reloadAfterCommit();
+        return shiftMapper.toDto(saved);
+    }
+
+    @Override
+    public ShiftDto updateShift(Long id, ShiftDto shiftDto) {
+        Shift existing = shiftRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Shift not found with id: " + id));
+
+        // Check duplicate code for other shifts
+        if (shiftDto.getCode() != null && !existing.getCode().equals(shiftDto.getCode().trim()) &&
+                shiftRepository.existsByCode(shiftDto.getCode().trim())) {
+            throw new RuntimeException("Shift code already exists: " + shiftDto.getCode());
+        }
+
+        shiftMapper.copyToEntity(shiftDto, existing);
+        validate(existing);
+
+        Shift updated = shiftRepository.save(existing);
+        shiftCatalog.reloadAfterCommit();
+        return shiftMapper.toDto(updated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShiftDto getShiftById(Long id) {
+        Shift shift = shiftRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Shift not found with id: " + id));
+        return shiftMapper.toDto(shift);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShiftDto> getAllShifts() {
+        return shiftRepository.findAll()
+                .stream()
+                .map(shiftMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteShift(Long id) {
+        Shift shift = shiftRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Shift not found with id: " + id));
+        shiftRepository.delete(shift);
+        shiftCatalog.reloadAfterCommit();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    // Fixed shifts need both times; rotations may only name fixed shifts or OFF
+    private void validate(Shift shift) {
+        if (Shift.OFF.equalsIgnoreCase(shift.getCode())) {
+            throw new RuntimeException("Shift code " + Shift.OFF + " is reserved for roster days off");
+        }
+        if (shift.getRotation() == null) {
+            if (shift.getStartTime() == null || shift.getEndTime() == null) {
+                throw new RuntimeException("Shift start and end time are required");
+            }
+            if (shift.getStartTime().equals(shift.getEndTime())) {
+                throw new RuntimeException("Shift start and end time must differ");
+            }
+            return;
+        }
+
+        if (shift.getRotationStart() == null) {
+            throw new RuntimeException("Rotation start date is required for a rotating roster");
+        }
+        for (String code : shift.getRotation().split(",")) {
+            String trimmed = code.trim();
+            if (trimmed.isEmpty() || Shift.OFF.equalsIgnoreCase(trimmed)) {
+                continue;
+            }
+            Shift day = shiftRepository.findByCode(trimmed)
+                    .orElseThrow(() -> new RuntimeException("Rotation names unknown shift: " + trimmed));
+            if (day.getRotation() != null) {
+                throw new RuntimeException("Rotation cannot contain another rotation: " + trimmed);
+            }
+        }
+    }
 }
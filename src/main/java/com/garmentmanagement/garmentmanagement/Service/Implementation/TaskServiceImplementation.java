@@ -3,10 +3,11 @@ package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
 import com.garmentmanagement.garmentmanagement.DTO.*;
 import com.garmentmanagement.garmentmanagement.Entity.*;
+import com.garmentmanagement.garmentmanagement.Mapper.TaskMapper;
 import com.garmentmanagement.garmentmanagement.Repository.*;
 import com.garmentmanagement.garmentmanagement.Service.TaskService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,7 +30,10 @@ public class TaskServiceImplementation implements TaskService {
     private final TaskAttachmentRepository taskAttachmentRepository;
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final ModelMapper modelMapper;
+    private final TaskMapper taskMapper;
+    private final TableRowEstimator tableRowEstimator;
+
+    private static final Set<String> SORTABLE = Set.of("id", "dueDate", "priority", "status", "createdAt");
 
     // ==================== TASK MANAGEMENT METHODS ====================
 
@@ -42,7 +47,7 @@ public class TaskServiceImplementation implements TaskService {
         Employee assignedBy = employeeRepository.findById(taskDto.getAssignedById())
                 .orElseThrow(() -> new RuntimeException("Assigner not found with id: " + taskDto.getAssignedById()));
 
-        Task task = modelMapper.map(taskDto, Task.class);
+        Task task = taskMapper.toEntity(taskDto);
         task.setAssignedTo(assignedTo);
         task.setAssignedBy(assignedBy);
         task.setStatus(Task.TaskStatus.PENDING);
@@ -69,7 +74,7 @@ public class TaskServiceImplementation implements TaskService {
         Task existing = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
-        modelMapper.map(taskDto, existing);
+        taskMapper.copyToEntity(taskDto, existing);
 
         // Update assigned employee if changed
         if (taskDto.getAssignedToId() != null &&
@@ -129,6 +134,20 @@ public class TaskServiceImplementation implements TaskService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskDto> getTasksPage(Integer page, Integer size, String sortBy, String direction) {
+        Slice<Task> slice = taskRepository.findAllBy(
+                Paging.pageable(page, size, sortBy, direction, SORTABLE, "id"));
+        TableRowEstimator.RowCount total = tableRowEstimator.count("tasks", taskRepository::count);
+
+        List<TaskDto> content = slice.getContent().stream()
+                .map(this::convertToTaskDto)
+                .collect(Collectors.toList());
+        return PageResponse.offset(content, slice.getNumber(), slice.getSize(), slice.hasNext(),
+                total.value(), total.estimated());
+    }
+
     @Override
     public List<TaskDto> getTasksByEmployee(Long employeeId) {
         return taskRepository.findByAssignedToId(employeeId)
@@ -229,7 +248,7 @@ public class TaskServiceImplementation implements TaskService {
             throw new RuntimeException("Project code already exists: " + projectDto.getCode());
         }
 
-        Project project = modelMapper.map(projectDto, Project.class);
+        Project project = taskMapper.toEntity(projectDto);
 
         // Set department if provided
         if (projectDto.getDepartmentId() != null) {
@@ -262,7 +281,7 @@ public class TaskServiceImplementation implements TaskService {
             throw new RuntimeException("Project code already exists: " + projectDto.getCode());
         }
 
-        modelMapper.map(projectDto, existing);
+        taskMapper.copyToEntity(projectDto, existing);
 
         // Update department if changed
         if (projectDto.getDepartmentId() != null) {
@@ -343,7 +362,7 @@ public class TaskServiceImplementation implements TaskService {
         Employee employee = employeeRepository.findById(commentDto.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        TaskComment comment = modelMapper.map(commentDto, TaskComment.class);
+        TaskComment comment = taskMapper.toEntity(commentDto);
         comment.setTask(task);
         comment.setEmployee(employee);
         comment.setCommentDate(LocalDateTime.now());
@@ -368,7 +387,7 @@ public class TaskServiceImplementation implements TaskService {
         Employee uploadedBy = employeeRepository.findById(attachmentDto.getUploadedById())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
 
-        TaskAttachment attachment = modelMapper.map(attachmentDto, TaskAttachment.class);
+        TaskAttachment attachment = taskMapper.toEntity(attachmentDto);
         attachment.setTask(task);
         attachment.setUploadedBy(uploadedBy);
         attachment.setUploadDate(LocalDateTime.now());
@@ -551,7 +570,7 @@ public class TaskServiceImplementation implements TaskService {
     // ==================== HELPER CONVERSION METHODS ====================
 
     private TaskDto convertToTaskDto(Task task) {
-        TaskDto dto = modelMapper.map(task, TaskDto.class);
+        TaskDto dto = taskMapper.toDto(task);
 
         // Employee info
         if (task.getAssignedTo() != null) {
@@ -599,7 +618,7 @@ public class TaskServiceImplementation implements TaskService {
     }
 
     private ProjectDto convertToProjectDto(Project project) {
-        ProjectDto dto = modelMapper.map(project, ProjectDto.class);
+        ProjectDto dto = taskMapper.toDto(project);
 
         // Department info
         if (project.getDepartment() != null) {
@@ -641,7 +660,7 @@ public class TaskServiceImplementation implements TaskService {
     }
 
     private TaskCommentDto convertToTaskCommentDto(TaskComment comment) {
-        TaskCommentDto dto = modelMapper.map(comment, TaskCommentDto.class);
+        TaskCommentDto dto = taskMapper.toDto(comment);
 
         if (comment.getTask() != null) {
             dto.setTaskId(comment.getTask().getId());
@@ -657,7 +676,7 @@ public class TaskServiceImplementation implements TaskService {
     }
 
     private TaskAttachmentDto convertToTaskAttachmentDto(TaskAttachment attachment) {
-        TaskAttachmentDto dto = modelMapper.map(attachment, TaskAttachmentDto.class);
+        TaskAttachmentDto dto = taskMapper.toDto(attachment);
 
         if (attachment.getTask() != null) {
             dto.setTaskId(attachment.getTask().getId());
@@ -706,26 +725,24 @@ public class TaskServiceImplementation implements TaskService {
 
     @Override
     public Map<String, Object> getManagerDashboard(Long managerId) {
-        List<TaskDto> teamTasks = getTasksByManager(managerId);
+        // Counted in the database - no task rows, DTO conversion or per-task comment/attachment counts
+        Long departmentId = getManagerDepartmentId(managerId);
+        TaskCounts teamTasks = taskRepository.getDepartmentTaskCounts(departmentId, LocalDate.now());
 
         Map<String, Object> dashboard = new HashMap<>();
-        dashboard.put("totalTeamTasks", teamTasks.size());
-        dashboard.put("completedTeamTasks", teamTasks.stream()
-                .filter(task -> "COMPLETED".equals(task.getStatus()))
-                .count());
-        dashboard.put("pendingTeamTasks", teamTasks.stream()
-                .filter(task -> "PENDING".equals(task.getStatus()))
-                .count());
-        dashboard.put("overdueTeamTasks", teamTasks.stream()
-                .filter(TaskDto::getIsOverdue)
-                .count());
-        dashboard.put("urgentTeamTasks", teamTasks.stream()
-                .filter(task -> Boolean.TRUE.equals(task.getIsUrgent()))
-                .count());
+        dashboard.put("totalTeamTasks", teamTasks.getTotal());
+        dashboard.put("completedTeamTasks", valueOrZero(teamTasks.getCompleted()));
+        dashboard.put("pendingTeamTasks", valueOrZero(teamTasks.getPending()));
+        dashboard.put("overdueTeamTasks", valueOrZero(teamTasks.getOverdue()));
+        dashboard.put("urgentTeamTasks", valueOrZero(teamTasks.getUrgent()));
 
         return dashboard;
     }
 
+    private long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     @Override
     public List<TaskDto> getUpcomingDeadlinesByManager(Long managerId, int days) {
         List<TaskDto> teamTasks = getTasksByManager(managerId);
@@ -1,19 +1,29 @@
 package com.garmentmanagement.garmentmanagement.Service.Implementation;
 
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.User;
+import com.garmentmanagement.garmentmanagement.Repository.TableRowEstimator;
 import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
+import com.garmentmanagement.garmentmanagement.Security.CustomUserDetailsService;
 import com.garmentmanagement.garmentmanagement.Service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImplementation implements UserService {
 
     private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final TableRowEstimator tableRowEstimator;
+
+    private static final Set<String> SORTABLE = Set.of("id", "username", "email", "fullName", "createdAt");
 
     @Override
     public User createUser(User user) {
@@ -24,6 +34,7 @@ public class UserServiceImplementation implements UserService {
     public User updateUser(Long id, User updatedUser) {
         User existing = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        userDetailsService.evictPrincipal(existing.getUsername());
 
         // Update fields if they are not null
         if (updatedUser.getUsername() != null) {
@@ -45,7 +56,9 @@ public class UserServiceImplementation implements UserService {
             existing.setRoles(updatedUser.getRoles());
         }
 
-        return userRepository.save(existing);
+        User saved = userRepository.save(existing);
+        userDetailsService.evictPrincipal(saved.getUsername());
+        return saved;
     }
 
     @Override
@@ -64,11 +77,22 @@ public class UserServiceImplementation implements UserService {
         return userRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<User> getUsersPage(Integer page, Integer size, String sortBy, String direction) {
+        Slice<User> slice = userRepository.findAllBy(
+                Paging.pageable(page, size, sortBy, direction, SORTABLE, "id"));
+        TableRowEstimator.RowCount total = tableRowEstimator.count("users", userRepository::count);
+        return PageResponse.offset(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(),
+                total.value(), total.estimated());
+    }
+
     @Override
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         userRepository.delete(user);
+        userDetailsService.evictPrincipal(user.getUsername());
     }
 
     @Override
@@ -86,7 +110,9 @@ public class UserServiceImplementation implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         user.setIsActive(false);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userDetailsService.evictPrincipal(saved.getUsername());
+        return saved;
     }
 
     @Override
@@ -94,6 +120,8 @@ public class UserServiceImplementation implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         user.setIsActive(true);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userDetailsService.evictPrincipal(saved.getUsername());
+        return saved;
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Holiday;
+import com.garmentmanagement.garmentmanagement.Repository.HolidayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Company working-day calendar used by payroll, leave and attendance: weekly off days from
+ * calendar.weekend-days (FRIDAY, or FRIDAY,SATURDAY) minus the holidays table.
+ *
+ * Each year is computed once into a bitset of working days plus a running count per day of the year,
+ * so isWorkingDay is a bit test and a count between two dates is one subtraction per calendar year
+ * spanned. Years are dropped after holiday changes commit and every calendar.refresh-ms (changes made
+ * by other instances), then rebuilt on first use.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkingDayCalendar {
+
+    private final HolidayRepository holidayRepository;
+
+    @Value("${calendar.weekend-days:FRIDAY}")
+    private Set<DayOfWeek> weekendDays;
+
+    // workingBefore[i] = working days among the first i days of the year
+    private record YearTable(BitSet workingDays, int[] workingBefore) {
+    }
+
+    private final Map<Integer, YearTable> years = new ConcurrentHashMap<>();
+
+    public boolean isWorkingDay(LocalDate date) {
+        return year(date.getYear()).workingDays().get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Working days from from to to, both inclusive (0 when to is before from).
+     */
+    public int workingDays(LocalDate from, LocalDate to) {
+        int total = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            int[] workingBefore = year(year).workingBefore();
+            int start = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int end = year == to.getYear() ? to.getDayOfYear() : workingBefore.length - 1;
+            total += Math.max(0, workingBefore[end] - workingBefore[start]);
+        }
+        return total;
+    }
+
+    public int workingDays(YearMonth month) {
+        return workingDays(month.atDay(1), month.atEndOfMonth());
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.refresh-ms:300000}", initialDelayString = "${calendar.refresh-ms:300000}")
+    public void reload() {
+        years.clear();
+    }
+
+    // After the surrounding transaction commits (immediately without one)
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    private YearTable year(int year) {
+        YearTable table = years.get(year);
+        if (table == null) {
+            // Built outside the map: two threads may both build a year, the tables are identical
+            table = build(year);
+            years.put(year, table);
+        }
+        return table;
+    }
+
+    private YearTable build(int year) {
+        LocalDate first = LocalDate.of(year, 1, 1);
+        int length = first.lengthOfYear();
+        BitSet workingDays = new BitSet(length);
+        for (int day = 0; day < length; day++) {
+            if (!weekendDays.contains(first.plusDays(day).getDayOfWeek())) {
+                workingDays.set(day);
+            }
+        }
+        int holidays = 0;
+        for (Holiday holiday : holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(first, first.withDayOfYear(length))) {
+            workingDays.clear(holiday.getHolidayDate().getDayOfYear() - 1);
+            holidays++;
+        }
+
+        int[] workingBefore = new int[length + 1];
+        for (int day = 0; day < length; day++) {
+            workingBefore[day + 1] = workingBefore[day] + (workingDays.get(day) ? 1 : 0);
+        }
+        log.debug("Working-day calendar {}: {} working days, {} holidays", year, workingBefore[length], holidays);
+        return new YearTable(workingDays, workingBefore);
+    }
+}
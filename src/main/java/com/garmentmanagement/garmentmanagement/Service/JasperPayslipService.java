@@ -3,66 +3,342 @@ package com.garmentmanagement.garmentmanagement.Service;
 import com.garmentmanagement.garmentmanagement.Config.CompanyConfig;
 import com.garmentmanagement.garmentmanagement.Entity.*;
 import com.garmentmanagement.garmentmanagement.Repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.sf.jasperreports.engine.*;
+import net.sf.jasperreports.engine.util.JRLoader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JasperPayslipService {
 
+    private static final String TEMPLATE_SOURCE = "reports/payslip_template.jrxml";
+    private static final String TEMPLATE_COMPILED = "reports/payslip_template.jasper";
+
     private final CompanyConfig companyConfig;
     private final PayslipRepository payslipRepository;
     private final PayrollRepository payrollRepository;
     private final EmployeeRepository employeeRepository;
     private final SalaryStructureRepository salaryStructureRepository;
     private final DepartmentRepository departmentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // When enabled, the template's last-modified time is checked on every render and the
+    // report is recompiled if it changed (useful with devtools while editing the JRXML).
+    @Value("${payslip.template.hot-reload:false}")
+    private boolean hotReload;
+
+    // Compiled template shared by all requests - JasperReport is immutable once compiled
+    private volatile JasperReport compiledTemplate;
+    private volatile long templateLastModified;
+    private final Object templateLock = new Object();
+
+    // Bounded worker pool for batch (per pay period) PDF rendering
+    @Value("${payslip.render.pool-size:4}")
+    private int renderPoolSize;
+
+    private ExecutorService renderExecutor;
+    private TransactionTemplate readOnlyTransaction;
+
+    // Render phase timers (payslip.render, tag phase=template|fill|export), also exported to Prometheus
+    private final LongAdder templateCompileCount = new LongAdder();
+    private Timer templateTimer;
+    private Timer fillTimer;
+    private Timer exportTimer;
+
+    @PostConstruct
+    public void loadTemplate() {
+        templateTimer = renderTimer("template");
+        fillTimer = renderTimer("fill");
+        exportTimer = renderTimer("export");
+
+        synchronized (templateLock) {
+            compileTemplate();
+        }
 
-    public byte[] generatePayslipPdf(Long payslipId) {
-        try {
-            System.out.println("🔄 Generating payslip PDF for ID: " + payslipId);
+        AtomicInteger threadCount = new AtomicInteger();
+        renderExecutor = Executors.newFixedThreadPool(Math.max(1, renderPoolSize), runnable -> {
+            Thread thread = new Thread(runnable, "payslip-render-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
 
-            // 1. Load JRXML template from resources
-            InputStream templateStream = new ClassPathResource("reports/payslip_template.jrxml").getInputStream();
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
-            // 2. Compile the report
-            JasperReport jasperReport = JasperCompileManager.compileReport(templateStream);
+    @PreDestroy
+    public void shutdownRenderExecutor() {
+        renderExecutor.shutdownNow();
+    }
 
-            // 3. Prepare parameters with actual data
+    public byte[] generatePayslipPdf(Long payslipId) {
+        try {
+            // 1. Get the compiled report (cached, recompiled only when the template changes)
+            long start = System.nanoTime();
+            JasperReport jasperReport = getCompiledTemplate();
+            long compiled = System.nanoTime();
+
+            // 2. Prepare parameters with actual data
             Map<String, Object> parameters = prepareParameters(payslipId);
 
-            // 4. Fill the report
+            // 3. Fill the report
             JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, new JREmptyDataSource());
+            long filled = System.nanoTime();
 
-            // 5. Export to PDF
+            // 4. Export to PDF
             byte[] pdfBytes = JasperExportManager.exportReportToPdf(jasperPrint);
+            long exported = System.nanoTime();
 
-            System.out.println("✅ Payslip PDF generated successfully: " + pdfBytes.length + " bytes");
+            recordTimings(compiled - start, filled - compiled, exported - filled);
+
+            log.debug("Payslip {} PDF generated: {} bytes (template {} ms, fill {} ms, export {} ms)",
+                    payslipId, pdfBytes.length, toMillis(compiled - start), toMillis(filled - compiled),
+                    toMillis(exported - filled));
             return pdfBytes;
 
         } catch (Exception e) {
-            System.err.println("❌ Error generating payslip PDF: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error generating payslip PDF for ID {}", payslipId, e);
             throw new RuntimeException("Payslip PDF generation failed for ID: " + payslipId, e);
         }
     }
 
+    /**
+     * Renders every payslip of a pay period and streams the PDFs into a ZIP archive as they finish.
+     * Rendering fans out over the render pool with at most twice the pool size in flight, so only a
+     * handful of PDFs are ever held in memory. Payslips that fail to render are listed in
+     * manifest.csv instead of aborting the whole archive. Entries are named <payslip code>-<payslip id>.pdf.
+     */
+    public void writePeriodPayslipsZip(YearMonth payPeriod, OutputStream out) throws IOException {
+        List<Object[]> payslips = payslipRepository.findIdAndCodeByPayPeriod(payPeriod);
+        log.info("Streaming {} payslips for period {}", payslips.size(), payPeriod);
+
+        CompletionService<PayslipPdf> completion = new ExecutorCompletionService<>(renderExecutor);
+        // Only futures still rendering: finished ones are dropped as soon as their PDF is written
+        Set<Future<PayslipPdf>> inFlight = new HashSet<>();
+        int window = Math.max(1, renderPoolSize) * 2;
+        int submitted = 0;
+        int completed = 0;
+
+        StringBuilder manifest = new StringBuilder("payslip_id,payslip_code,status,render_ms,error\n");
+        ZipOutputStream zip = new ZipOutputStream(out);
+
+        try {
+            while (completed < payslips.size()) {
+                while (submitted < payslips.size() && submitted - completed < window) {
+                    Object[] row = payslips.get(submitted++);
+                    inFlight.add(completion.submit(() -> renderForArchive((Long) row[0], (String) row[1])));
+                }
+
+                Future<PayslipPdf> done = completion.take();
+                inFlight.remove(done);
+                PayslipPdf result = done.get();
+                completed++;
+
+                if (result.pdf() != null) {
+                    zip.putNextEntry(new ZipEntry(archiveFileName(result)));
+                    zip.write(result.pdf());
+                    zip.closeEntry();
+                    zip.flush();
+                }
+                manifest.append(result.payslipId()).append(',')
+                        .append(csv(result.payslipCode())).append(',')
+                        .append(result.pdf() != null ? "OK" : "FAILED").append(',')
+                        .append(result.renderMillis()).append(',')
+                        .append(csv(result.error())).append('\n');
+            }
+
+            zip.putNextEntry(new ZipEntry("manifest.csv"));
+            zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+            log.info("Payslip archive for {} completed: {} entries", payPeriod, completed);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Payslip archive generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Payslip archive generation failed", e.getCause());
+        } finally {
+            // Client disconnects surface as IOExceptions from the zip stream - stop outstanding work
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private PayslipPdf renderForArchive(Long payslipId, String payslipCode) {
+        long start = System.nanoTime();
+        try {
+            byte[] pdf = readOnlyTransaction.execute(status -> generatePayslipPdf(payslipId));
+            return new PayslipPdf(payslipId, payslipCode, pdf, null, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            Throwable root = e.getCause() != null ? e.getCause() : e;
+            return new PayslipPdf(payslipId, payslipCode, null, root.getMessage(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    // The payslip id keeps entry names unique when codes repeat or are missing
+    private String archiveFileName(PayslipPdf result) {
+        String name = (result.payslipCode() != null ? result.payslipCode() : "payslip") + "-" + result.payslipId();
+        return name.replaceAll("[^A-Za-z0-9._-]", "_") + ".pdf";
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"").replace('\n', ' ') + "\"";
+    }
+
+    private record PayslipPdf(Long payslipId, String payslipCode, byte[] pdf, String error, long renderMillis) {
+    }
+
+    /**
+     * Forces the payslip template to be reloaded (precompiled .jasper if present, otherwise the JRXML).
+     */
+    public void reloadTemplate() {
+        synchronized (templateLock) {
+            compileTemplate();
+        }
+    }
+
+    /**
+     * Average and total time spent per render phase since startup.
+     */
+    public Map<String, Object> getRenderStats() {
+        long renders = fillTimer.count();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("renders", renders);
+        stats.put("templateCompilations", templateCompileCount.sum());
+        stats.put("precompiledTemplate", new ClassPathResource(TEMPLATE_COMPILED).exists());
+        stats.put("hotReload", hotReload);
+        stats.put("totalCompileMs", totalMillis(templateTimer));
+        stats.put("totalFillMs", totalMillis(fillTimer));
+        stats.put("totalExportMs", totalMillis(exportTimer));
+        stats.put("avgCompileMs", renders > 0 ? round(templateTimer.mean(TimeUnit.MILLISECONDS)) : 0.0);
+        stats.put("avgFillMs", renders > 0 ? round(fillTimer.mean(TimeUnit.MILLISECONDS)) : 0.0);
+        stats.put("avgExportMs", renders > 0 ? round(exportTimer.mean(TimeUnit.MILLISECONDS)) : 0.0);
+        return stats;
+    }
+
+    private Timer renderTimer(String phase) {
+        return Timer.builder("payslip.render")
+                .description("Payslip PDF render time per phase")
+                .tag("subsystem", "payroll")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private JasperReport getCompiledTemplate() {
+        if (compiledTemplate == null || (hotReload && templateChanged())) {
+            synchronized (templateLock) {
+                if (compiledTemplate == null || (hotReload && templateChanged())) {
+                    compileTemplate();
+                }
+            }
+        }
+        return compiledTemplate;
+    }
+
+    // Must be called while holding templateLock
+    private void compileTemplate() {
+        Resource precompiled = new ClassPathResource(TEMPLATE_COMPILED);
+        Resource source = new ClassPathResource(TEMPLATE_SOURCE);
+        long start = System.nanoTime();
+
+        try {
+            if (precompiled.exists()) {
+                try (InputStream in = precompiled.getInputStream()) {
+                    compiledTemplate = (JasperReport) JRLoader.loadObject(in);
+                }
+                templateLastModified = lastModified(precompiled);
+                log.info("Loaded precompiled payslip template: {}", TEMPLATE_COMPILED);
+            } else {
+                try (InputStream in = source.getInputStream()) {
+                    compiledTemplate = JasperCompileManager.compileReport(in);
+                }
+                templateLastModified = lastModified(source);
+                log.info("Compiled payslip template: {}", TEMPLATE_SOURCE);
+            }
+            templateCompileCount.increment();
+            log.info("Payslip template ready in {} ms", toMillis(System.nanoTime() - start));
+        } catch (IOException | JRException e) {
+            throw new RuntimeException("Failed to load payslip template", e);
+        }
+    }
+
+    private boolean templateChanged() {
+        Resource precompiled = new ClassPathResource(TEMPLATE_COMPILED);
+        Resource active = precompiled.exists() ? precompiled : new ClassPathResource(TEMPLATE_SOURCE);
+        return lastModified(active) != templateLastModified;
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private void recordTimings(long compile, long fill, long export) {
+        templateTimer.record(compile, TimeUnit.NANOSECONDS);
+        fillTimer.record(fill, TimeUnit.NANOSECONDS);
+        exportTimer.record(export, TimeUnit.NANOSECONDS);
+    }
+
+    private double totalMillis(Timer timer) {
+        return round(timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    private double round(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+
+    private double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
     private Map<String, Object> prepareParameters(Long payslipId) {
         Map<String, Object> parameters = new HashMap<>();
 
         try {
             // Fetch data from database
-            Payslip payslip = payslipRepository.findById(payslipId)
+            Payslip payslip = payslipRepository.findByIdWithDetails(payslipId)
                     .orElseThrow(() -> new RuntimeException("Payslip not found with ID: " + payslipId));
 
             Payroll payroll = payslip.getPayroll();
@@ -148,13 +424,10 @@ public class JasperPayslipService {
             parameters.put("BONUS", getBigDecimalValue(payroll.getBonus()));
             parameters.put("GROSS_SALARY", getBigDecimalValue(payroll.getGrossSalary(), totalEarnings));
 
-            System.out.println("📋 Prepared parameters for employee: " + parameters.get("EMPLOYEE_NAME"));
-            System.out.println("💰 Net Salary: " + parameters.get("NET_SALARY"));
-            System.out.println("📅 Pay Period: " + parameters.get("PAY_PERIOD"));
+            log.debug("Prepared payslip parameters for {} ({})", parameters.get("EMPLOYEE_ID"), parameters.get("PAY_PERIOD"));
 
         } catch (Exception e) {
-            System.err.println("❌ Error preparing parameters: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error preparing payslip parameters for ID {}", payslipId, e);
             setDefaultParameters(parameters, payslipId);
         }
 
@@ -0,0 +1,20 @@
+package com.garmentmanagement.garmentmanagement.Service;
+
+import com.garmentmanagement.garmentmanagement.DTO.LeaveRolloverDto;
+
+public interface LeaveRolloverService {
+
+    // Starts (or resumes) the year's balance rollover in the background
+    LeaveRolloverDto startRollover(Integer year);
+
+    // Runs to completion on the caller's thread
+    LeaveRolloverDto rolloverAndWait(Integer year);
+
+    LeaveRolloverDto getRollover(Integer year);
+
+    // Finishes interrupted rollovers and rolls the current year over if needed, on the caller's thread
+    void catchUp();
+
+    // Creates the current year's balances of a newly added employee, in the caller's transaction
+    void createBalances(Long employeeId);
+}
@@ -1,5 +1,7 @@
 package com.garmentmanagement.garmentmanagement.Service;
 
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionRequest;
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionResponse;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveApplicationDto;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveBalanceDto;
 import com.garmentmanagement.garmentmanagement.DTO.LeaveTypeDto;
@@ -34,6 +36,10 @@ public interface LeaveService {
     // Approval workflow
     LeaveApplicationDto approveLeave(Long leaveId, Long approvedBy, String remarks);
     LeaveApplicationDto rejectLeave(Long leaveId, Long approvedBy, String remarks);
+
+    // Bulk decisions: invalid items are reported and skipped, the rest are applied in one transaction
+    BulkLeaveDecisionResponse approveLeaves(BulkLeaveDecisionRequest request);
+    BulkLeaveDecisionResponse rejectLeaves(BulkLeaveDecisionRequest request);
     LeaveApplicationDto cancelLeave(Long leaveId, Long employeeId);
 
     // Filter methods
@@ -45,7 +51,6 @@ public interface LeaveService {
     LeaveBalanceDto getLeaveBalance(Long employeeId, Long leaveTypeId);
     List<LeaveBalanceDto> getEmployeeLeaveBalances(Long employeeId);
     LeaveBalanceDto updateLeaveBalance(Long employeeId, Long leaveTypeId, Integer additionalDays);
-    void initializeYearlyLeaveBalances(Integer year);
 
     // ==================== DASHBOARD & REPORTING METHODS ====================
     Map<String, Long> getLeaveStatistics();
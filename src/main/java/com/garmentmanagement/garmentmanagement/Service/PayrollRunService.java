@@ -0,0 +1,18 @@
+package com.garmentmanagement.garmentmanagement.Service;
+
+import com.garmentmanagement.garmentmanagement.DTO.PayrollRunDto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface PayrollRunService {
+
+    // Starts a run in the background; empty/null employeeIds means all active employees with a salary structure
+    PayrollRunDto startRun(YearMonth payPeriod, List<Long> employeeIds);
+
+    // Runs to completion on the caller's thread (chunks still execute in parallel)
+    PayrollRunDto runAndWait(YearMonth payPeriod, List<Long> employeeIds);
+
+    PayrollRunDto getRun(Long runId);
+    List<PayrollRunDto> getRuns(YearMonth payPeriod);
+}
@@ -24,6 +24,7 @@ public interface RecruitmentService {
     CandidateDto getCandidate(Long id);
     CandidateDto getCandidateByEmail(String email);
     List<CandidateDto> getAllCandidates();
+    PageResponse<CandidateDto> getCandidatesPage(Integer page, Integer size, String sortBy, String direction);
     List<CandidateDto> getCandidatesByStatus(String status);
     List<CandidateDto> searchCandidatesBySkill(String skill);
 
@@ -1,4 +1,15 @@
 package com.garmentmanagement.garmentmanagement.Service;
 
+import com.garmentmanagement.garmentmanagement.DTO.ShiftDto;
+
+import java.util.List;
+
 public interface ShiftService {
+
+    // Basic CRUD operations
+    ShiftDto createShift(ShiftDto shiftDto);
+    ShiftDto updateShift(Long id, ShiftDto shiftDto);
+    ShiftDto getShiftById(Long id);
+    List<ShiftDto> getAllShifts();
+    void deleteShift(Long id);
 }
@@ -16,6 +16,7 @@ public interface TaskService {
     TaskDto updateTask(Long id, TaskDto taskDto);
     TaskDto getTaskById(Long id);
     List<TaskDto> getAllTasks();
+    PageResponse<TaskDto> getTasksPage(Integer page, Integer size, String sortBy, String direction);
     List<TaskDto> getTasksByEmployee(Long employeeId);
     List<TaskDto> getTasksByProject(Long projectId);
     List<TaskDto> getTasksByStatus(Task.TaskStatus status);
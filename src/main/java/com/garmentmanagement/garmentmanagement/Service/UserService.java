@@ -1,5 +1,6 @@
 package com.garmentmanagement.garmentmanagement.Service;
 
+import com.garmentmanagement.garmentmanagement.DTO.PageResponse;
 import com.garmentmanagement.garmentmanagement.Entity.User;
 
 import java.util.List;
@@ -11,6 +12,7 @@ public interface UserService {
     User getUserById(Long id);
     Optional<User> getUserByUsername(String username);
     List<User> getAllUsers();
+    PageResponse<User> getUsersPage(Integer page, Integer size, String sortBy, String direction);
     void deleteUser(Long id);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
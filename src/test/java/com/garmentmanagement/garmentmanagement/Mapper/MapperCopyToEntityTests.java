@@ -0,0 +1,121 @@
+package com.garmentmanagement.garmentmanagement.Mapper;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapperCopyToEntityTests {
+
+    private static final List<Object> MAPPERS = List.of(new AttendanceMapper(), new EmployeeMapper(),
+            new HolidayMapper(), new LeaveMapper(), new PayrollMapper(), new RecruitmentMapper(), new ShiftMapper(),
+            new TaskMapper());
+
+    static Stream<Arguments> copyMethods() {
+        return MAPPERS.stream()
+                .flatMap(mapper -> Arrays.stream(mapper.getClass().getMethods())
+                        .filter(method -> method.getName().equals("copyToEntity") && method.getParameterCount() == 2)
+                        .map(method -> Arguments.of(method.getParameterTypes()[1].getSimpleName(), mapper, method)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("copyMethods")
+    void nullFieldsLeaveTheEntityUnchanged(String entityName, Object mapper, Method copy) throws Exception {
+        Object entity = newInstance(copy.getParameterTypes()[1]);
+        fill(entity, 1, null);
+        Map<String, Object> before = snapshot(entity);
+
+        copy.invoke(mapper, newInstance(copy.getParameterTypes()[0]), entity);
+
+        assertEquals(before, snapshot(entity));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("copyMethods")
+    void idIsNeverCopied(String entityName, Object mapper, Method copy) throws Exception {
+        Object entity = newInstance(copy.getParameterTypes()[1]);
+        fill(entity, 1, null);
+        Object dto = newInstance(copy.getParameterTypes()[0]);
+        fill(dto, 2, entity.getClass());
+        Map<String, Object> before = snapshot(entity);
+
+        copy.invoke(mapper, dto, entity);
+
+        assertEquals(before.get("id"), snapshot(entity).get("id"));
+        // The DTO values must have reached the entity, otherwise the id check proves nothing
+        assertNotEquals(before, snapshot(entity));
+    }
+
+    private static Object newInstance(Class<?> type) throws Exception {
+        return type.getDeclaredConstructor().newInstance();
+    }
+
+    // Sets every simple field to a value derived from variant; DTO strings that are enums on the entity get a constant
+    private static void fill(Object target, int variant, Class<?> entityType) throws Exception {
+        for (Field field : fields(target.getClass())) {
+            Object value = sample(field.getType(), variant);
+            if (field.getType() == String.class && entityType != null) {
+                Class<?> entityFieldType = fields(entityType).stream()
+                        .filter(candidate -> candidate.getName().equals(field.getName()))
+                        .map(Field::getType)
+                        .findFirst()
+                        .orElse(null);
+                if (entityFieldType != null && entityFieldType.isEnum()) {
+                    Object[] constants = entityFieldType.getEnumConstants();
+                    value = ((Enum<?>) constants[constants.length - 1]).name();
+                }
+            }
+            if (value != null) {
+                field.set(target, value);
+            }
+        }
+    }
+
+    private static Object sample(Class<?> type, int variant) {
+        if (type == String.class) return "value-" + variant;
+        if (type == Long.class) return 100L + variant;
+        if (type == Integer.class) return 10 + variant;
+        if (type == Double.class) return 1.5 + variant;
+        if (type == BigDecimal.class) return BigDecimal.valueOf(1000 + variant);
+        if (type == Boolean.class) return variant % 2 == 0;
+        if (type == LocalDate.class) return LocalDate.of(2025, 1, variant);
+        if (type == LocalDateTime.class) return LocalDateTime.of(2025, 1, variant, 8, 0);
+        if (type == LocalTime.class) return LocalTime.of(8 + variant, 0);
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        return null;
+    }
+
+    private static Map<String, Object> snapshot(Object target) throws Exception {
+        Map<String, Object> values = new TreeMap<>();
+        for (Field field : fields(target.getClass())) {
+            if (sample(field.getType(), 1) != null) {
+                values.put(field.getName(), field.get(target));
+            }
+        }
+        return values;
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,138 @@
+package com.garmentmanagement.garmentmanagement.Repository;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.garmentmanagement.garmentmanagement.Repository.AttendanceRepositoryTests$CapturedSql")
+class AttendanceRepositoryTests {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private LeaveApplicationRepository leaveApplicationRepository;
+
+    // Records every statement Hibernate prepares
+    public static class CapturedSql implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void clearCapturedSql() {
+        CapturedSql.STATEMENTS.clear();
+    }
+
+    @Test
+    void employeeMonthLookupSeeksOnEmployeeAndDateIndex() {
+        attendanceRepository.findByEmployeeIdAndMonth(1L, 2025, 1);
+
+        String plan = explainIssued("attendances", 1L, JANUARY, JANUARY.plusMonths(1));
+        assertIndexProbe(plan, "UK_ATTENDANCE_EMPLOYEE_DATE", "ATTENDANCE_DATE >=");
+    }
+
+    @Test
+    void functionWrappedDateCannotUseTheDateColumnOfTheIndex() {
+        // What the month lookup used to run; shows the probe check tells the two apart
+        String plan = explain("SELECT * FROM attendances WHERE employee_id = ? " +
+                "AND YEAR(attendance_date) = ? AND MONTH(attendance_date) = ?", 1L, 2025, 1);
+
+        assertFalse(indexCondition(plan).contains("ATTENDANCE_DATE"), plan);
+    }
+
+    @Test
+    void dailyStatusCountSeeksOnDateStatusIndex() {
+        attendanceRepository.countByDateAndStatus(JANUARY.plusDays(14), Attendance.AttendanceStatus.PRESENT);
+
+        String plan = explainIssued("attendances", JANUARY.plusDays(14), Attendance.AttendanceStatus.PRESENT.name());
+        assertIndexProbe(plan, "IDX_ATTENDANCE_DATE_STATUS", "STATUS =");
+    }
+
+    @Test
+    void leaveYearLookupSeeksOnEmployeeAndStartDateIndex() {
+        leaveApplicationRepository.findByEmployeeAndYear(1L, 2025);
+
+        String plan = explainIssued("leave_applications", 1L, JANUARY, JANUARY.plusYears(1));
+        assertIndexProbe(plan, "IDX_LEAVE_EMPLOYEE_START", "START_DATE >=");
+    }
+
+    @Test
+    void monthLookupIncludesLastDayAndExcludesNextMonth() {
+        Employee employee = new Employee();
+        employee.setFirstName("Test");
+        employee.setLastName("Employee");
+        employee.setEmployeeId("EMP-IDX-1");
+        employee.setEmail("emp-idx-1@example.com");
+        entityManager.persist(employee);
+
+        for (LocalDate date : List.of(LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 1))) {
+            Attendance attendance = new Attendance();
+            attendance.setEmployee(employee);
+            attendance.setAttendanceDate(date);
+            attendance.setStatus(Attendance.AttendanceStatus.PRESENT);
+            entityManager.persist(attendance);
+        }
+        entityManager.flush();
+
+        List<LocalDate> dates = attendanceRepository.findByEmployeeIdAndMonth(employee.getId(), 2025, 1).stream()
+                .map(Attendance::getAttendanceDate)
+                .sorted()
+                .toList();
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)), dates);
+    }
+
+    // Explains the one statement the repository issued against the table, with the values it was called with
+    private String explainIssued(String table, Object... parameters) {
+        List<String> issued = CapturedSql.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains("from " + table))
+                .toList();
+        assertEquals(1, issued.size(), () -> "expected one statement on " + table + ": " + CapturedSql.STATEMENTS);
+        return explain(issued.get(0), parameters);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters).toUpperCase();
+    }
+
+    private void assertIndexProbe(String plan, String indexName, String condition) {
+        assertTrue(plan.contains(indexName), () -> "expected " + indexName + " in plan: " + plan);
+        assertTrue(indexCondition(plan).contains(condition), () -> "expected index probe on " + condition + ": " + plan);
+    }
+
+    // H2 prints the index and its probe conditions as /* PUBLIC.INDEX_NAME: COND AND COND */
+    private String indexCondition(String plan) {
+        int start = plan.indexOf("/* PUBLIC.");
+        int end = plan.indexOf("*/", start);
+        return start < 0 || end < 0 ? "" : plan.substring(start, end);
+    }
+}
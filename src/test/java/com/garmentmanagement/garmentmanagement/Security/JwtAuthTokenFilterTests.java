@@ -0,0 +1,166 @@
+package com.garmentmanagement.garmentmanagement.Security;
+
+import com.garmentmanagement.garmentmanagement.Entity.Role;
+import com.garmentmanagement.garmentmanagement.Entity.User;
+import com.garmentmanagement.garmentmanagement.Repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthTokenFilterTests {
+
+    private static final int USERS = 200;
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 1_000;
+
+    private final AtomicInteger userLookups = new AtomicInteger();
+    private final Map<String, User> users = new HashMap<>();
+    private final List<String> tokens = new ArrayList<>();
+
+    private JwtTokenUtil jwtTokenUtil;
+    private TokenRevocationStore revocationStore;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", "mySuperSecretKeyForGarmentManagementSystem2025");
+        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", 3600L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "tokenCacheMaxSize", 10_000L);
+        jwtTokenUtil.init();
+
+        revocationStore = new TokenRevocationStore();
+        ReflectionTestUtils.setField(revocationStore, "expiration", 3600L);
+        revocationStore.init();
+
+        for (int i = 0; i < USERS; i++) {
+            User user = new User("user" + i, "secret", "user" + i + "@example.com", "User " + i);
+            user.setId((long) i + 1);
+            user.setRoles(new HashSet<>(Set.of(new Role(Role.ROLE_EMPLOYEE, null))));
+            users.put(user.getUsername(), user);
+            tokens.add(jwtTokenUtil.generateToken(user));
+        }
+
+        userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByUsername(anyString())).thenAnswer(invocation -> {
+            userLookups.incrementAndGet();
+            return Optional.ofNullable(users.get(invocation.<String>getArgument(0)));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessModeNeverLooksUpTheUser() throws Exception {
+        // Principal cache disabled so every request pays the user lookup, as before caching
+        authenticateAll(filter(false));
+        int dbLookups = userLookups.getAndSet(0);
+
+        authenticateAll(filter(true));
+        int statelessLookups = userLookups.get();
+
+        assertEquals(REQUESTS, dbLookups);
+        assertEquals(0, statelessLookups);
+    }
+
+    @Test
+    void statelessModeRejectsRevokedTokens() throws Exception {
+        JwtAuthTokenFilter filter = filter(true);
+        String token = tokens.get(0);
+
+        assertNotNull(authenticate(filter, token));
+
+        revocationStore.revokeIssuedTokens("user0");
+        assertNull(authenticate(filter, token));
+    }
+
+    @Test
+    void tokenIssuedRightAfterRevocationIsAccepted() throws Exception {
+        JwtAuthTokenFilter filter = filter(true);
+
+        revocationStore.revokeIssuedTokens("user1");
+        // Usually within the same second as the revocation
+        String fresh = jwtTokenUtil.generateToken(users.get("user1"));
+
+        assertNull(authenticate(filter, tokens.get(1)));
+        assertNotNull(authenticate(filter, fresh));
+    }
+
+    @Test
+    void statelessModeBuildsAuthoritiesFromRolesClaim() throws Exception {
+        Authentication authentication = authenticate(filter(true), tokens.get(5));
+
+        assertNotNull(authentication);
+        User principal = (User) authentication.getPrincipal();
+        assertEquals("user5", principal.getUsername());
+        assertEquals(6L, principal.getId());
+        assertEquals(List.of(Role.ROLE_EMPLOYEE),
+                authentication.getAuthorities().stream().map(Object::toString).toList());
+    }
+
+    private JwtAuthTokenFilter filter(boolean stateless) {
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository, revocationStore);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheMaxSize", 0L);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTtlSeconds", 300L);
+        userDetailsService.initPrincipalCache();
+        return new JwtAuthTokenFilter(jwtTokenUtil, userDetailsService, revocationStore, stateless,
+                new SimpleMeterRegistry());
+    }
+
+    private void authenticateAll(JwtAuthTokenFilter filter) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger authenticated = new AtomicInteger();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < REQUESTS) {
+                        if (authenticate(filter, tokens.get(i % USERS)) != null) {
+                            authenticated.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            assertEquals(REQUESTS, authenticated.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Authentication authenticate(JwtAuthTokenFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employee/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        Authentication[] seen = new Authentication[1];
+        FilterChain chain = (req, res) -> seen[0] = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
+            return seen[0];
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
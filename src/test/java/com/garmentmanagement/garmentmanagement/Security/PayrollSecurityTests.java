@@ -0,0 +1,106 @@
+package com.garmentmanagement.garmentmanagement.Security;
+
+import com.garmentmanagement.garmentmanagement.Controller.PayrollController;
+import com.garmentmanagement.garmentmanagement.Service.JasperPayslipService;
+import com.garmentmanagement.garmentmanagement.Service.PayrollRunService;
+import com.garmentmanagement.garmentmanagement.Service.PayrollService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PayrollController.class)
+@Import({SecurityConfig.class, JwtAuthEntryPoint.class, PayrollSecurityTests.Metrics.class})
+class PayrollSecurityTests {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private CustomUserDetailsService userDetailsService;
+    @MockitoBean private JwtTokenUtil jwtTokenUtil;
+    @MockitoBean private TokenRevocationStore tokenRevocationStore;
+    @MockitoBean private PayrollService payrollService;
+    @MockitoBean private JasperPayslipService jasperPayslipService;
+    @MockitoBean private PayrollRunService payrollRunService;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Test
+    void periodArchiveNeedsALogin() throws Exception {
+        mockMvc.perform(get("/api/payroll/payslips/period/2025-06/pdf.zip"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "EMPLOYEE")
+    void periodArchiveIsRefusedToEmployees() throws Exception {
+        mockMvc.perform(get("/api/payroll/payslips/period/2025-06/pdf.zip"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "HR")
+    void periodArchiveIsServedToHr() throws Exception {
+        mockMvc.perform(get("/api/payroll/payslips/period/2025-06/pdf.zip"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void payrollRunsNeedALogin() throws Exception {
+        mockMvc.perform(post("/api/payroll/runs").param("payPeriod", "2025-06"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/payroll/runs")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/payroll/runs/1")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "EMPLOYEE")
+    void payrollRunsAreRefusedToEmployees() throws Exception {
+        mockMvc.perform(post("/api/payroll/runs").param("payPeriod", "2025-06"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/payroll/runs/1")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void payrollRunsAreServedToAdmins() throws Exception {
+        mockMvc.perform(post("/api/payroll/runs").param("payPeriod", "2025-06"))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(get("/api/payroll/runs")).andExpect(status().isOk());
+    }
+
+    @Test
+    void payslipTemplateEndpointsNeedALogin() throws Exception {
+        mockMvc.perform(post("/api/payroll/payslips/template/reload")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/payroll/payslips/render-stats")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "HR")
+    void onlyAdminsReloadThePayslipTemplate() throws Exception {
+        mockMvc.perform(post("/api/payroll/payslips/template/reload")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/payroll/payslips/render-stats")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminsReloadThePayslipTemplate() throws Exception {
+        mockMvc.perform(post("/api/payroll/payslips/template/reload")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,80 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Department;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(AnalyticsServiceImplementation.class)
+class AnalyticsServiceImplementationTests {
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AnalyticsServiceImplementation analyticsService;
+
+    // The dashboard does not use rollups or the calendar
+    @MockitoBean private AttendanceRollups attendanceRollups;
+    @MockitoBean private WorkingDayCalendar workingDayCalendar;
+
+    @Test
+    void adminDashboardCountsMatchTheStoredRows() {
+        LocalDate today = LocalDate.now();
+        Department department = entityManager.persist(department("Sewing", "SEW"));
+        entityManager.persist(department("Cutting", "CUT"));
+
+        Employee first = entityManager.persist(employee("EMP-DASH-1", department));
+        Employee second = entityManager.persist(employee("EMP-DASH-2", department));
+        Employee third = entityManager.persist(employee("EMP-DASH-3", department));
+        Employee terminated = employee("EMP-DASH-4", department);
+        terminated.setStatus(Employee.EmployeeStatus.TERMINATED);
+        entityManager.persist(terminated);
+
+        entityManager.persist(attendance(first, today, Attendance.AttendanceStatus.PRESENT));
+        entityManager.persist(attendance(second, today, Attendance.AttendanceStatus.LATE));
+        // Yesterday's presence does not count for today
+        entityManager.persist(attendance(third, today.minusDays(1), Attendance.AttendanceStatus.PRESENT));
+
+        task(first, Task.TaskStatus.COMPLETED, today.minusDays(3));
+        task(first, Task.TaskStatus.PENDING, today.minusDays(1));
+        task(second, Task.TaskStatus.IN_PROGRESS, today.minusDays(2));
+        task(second, Task.TaskStatus.CANCELLED, today.minusDays(2));
+        task(third, Task.TaskStatus.PENDING, today.plusDays(5));
+        entityManager.flush();
+
+        Map<String, Object> dashboard = analyticsService.getAdminDashboard();
+
+        assertEquals(4L, dashboard.get("totalEmployees"));
+        assertEquals(3L, dashboard.get("activeEmployees"));
+        assertEquals(2L, dashboard.get("totalDepartments"));
+        assertEquals(1L, dashboard.get("presentToday"));
+        assertEquals(1L, dashboard.get("lateToday"));
+        assertEquals(3L, dashboard.get("absentToday"));
+        assertEquals(5L, dashboard.get("totalTasks"));
+        assertEquals(1L, dashboard.get("completedTasks"));
+        assertEquals(2L, dashboard.get("overdueTasks"));
+        assertEquals(0L, dashboard.get("pendingLeaves"));
+        assertEquals(0L, dashboard.get("totalCandidates"));
+    }
+
+    private void task(Employee employee, Task.TaskStatus status, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle("Task " + status);
+        task.setAssignedTo(employee);
+        task.setAssignedBy(employee);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        entityManager.persist(task);
+    }
+}
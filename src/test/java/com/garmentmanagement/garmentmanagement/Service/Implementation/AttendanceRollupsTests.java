@@ -0,0 +1,116 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Department;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRollupRepository;
+import com.garmentmanagement.garmentmanagement.TestEntities;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.*;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import({AttendanceRollups.class, AttendanceRollupRepository.class, AttendanceBatchRepository.class,
+        EmployeeDirectory.class})
+class AttendanceRollupsTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AttendanceRollups attendanceRollups;
+    @Autowired private AttendanceRollupRepository rollupRepository;
+    @Autowired private AttendanceBatchRepository attendanceBatchRepository;
+
+    @Test
+    void batchDeltasMatchARebuild() {
+        Department sewing = entityManager.persist(department("Sewing", "SEW"));
+        Department cutting = entityManager.persist(department("Cutting", "CUT"));
+        Employee first = entityManager.persist(employee("EMP-ROLL-1", sewing));
+        Employee second = entityManager.persist(employee("EMP-ROLL-2", sewing));
+        Employee third = entityManager.persist(employee("EMP-ROLL-3", cutting));
+        entityManager.flush();
+
+        List<Attendance> batch = List.of(checkIn(first, Attendance.AttendanceStatus.PRESENT),
+                checkIn(second, Attendance.AttendanceStatus.LATE),
+                checkIn(third, Attendance.AttendanceStatus.PRESENT));
+        attendanceRollups.addAll(attendanceBatchRepository.insertCheckIns(batch).inserted());
+
+        // A journal replay of a stored punch inserts nothing and must add nothing
+        AttendanceBatchRepository.CheckInResult replay =
+                attendanceBatchRepository.insertCheckIns(List.of(checkIn(first, Attendance.AttendanceStatus.PRESENT)));
+        assertEquals(List.of(), replay.inserted());
+        assertEquals(List.of(), replay.conflicts());
+        attendanceRollups.addAll(replay.inserted());
+
+        Map<String, Object> incremental = state(List.of(sewing, cutting), List.of(first, second, third));
+        assertEquals(1L, rollupRepository.statusCounts(sewing.getId(), TODAY, TODAY.plusDays(1))
+                .get(Attendance.AttendanceStatus.PRESENT));
+        assertEquals(1L, rollupRepository.statusCounts(sewing.getId(), TODAY, TODAY.plusDays(1))
+                .get(Attendance.AttendanceStatus.LATE));
+
+        attendanceRollups.rebuild(TODAY, TODAY);
+        assertEquals(state(List.of(sewing, cutting), List.of(first, second, third)), incremental);
+    }
+
+    @Test
+    void editAfterTransferMovesTheCountsOfTheOriginalDepartment() {
+        Department sewing = entityManager.persist(department("Sewing", "SEW"));
+        Department cutting = entityManager.persist(department("Cutting", "CUT"));
+        Employee employee = entityManager.persist(employee("EMP-ROLL-1", sewing));
+        Attendance attendance = checkIn(employee, Attendance.AttendanceStatus.PRESENT);
+        entityManager.persist(attendance);
+        entityManager.flush();
+        attendanceRollups.applyChange(null, AttendanceRollups.snapshot(attendance));
+
+        employee.setDepartment(cutting);
+        entityManager.flush();
+
+        AttendanceRollups.Snapshot before = AttendanceRollups.snapshot(attendance);
+        attendance.setStatus(Attendance.AttendanceStatus.LATE);
+        entityManager.flush();
+        attendanceRollups.applyChange(before, AttendanceRollups.snapshot(attendance));
+
+        Map<Attendance.AttendanceStatus, Long> sewingCounts =
+                rollupRepository.statusCounts(sewing.getId(), TODAY, TODAY.plusDays(1));
+        assertEquals(0L, sewingCounts.get(Attendance.AttendanceStatus.PRESENT));
+        assertEquals(1L, sewingCounts.get(Attendance.AttendanceStatus.LATE));
+        assertTrue(rollupRepository.statusCounts(cutting.getId(), TODAY, TODAY.plusDays(1)).values().stream()
+                .allMatch(count -> count == 0L));
+
+        Map<String, Object> incremental = state(List.of(sewing, cutting), List.of(employee));
+        attendanceRollups.rebuild(TODAY, TODAY);
+        assertEquals(state(List.of(sewing, cutting), List.of(employee)), incremental);
+    }
+
+    // Daily counts per department and monthly counts per employee for today
+    private Map<String, Object> state(List<Department> departments, List<Employee> employees) {
+        Map<String, Object> state = new TreeMap<>();
+        for (Department department : departments) {
+            state.put("department-" + department.getCode(),
+                    rollupRepository.statusCounts(department.getId(), TODAY, TODAY.plusDays(1)));
+        }
+        YearMonth month = YearMonth.from(TODAY);
+        for (Employee employee : employees) {
+            state.put("employee-" + employee.getEmployeeId(),
+                    rollupRepository.findMonthly(employee.getId(), month.getYear(), month.getMonthValue()));
+        }
+        return state;
+    }
+
+    private Attendance checkIn(Employee employee, Attendance.AttendanceStatus status) {
+        return TestEntities.checkIn(employee, TODAY, LocalTime.of(8, 55), status);
+    }
+}
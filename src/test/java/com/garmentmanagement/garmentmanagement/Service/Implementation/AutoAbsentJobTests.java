@@ -0,0 +1,93 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Department;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.Shift;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {"calendar.weekend-days=", "attendance.auto-absent.enabled=false"})
+@Import({AutoAbsentJob.class, AttendanceBatchRepository.class, AttendanceRollups.class,
+        AttendanceRollupRepository.class, EmployeeDirectory.class, WorkingDayCalendar.class, ShiftCatalog.class})
+class AutoAbsentJobTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AutoAbsentJob autoAbsentJob;
+    @Autowired private ShiftCatalog shiftCatalog;
+    @Autowired private AttendanceRepository attendanceRepository;
+
+    @Test
+    void nightShiftIsMarkedAfterItEndsTheNextMorning() {
+        entityManager.persist(shift("NIGHT", LocalTime.of(22, 0), LocalTime.of(6, 0), null));
+        Department department = entityManager.persist(department("Sewing", "SEW"));
+        Employee night = onShift("EMP-SHIFT-1", "night", department);
+        Employee regular = onShift("EMP-SHIFT-2", null, department);
+        load();
+
+        // Checkpoints start with yesterday, before anyone joined
+        assertEquals(0, autoAbsentJob.markThrough(TODAY.atTime(10, 0)));
+        assertEquals(1, autoAbsentJob.markThrough(TODAY.atTime(18, 0)));
+        assertAbsent(regular, TODAY);
+        assertTrue(attendanceRepository.findByEmployeeIdAndAttendanceDate(night.getId(), TODAY).isEmpty());
+
+        assertEquals(0, autoAbsentJob.markThrough(TODAY.plusDays(1).atTime(5, 59)));
+        assertEquals(1, autoAbsentJob.markThrough(TODAY.plusDays(1).atTime(6, 0)));
+        assertAbsent(night, TODAY);
+    }
+
+    @Test
+    void rotatingRosterIsNotMarkedOnItsDaysOff() {
+        entityManager.persist(shift("DAY", LocalTime.of(8, 0), LocalTime.of(16, 0), null));
+        Shift rota = shift("ROTA-B", null, null, "OFF,DAY");
+        rota.setRotationStart(TODAY);
+        entityManager.persist(rota);
+        Employee employee = onShift("EMP-SHIFT-3", "ROTA-B", entityManager.persist(department("Sewing", "SEW")));
+        load();
+
+        assertEquals(0, autoAbsentJob.markThrough(TODAY.atTime(23, 59)));
+        assertTrue(attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.getId(), TODAY).isEmpty());
+
+        assertEquals(0, autoAbsentJob.markThrough(TODAY.plusDays(1).atTime(15, 59)));
+        assertEquals(1, autoAbsentJob.markThrough(TODAY.plusDays(1).atTime(16, 0)));
+        assertAbsent(employee, TODAY.plusDays(1));
+    }
+
+    private void assertAbsent(Employee employee, LocalDate date) {
+        Attendance attendance = attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.getId(), date)
+                .orElseThrow();
+        assertEquals(Attendance.AttendanceStatus.ABSENT, attendance.getStatus());
+        assertNull(attendance.getCheckinTime());
+    }
+
+    private void load() {
+        entityManager.flush();
+        shiftCatalog.reload();
+    }
+
+    // Employee joined today on the given shift code
+    private Employee onShift(String code, String shift, Department department) {
+        Employee employee = employee(code, department);
+        employee.setShift(shift);
+        employee.setJoinDate(TODAY);
+        return entityManager.persist(employee);
+    }
+}
@@ -0,0 +1,134 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Department;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Mapper.AttendanceMapper;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRollupRepository;
+import com.garmentmanagement.garmentmanagement.Repository.TableRowEstimator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {"calendar.weekend-days=", "attendance.auto-absent.enabled=false"})
+@Import({AttendanceServiceImplementation.class, AutoAbsentJob.class, AttendanceMapper.class,
+        LocationVerificationService.class, TableRowEstimator.class, CheckInIngestQueue.class, AttendanceRollups.class,
+        AttendanceRollupRepository.class, AttendanceBatchRepository.class, EmployeeDirectory.class,
+        EmployeeMonthlySummaries.class, WorkingDayCalendar.class, ShiftCatalog.class})
+class AutoAbsentLateCheckInTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AttendanceServiceImplementation attendanceService;
+    @Autowired private AutoAbsentJob autoAbsentJob;
+    @Autowired private AttendanceRepository attendanceRepository;
+    @Autowired private AttendanceBatchRepository attendanceBatchRepository;
+    @Autowired private AttendanceRollups attendanceRollups;
+
+    @Test
+    void checkInAfterTheAbsentMarkingTakesOverTheDay() {
+        Department department = entityManager.persist(department("Sewing", "SEW"));
+        Employee employee = entityManager.persist(employee("EMP-ABS-1", department));
+        markAbsent();
+
+        AttendanceDto dto = attendanceService.checkIn(employee.getEmployeeId());
+
+        Attendance attendance = stored(employee);
+        assertEquals(dto.getId(), attendance.getId());
+        assertNotNull(attendance.getCheckinTime());
+        assertNotEquals(Attendance.AttendanceStatus.ABSENT, attendance.getStatus());
+        Map<Attendance.AttendanceStatus, Long> counts = attendanceRollups.statusCounts(department.getId(), TODAY);
+        assertEquals(0L, counts.get(Attendance.AttendanceStatus.ABSENT));
+        assertEquals(1L, counts.get(attendance.getStatus()));
+
+        assertNotNull(attendanceService.checkOut(employee.getEmployeeId()).getCheckoutTime());
+        assertThrows(RuntimeException.class, () -> attendanceService.checkIn(employee.getEmployeeId()));
+    }
+
+    @Test
+    void manualCheckInAfterTheAbsentMarkingTakesOverTheDay() {
+        Department department = entityManager.persist(department("Sewing", "SEW"));
+        Employee employee = entityManager.persist(employee("EMP-ABS-2", department));
+        markAbsent();
+
+        attendanceService.manualCheckIn(employee.getEmployeeId(), LocalTime.of(10, 30));
+
+        Attendance attendance = stored(employee);
+        assertEquals(LocalTime.of(10, 30), attendance.getCheckinTime());
+        assertEquals(Attendance.AttendanceStatus.LATE, attendance.getStatus());
+        Map<Attendance.AttendanceStatus, Long> counts = attendanceRollups.statusCounts(department.getId(), TODAY);
+        assertEquals(0L, counts.get(Attendance.AttendanceStatus.ABSENT));
+        assertEquals(1L, counts.get(Attendance.AttendanceStatus.LATE));
+    }
+
+    @Test
+    void queuedPunchAfterTheAbsentMarkingTakesOverTheDay() {
+        Department department = entityManager.persist(department("Sewing", "SEW"));
+        Employee employee = entityManager.persist(employee("EMP-ABS-3", department));
+        markAbsent();
+
+        Attendance punch = punch(employee);
+        AttendanceBatchRepository.CheckInResult result = attendanceBatchRepository.insertCheckIns(List.of(punch));
+        assertEquals(List.of(), result.inserted());
+        assertEquals(List.of(punch), result.upgraded());
+        assertEquals(List.of(), result.conflicts());
+        attendanceRollups.addCheckIns(result.inserted(), result.upgraded());
+
+        // A journal replay of the same punch finds its own check-in and writes nothing
+        AttendanceBatchRepository.CheckInResult replay = attendanceBatchRepository.insertCheckIns(List.of(punch(employee)));
+        assertEquals(List.of(), replay.inserted());
+        assertEquals(List.of(), replay.upgraded());
+        assertEquals(List.of(), replay.conflicts());
+
+        entityManager.clear();
+        Attendance attendance = stored(employee);
+        assertEquals(LocalTime.of(10, 30), attendance.getCheckinTime());
+        assertEquals(Attendance.AttendanceStatus.LATE, attendance.getStatus());
+        Map<Attendance.AttendanceStatus, Long> counts = attendanceRollups.statusCounts(department.getId(), TODAY);
+        assertEquals(0L, counts.get(Attendance.AttendanceStatus.ABSENT));
+        assertEquals(1L, counts.get(Attendance.AttendanceStatus.LATE));
+    }
+
+    @Test
+    void absentDayWithoutCheckInCannotBeCheckedOut() {
+        Department department = entityManager.persist(department("Sewing", "SEW"));
+        Employee employee = entityManager.persist(employee("EMP-ABS-4", department));
+        markAbsent();
+
+        assertThrows(RuntimeException.class, () -> attendanceService.checkOut(employee.getEmployeeId()));
+        assertNull(stored(employee).getCheckoutTime());
+    }
+
+    private void markAbsent() {
+        entityManager.flush();
+        assertEquals(1, autoAbsentJob.markThrough(TODAY.atTime(23, 59)));
+        assertEquals(1L, attendanceRollups.statusCounts(TODAY).get(Attendance.AttendanceStatus.ABSENT));
+    }
+
+    private Attendance stored(Employee employee) {
+        return attendanceRepository.findByEmployeeIdAndAttendanceDate(employee.getId(), TODAY).orElseThrow();
+    }
+
+    private Attendance punch(Employee employee) {
+        Attendance attendance = checkIn(employee, TODAY, LocalTime.of(10, 30), Attendance.AttendanceStatus.LATE);
+        attendance.setRemarks("Auto check-in");
+        return attendance;
+    }
+}
@@ -0,0 +1,101 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.AttendanceDto;
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CheckInIngestQueueTests {
+
+    private static final EmployeeDirectory.Entry EMPLOYEE = new EmployeeDirectory.Entry(1L, "EMP-INGEST-1", "Test",
+            "Employee", null, null, Employee.EmployeeStatus.ACTIVE, null, null);
+
+    @TempDir
+    Path journalDir;
+
+    private final EmployeeDirectory employeeDirectory = mock(EmployeeDirectory.class);
+    private final AttendanceRepository attendanceRepository = mock(AttendanceRepository.class);
+    private final AttendanceBatchRepository attendanceBatchRepository = mock(AttendanceBatchRepository.class);
+    private final ExecutorService clients = Executors.newFixedThreadPool(2);
+    private CheckInIngestQueue ingestQueue;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(attendanceRepository.findCheckedInEmployeeIds(any())).thenReturn(List.of());
+        when(attendanceBatchRepository.insertCheckIns(any())).thenAnswer(invocation ->
+                new AttendanceBatchRepository.CheckInResult(invocation.getArgument(0), List.of(), List.of()));
+
+        ingestQueue = new CheckInIngestQueue(employeeDirectory, attendanceRepository, attendanceBatchRepository,
+                mock(AttendanceRollups.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(ingestQueue, "enabled", true);
+        ReflectionTestUtils.setField(ingestQueue, "queueCapacity", 10);
+        ReflectionTestUtils.setField(ingestQueue, "batchSize", 10);
+        ReflectionTestUtils.setField(ingestQueue, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(ingestQueue, "enqueueTimeoutMs", 100L);
+        ReflectionTestUtils.setField(ingestQueue, "journalPath", journalDir.resolve("checkin.journal").toString());
+        ingestQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        clients.shutdownNow();
+        ingestQueue.stop();
+    }
+
+    @Test
+    void concurrentRetryGetsTheFirstCallsAnswer() throws Exception {
+        // The first call is held inside the employee lookup until the retry has arrived
+        CountDownLatch firstInside = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(employeeDirectory.findByEmployeeId("EMP-INGEST-1")).thenAnswer(invocation -> {
+            firstInside.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return EMPLOYEE;
+        }).thenReturn(EMPLOYEE);
+
+        Future<AttendanceDto> first = clients.submit(() -> ingestQueue.submit("EMP-INGEST-1", checkIn(), "key-1"));
+        assertTrue(firstInside.await(5, TimeUnit.SECONDS));
+        Future<AttendanceDto> retry = clients.submit(() -> ingestQueue.submit("EMP-INGEST-1", checkIn(), "key-1"));
+
+        assertThrows(TimeoutException.class, () -> retry.get(200, TimeUnit.MILLISECONDS));
+        releaseFirst.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), retry.get(5, TimeUnit.SECONDS));
+        verify(employeeDirectory, times(1)).findByEmployeeId("EMP-INGEST-1");
+    }
+
+    @Test
+    void retryAfterARejectedCallTriesAgain() {
+        when(employeeDirectory.findByEmployeeId("EMP-INGEST-1")).thenReturn(null).thenReturn(EMPLOYEE);
+
+        assertThrows(RuntimeException.class, () -> ingestQueue.submit("EMP-INGEST-1", checkIn(), "key-2"));
+        assertNotNull(ingestQueue.submit("EMP-INGEST-1", checkIn(), "key-2"));
+        // Without a key the second check-in of the day is refused
+        assertThrows(RuntimeException.class, () -> ingestQueue.submit("EMP-INGEST-1", checkIn(), null));
+    }
+
+    private static Attendance checkIn() {
+        Attendance checkIn = new Attendance();
+        checkIn.setAttendanceDate(LocalDate.now());
+        checkIn.setCheckinTime(LocalTime.of(8, 0));
+        checkIn.setStatus(Attendance.AttendanceStatus.PRESENT);
+        return checkIn;
+    }
+}
@@ -0,0 +1,83 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.EmployeeMonthlySummary;
+import com.garmentmanagement.garmentmanagement.Repository.AttendanceRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Map;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import({AttendanceRollups.class, AttendanceRollupRepository.class, EmployeeDirectory.class,
+        EmployeeMonthlySummaries.class, WorkingDayCalendar.class})
+class EmployeeMonthlySummariesTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private AttendanceRollups attendanceRollups;
+    @Autowired private EmployeeMonthlySummaries employeeMonthlySummaries;
+
+    @Test
+    void runningMonthIncludesTodaysCheckIn() {
+        Employee employee = entityManager.persist(employee("EMP-SUM-1"));
+        record(employee, TODAY, Attendance.AttendanceStatus.LATE);
+
+        YearMonth month = YearMonth.from(TODAY);
+        EmployeeMonthlySummary summary = employeeMonthlySummaries.find(employee.getId(), month).orElseThrow();
+        assertEquals(1, summary.getLateDays());
+        assertEquals(Map.of(employee.getId(), 1L), employeeMonthlySummaries.presentDays(month));
+        assertEquals(TODAY, employeeMonthlySummaries.through(month));
+    }
+
+    @Test
+    void editOfAPastDayMovesItsMonth() {
+        Employee employee = entityManager.persist(employee("EMP-SUM-1"));
+        LocalDate lastMonth = TODAY.minusMonths(1).withDayOfMonth(10);
+        Attendance attendance = record(employee, lastMonth, Attendance.AttendanceStatus.PRESENT);
+
+        AttendanceRollups.Snapshot before = AttendanceRollups.snapshot(attendance);
+        attendance.setStatus(Attendance.AttendanceStatus.ABSENT);
+        entityManager.flush();
+        attendanceRollups.applyChange(before, AttendanceRollups.snapshot(attendance));
+
+        YearMonth month = YearMonth.from(lastMonth);
+        EmployeeMonthlySummary summary = employeeMonthlySummaries.find(employee.getId(), month).orElseThrow();
+        assertEquals(0, summary.getPresentDays());
+        assertEquals(1, summary.getAbsentDays());
+        assertEquals(Map.of(employee.getId(), 0L), employeeMonthlySummaries.presentDays(month));
+        assertEquals(month.atEndOfMonth(), employeeMonthlySummaries.through(month));
+    }
+
+    @Test
+    void attendanceRateCountsPresentLateAndHalfDaysAgainstWorkingDays() {
+        EmployeeMonthlySummary summary = new EmployeeMonthlySummary();
+        summary.setPresentDays(10);
+        summary.setLateDays(5);
+        summary.setHalfDays(2);
+        summary.setAbsentDays(3);
+
+        assertEquals(85.0, EmployeeMonthlySummaries.attendanceRate(summary, 20));
+        assertEquals(0.0, EmployeeMonthlySummaries.attendanceRate(summary, 0));
+    }
+
+    // Stores an attendance and applies it to the rollups, as the attendance service does
+    private Attendance record(Employee employee, LocalDate date, Attendance.AttendanceStatus status) {
+        Attendance attendance = entityManager.persistAndFlush(checkIn(employee, date, LocalTime.of(9, 20), status));
+        attendanceRollups.applyChange(null, AttendanceRollups.snapshot(attendance));
+        return attendance;
+    }
+}
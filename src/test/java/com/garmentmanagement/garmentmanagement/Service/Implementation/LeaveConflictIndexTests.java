@@ -0,0 +1,58 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class LeaveConflictIndexTests {
+
+    private static final Long EMPLOYEE = 7L;
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 10);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 12);
+
+    private final LeaveApplicationRepository leaveApplicationRepository = mock(LeaveApplicationRepository.class);
+    private final LeaveConflictIndex leaveConflictIndex = new LeaveConflictIndex(leaveApplicationRepository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaveConflictIndex, "maxSize", 100L);
+        ReflectionTestUtils.setField(leaveConflictIndex, "ttlMinutes", 10L);
+        leaveConflictIndex.init();
+    }
+
+    @Test
+    void cachedOverlapNeedsNoQuery() {
+        List<Object[]> ranges = new ArrayList<>();
+        ranges.add(new Object[]{FROM.minusDays(1), FROM});
+        when(leaveApplicationRepository.findDateRangesByEmployeeAndStatuses(eq(EMPLOYEE), anyList())).thenReturn(ranges);
+
+        assertTrue(leaveConflictIndex.overlaps(EMPLOYEE, FROM, TO));
+        verify(leaveApplicationRepository, never()).findOverlappingLeaves(any(), any(), any());
+    }
+
+    @Test
+    void leaveMissingFromTheCacheIsFoundByTheQuery() {
+        when(leaveApplicationRepository.findDateRangesByEmployeeAndStatuses(eq(EMPLOYEE), anyList()))
+                .thenReturn(new ArrayList<>());
+        when(leaveApplicationRepository.findOverlappingLeaves(EMPLOYEE, FROM, TO)).thenReturn(List.of());
+        assertFalse(leaveConflictIndex.overlaps(EMPLOYEE, FROM, TO));
+
+        // Another instance approves a leave; the cached intervals stay empty
+        when(leaveApplicationRepository.findOverlappingLeaves(EMPLOYEE, FROM, TO))
+                .thenReturn(List.of(new LeaveApplication()));
+        assertTrue(leaveConflictIndex.overlaps(EMPLOYEE, FROM, TO));
+        // The stale entry was dropped and is loaded again on the next check
+        leaveConflictIndex.intervals(EMPLOYEE);
+        verify(leaveApplicationRepository, times(2)).findDateRangesByEmployeeAndStatuses(eq(EMPLOYEE), anyList());
+    }
+}
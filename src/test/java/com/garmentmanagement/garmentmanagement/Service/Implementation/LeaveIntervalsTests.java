@@ -0,0 +1,71 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaveIntervalsTests {
+
+    @Test
+    void rangesTouchingAnEndpointOverlap() {
+        LeaveIntervals intervals = intervals(day(10), day(12));
+
+        assertTrue(intervals.overlaps(day(12), day(15)));
+        assertTrue(intervals.overlaps(day(5), day(10)));
+        assertTrue(intervals.overlaps(day(11), day(11)));
+        assertTrue(intervals.overlaps(day(1), day(20)));
+        assertFalse(intervals.overlaps(day(13), day(15)));
+        assertFalse(intervals.overlaps(day(5), day(9)));
+    }
+
+    @Test
+    void gapAfterANestedIntervalIsStillCoveredByTheOuterOne() {
+        // [1, 20] contains [3, 5]; the last interval starting before the query is the short one
+        LeaveIntervals intervals = intervals(day(3), day(5), day(1), day(20), day(25), day(26));
+
+        assertTrue(intervals.overlaps(day(10), day(12)));
+        assertTrue(intervals.overlaps(day(20), day(24)));
+        assertFalse(intervals.overlaps(day(21), day(24)));
+        assertFalse(intervals.overlaps(day(27), day(30)));
+    }
+
+    @Test
+    void intervalsStartingOnTheSameDayKeepTheLongestEnd() {
+        LeaveIntervals intervals = intervals(day(10), day(20), day(10), day(10), day(10), day(12));
+
+        assertEquals(3, intervals.size());
+        assertTrue(intervals.overlaps(day(10), day(10)));
+        assertTrue(intervals.overlaps(day(18), day(19)));
+        assertTrue(intervals.overlaps(day(20), day(22)));
+        assertFalse(intervals.overlaps(day(21), day(22)));
+        assertFalse(intervals.overlaps(day(1), day(9)));
+    }
+
+    @Test
+    void emptyIndexAndMissingDates() {
+        assertFalse(LeaveIntervals.EMPTY.overlaps(day(1), day(31)));
+
+        List<LocalDate[]> pairs = new ArrayList<>();
+        pairs.add(new LocalDate[]{day(5), null});
+        pairs.add(new LocalDate[]{null, day(6)});
+        LeaveIntervals intervals = LeaveIntervals.of(pairs);
+        assertEquals(0, intervals.size());
+        assertFalse(intervals.overlaps(day(1), day(31)));
+    }
+
+    // Pairs of [start, end]
+    private static LeaveIntervals intervals(LocalDate... dates) {
+        List<LocalDate[]> pairs = new ArrayList<>();
+        for (int i = 0; i < dates.length; i += 2) {
+            pairs.add(new LocalDate[]{dates[i], dates[i + 1]});
+        }
+        return LeaveIntervals.of(pairs);
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return LocalDate.of(2025, 3, dayOfMonth);
+    }
+}
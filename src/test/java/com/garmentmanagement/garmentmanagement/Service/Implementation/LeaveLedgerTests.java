@@ -0,0 +1,118 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveType;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import({LeaveLedger.class, LeaveLedgerRepository.class})
+class LeaveLedgerTests {
+
+    private static final int YEAR = 2025;
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private LeaveLedger leaveLedger;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Employee employee;
+    private LeaveType leaveType;
+
+    @BeforeEach
+    void setUp() {
+        employee = entityManager.persist(employee("EMP-LEDGER-1"));
+        leaveType = entityManager.persist(leaveType("Casual", "CL", 10));
+        balance(YEAR, 10);
+    }
+
+    @Test
+    void approvalBeyondTheRemainingDaysIsRefused() {
+        leaveLedger.takeLeave(application(6), YEAR);
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> leaveLedger.takeLeave(application(5), YEAR));
+        assertTrue(error.getMessage().startsWith("Insufficient leave balance"));
+        assertBalance(6, 4);
+
+        // Exactly the remaining days is fine
+        leaveLedger.takeLeave(application(4), YEAR);
+        assertBalance(10, 0);
+    }
+
+    @Test
+    void leavesApprovedTogetherAreCheckedAgainstTheirSum() {
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> leaveLedger.takeLeaves(List.of(application(4), application(4), application(3)), YEAR));
+        assertTrue(error.getMessage().startsWith("Insufficient leave balance"));
+        assertBalance(0, 10);
+
+        leaveLedger.takeLeaves(List.of(application(4), application(6)), YEAR);
+        assertBalance(10, 0);
+    }
+
+    @Test
+    void entitlementCutBelowTheUsedDaysIsRefusedButRefundsApply() {
+        LeaveApplication taken = application(7);
+        leaveLedger.takeLeave(taken, YEAR);
+
+        assertThrows(RuntimeException.class,
+                () -> leaveLedger.adjustTotal(employee.getId(), leaveType.getId(), YEAR, -4));
+        assertBalance(7, 3);
+
+        leaveLedger.adjustTotal(employee.getId(), leaveType.getId(), YEAR, -3);
+        leaveLedger.returnLeave(taken);
+        assertBalance(0, 7);
+    }
+
+    @Test
+    void cancellationRefundsTheYearTheApprovalWasChargedTo() {
+        balance(YEAR + 1, 10);
+        LeaveApplication taken = application(4);
+        leaveLedger.takeLeave(taken, YEAR);
+
+        // Cancelled after the year changed
+        leaveLedger.returnLeave(taken);
+
+        assertBalance(0, 10);
+        assertBalance(YEAR + 1, 0, 10);
+    }
+
+    @Test
+    void missingBalanceIsRefused() {
+        assertThrows(RuntimeException.class, () -> leaveLedger.takeLeave(application(1), YEAR + 1));
+    }
+
+    private LeaveApplication application(int days) {
+        return entityManager.persistAndFlush(leave(employee, leaveType, LocalDate.of(YEAR, 3, 1), days));
+    }
+
+    private void balance(int year, int days) {
+        entityManager.persistAndFlush(leaveBalance(employee, leaveType, year, days));
+    }
+
+    private void assertBalance(int used, int remaining) {
+        assertBalance(YEAR, used, remaining);
+    }
+
+    private void assertBalance(int year, int used, int remaining) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT used_days, remaining_days FROM leave_balances WHERE employee_id = ? AND leave_type_id = ? AND year = ?",
+                employee.getId(), leaveType.getId(), year);
+        assertEquals(used, ((Number) row.get("used_days")).intValue());
+        assertEquals(remaining, ((Number) row.get("remaining_days")).intValue());
+    }
+}
@@ -0,0 +1,115 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveBalance;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveRollover;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveType;
+import com.garmentmanagement.garmentmanagement.Repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"leave.rollover.enabled=false", "leave.rollover.chunk-size=2"})
+@Import({LeaveRolloverServiceImplementation.class, LeaveBalanceBatchRepository.class})
+class LeaveRolloverServiceImplementationTests {
+
+    private static final int YEAR = 2031;
+
+    @Autowired private LeaveRolloverServiceImplementation rolloverService;
+    @Autowired private LeaveRolloverRepository rolloverRepository;
+    @Autowired private LeaveBalanceRepository leaveBalanceRepository;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private LeaveTypeRepository leaveTypeRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    // The rollover commits its chunks in their own transactions, so there is no test transaction to roll back
+    @AfterEach
+    void cleanUp() {
+        leaveBalanceRepository.deleteAll();
+        rolloverRepository.deleteAll();
+        employeeRepository.deleteAll();
+        leaveTypeRepository.deleteAll();
+    }
+
+    @Test
+    void instanceBehindStopsWhenItsChunkWasRecordedFirst() {
+        for (int number = 1; number <= 5; number++) {
+            employeeRepository.save(employee("EMP-ROLL-" + number));
+        }
+        leaveTypeRepository.save(leaveType("Casual", "CL", 10));
+        leaveTypeRepository.save(leaveType("Sick", "SL", 14));
+
+        // The other instance reads its first chunk, then this one runs the whole year before it writes
+        LeaveBalanceBatchRepository behind = spy(new LeaveBalanceBatchRepository(jdbcTemplate));
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            Object ids = invocation.callRealMethod();
+            if (first.getAndSet(false)) {
+                rolloverService.rolloverAndWait(YEAR);
+            }
+            return ids;
+        }).when(behind).findEligibleEmployeeIds(anyLong(), anyInt());
+
+        LeaveRolloverServiceImplementation otherInstance =
+                new LeaveRolloverServiceImplementation(rolloverRepository, behind, transactionManager);
+        ReflectionTestUtils.setField(otherInstance, "chunkSize", 2);
+        otherInstance.init();
+        try {
+            otherInstance.rolloverAndWait(YEAR);
+        } finally {
+            otherInstance.shutdown();
+        }
+
+        LeaveRollover rollover = rolloverRepository.findByRolloverYear(YEAR).orElseThrow();
+        assertEquals(LeaveRollover.RolloverStatus.COMPLETED, rollover.getStatus());
+        assertEquals(5, rollover.getProcessedCount());
+        assertEquals(10, rollover.getInsertedBalances());
+        assertEquals(10, leaveBalanceRepository.findByYear(YEAR).size());
+        // The instance behind gave up after its first chunk
+        verify(behind, times(1)).findEligibleEmployeeIds(anyLong(), anyInt());
+    }
+
+    @Test
+    void employeeAddedAfterTheRolloverGetsTheCurrentYearsBalances() {
+        int year = Year.now().getValue();
+        employeeRepository.save(employee("EMP-ROLL-1"));
+        LeaveType casual = leaveTypeRepository.save(leaveType("Casual", "CL", 10));
+        leaveTypeRepository.save(leaveType("Sick", "SL", 14));
+        rolloverService.rolloverAndWait(year);
+
+        Employee hired = employeeRepository.save(employee("EMP-ROLL-2"));
+        assertTrue(leaveBalanceRepository.findByEmployeeIdAndYear(hired.getId(), year).isEmpty());
+        rolloverService.createBalances(hired.getId());
+        // Repeating it (or the year's rollover) adds nothing
+        rolloverService.createBalances(hired.getId());
+
+        assertEquals(2, leaveBalanceRepository.findByEmployeeIdAndYear(hired.getId(), year).size());
+        LeaveBalance balance = leaveBalanceRepository
+                .findByEmployeeIdAndLeaveTypeIdAndYear(hired.getId(), casual.getId(), year).orElseThrow();
+        assertEquals(10, balance.getRemainingDays());
+        assertEquals(4, leaveBalanceRepository.findByYear(year).size());
+    }
+}
@@ -0,0 +1,88 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionRequest;
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionResponse;
+import com.garmentmanagement.garmentmanagement.DTO.BulkLeaveDecisionResult;
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveApplication;
+import com.garmentmanagement.garmentmanagement.Entity.LeaveType;
+import com.garmentmanagement.garmentmanagement.Mapper.LeaveMapper;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveApplicationBatchRepository;
+import com.garmentmanagement.garmentmanagement.Repository.LeaveLedgerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@Import({LeaveServiceImplementation.class, LeaveMapper.class, WorkingDayCalendar.class, LeaveConflictIndex.class,
+        LeaveLedger.class, LeaveLedgerRepository.class, LeaveApplicationBatchRepository.class})
+class LeaveServiceImplementationTests {
+
+    private static final int YEAR = LocalDate.now().getYear();
+    private static final LocalDate MARCH_1 = LocalDate.of(YEAR, 3, 1);
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private LeaveServiceImplementation leaveService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bulkApprovalDrawsDownEachBalanceAcrossItems() {
+        LeaveType casual = entityManager.persist(leaveType("Casual", "CL", null));
+        LeaveType sick = entityManager.persist(leaveType("Sick", "SL", null));
+        Employee first = entityManager.persist(employee("EMP-BULK-1"));
+        Employee second = entityManager.persist(employee("EMP-BULK-2"));
+        Employee approver = entityManager.persist(employee("EMP-BULK-3"));
+        entityManager.persist(leaveBalance(first, casual, YEAR, 10));
+        entityManager.persist(leaveBalance(first, sick, YEAR, 3));
+        entityManager.persist(leaveBalance(second, casual, YEAR, 5));
+
+        LeaveApplication firstCasual1 = entityManager.persist(leave(first, casual, MARCH_1, 4));
+        LeaveApplication firstCasual2 = entityManager.persist(leave(first, casual, MARCH_1, 4));
+        LeaveApplication firstCasual3 = entityManager.persist(leave(first, casual, MARCH_1, 3));
+        LeaveApplication firstSick = entityManager.persist(leave(first, sick, MARCH_1, 3));
+        LeaveApplication secondCasual = entityManager.persist(leave(second, casual, MARCH_1, 5));
+        LeaveApplication firstCasual4 = entityManager.persist(leave(first, casual, MARCH_1, 2));
+        entityManager.flush();
+
+        BulkLeaveDecisionRequest request = new BulkLeaveDecisionRequest();
+        request.setLeaveIds(List.of(firstCasual1.getId(), firstCasual2.getId(), firstCasual3.getId(),
+                firstSick.getId(), secondCasual.getId(), firstCasual4.getId()));
+        request.setApprovedBy(approver.getId());
+        BulkLeaveDecisionResponse response = leaveService.approveLeaves(request);
+
+        assertEquals(5, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        BulkLeaveDecisionResult refused = response.getResults().get(2);
+        assertFalse(refused.isSuccess());
+        assertEquals("Insufficient leave balance. Available: 2, Requested: 3", refused.getMessage());
+        // The smaller leave after it still fits
+        assertTrue(response.getResults().get(5).isSuccess());
+
+        assertRemaining(first, casual, 0);
+        assertRemaining(first, sick, 0);
+        assertRemaining(second, casual, 0);
+        assertEquals("PENDING", status(firstCasual3));
+        assertEquals("APPROVED", status(firstCasual4));
+    }
+
+    private void assertRemaining(Employee employee, LeaveType leaveType, int remaining) {
+        assertEquals(remaining, jdbcTemplate.queryForObject("SELECT remaining_days FROM leave_balances " +
+                        "WHERE employee_id = ? AND leave_type_id = ? AND year = ?", Integer.class,
+                employee.getId(), leaveType.getId(), YEAR));
+    }
+
+    private String status(LeaveApplication leave) {
+        return jdbcTemplate.queryForObject("SELECT status FROM leave_applications WHERE id = ?", String.class, leave.getId());
+    }
+}
@@ -0,0 +1,64 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Employee;
+import com.garmentmanagement.garmentmanagement.Entity.Payroll;
+import com.garmentmanagement.garmentmanagement.Entity.SalaryStructure;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PayrollCalculatorTests {
+
+    private static final YearMonth PERIOD = YearMonth.of(2025, 6);
+
+    private final WorkingDayCalendar workingDayCalendar = mock(WorkingDayCalendar.class);
+    private final PayrollCalculator payrollCalculator = new PayrollCalculator(workingDayCalendar);
+
+    @Test
+    void absentDaysAreDeductedAtTheDailyRate() {
+        when(workingDayCalendar.workingDays(PERIOD)).thenReturn(20);
+
+        Payroll payroll = payrollCalculator.calculate(new Employee(), salary(), PERIOD, 18);
+
+        assertEquals(20, payroll.getWorkingDays());
+        assertEquals(18, payroll.getPresentDays());
+        assertEquals(0, new BigDecimal("2000").compareTo(payroll.getOtherDeductions()));
+        assertEquals(0, new BigDecimal("23500").compareTo(payroll.getGrossSalary()));
+        assertEquals(0, new BigDecimal("21500").compareTo(payroll.getNetSalary()));
+        assertEquals(Payroll.PayrollStatus.PROCESSED, payroll.getStatus());
+    }
+
+    @Test
+    void presentDaysBeyondTheWorkingDaysDeductNothing() {
+        when(workingDayCalendar.workingDays(PERIOD)).thenReturn(20);
+
+        Payroll payroll = payrollCalculator.calculate(new Employee(), salary(), PERIOD, 23);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(payroll.getOtherDeductions()));
+        assertEquals(0, payroll.getGrossSalary().compareTo(payroll.getNetSalary()));
+    }
+
+    @Test
+    void monthWithoutWorkingDaysDeductsNothing() {
+        when(workingDayCalendar.workingDays(PERIOD)).thenReturn(0);
+
+        Payroll payroll = payrollCalculator.calculate(new Employee(), salary(), PERIOD, 0);
+
+        assertEquals(0, payroll.getWorkingDays());
+        assertEquals(0, BigDecimal.ZERO.compareTo(payroll.getOtherDeductions()));
+        assertEquals(0, new BigDecimal("23500").compareTo(payroll.getNetSalary()));
+    }
+
+    private static SalaryStructure salary() {
+        SalaryStructure salary = new SalaryStructure();
+        salary.setBasicSalary(new BigDecimal("20000"));
+        salary.setHouseRent(new BigDecimal("2000"));
+        salary.setMedicalAllowance(new BigDecimal("1000"));
+        salary.setTransportAllowance(new BigDecimal("500"));
+        return salary;
+    }
+}
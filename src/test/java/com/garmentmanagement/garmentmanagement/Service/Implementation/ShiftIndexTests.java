@@ -0,0 +1,104 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Attendance;
+import com.garmentmanagement.garmentmanagement.Entity.Shift;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+import static com.garmentmanagement.garmentmanagement.TestEntities.shift;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShiftIndexTests {
+
+    private static final ShiftIndex.Definition DEFAULT =
+            new ShiftIndex.Definition("DEFAULT", LocalTime.of(9, 0), LocalTime.of(18, 0), 15, 120, 4.0);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    private final ShiftIndex index = ShiftIndex.of(List.of(
+            shift("DAY", LocalTime.of(8, 0), LocalTime.of(16, 0), null),
+            shift("NIGHT", LocalTime.of(22, 0), LocalTime.of(6, 0), null),
+            rotation("ROTA-A", "DAY,NIGHT,OFF")), DEFAULT);
+
+    @Test
+    void overnightPunchesBeforeTheShiftEndBelongToTheStartDay() {
+        ShiftIndex.ShiftDay afterMidnight = index.resolve("NIGHT", MONDAY.plusDays(1).atTime(5, 59));
+        assertEquals(MONDAY, afterMidnight.date());
+        assertEquals("NIGHT", afterMidnight.shift().code());
+
+        // From the end of the night the punch starts the new day
+        assertEquals(MONDAY.plusDays(1), index.resolve("NIGHT", MONDAY.plusDays(1).atTime(6, 0)).date());
+        assertEquals(MONDAY, index.resolve("NIGHT", MONDAY.atTime(21, 0)).date());
+    }
+
+    @Test
+    void overnightCheckInAfterMidnightIsLateAgainstTheStartDay() {
+        LocalDateTime punch = MONDAY.plusDays(1).atTime(0, 30);
+        assertEquals(Attendance.AttendanceStatus.HALF_DAY, index.resolve("NIGHT", punch).checkInStatus(punch));
+
+        LocalDateTime onTime = MONDAY.atTime(22, 10);
+        assertEquals(Attendance.AttendanceStatus.PRESENT, index.resolve("NIGHT", onTime).checkInStatus(onTime));
+    }
+
+    @Test
+    void overnightShiftEndsTheNextMorning() {
+        ShiftIndex.Definition night = index.shiftOn("NIGHT", MONDAY);
+        assertTrue(night.overnight());
+        assertEquals(8.0, night.lengthHours());
+        assertEquals(MONDAY.plusDays(1).atTime(6, 0), night.endOn(MONDAY));
+        assertEquals(MONDAY.atTime(18, 0), DEFAULT.endOn(MONDAY));
+    }
+
+    @Test
+    void rotationFollowsItsCycleFromTheRotationStart() {
+        assertEquals("DAY", index.shiftOn("ROTA-A", MONDAY).code());
+        assertEquals("NIGHT", index.shiftOn("ROTA-A", MONDAY.plusDays(1)).code());
+        assertNull(index.shiftOn("ROTA-A", MONDAY.plusDays(2)));
+        assertEquals("DAY", index.shiftOn("ROTA-A", MONDAY.plusDays(3)).code());
+        // Days before the rotation start continue the cycle backwards
+        assertNull(index.shiftOn("ROTA-A", MONDAY.minusDays(1)));
+    }
+
+    @Test
+    void rotationNightCarriesIntoItsDayOff() {
+        // The night of the second cycle day ends on the day off
+        ShiftIndex.ShiftDay day = index.resolve("ROTA-A", MONDAY.plusDays(2).atTime(3, 0));
+        assertEquals(MONDAY.plusDays(1), day.date());
+        assertEquals("NIGHT", day.shift().code());
+
+        ShiftIndex.ShiftDay dayOff = index.resolve("ROTA-A", MONDAY.plusDays(2).atTime(9, 0));
+        assertEquals(MONDAY.plusDays(2), dayOff.date());
+        assertNull(dayOff.shift());
+        assertEquals(Attendance.AttendanceStatus.PRESENT, dayOff.checkInStatus(MONDAY.plusDays(2).atTime(14, 0)));
+        assertEquals(5.0, dayOff.overtimeHours(5.0));
+        assertFalse(dayOff.isHalfDay(1.0));
+    }
+
+    @Test
+    void graceAndLateThresholdsAreExclusive() {
+        ShiftIndex.ShiftDay day = index.day(null, MONDAY);
+        assertEquals(Attendance.AttendanceStatus.PRESENT, day.checkInStatus(MONDAY.atTime(9, 14, 59)));
+        assertEquals(Attendance.AttendanceStatus.LATE, day.checkInStatus(MONDAY.atTime(9, 15)));
+        assertEquals(Attendance.AttendanceStatus.LATE, day.checkInStatus(MONDAY.atTime(10, 59)));
+        assertEquals(Attendance.AttendanceStatus.HALF_DAY, day.checkInStatus(MONDAY.atTime(11, 0)));
+        assertEquals(Attendance.AttendanceStatus.PRESENT, day.checkInStatus(MONDAY.atTime(7, 0)));
+    }
+
+    @Test
+    void codesMatchIgnoringCaseAndUnknownCodesUseTheDefault() {
+        assertEquals("NIGHT", index.shiftOn(" night ", MONDAY).code());
+        assertEquals(DEFAULT, index.shiftOn("EVENING", MONDAY));
+        assertEquals(DEFAULT, index.shiftOn("", MONDAY));
+        assertEquals(Set.of("DAY", "NIGHT", "ROTA-A"), index.codes());
+    }
+
+    // Rotating roster whose cycle starts on MONDAY
+    private static Shift rotation(String code, String cycle) {
+        Shift shift = shift(code, null, null, cycle);
+        shift.setRotationStart(MONDAY);
+        return shift;
+    }
+}
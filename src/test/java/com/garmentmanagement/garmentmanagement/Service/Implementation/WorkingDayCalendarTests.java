@@ -0,0 +1,97 @@
+package com.garmentmanagement.garmentmanagement.Service.Implementation;
+
+import com.garmentmanagement.garmentmanagement.Entity.Holiday;
+import com.garmentmanagement.garmentmanagement.Repository.HolidayRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WorkingDayCalendarTests {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+            LocalDate.of(2025, 12, 16),   // Tuesday
+            LocalDate.of(2025, 12, 26),   // Friday, already off
+            LocalDate.of(2026, 1, 1));    // Thursday
+
+    private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+
+    @Test
+    void rangeAcrossTheYearEndCountsBothYears() {
+        WorkingDayCalendar calendar = calendar(Set.of(DayOfWeek.FRIDAY));
+
+        // Dec 25-31: six days besides Friday the 26th; Jan 1-7: holiday on the 1st, Friday the 2nd
+        assertEquals(11, calendar.workingDays(LocalDate.of(2025, 12, 25), LocalDate.of(2026, 1, 7)));
+        assertEquals(countDayByDay(calendar, LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 10)),
+                calendar.workingDays(LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 10)));
+        // A range over a whole year in between
+        assertEquals(countDayByDay(calendar, LocalDate.of(2024, 12, 30), LocalDate.of(2026, 1, 2)),
+                calendar.workingDays(LocalDate.of(2024, 12, 30), LocalDate.of(2026, 1, 2)));
+    }
+
+    @Test
+    void holidaysOnlyRemoveWorkingDays() {
+        WorkingDayCalendar calendar = calendar(Set.of(DayOfWeek.FRIDAY));
+
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 12, 16)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2025, 12, 26)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2025, 12, 17)));
+        // December 2025 has 31 days, 4 Fridays and one holiday on a working day
+        assertEquals(26, calendar.workingDays(YearMonth.of(2025, 12)));
+    }
+
+    @Test
+    void endpointsAreInclusiveAndAnInvertedRangeIsEmpty() {
+        WorkingDayCalendar calendar = calendar(Set.of(DayOfWeek.FRIDAY));
+
+        assertEquals(1, calendar.workingDays(LocalDate.of(2025, 12, 17), LocalDate.of(2025, 12, 17)));
+        assertEquals(0, calendar.workingDays(LocalDate.of(2025, 12, 26), LocalDate.of(2025, 12, 26)));
+        assertEquals(0, calendar.workingDays(LocalDate.of(2026, 1, 7), LocalDate.of(2025, 12, 25)));
+    }
+
+    @Test
+    void twoDayWeekendInALeapFebruary() {
+        WorkingDayCalendar calendar = calendar(Set.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+
+        // 29 days, four Fridays and four Saturdays
+        assertEquals(21, calendar.workingDays(YearMonth.of(2024, 2)));
+        assertEquals(countDayByDay(calendar, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)),
+                calendar.workingDays(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+    }
+
+    private WorkingDayCalendar calendar(Set<DayOfWeek> weekendDays) {
+        when(holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(any(), any())).thenAnswer(invocation -> {
+            LocalDate from = invocation.getArgument(0);
+            LocalDate to = invocation.getArgument(1);
+            return HOLIDAYS.stream()
+                    .filter(date -> !date.isBefore(from) && !date.isAfter(to))
+                    .map(date -> {
+                        Holiday holiday = new Holiday();
+                        holiday.setHolidayDate(date);
+                        holiday.setName("Holiday " + date);
+                        return holiday;
+                    })
+                    .toList();
+        });
+        WorkingDayCalendar calendar = new WorkingDayCalendar(holidayRepository);
+        ReflectionTestUtils.setField(calendar, "weekendDays", weekendDays);
+        return calendar;
+    }
+
+    private static int countDayByDay(WorkingDayCalendar calendar, LocalDate from, LocalDate to) {
+        int count = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (calendar.isWorkingDay(day)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,97 @@
+package com.garmentmanagement.garmentmanagement;
+
+import com.garmentmanagement.garmentmanagement.Entity.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Unsaved entities with the columns the tests rely on filled in. Callers persist them and set anything else.
+ */
+public final class TestEntities {
+
+    private TestEntities() {
+    }
+
+    // Active employee named and addressed after its code
+    public static Employee employee(String code) {
+        Employee employee = new Employee();
+        employee.setFirstName("Test");
+        employee.setLastName(code);
+        employee.setEmployeeId(code);
+        employee.setEmail(code.toLowerCase() + "@example.com");
+        employee.setStatus(Employee.EmployeeStatus.ACTIVE);
+        return employee;
+    }
+
+    public static Employee employee(String code, Department department) {
+        Employee employee = employee(code);
+        employee.setDepartment(department);
+        return employee;
+    }
+
+    public static Department department(String name, String code) {
+        Department department = new Department();
+        department.setName(name);
+        department.setCode(code);
+        return department;
+    }
+
+    // Attendance record without a check-in (e.g. marked absent)
+    public static Attendance attendance(Employee employee, LocalDate date, Attendance.AttendanceStatus status) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employee);
+        attendance.setAttendanceDate(date);
+        attendance.setStatus(status);
+        return attendance;
+    }
+
+    // Check-in counted under the employee's current department
+    public static Attendance checkIn(Employee employee, LocalDate date, LocalTime time, Attendance.AttendanceStatus status) {
+        Attendance attendance = attendance(employee, date, status);
+        attendance.setCheckinTime(time);
+        attendance.setTotalHours(0.0);
+        if (employee.getDepartment() != null) {
+            attendance.setDepartmentId(employee.getDepartment().getId());
+        }
+        return attendance;
+    }
+
+    public static Shift shift(String code, LocalTime start, LocalTime end, String rotation) {
+        Shift shift = new Shift();
+        shift.setCode(code);
+        shift.setName(code);
+        shift.setStartTime(start);
+        shift.setEndTime(end);
+        shift.setRotation(rotation);
+        return shift;
+    }
+
+    public static LeaveType leaveType(String name, String code, Integer maxDaysPerYear) {
+        LeaveType leaveType = new LeaveType();
+        leaveType.setName(name);
+        leaveType.setCode(code);
+        leaveType.setMaxDaysPerYear(maxDaysPerYear);
+        return leaveType;
+    }
+
+    public static LeaveBalance leaveBalance(Employee employee, LeaveType leaveType, int year, int totalDays) {
+        LeaveBalance balance = new LeaveBalance();
+        balance.setEmployee(employee);
+        balance.setLeaveType(leaveType);
+        balance.setYear(year);
+        balance.setTotalDays(totalDays);
+        return balance;
+    }
+
+    // Leave of consecutive days starting on the given date
+    public static LeaveApplication leave(Employee employee, LeaveType leaveType, LocalDate start, int days) {
+        LeaveApplication leave = new LeaveApplication();
+        leave.setEmployee(employee);
+        leave.setLeaveType(leaveType);
+        leave.setStartDate(start);
+        leave.setEndDate(start.plusDays(days - 1));
+        leave.setTotalDays(days);
+        return leave;
+    }
+}